@@ -0,0 +1,61 @@
+package edu.ntnu.idi.idatt.boardgame.core.domain.board;
+
+import edu.ntnu.idi.idatt.boardgame.core.domain.player.Position;
+import java.util.List;
+
+/**
+ * The tiles changed by one board transaction. Each tile appears once, in the order it first
+ * changed, however many times players entered or left it during the transaction.
+ *
+ * @param <P> The type of {@link Position} used on the board.
+ */
+public final class BoardChangeSet<P extends Position> {
+
+  private final List<Tile<P>> changedTiles;
+
+  /**
+   * Constructs a change set.
+   *
+   * @param changedTiles The changed tiles, without duplicates.
+   */
+  public BoardChangeSet(List<Tile<P>> changedTiles) {
+    this.changedTiles = List.copyOf(changedTiles);
+  }
+
+  /**
+   * Gets the changed tiles.
+   *
+   * @return An unmodifiable list of the changed tiles.
+   */
+  public List<Tile<P>> getChangedTiles() {
+    return changedTiles;
+  }
+
+  /**
+   * Checks whether the given tile changed.
+   *
+   * @param tile The tile.
+   * @return True if the tile is part of this change set.
+   */
+  public boolean contains(Tile<P> tile) {
+    return changedTiles.contains(tile);
+  }
+
+  /**
+   * Gets the number of changed tiles.
+   *
+   * @return The number of tiles.
+   */
+  public int size() {
+    return changedTiles.size();
+  }
+
+  /**
+   * Checks whether no tile changed.
+   *
+   * @return True if the change set is empty.
+   */
+  public boolean isEmpty() {
+    return changedTiles.isEmpty();
+  }
+}
@@ -0,0 +1,103 @@
+package edu.ntnu.idi.idatt.boardgame.core.domain.board;
+
+import edu.ntnu.idi.idatt.boardgame.core.domain.player.Position;
+import edu.ntnu.idi.idatt.boardgame.core.engine.event.BoardObserver;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Collects tile changes for a {@link GameBoard} while a transaction is open. Tiles report their
+ * changes here instead of notifying their observers directly. When the outermost transaction
+ * commits, every changed tile notifies its observers once and board observers receive a single
+ * {@link BoardChangeSet}.
+ *
+ * <p>Outside a transaction, changes are delivered immediately, as before.
+ *
+ * @param <P> The type of {@link Position} used on the board.
+ */
+public final class BoardChangeTracker<P extends Position> {
+
+  /** Changed tiles, in order of first change, with the callback that notifies their observers. */
+  private final Map<Tile<P>, Runnable> pending = new LinkedHashMap<>();
+  private final List<BoardObserver<P>> observers = new CopyOnWriteArrayList<>();
+  private int depth;
+
+  /** Opens a transaction. Transactions may be nested; only the outermost commit delivers. */
+  public void begin() {
+    depth++;
+  }
+
+  /**
+   * Closes a transaction, delivering the collected changes if it was the outermost one.
+   *
+   * @throws IllegalStateException if no transaction is open.
+   */
+  public void commit() {
+    if (depth == 0) {
+      throw new IllegalStateException("No board transaction to commit");
+    }
+    if (--depth == 0) {
+      flush();
+    }
+  }
+
+  /**
+   * Checks whether a transaction is open.
+   *
+   * @return True if changes are currently being collected.
+   */
+  public boolean isInTransaction() {
+    return depth > 0;
+  }
+
+  /**
+   * Reports that a tile changed.
+   *
+   * @param tile The changed tile.
+   * @param notifyTileObservers Notifies the tile's own observers.
+   */
+  public void tileChanged(Tile<P> tile, Runnable notifyTileObservers) {
+    if (depth == 0 && observers.isEmpty()) {
+      notifyTileObservers.run();
+      return;
+    }
+    pending.putIfAbsent(tile, notifyTileObservers);
+    if (depth == 0) {
+      flush();
+    }
+  }
+
+  private void flush() {
+    if (pending.isEmpty()) {
+      return;
+    }
+    BoardChangeSet<P> changes = new BoardChangeSet<>(new ArrayList<>(pending.keySet()));
+    List<Runnable> notifiers = new ArrayList<>(pending.values());
+    pending.clear();
+    notifiers.forEach(Runnable::run);
+    observers.forEach(observer -> observer.onBoardChanged(changes));
+  }
+
+  /**
+   * Adds a board observer.
+   *
+   * @param observer The observer to add.
+   */
+  public void addObserver(BoardObserver<P> observer) {
+    if (!observers.contains(observer)) {
+      observers.add(observer);
+    }
+  }
+
+  /**
+   * Removes a board observer.
+   *
+   * @param observer The observer to remove.
+   */
+  public void removeObserver(BoardObserver<P> observer) {
+    observers.remove(observer);
+  }
+}
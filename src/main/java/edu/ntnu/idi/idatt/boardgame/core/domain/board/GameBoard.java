@@ -2,6 +2,7 @@ package edu.ntnu.idi.idatt.boardgame.core.domain.board;
 
 import edu.ntnu.idi.idatt.boardgame.core.domain.player.Player;
 import edu.ntnu.idi.idatt.boardgame.core.domain.player.Position;
+import edu.ntnu.idi.idatt.boardgame.core.engine.event.BoardObserver;
 import java.util.Map;
 
 /**
@@ -34,4 +35,48 @@ public interface GameBoard<P extends Position> {
    * @param position The new position for the player.
    */
   void setPlayerPosition(Player<P> player, P position);
+
+  /**
+   * Starts a board transaction. Until the matching {@link #commitTransaction()}, tile changes are
+   * collected instead of being reported one by one. Transactions may be nested; only the outermost
+   * commit delivers the changes.
+   */
+  void beginTransaction();
+
+  /**
+   * Ends a board transaction. When the outermost transaction ends, every changed tile notifies its
+   * observers once and board observers receive a single {@link BoardChangeSet}.
+   *
+   * @throws IllegalStateException if no transaction is open.
+   */
+  void commitTransaction();
+
+  /**
+   * Runs the given changes inside a board transaction. The transaction is committed even if the
+   * changes throw.
+   *
+   * @param changes The changes to make.
+   */
+  default void runInTransaction(Runnable changes) {
+    beginTransaction();
+    try {
+      changes.run();
+    } finally {
+      commitTransaction();
+    }
+  }
+
+  /**
+   * Adds an observer that is told about all tile changes on the board, once per transaction.
+   *
+   * @param observer The observer to add.
+   */
+  void addBoardObserver(BoardObserver<P> observer);
+
+  /**
+   * Removes a board observer.
+   *
+   * @param observer The observer to remove.
+   */
+  void removeBoardObserver(BoardObserver<P> observer);
 }
@@ -1,8 +1,8 @@
 package edu.ntnu.idi.idatt.boardgame.core.domain.dice;
 
-import java.util.ArrayList;
-import java.util.List;
-import java.util.stream.IntStream;
+import java.util.Objects;
+import java.util.Random;
+import java.util.random.RandomGenerator;
 
 /**
  * Represents a collection of dice. Implements the {@link DiceInterface} for rolling all dice and
@@ -11,9 +11,9 @@ import java.util.stream.IntStream;
 public final class Dice implements DiceInterface {
 
   /**
-   * The list of individual {@link Die} objects.
+   * The individual {@link Die} objects.
    */
-  private final List<Die> dice = new ArrayList<>();
+  private final Die[] dice;
 
   /**
    * Constructs a Dice object with a specified number of individual dice.
@@ -22,15 +22,83 @@ public final class Dice implements DiceInterface {
    * @throws IllegalArgumentException if numberOfDice is less than 1.
    */
   public Dice(int numberOfDice) {
+    this(numberOfDice, new Random());
+  }
+
+  /**
+   * Constructs a Dice object whose dice all draw from the given generator. A seeded generator
+   * makes a game replayable; simulations can give each thread its own split or jumped stream.
+   *
+   * @param numberOfDice The number of dice to include in this set. Must be at least 1.
+   * @param random The random number generator shared by the dice.
+   * @throws IllegalArgumentException if numberOfDice is less than 1.
+   */
+  public Dice(int numberOfDice, RandomGenerator random) {
     if (numberOfDice < 1) {
       throw new IllegalArgumentException("Number of dice must be at least 1");
     }
-    IntStream.range(0, numberOfDice).mapToObj(i -> new Die()).forEach(dice::add);
+    this.dice = new Die[numberOfDice];
+    for (int i = 0; i < numberOfDice; i++) {
+      dice[i] = new Die(random);
+    }
   }
 
   @Override
   public int roll() {
-    return dice.stream().mapToInt(Die::roll).sum();
+    int sum = 0;
+    for (Die die : dice) {
+      sum += die.roll();
+    }
+    return sum;
+  }
+
+  /**
+   * Rolls the whole set once per element of the given array and stores each sum in it. After the
+   * call, {@link #getDie(int)} reports the values of the last roll.
+   *
+   * @param results The array to fill with roll sums.
+   */
+  @Override
+  public void roll(int[] results) {
+    roll(results, results.length);
+  }
+
+  /**
+   * Rolls the whole set {@code count} times and stores each sum at the start of the given array.
+   * After the call, {@link #getDie(int)} reports the values of the last roll.
+   *
+   * @param results The array to fill with roll sums.
+   * @param count The number of rolls, at most {@code results.length}.
+   * @throws IndexOutOfBoundsException if {@code count} is negative or larger than the array.
+   */
+  @Override
+  public void roll(int[] results, int count) {
+    Objects.checkFromToIndex(0, count, results.length);
+    for (int i = 0; i < count; i++) {
+      int sum = 0;
+      for (Die die : dice) {
+        sum += die.roll();
+      }
+      results[i] = sum;
+    }
+  }
+
+  /**
+   * Gets the number of dice in this set.
+   *
+   * @return The number of dice.
+   */
+  public int getNumberOfDice() {
+    return dice.length;
+  }
+
+  /**
+   * Gets the exact distribution of the sum rolled by this set.
+   *
+   * @return The shared {@link SumDistribution} for this number of dice.
+   */
+  public SumDistribution getSumDistribution() {
+    return SumDistribution.of(dice.length);
   }
 
   /**
@@ -41,9 +109,9 @@ public final class Dice implements DiceInterface {
    * @throws IllegalArgumentException if dieIndex is out of bounds.
    */
   public int getDie(int dieIndex) {
-    if (dieIndex < 0 || dieIndex >= dice.size()) {
+    if (dieIndex < 0 || dieIndex >= dice.length) {
       throw new IllegalArgumentException("Die number out of bounds");
     }
-    return dice.get(dieIndex).getLastRolledValue();
+    return dice[dieIndex].getLastRolledValue();
   }
 }
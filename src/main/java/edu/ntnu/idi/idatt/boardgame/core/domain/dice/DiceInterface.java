@@ -1,5 +1,7 @@
 package edu.ntnu.idi.idatt.boardgame.core.domain.dice;
 
+import java.util.Objects;
+
 /**
  * Interface for objects that can be rolled, like a set of dice.
  */
@@ -12,4 +14,30 @@ public interface DiceInterface {
    * @return The result of the roll.
    */
   int roll();
+
+  /**
+   * Performs one roll for every element of the given array and stores the results in it. Intended
+   * for simulations that consume many rolls; implementations should avoid per-roll allocation.
+   *
+   * @param results The array to fill with roll results.
+   */
+  default void roll(int[] results) {
+    roll(results, results.length);
+  }
+
+  /**
+   * Performs {@code count} rolls and stores the results at the start of the given array, leaving
+   * the rest untouched. Callers that cannot use every roll should ask for only as many as they
+   * need, so a seeded generator is not moved past rolls that are never played.
+   *
+   * @param results The array to fill with roll results.
+   * @param count The number of rolls, at most {@code results.length}.
+   * @throws IndexOutOfBoundsException if {@code count} is negative or larger than the array.
+   */
+  default void roll(int[] results, int count) {
+    Objects.checkFromToIndex(0, count, results.length);
+    for (int i = 0; i < count; i++) {
+      results[i] = roll();
+    }
+  }
 }
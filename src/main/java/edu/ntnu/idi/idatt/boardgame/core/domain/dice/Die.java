@@ -1,17 +1,41 @@
 package edu.ntnu.idi.idatt.boardgame.core.domain.dice;
 
+import java.util.Objects;
 import java.util.Random;
+import java.util.random.RandomGenerator;
 
 /**
  * Represents a single six-sided die.
  */
 public final class Die {
 
+  /**
+   * The number of faces on a die.
+   */
+  public static final int FACES = 6;
+
   /**
    * The value of the last roll.
    */
   private int lastRolledValue;
-  private final Random random = new Random();
+  private final RandomGenerator random;
+
+  /**
+   * Constructs a die backed by its own unseeded {@link Random}.
+   */
+  public Die() {
+    this(new Random());
+  }
+
+  /**
+   * Constructs a die that draws its values from the given generator. Passing a seeded generator
+   * makes the sequence of rolls reproducible.
+   *
+   * @param random The random number generator to roll with.
+   */
+  public Die(RandomGenerator random) {
+    this.random = Objects.requireNonNull(random);
+  }
 
   /**
    * Rolls the die and returns the result. The result is a random integer between 1 and 6
@@ -20,7 +44,7 @@ public final class Die {
    * @return The value rolled on the die.
    */
   public int roll() {
-    lastRolledValue = random.nextInt(6) + 1;
+    lastRolledValue = random.nextInt(FACES) + 1;
     return lastRolledValue;
   }
 
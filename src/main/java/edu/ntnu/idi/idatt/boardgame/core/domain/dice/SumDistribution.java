@@ -0,0 +1,113 @@
+package edu.ntnu.idi.idatt.boardgame.core.domain.dice;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * The exact probability distribution of the sum of a number of six-sided {@link Die}s. The table
+ * is computed once per number of dice by repeated convolution and then shared, so callers can ask
+ * for {@code P(sum = s)} without sampling.
+ */
+public final class SumDistribution {
+
+  private static final Map<Integer, SumDistribution> CACHE = new ConcurrentHashMap<>();
+
+  private final int numberOfDice;
+  /**
+   * {@code ways[s]} is the number of face combinations that add up to {@code s}.
+   */
+  private final long[] ways;
+  private final double[] probabilities;
+
+  private SumDistribution(int numberOfDice) {
+    this.numberOfDice = numberOfDice;
+    long[] counts = {1};
+    for (int die = 0; die < numberOfDice; die++) {
+      long[] next = new long[counts.length + Die.FACES];
+      for (int sum = 0; sum < counts.length; sum++) {
+        for (int face = 1; face <= Die.FACES; face++) {
+          next[sum + face] += counts[sum];
+        }
+      }
+      counts = next;
+    }
+    this.ways = counts;
+    double outcomes = Math.pow(Die.FACES, numberOfDice);
+    this.probabilities = new double[counts.length];
+    for (int sum = 0; sum < counts.length; sum++) {
+      probabilities[sum] = counts[sum] / outcomes;
+    }
+  }
+
+  /**
+   * Gets the distribution for the given number of dice, computing it on first use.
+   *
+   * @param numberOfDice The number of dice. Must be between 1 and 24.
+   * @return The shared distribution.
+   * @throws IllegalArgumentException if numberOfDice is out of range.
+   */
+  public static SumDistribution of(int numberOfDice) {
+    // 6^24 still fits in a long, which keeps the ways exact
+    if (numberOfDice < 1 || numberOfDice > 24) {
+      throw new IllegalArgumentException("Number of dice must be between 1 and 24");
+    }
+    return CACHE.computeIfAbsent(numberOfDice, SumDistribution::new);
+  }
+
+  /**
+   * Gets the probability of rolling exactly the given sum.
+   *
+   * @param sum The sum.
+   * @return The probability, or 0 if the sum cannot be rolled.
+   */
+  public double probability(int sum) {
+    return sum < 0 || sum >= probabilities.length ? 0 : probabilities[sum];
+  }
+
+  /**
+   * Gets the number of face combinations that add up to the given sum.
+   *
+   * @param sum The sum.
+   * @return The number of combinations, or 0 if the sum cannot be rolled.
+   */
+  public long ways(int sum) {
+    return sum < 0 || sum >= ways.length ? 0 : ways[sum];
+  }
+
+  /**
+   * Gets the probabilities of all sums.
+   *
+   * @return A copy of the table, indexed by sum from 0 to {@link #getMaxSum()}.
+   */
+  public double[] getProbabilities() {
+    return Arrays.copyOf(probabilities, probabilities.length);
+  }
+
+  /**
+   * Gets the smallest possible sum.
+   *
+   * @return The number of dice.
+   */
+  public int getMinSum() {
+    return numberOfDice;
+  }
+
+  /**
+   * Gets the largest possible sum.
+   *
+   * @return The number of dice times the number of faces.
+   */
+  public int getMaxSum() {
+    return numberOfDice * Die.FACES;
+  }
+
+  /**
+   * Gets the number of dice this distribution describes.
+   *
+   * @return The number of dice.
+   */
+  public int getNumberOfDice() {
+    return numberOfDice;
+  }
+}
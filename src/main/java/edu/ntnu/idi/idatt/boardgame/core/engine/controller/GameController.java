@@ -4,11 +4,17 @@ import edu.ntnu.idi.idatt.boardgame.core.domain.board.GameBoard;
 import edu.ntnu.idi.idatt.boardgame.core.domain.dice.Dice;
 import edu.ntnu.idi.idatt.boardgame.core.domain.player.Player;
 import edu.ntnu.idi.idatt.boardgame.core.domain.player.Position;
+import edu.ntnu.idi.idatt.boardgame.core.engine.event.EventListenerRegistry;
+import edu.ntnu.idi.idatt.boardgame.core.engine.event.GameEvent;
+import edu.ntnu.idi.idatt.boardgame.core.engine.event.GameFinishedEvent;
 import edu.ntnu.idi.idatt.boardgame.core.engine.event.GameObserver;
+import edu.ntnu.idi.idatt.boardgame.core.engine.runtime.NotificationSink;
 import edu.ntnu.idi.idatt.boardgame.ui.dto.PlayerSetupDetails;
-import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
 
 /**
  * Generic controller for a turn-based game.
@@ -25,6 +31,10 @@ public abstract class GameController<P extends Position> {
    * The dice used in the game.
    */
   protected final Dice dice;
+  /**
+   * Where messages for the player are reported.
+   */
+  protected final NotificationSink notifications;
 
   /**
    * A map of player IDs to {@link Player} objects.
@@ -38,17 +48,33 @@ public abstract class GameController<P extends Position> {
   /**
    * A list of observers monitoring game events.
    */
-  private final List<GameObserver<P>> observers = new ArrayList<>();
+  private final List<GameObserver<P>> observers = new CopyOnWriteArrayList<>();
+  /**
+   * Typed event listeners.
+   */
+  private final EventListenerRegistry listeners = new EventListenerRegistry();
 
   /**
    * Constructs a GameController.
    *
    * @param gameBoard The game board.
    * @param dice      The dice used in the game.
+   * @param notifications Where messages for the player are reported.
    */
-  protected GameController(GameBoard<P> gameBoard, Dice dice) {
+  protected GameController(GameBoard<P> gameBoard, Dice dice, NotificationSink notifications) {
     this.gameBoard = gameBoard;
     this.dice = dice;
+    this.notifications = Objects.requireNonNull(notifications);
+  }
+
+  /**
+   * Gets where this game reports messages for the player, so collaborators such as the save-file
+   * mappers report through the same channel.
+   *
+   * @return The notification sink.
+   */
+  public NotificationSink getNotifications() {
+    return notifications;
   }
 
   /**
@@ -107,21 +133,51 @@ public abstract class GameController<P extends Position> {
   }
 
   /**
-   * Notifies all registered observers with an update message.
+   * Adds a listener for one type of game event. The listener also receives subtypes of the type,
+   * so subscribing to {@link GameEvent} itself receives every event. Listeners are called on the
+   * thread that drives the game; to move slow work off that thread, subscribe a
+   * {@link edu.ntnu.idi.idatt.boardgame.core.engine.event.RingBufferEventDispatcher} instead.
+   *
+   * @param type     The event type to listen for.
+   * @param listener The listener to add.
+   * @param <E>      The event type.
+   */
+  public <E extends GameEvent> void addListener(Class<E> type, Consumer<? super E> listener) {
+    listeners.add(type, listener);
+  }
+
+  /**
+   * Removes a listener from every event type it was added for.
+   *
+   * @param listener The listener to remove.
+   */
+  public void removeListener(Consumer<?> listener) {
+    listeners.remove(listener);
+  }
+
+  /**
+   * Publishes an event to the listeners of its type. Observers receive the event's description,
+   * which is only formatted if at least one observer is registered.
    *
-   * @param message The message to send to observers.
+   * @param event The event to publish.
    */
-  protected void notifyObservers(String message) {
-    observers.forEach(observer -> observer.update(message));
+  protected void publish(GameEvent event) {
+    listeners.publish(event);
+    if (!observers.isEmpty()) {
+      String message = event.describe();
+      observers.forEach(observer -> observer.update(message));
+    }
   }
 
   /**
-   * Notifies all registered observers that the game has finished.
+   * Notifies all registered observers that the game has finished, and publishes a
+   * {@link GameFinishedEvent} to listeners.
    *
    * @param currentPlayer The player who was current when the game finished.
    */
   protected void notifyGameFinished(Player<P> currentPlayer) {
     observers.forEach(observer -> observer.gameFinished(currentPlayer));
+    listeners.publish(new GameFinishedEvent(currentPlayer));
   }
 
   /**
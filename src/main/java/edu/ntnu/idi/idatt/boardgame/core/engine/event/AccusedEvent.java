@@ -0,0 +1,44 @@
+package edu.ntnu.idi.idatt.boardgame.core.engine.event;
+
+import edu.ntnu.idi.idatt.boardgame.core.domain.player.Player;
+
+/**
+ * A player has made an accusation.
+ *
+ * @param player The accusing player.
+ * @param suspect The name of the accused suspect.
+ * @param weapon The name of the accused weapon.
+ * @param room The name of the accused room.
+ * @param correct Whether the accusation matched the solution.
+ */
+public record AccusedEvent(
+    Player<?> player, String suspect, String weapon, String room, boolean correct)
+    implements GameEvent {
+
+  @Override
+  public String describe() {
+    if (correct) {
+      return player.getName()
+          + " wins! The solution was indeed "
+          + suspect
+          + " with the "
+          + weapon
+          + " in the "
+          + room
+          + ".";
+    }
+    return player.getName()
+        + " accused "
+        + suspect
+        + " with "
+        + weapon
+        + " in "
+        + room
+        + ". This is WRONG!";
+  }
+
+  @Override
+  public boolean isDiscardable() {
+    return false;
+  }
+}
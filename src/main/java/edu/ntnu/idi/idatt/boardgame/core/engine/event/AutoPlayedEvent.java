@@ -0,0 +1,21 @@
+package edu.ntnu.idi.idatt.boardgame.core.engine.event;
+
+import edu.ntnu.idi.idatt.boardgame.core.domain.player.Player;
+
+/**
+ * Several turns were played in one go without reporting each move.
+ *
+ * @param turns The number of turns played.
+ * @param player The winner if the game ended, otherwise the player whose turn it is now.
+ * @param won Whether the game ended with a winner.
+ */
+public record AutoPlayedEvent(int turns, Player<?> player, boolean won) implements GameEvent {
+
+  @Override
+  public String describe() {
+    if (won) {
+      return "Autoplayed " + turns + " turns. " + player.getName() + " wins!";
+    }
+    return "Autoplayed " + turns + " turns. Next turn: " + player.getName();
+  }
+}
@@ -0,0 +1,27 @@
+package edu.ntnu.idi.idatt.boardgame.core.engine.event;
+
+/** What a {@link RingBufferEventDispatcher} does with a new event when its buffer is full. */
+public enum BackpressurePolicy {
+
+  /**
+   * Wait until the consumer has made room. Nothing is lost, but the producer may stall. The
+   * producer must run on a different thread from the consumer: a JavaFX view that drains on the
+   * Application Thread cannot use this policy for a controller driven by button handlers on that
+   * same thread, since the producer would wait for itself.
+   */
+  BLOCK,
+
+  /**
+   * Discard the new event, unless it is not {@linkplain GameEvent#isDiscardable() discardable}.
+   * The producer never waits.
+   */
+  DROP,
+
+  /**
+   * Keep only the newest overflowing event of each type, replacing any earlier one of that type
+   * that has not been delivered. Events that are not {@linkplain GameEvent#isDiscardable()
+   * discardable} are always kept. The producer never waits, and the consumer always ends up with
+   * the latest state of each kind.
+   */
+  COALESCE
+}
@@ -0,0 +1,20 @@
+package edu.ntnu.idi.idatt.boardgame.core.engine.event;
+
+import edu.ntnu.idi.idatt.boardgame.core.domain.board.BoardChangeSet;
+import edu.ntnu.idi.idatt.boardgame.core.domain.player.Position;
+
+/**
+ * Interface for observers that monitor a whole board rather than single tiles.
+ *
+ * @param <P> The type of {@link Position} used on the board.
+ */
+public interface BoardObserver<P extends Position> {
+
+  /**
+   * Called once when a board transaction commits, or after a single tile change made outside a
+   * transaction.
+   *
+   * @param changes The tiles that changed.
+   */
+  void onBoardChanged(BoardChangeSet<P> changes);
+}
@@ -0,0 +1,21 @@
+package edu.ntnu.idi.idatt.boardgame.core.engine.event;
+
+import edu.ntnu.idi.idatt.boardgame.core.domain.player.Player;
+
+/**
+ * A player has been knocked out of the game.
+ *
+ * @param player The eliminated player.
+ */
+public record EliminatedEvent(Player<?> player) implements GameEvent {
+
+  @Override
+  public String describe() {
+    return player.getName() + " has been eliminated and removed from the board.";
+  }
+
+  @Override
+  public boolean isDiscardable() {
+    return false;
+  }
+}
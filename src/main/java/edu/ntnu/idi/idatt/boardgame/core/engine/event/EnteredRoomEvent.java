@@ -0,0 +1,20 @@
+package edu.ntnu.idi.idatt.boardgame.core.engine.event;
+
+import edu.ntnu.idi.idatt.boardgame.core.domain.player.Player;
+
+/**
+ * A player has entered a room and may now make a suggestion or accusation.
+ *
+ * @param player The player who entered.
+ * @param roomName The display name of the room.
+ */
+public record EnteredRoomEvent(Player<?> player, String roomName) implements GameEvent {
+
+  @Override
+  public String describe() {
+    return player.getName()
+        + " entered the "
+        + roomName
+        + ". Make a suggestion/accusation or end turn.";
+  }
+}
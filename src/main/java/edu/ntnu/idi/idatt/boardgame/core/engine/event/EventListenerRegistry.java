@@ -0,0 +1,65 @@
+package edu.ntnu.idi.idatt.boardgame.core.engine.event;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * Keeps listeners for typed {@link GameEvent}s and routes each published event to the listeners of
+ * its type. A listener also receives subtypes of the type it subscribed to, so subscribing to
+ * {@link GameEvent} itself receives every event.
+ *
+ * <p>Listeners may be added or removed while an event is being delivered.
+ */
+public final class EventListenerRegistry {
+
+  private final List<Listener<?>> listeners = new CopyOnWriteArrayList<>();
+
+  /**
+   * Adds a listener for one type of game event.
+   *
+   * @param type The event type to listen for.
+   * @param listener The listener to add.
+   * @param <E> The event type.
+   */
+  public <E extends GameEvent> void add(Class<E> type, Consumer<? super E> listener) {
+    listeners.add(new Listener<>(type, listener));
+  }
+
+  /**
+   * Removes a listener from every event type it was added for.
+   *
+   * @param listener The listener to remove.
+   */
+  public void remove(Consumer<?> listener) {
+    listeners.removeIf(registered -> registered.consumer() == listener);
+  }
+
+  /**
+   * Delivers an event to every listener of its type, on the calling thread.
+   *
+   * @param event The event to deliver.
+   */
+  public void publish(GameEvent event) {
+    listeners.forEach(listener -> listener.accept(event));
+  }
+
+  /**
+   * Checks whether any listeners are registered.
+   *
+   * @return True if there are no listeners.
+   */
+  public boolean isEmpty() {
+    return listeners.isEmpty();
+  }
+
+  /** A listener together with the event type it subscribed to. */
+  private record Listener<E extends GameEvent>(Class<E> type, Consumer<? super E> consumer) {
+
+    void accept(GameEvent event) {
+      if (type.isInstance(event)) {
+        consumer.accept(type.cast(event));
+      }
+    }
+  }
+}
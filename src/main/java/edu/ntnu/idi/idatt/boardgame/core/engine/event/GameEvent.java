@@ -0,0 +1,28 @@
+package edu.ntnu.idi.idatt.boardgame.core.engine.event;
+
+/**
+ * Something that happened in a game. Events carry the raw facts (players, positions, card names)
+ * rather than a message, so publishing one costs no string formatting. Listeners subscribe to the
+ * event types they care about through
+ * {@link edu.ntnu.idi.idatt.boardgame.core.engine.controller.GameController#addListener}.
+ */
+public interface GameEvent {
+
+  /**
+   * Formats a human-readable description of the event. Only called when someone wants the text.
+   *
+   * @return The description.
+   */
+  String describe();
+
+  /**
+   * Tells whether this event may be dropped, or replaced by a newer event of the same type, when
+   * a listener cannot keep up. Events that change what the player may do next, such as a load or
+   * the end of the game, return false and are always delivered.
+   *
+   * @return True if only the latest event of this type matters.
+   */
+  default boolean isDiscardable() {
+    return true;
+  }
+}
@@ -0,0 +1,21 @@
+package edu.ntnu.idi.idatt.boardgame.core.engine.event;
+
+import edu.ntnu.idi.idatt.boardgame.core.domain.player.Player;
+
+/**
+ * The game is over.
+ *
+ * @param player The player who was current when the game finished (often the winner).
+ */
+public record GameFinishedEvent(Player<?> player) implements GameEvent {
+
+  @Override
+  public String describe() {
+    return "Game Over! " + player.getName() + " wins!";
+  }
+
+  @Override
+  public boolean isDiscardable() {
+    return false;
+  }
+}
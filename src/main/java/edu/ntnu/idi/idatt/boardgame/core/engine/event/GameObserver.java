@@ -4,18 +4,22 @@ import edu.ntnu.idi.idatt.boardgame.core.domain.player.Player;
 import edu.ntnu.idi.idatt.boardgame.core.domain.player.Position;
 
 /**
- * Interface for observers that monitor game events.
+ * Interface for observers that monitor game events. Observers receive every event as formatted
+ * text; listeners registered with
+ * {@link edu.ntnu.idi.idatt.boardgame.core.engine.controller.GameController#addListener} receive
+ * only the {@link GameEvent} types they ask for, without formatting.
  *
  * @param <P> The type of {@link Position} used in the game.
  */
 public interface GameObserver<P extends Position> {
 
   /**
-   * Called when a general game update occurs.
+   * Called when a general game update occurs. Does nothing by default, for observers that only
+   * care about the end of the game.
    *
    * @param message A message describing the update.
    */
-  void update(String message);
+  default void update(String message) {}
 
   /**
    * Called when the game has finished.
@@ -0,0 +1,21 @@
+package edu.ntnu.idi.idatt.boardgame.core.engine.event;
+
+import edu.ntnu.idi.idatt.boardgame.core.domain.player.Player;
+
+/**
+ * A new game has been set up.
+ *
+ * @param firstPlayer The player who takes the first turn.
+ */
+public record GameStartedEvent(Player<?> firstPlayer) implements GameEvent {
+
+  @Override
+  public String describe() {
+    return "Game initialised. " + firstPlayer.getName() + " starts.";
+  }
+
+  @Override
+  public boolean isDiscardable() {
+    return false;
+  }
+}
@@ -0,0 +1,28 @@
+package edu.ntnu.idi.idatt.boardgame.core.engine.event;
+
+import edu.ntnu.idi.idatt.boardgame.core.domain.player.Player;
+
+/**
+ * A saved game has been loaded.
+ *
+ * @param currentPlayer The player whose turn it is, or null if none could be restored.
+ * @param turnDetail A game-specific description of the turn, or null to only name the player.
+ */
+public record LoadedEvent(Player<?> currentPlayer, String turnDetail) implements GameEvent {
+
+  @Override
+  public String describe() {
+    if (currentPlayer == null) {
+      return "Game state loaded. No current player found after load.";
+    }
+    if (turnDetail == null) {
+      return "Game state loaded. Current turn: " + currentPlayer.getName();
+    }
+    return "Game state loaded. " + turnDetail;
+  }
+
+  @Override
+  public boolean isDiscardable() {
+    return false;
+  }
+}
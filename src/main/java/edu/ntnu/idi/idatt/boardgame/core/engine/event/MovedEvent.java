@@ -0,0 +1,19 @@
+package edu.ntnu.idi.idatt.boardgame.core.engine.event;
+
+import edu.ntnu.idi.idatt.boardgame.core.domain.player.Player;
+import edu.ntnu.idi.idatt.boardgame.core.domain.player.Position;
+
+/**
+ * A player has taken a step.
+ *
+ * @param player The player who moved.
+ * @param to The position the player moved to.
+ * @param stepsLeft The number of steps the player may still take this turn.
+ */
+public record MovedEvent(Player<?> player, Position to, int stepsLeft) implements GameEvent {
+
+  @Override
+  public String describe() {
+    return player.getName() + " moved to " + to + ". " + stepsLeft + " steps left.";
+  }
+}
@@ -0,0 +1,260 @@
+package edu.ntnu.idi.idatt.boardgame.core.engine.event;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Consumer;
+
+/**
+ * Bounded queue of {@link GameEvent}s between one producer (the game engine) and one consumer
+ * (usually the JavaFX thread). The producer hands events over with {@link #offer(GameEvent)}
+ * instead of calling listeners directly, and the consumer delivers them in batches with
+ * {@link #drain(Consumer, int)}, so slow listeners never run inside game logic.
+ *
+ * <p>The buffer is a fixed array indexed by two ever-increasing counters. Only the producer moves
+ * the tail and only the consumer moves the head, so no locks are needed. What happens when the
+ * buffer is full is decided by the {@link BackpressurePolicy}. Overflowing events go to a small
+ * overflow area that is delivered after the buffer, and every later event joins them there until
+ * it has been delivered, so order is preserved. Under {@link BackpressurePolicy#COALESCE} the
+ * overflow keeps only the newest event of each type, in the place it arrived; under
+ * {@link BackpressurePolicy#DROP} it keeps only events that must not be lost. Events whose
+ * {@link GameEvent#isDiscardable()} is false, such as a load or the end of the game, are never
+ * coalesced or dropped.
+ *
+ * <p>{@link BackpressurePolicy#BLOCK} waits for the consumer, so the producer must not be the
+ * consumer thread. Offering from the thread that last drained the dispatcher while the buffer is
+ * full throws instead of deadlocking.
+ *
+ * <p>The dispatcher is itself a listener, so it can be subscribed to a controller directly:
+ * {@code controller.addListener(GameEvent.class, dispatcher)}.
+ */
+public final class RingBufferEventDispatcher implements Consumer<GameEvent> {
+
+  /** How long a blocked producer sleeps before checking for room again. */
+  private static final long BLOCK_PARK_NANOS = 50_000;
+
+  private final GameEvent[] buffer;
+  private final int mask;
+  private final BackpressurePolicy policy;
+
+  /** Index of the next event to deliver. Only written by the consumer. */
+  private final AtomicLong head = new AtomicLong();
+  /** Index of the next free slot. Only written by the producer. */
+  private final AtomicLong tail = new AtomicLong();
+  /**
+   * Events waiting behind a full buffer, keyed by event type for discardable events and by a
+   * unique key otherwise. Guarded by itself.
+   */
+  private final Map<Object, GameEvent> overflow = new LinkedHashMap<>();
+  /** Number of entries in {@link #overflow}, readable without the lock. */
+  private final AtomicInteger overflowSize = new AtomicInteger();
+  /** The thread that last drained the dispatcher. */
+  private volatile Thread consumer;
+  private volatile Runnable onOffer;
+
+  private final AtomicLong dropped = new AtomicLong();
+  private final AtomicLong coalesced = new AtomicLong();
+
+  /**
+   * Constructs a dispatcher.
+   *
+   * @param capacity The number of events the buffer holds, rounded up to a power of two.
+   * @param policy What to do with new events when the buffer is full.
+   * @throws IllegalArgumentException if the capacity is not positive or exceeds 2^30.
+   */
+  public RingBufferEventDispatcher(int capacity, BackpressurePolicy policy) {
+    if (capacity <= 0 || capacity > 1 << 30) {
+      throw new IllegalArgumentException("Capacity must be between 1 and 2^30");
+    }
+    int size = Integer.highestOneBit(capacity);
+    if (size < capacity) {
+      size <<= 1;
+    }
+    this.buffer = new GameEvent[size];
+    this.mask = size - 1;
+    this.policy = Objects.requireNonNull(policy);
+  }
+
+  /**
+   * Hands an event to the consumer. Must only be called from the producer thread.
+   *
+   * @param event The event.
+   * @return True if the event will be delivered, false if it was dropped or the producer was
+   *     interrupted while blocked.
+   */
+  public boolean offer(GameEvent event) {
+    Objects.requireNonNull(event);
+    long t = tail.get();
+    if (policy != BackpressurePolicy.BLOCK && overflowSize.get() != 0) {
+      return overflow(event);
+    }
+    while (t - head.get() == buffer.length) {
+      switch (policy) {
+        case DROP, COALESCE -> {
+          return overflow(event);
+        }
+        case BLOCK -> {
+          if (Thread.currentThread() == consumer) {
+            throw new IllegalStateException(
+                "Blocking offer on the consumer thread would wait forever");
+          }
+          LockSupport.parkNanos(this, BLOCK_PARK_NANOS);
+          if (Thread.currentThread().isInterrupted()) {
+            return false;
+          }
+        }
+      }
+    }
+    buffer[(int) t & mask] = event;
+    tail.lazySet(t + 1);
+    notifyOffered();
+    return true;
+  }
+
+  private boolean overflow(GameEvent event) {
+    synchronized (overflow) {
+      if (event.isDiscardable() && policy == BackpressurePolicy.DROP) {
+        dropped.incrementAndGet();
+        return false;
+      }
+      Object key = event.isDiscardable() ? event.getClass() : new Object();
+      if (overflow.remove(key) != null) {
+        coalesced.incrementAndGet();
+      }
+      overflow.put(key, event);
+      overflowSize.set(overflow.size());
+    }
+    notifyOffered();
+    return true;
+  }
+
+  private void notifyOffered() {
+    Runnable listener = onOffer;
+    if (listener != null) {
+      listener.run();
+    }
+  }
+
+  /**
+   * Sets a callback run on the producer thread after every event that will be delivered, for
+   * example to wake up a consumer that stops polling while the dispatcher is empty. It runs once
+   * per event, so it must be cheap.
+   *
+   * @param listener The callback, or null for none.
+   */
+  public void setOnOffer(Runnable listener) {
+    this.onOffer = listener;
+  }
+
+  /**
+   * Same as {@link #offer(GameEvent)}, so the dispatcher can be used as an event listener.
+   *
+   * @param event The event.
+   */
+  @Override
+  public void accept(GameEvent event) {
+    offer(event);
+  }
+
+  /**
+   * Delivers up to {@code maxEvents} waiting events in order. Must only be called from the
+   * consumer thread.
+   *
+   * @param sink Receives the events.
+   * @param maxEvents The largest number of events to deliver in this call.
+   * @return The number of events delivered.
+   */
+  public int drain(Consumer<? super GameEvent> sink, int maxEvents) {
+    consumer = Thread.currentThread();
+    long h = head.get();
+    long available = tail.get() - h;
+    int count = 0;
+    while (count < maxEvents && count < available) {
+      int slot = (int) (h + count) & mask;
+      GameEvent event = buffer[slot];
+      buffer[slot] = null;
+      count++;
+      head.lazySet(h + count);
+      sink.accept(event);
+    }
+    if (count < maxEvents && count == available && overflowSize.get() != 0) {
+      for (GameEvent event : takeOverflow(h + count, maxEvents - count)) {
+        sink.accept(event);
+        count++;
+      }
+    }
+    return count;
+  }
+
+  /**
+   * Removes up to {@code limit} overflow events in order, provided nothing was added to the
+   * buffer after {@code expectedTail}, since such events must be delivered first.
+   */
+  private List<GameEvent> takeOverflow(long expectedTail, int limit) {
+    List<GameEvent> taken = new ArrayList<>();
+    synchronized (overflow) {
+      if (tail.get() != expectedTail) {
+        return taken;
+      }
+      Iterator<GameEvent> events = overflow.values().iterator();
+      while (events.hasNext() && taken.size() < limit) {
+        taken.add(events.next());
+        events.remove();
+      }
+      overflowSize.set(overflow.size());
+    }
+    return taken;
+  }
+
+  /**
+   * Gets the number of events waiting to be delivered.
+   *
+   * @return The number of waiting events.
+   */
+  public int size() {
+    return (int) (tail.get() - head.get()) + overflowSize.get();
+  }
+
+  /**
+   * Gets the number of events the buffer holds.
+   *
+   * @return The capacity.
+   */
+  public int getCapacity() {
+    return buffer.length;
+  }
+
+  /**
+   * Gets the policy used when the buffer is full.
+   *
+   * @return The backpressure policy.
+   */
+  public BackpressurePolicy getPolicy() {
+    return policy;
+  }
+
+  /**
+   * Gets the number of events discarded under {@link BackpressurePolicy#DROP}.
+   *
+   * @return The number of dropped events.
+   */
+  public long getDroppedCount() {
+    return dropped.get();
+  }
+
+  /**
+   * Gets the number of events replaced by a newer one of the same type under
+   * {@link BackpressurePolicy#COALESCE}.
+   *
+   * @return The number of coalesced events.
+   */
+  public long getCoalescedCount() {
+    return coalesced.get();
+  }
+}
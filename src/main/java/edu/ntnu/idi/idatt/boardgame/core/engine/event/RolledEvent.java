@@ -0,0 +1,22 @@
+package edu.ntnu.idi.idatt.boardgame.core.engine.event;
+
+import edu.ntnu.idi.idatt.boardgame.core.domain.player.Player;
+import edu.ntnu.idi.idatt.boardgame.core.domain.player.Position;
+
+/**
+ * A player has rolled the dice.
+ *
+ * @param player The player who rolled.
+ * @param total The sum of the dice.
+ * @param position Where the roll took the player, or null if the player still has to move.
+ */
+public record RolledEvent(Player<?> player, int total, Position position) implements GameEvent {
+
+  @Override
+  public String describe() {
+    if (position == null) {
+      return player.getName() + " rolled " + total + ". Click a neighbouring square to move.";
+    }
+    return player.getName() + " rolled " + total + " and is now at tile " + position;
+  }
+}
@@ -0,0 +1,42 @@
+package edu.ntnu.idi.idatt.boardgame.core.engine.event;
+
+import edu.ntnu.idi.idatt.boardgame.core.domain.player.Player;
+
+/**
+ * A player has made a suggestion, and it has been answered.
+ *
+ * @param player The player who made the suggestion.
+ * @param suspect The name of the suggested suspect.
+ * @param weapon The name of the suggested weapon.
+ * @param room The name of the suggested room.
+ * @param disprover The player who disproved the suggestion, or null if no one could.
+ * @param shownCard The name of the card shown by the disprover, or null if no one could.
+ */
+public record SuggestedEvent(
+    Player<?> player,
+    String suspect,
+    String weapon,
+    String room,
+    Player<?> disprover,
+    String shownCard)
+    implements GameEvent {
+
+  /**
+   * Checks whether another player disproved the suggestion.
+   *
+   * @return True if the suggestion was disproved.
+   */
+  public boolean isDisproved() {
+    return disprover != null;
+  }
+
+  @Override
+  public String describe() {
+    String suggestion =
+        player.getName() + " suggested " + suspect + " in the " + room + " with the " + weapon;
+    if (!isDisproved()) {
+      return suggestion + ". No one could disprove the suggestion.";
+    }
+    return suggestion + ". " + disprover.getName() + " disproved by showing \"" + shownCard + ".\"";
+  }
+}
@@ -0,0 +1,16 @@
+package edu.ntnu.idi.idatt.boardgame.core.engine.event;
+
+import edu.ntnu.idi.idatt.boardgame.core.domain.player.Player;
+
+/**
+ * The turn has passed to another player.
+ *
+ * @param player The player whose turn it is now.
+ */
+public record TurnChangedEvent(Player<?> player) implements GameEvent {
+
+  @Override
+  public String describe() {
+    return "Next turn: " + player.getName();
+  }
+}
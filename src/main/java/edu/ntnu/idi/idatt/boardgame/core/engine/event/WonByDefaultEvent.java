@@ -0,0 +1,24 @@
+package edu.ntnu.idi.idatt.boardgame.core.engine.event;
+
+import edu.ntnu.idi.idatt.boardgame.core.domain.player.Player;
+
+/**
+ * The game ended because every other player was eliminated.
+ *
+ * @param winner The last remaining player, or null if no one is left.
+ */
+public record WonByDefaultEvent(Player<?> winner) implements GameEvent {
+
+  @Override
+  public String describe() {
+    if (winner == null) {
+      return "All players have been eliminated. The house wins!";
+    }
+    return winner.getName() + " is the last one remaining and wins by default!";
+  }
+
+  @Override
+  public boolean isDiscardable() {
+    return false;
+  }
+}
@@ -0,0 +1,29 @@
+package edu.ntnu.idi.idatt.boardgame.core.engine.runtime;
+
+/**
+ * Runs game logic after a delay, such as handing the turn on a moment after a player is
+ * eliminated so the result can be read. Controllers only delay work through a scheduler, so the
+ * desktop app can pause on the JavaFX timeline while simulations skip the wait entirely or advance
+ * a {@link VirtualTimeScheduler} by hand.
+ */
+@FunctionalInterface
+public interface GameScheduler {
+
+  /**
+   * Runs a task after a delay.
+   *
+   * @param delayMillis How long to wait, in milliseconds.
+   * @param task The task to run.
+   */
+  void schedule(long delayMillis, Runnable task);
+
+  /**
+   * Returns a scheduler that runs every task straight away on the calling thread, for headless
+   * games that should run at full speed.
+   *
+   * @return The scheduler.
+   */
+  static GameScheduler immediate() {
+    return (delayMillis, task) -> task.run();
+  }
+}
@@ -0,0 +1,25 @@
+package edu.ntnu.idi.idatt.boardgame.core.engine.runtime;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/** Writes notifications to the log only. Obtained through {@link NotificationSink#logOnly()}. */
+final class LogOnlyNotificationSink implements NotificationSink {
+
+  static final LogOnlyNotificationSink INSTANCE = new LogOnlyNotificationSink();
+
+  private static final Logger logger = LoggerFactory.getLogger(LogOnlyNotificationSink.class);
+
+  private LogOnlyNotificationSink() {}
+
+  @Override
+  public void show(LoggingType type, String title, String message) {
+    String fullMessage = (message == null || message.isEmpty()) ? title : title + ": " + message;
+    switch (type) {
+      case DEBUG -> logger.debug("[{}] {}", type, fullMessage);
+      case WARN -> logger.warn("[{}] {}", type, fullMessage);
+      case ERROR, FATAL -> logger.error("[{}] {}", type, fullMessage);
+      default -> logger.info("[{}] {}", type, fullMessage);
+    }
+  }
+}
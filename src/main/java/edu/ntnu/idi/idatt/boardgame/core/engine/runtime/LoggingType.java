@@ -1,4 +1,4 @@
-package edu.ntnu.idi.idatt.boardgame.ui.util;
+package edu.ntnu.idi.idatt.boardgame.core.engine.runtime;
 
 /**
  * Different types of logging messages.
@@ -0,0 +1,58 @@
+package edu.ntnu.idi.idatt.boardgame.core.engine.runtime;
+
+/**
+ * Receives the short messages a game reports to the player, such as a saved game or a move that is
+ * not allowed. The desktop app shows them as toasts, while headless games only log them.
+ */
+@FunctionalInterface
+public interface NotificationSink {
+
+  /**
+   * Reports a message.
+   *
+   * @param type The severity of the message.
+   * @param title A short summary.
+   * @param message The detailed message, which may be null.
+   */
+  void show(LoggingType type, String title, String message);
+
+  /**
+   * Reports an informational message.
+   *
+   * @param title A short summary.
+   * @param message The detailed message.
+   */
+  default void info(String title, String message) {
+    show(LoggingType.INFO, title, message);
+  }
+
+  /**
+   * Reports a warning.
+   *
+   * @param title A short summary.
+   * @param message The detailed message.
+   */
+  default void warn(String title, String message) {
+    show(LoggingType.WARN, title, message);
+  }
+
+  /**
+   * Reports an error.
+   *
+   * @param title A short summary.
+   * @param message The detailed message.
+   */
+  default void error(String title, String message) {
+    show(LoggingType.ERROR, title, message);
+  }
+
+  /**
+   * Returns a sink that writes every message to the SLF4J log and shows nothing, so games can run
+   * without a JavaFX toolkit.
+   *
+   * @return The sink.
+   */
+  static NotificationSink logOnly() {
+    return LogOnlyNotificationSink.INSTANCE;
+  }
+}
@@ -0,0 +1,95 @@
+package edu.ntnu.idi.idatt.boardgame.core.engine.runtime;
+
+import java.util.PriorityQueue;
+
+/**
+ * A {@link GameScheduler} with its own clock that only moves when told to. Scheduled tasks wait
+ * until the clock is advanced past their due time and then run on the advancing thread, in order of
+ * due time and, for equal times, in the order they were scheduled. Tests and simulations use it to
+ * step through delayed game logic without waiting in real time.
+ *
+ * <p>Not thread-safe; schedule and advance from the thread that drives the game.
+ */
+public final class VirtualTimeScheduler implements GameScheduler {
+
+  private final PriorityQueue<Pending> pending = new PriorityQueue<>();
+  private long now;
+  private long nextSequence;
+
+  @Override
+  public void schedule(long delayMillis, Runnable task) {
+    if (delayMillis < 0) {
+      throw new IllegalArgumentException("Delay must not be negative");
+    }
+    pending.add(new Pending(now + delayMillis, nextSequence++, task));
+  }
+
+  /**
+   * Moves the clock forward, running every task that falls due on the way. Tasks scheduled by
+   * those tasks run too if they fall due in time.
+   *
+   * @param millis How far to move the clock.
+   * @return The number of tasks run.
+   * @throws IllegalArgumentException if {@code millis} is negative.
+   */
+  public int advance(long millis) {
+    if (millis < 0) {
+      throw new IllegalArgumentException("Cannot move the clock backwards");
+    }
+    long target = now + millis;
+    int run = 0;
+    while (!pending.isEmpty() && pending.peek().dueMillis() <= target) {
+      Pending next = pending.poll();
+      now = next.dueMillis();
+      next.task().run();
+      run++;
+    }
+    now = target;
+    return run;
+  }
+
+  /**
+   * Runs every scheduled task, including those scheduled meanwhile, moving the clock to each one's
+   * due time.
+   *
+   * @return The number of tasks run.
+   */
+  public int runUntilIdle() {
+    int run = 0;
+    while (!pending.isEmpty()) {
+      Pending next = pending.poll();
+      now = next.dueMillis();
+      next.task().run();
+      run++;
+    }
+    return run;
+  }
+
+  /**
+   * Gets the current time of the clock.
+   *
+   * @return The milliseconds the clock has been advanced by in total.
+   */
+  public long now() {
+    return now;
+  }
+
+  /**
+   * Gets the number of tasks waiting to run.
+   *
+   * @return The pending task count.
+   */
+  public int getPendingCount() {
+    return pending.size();
+  }
+
+  private record Pending(long dueMillis, long sequence, Runnable task)
+      implements Comparable<Pending> {
+
+    @Override
+    public int compareTo(Pending other) {
+      int byTime = Long.compare(dueMillis, other.dueMillis);
+      return byTime != 0 ? byTime : Long.compare(sequence, other.sequence);
+    }
+  }
+}
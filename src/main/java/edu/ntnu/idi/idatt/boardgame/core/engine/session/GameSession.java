@@ -0,0 +1,105 @@
+package edu.ntnu.idi.idatt.boardgame.core.engine.session;
+
+import edu.ntnu.idi.idatt.boardgame.core.engine.controller.GameController;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * A single hosted game. The controller is only ever touched from the session's own executor, a
+ * single virtual thread, from its construction onwards, so controllers need no locking and
+ * sessions cannot interfere with each other. Sessions are created and closed by a
+ * {@link GameSessionManager}.
+ *
+ * @param <C> the type of controller driving the game
+ */
+public final class GameSession<C extends GameController<?>> {
+
+  private final long id;
+  private final C controller;
+  private final long footprintBytes;
+  private final ExecutorService executor;
+
+  /**
+   * Starts the session thread and builds the controller on it, waiting until it is built.
+   *
+   * @throws RuntimeException whatever the factory threw, after the session thread is stopped.
+   */
+  GameSession(long id, Supplier<? extends C> controllerFactory, long footprintBytes) {
+    this.id = id;
+    this.footprintBytes = footprintBytes;
+    this.executor =
+        Executors.newSingleThreadExecutor(Thread.ofVirtual().name("game-session-" + id).factory());
+    try {
+      this.controller = CompletableFuture.supplyAsync(controllerFactory, executor).join();
+    } catch (CompletionException e) {
+      executor.shutdown();
+      if (e.getCause() instanceof RuntimeException cause) {
+        throw cause;
+      }
+      if (e.getCause() instanceof Error cause) {
+        throw cause;
+      }
+      throw e;
+    }
+  }
+
+  /**
+   * Runs an action against the controller on the session thread.
+   *
+   * @param action The action to run.
+   * @return A future that completes when the action has run, or exceptionally if it threw.
+   * @throws java.util.concurrent.RejectedExecutionException if the session has been closed.
+   */
+  public CompletableFuture<Void> submit(Consumer<? super C> action) {
+    return CompletableFuture.runAsync(() -> action.accept(controller), executor);
+  }
+
+  /**
+   * Computes a value from the controller on the session thread.
+   *
+   * @param query The function to apply to the controller.
+   * @param <T> The result type.
+   * @return A future holding the result.
+   * @throws java.util.concurrent.RejectedExecutionException if the session has been closed.
+   */
+  public <T> CompletableFuture<T> query(Function<? super C, ? extends T> query) {
+    return CompletableFuture.supplyAsync(() -> query.apply(controller), executor);
+  }
+
+  /**
+   * Gets the id the manager assigned to this session.
+   *
+   * @return The session id.
+   */
+  public long getId() {
+    return id;
+  }
+
+  /**
+   * Gets the estimated memory this session reserves from the manager's budget.
+   *
+   * @return The footprint in bytes.
+   */
+  public long getFootprintBytes() {
+    return footprintBytes;
+  }
+
+  /**
+   * Checks whether the session has been closed.
+   *
+   * @return True if the session no longer accepts work.
+   */
+  public boolean isClosed() {
+    return executor.isShutdown();
+  }
+
+  /** Stops accepting work. Work already submitted is still run. */
+  void close() {
+    executor.shutdown();
+  }
+}
@@ -0,0 +1,164 @@
+package edu.ntnu.idi.idatt.boardgame.core.engine.session;
+
+import edu.ntnu.idi.idatt.boardgame.core.engine.controller.GameController;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Hosts many games in one JVM. Every game runs in its own {@link GameSession} on a dedicated
+ * virtual thread, and sessions are indexed by id so that any number of clients can drive them
+ * concurrently.
+ *
+ * <p>Each session reserves an estimated number of bytes from a fixed budget when it is created
+ * and returns them when it is closed. Creating a session that would exceed the budget fails
+ * instead of risking an out-of-memory error for every hosted game.
+ *
+ * <p>Controllers built with their default constructors need no JavaFX toolkit: they log messages
+ * for the player and run delayed game logic at once.
+ */
+public final class GameSessionManager implements AutoCloseable {
+
+  private static final Logger logger = LoggerFactory.getLogger(GameSessionManager.class);
+
+  private final long memoryBudgetBytes;
+  private final AtomicLong reservedBytes = new AtomicLong();
+  private final AtomicLong nextId = new AtomicLong(1);
+  private final Map<Long, GameSession<?>> sessions = new ConcurrentHashMap<>();
+
+  /**
+   * Constructs a session manager with the given memory budget.
+   *
+   * @param memoryBudgetBytes The total number of bytes all sessions together may reserve.
+   * @throws IllegalArgumentException if the budget is not positive.
+   */
+  public GameSessionManager(long memoryBudgetBytes) {
+    if (memoryBudgetBytes <= 0) {
+      throw new IllegalArgumentException("Memory budget must be positive");
+    }
+    this.memoryBudgetBytes = memoryBudgetBytes;
+  }
+
+  /**
+   * Creates and registers a new session. The controller is built on the new session's thread, and
+   * this method waits until it is built.
+   *
+   * @param controllerFactory Creates the controller for the new game. Called on the session
+   *     thread.
+   * @param footprintBytes The estimated memory the game needs.
+   * @param <C> The type of controller.
+   * @return The new session.
+   * @throws IllegalArgumentException if the footprint is not positive.
+   * @throws IllegalStateException if the session would exceed the memory budget.
+   */
+  public <C extends GameController<?>> GameSession<C> create(
+      Supplier<C> controllerFactory, long footprintBytes) {
+    if (footprintBytes <= 0) {
+      throw new IllegalArgumentException("Session footprint must be positive");
+    }
+    reserve(footprintBytes);
+    try {
+      long id = nextId.getAndIncrement();
+      GameSession<C> session = new GameSession<>(id, controllerFactory, footprintBytes);
+      sessions.put(id, session);
+      logger.debug("Created game session {} ({} bytes reserved)", id, footprintBytes);
+      return session;
+    } catch (RuntimeException e) {
+      reservedBytes.addAndGet(-footprintBytes);
+      throw e;
+    }
+  }
+
+  private void reserve(long bytes) {
+    long current;
+    do {
+      current = reservedBytes.get();
+      if (current + bytes > memoryBudgetBytes) {
+        throw new IllegalStateException(
+            "Session memory budget exhausted: "
+                + current
+                + " of "
+                + memoryBudgetBytes
+                + " bytes in use, "
+                + bytes
+                + " requested");
+      }
+    } while (!reservedBytes.compareAndSet(current, current + bytes));
+  }
+
+  /**
+   * Finds a session by id.
+   *
+   * @param id The session id.
+   * @return The session, or an empty optional if no open session has that id.
+   */
+  public Optional<GameSession<?>> get(long id) {
+    return Optional.ofNullable(sessions.get(id));
+  }
+
+  /**
+   * Closes a session and returns its reservation to the budget. Work already submitted to the
+   * session still runs.
+   *
+   * @param id The session id.
+   * @return True if a session was closed, false if no open session had that id.
+   */
+  public boolean close(long id) {
+    GameSession<?> session = sessions.remove(id);
+    if (session == null) {
+      return false;
+    }
+    session.close();
+    reservedBytes.addAndGet(-session.getFootprintBytes());
+    logger.debug("Closed game session {}", id);
+    return true;
+  }
+
+  /** Closes every open session. */
+  @Override
+  public void close() {
+    sessions.keySet().forEach(this::close);
+  }
+
+  /**
+   * Gets all open sessions.
+   *
+   * @return An unmodifiable view of the open sessions.
+   */
+  public Collection<GameSession<?>> getSessions() {
+    return Collections.unmodifiableCollection(sessions.values());
+  }
+
+  /**
+   * Gets the number of open sessions.
+   *
+   * @return The number of sessions.
+   */
+  public int getSessionCount() {
+    return sessions.size();
+  }
+
+  /**
+   * Gets the number of bytes currently reserved by open sessions.
+   *
+   * @return The reserved bytes.
+   */
+  public long getReservedBytes() {
+    return reservedBytes.get();
+  }
+
+  /**
+   * Gets the total memory budget.
+   *
+   * @return The budget in bytes.
+   */
+  public long getMemoryBudgetBytes() {
+    return memoryBudgetBytes;
+  }
+}
@@ -0,0 +1,28 @@
+package edu.ntnu.idi.idatt.boardgame.core.exception;
+
+/**
+ * Exception thrown when a board definition is inconsistent, for example when a connector leaves the
+ * board or two connectors share a start tile. This exception is a runtime exception and does not
+ * require explicit handling.
+ */
+public class InvalidBoardException extends RuntimeException {
+
+  /**
+   * Constructs a new InvalidBoardException with the specified detail message.
+   *
+   * @param message the detail message
+   */
+  public InvalidBoardException(String message) {
+    super(message);
+  }
+
+  /**
+   * Constructs a new InvalidBoardException with the specified detail message and cause.
+   *
+   * @param message the detail message
+   * @param cause   the cause of the exception
+   */
+  public InvalidBoardException(String message, Throwable cause) {
+    super(message, cause);
+  }
+}
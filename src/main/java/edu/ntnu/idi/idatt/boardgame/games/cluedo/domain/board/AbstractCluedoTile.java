@@ -1,5 +1,6 @@
 package edu.ntnu.idi.idatt.boardgame.games.cluedo.domain.board;
 
+import edu.ntnu.idi.idatt.boardgame.core.domain.board.BoardChangeTracker;
 import edu.ntnu.idi.idatt.boardgame.core.domain.board.Tile;
 import edu.ntnu.idi.idatt.boardgame.core.domain.player.GridPos;
 import edu.ntnu.idi.idatt.boardgame.core.domain.player.Player;
@@ -32,6 +33,9 @@ public abstract class AbstractCluedoTile implements Tile<GridPos> {
 
   private final List<TileObserver<GridPos>> observers = new ArrayList<>(); // Use generic type
 
+  /** The board's change tracker, or null if changes are reported immediately. */
+  private BoardChangeTracker<GridPos> changeTracker;
+
   /**
    * Constructs an AbstractCluedoTile at the given row and column.
    *
@@ -74,13 +78,31 @@ public abstract class AbstractCluedoTile implements Tile<GridPos> {
   }
 
   /**
-   * Notifies all registered observers that this tile has changed.
+   * Notifies all registered observers that this tile has changed, or leaves that to the board if
+   * a transaction is open.
    */
   protected void notifyChange() {
+    if (changeTracker != null) {
+      changeTracker.tileChanged(this, this::notifyObserversNow);
+    } else {
+      notifyObserversNow();
+    }
+  }
+
+  private void notifyObserversNow() {
     List<TileObserver<GridPos>> observersCopy = new ArrayList<>(observers);
     observersCopy.forEach(o -> o.onTileChanged(this));
   }
 
+  /**
+   * Makes this tile report its changes to the board's change tracker.
+   *
+   * @param changeTracker The tracker of the board this tile belongs to.
+   */
+  void attachTo(BoardChangeTracker<GridPos> changeTracker) {
+    this.changeTracker = changeTracker;
+  }
+
   /**
    * Gets the row coordinate of this tile.
    *
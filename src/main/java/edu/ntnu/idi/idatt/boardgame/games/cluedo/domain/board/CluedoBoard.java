@@ -1,9 +1,12 @@
 package edu.ntnu.idi.idatt.boardgame.games.cluedo.domain.board;
 
+import edu.ntnu.idi.idatt.boardgame.core.domain.board.BoardChangeTracker;
 import edu.ntnu.idi.idatt.boardgame.core.domain.board.GameBoard;
 import edu.ntnu.idi.idatt.boardgame.core.domain.player.GridPos;
 import edu.ntnu.idi.idatt.boardgame.core.domain.player.Player;
 import edu.ntnu.idi.idatt.boardgame.core.domain.player.PlayerColor;
+import edu.ntnu.idi.idatt.boardgame.core.engine.event.BoardObserver;
+import edu.ntnu.idi.idatt.boardgame.core.exception.InvalidBoardException;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
@@ -14,6 +17,8 @@ import org.slf4j.LoggerFactory;
 /**
  * Represents the game board for Cluedo. It defines the layout of rooms, corridors, and borders, as
  * well as player starting positions.
+ * Every move runs in a board transaction, so observers hear about each change once. Movement
+ * rules are answered by a {@link CluedoBoardGraph} compiled once when the board is built.
  */
 public final class CluedoBoard implements GameBoard<GridPos> {
 
@@ -27,11 +32,27 @@ public final class CluedoBoard implements GameBoard<GridPos> {
   private static final GridPos START_POS_REV_GREEN = new GridPos(1, 16); // GREEN
   private static final GridPos START_POS_MRS_PEACOCK = new GridPos(6, 23); // BLUE
   private static final GridPos START_POS_PROF_PLUM = new GridPos(19, 23); // PURPLE
+  private static final List<GridPos> START_POSITIONS =
+      List.of(
+          START_POS_MISS_SCARLETT,
+          START_POS_COL_MUSTARD,
+          START_POS_MRS_WHITE,
+          START_POS_REV_GREEN,
+          START_POS_MRS_PEACOCK,
+          START_POS_PROF_PLUM);
 
   /**
    * The 2D array representing the grid of tiles on the board.
    */
   private final AbstractCluedoTile[][] board = new AbstractCluedoTile[BOARD_SIZE][BOARD_SIZE];
+  /** Collects tile changes during transactions. */
+  private final BoardChangeTracker<GridPos> changeTracker = new BoardChangeTracker<>();
+  /** Movement graph compiled from the finished grid. */
+  private final CluedoBoardGraph graph;
+  /** Answers and caches reachable-set queries on {@link #graph}. */
+  private final CluedoReachability reachability;
+  /** Step counts between rooms, doors and start squares, computed on first use. */
+  private CluedoDistanceTable distanceTable;
 
   /**
    * Specifications for each room on the Cluedo board, including dimensions, and door definitions.
@@ -104,6 +125,8 @@ public final class CluedoBoard implements GameBoard<GridPos> {
    */
   public CluedoBoard() {
     initializeTiles();
+    this.graph = new CluedoBoardGraph(board);
+    this.reachability = new CluedoReachability(graph);
   }
 
   /**
@@ -114,30 +137,74 @@ public final class CluedoBoard implements GameBoard<GridPos> {
    * @return True if the move is legal, false otherwise.
    */
   public boolean isLegalDestination(GridPos fromPosition, GridPos targetPosition) {
-    AbstractCluedoTile fromTile = getTileAtPosition(fromPosition);
-    AbstractCluedoTile toTile = getTileAtPosition(targetPosition);
-
-    boolean adjacent =
-        Math.abs(fromPosition.row() - targetPosition.row())
-            + Math.abs(fromPosition.col() - targetPosition.col())
-            == 1;
-
-    boolean corridorToCorridor =
-        fromTile instanceof CorridorTile && toTile instanceof CorridorTile && adjacent;
-
-    boolean doorEntry =
-        fromTile instanceof CorridorTile
-            && toTile instanceof RoomTile
-            && adjacent // must stand right outside the door
-            && ((RoomTile) toTile).canEnterFrom(fromPosition.row(), fromPosition.col());
-
-    boolean doorExit =
-        fromTile instanceof RoomTile room
-            && toTile instanceof CorridorTile
-            && room.canExitTo(targetPosition.row(), targetPosition.col());
-
-    // reject anything but corridor->corridor, corridor->room, room->corridor
-    return corridorToCorridor || doorEntry || doorExit;
+    if (!isValidPosition(fromPosition) || !isValidPosition(targetPosition)) {
+      return false;
+    }
+    // only corridor->corridor, corridor->room and room->corridor steps are edges of the graph
+    return graph.isLegalMove(
+        fromPosition.row(), fromPosition.col(), targetPosition.row(), targetPosition.col());
+  }
+
+  /**
+   * Gets the movement graph of this board, shared by move checks, path searches and views.
+   *
+   * @return The compiled {@link CluedoBoardGraph}.
+   */
+  public CluedoBoardGraph getGraph() {
+    return graph;
+  }
+
+  /**
+   * Gets the distance table of this board, computing it on first use.
+   *
+   * @return The {@link CluedoDistanceTable}.
+   */
+  public synchronized CluedoDistanceTable getDistanceTable() {
+    if (distanceTable == null) {
+      distanceTable = CluedoDistanceTable.compute(graph, START_POSITIONS);
+    }
+    return distanceTable;
+  }
+
+  /**
+   * Uses a previously computed distance table, for example one loaded from disk, instead of
+   * computing it again.
+   *
+   * @param table The distance table.
+   * @throws InvalidBoardException if the table was computed for a different layout.
+   */
+  public synchronized void setDistanceTable(CluedoDistanceTable table) {
+    if (table.getLayoutHash() != graph.getLayoutHash()) {
+      throw new InvalidBoardException("Distance table was computed for a different board layout");
+    }
+    this.distanceTable = table;
+  }
+
+  /**
+   * Finds every square reachable in exactly the given number of steps, and every room reachable
+   * in at most that many, since entering a room ends the move. Squares may be stepped on more than
+   * once along the way.
+   *
+   * @param from The start position.
+   * @param steps The number of steps to take.
+   * @return The reachable squares and rooms, with one shortest path to each.
+   * @throws IllegalArgumentException if {@code steps} is negative.
+   */
+  public ReachableSet reachableExactly(GridPos from, int steps) {
+    return reachability.query(from.row(), from.col(), steps, true);
+  }
+
+  /**
+   * Finds every square and room reachable in at most the given number of steps, including the
+   * start position itself.
+   *
+   * @param from The start position.
+   * @param steps The largest number of steps to take.
+   * @return The reachable squares and rooms, with one shortest path to each.
+   * @throws IllegalArgumentException if {@code steps} is negative.
+   */
+  public ReachableSet reachableWithin(GridPos from, int steps) {
+    return reachability.query(from.row(), from.col(), steps, false);
   }
 
   private void populateRoomTiles(RoomDimensions roomDimensions, RoomTile room) {
@@ -170,6 +237,11 @@ public final class CluedoBoard implements GameBoard<GridPos> {
     insertRooms();
     insertCorridorTiles();
     placeStartPosAdjacentBorders();
+    for (AbstractCluedoTile[] row : board) {
+      for (AbstractCluedoTile tile : row) {
+        tile.attachTo(changeTracker);
+      }
+    }
   }
 
   private void insertBorderTiles() {
@@ -297,6 +369,10 @@ public final class CluedoBoard implements GameBoard<GridPos> {
 
   @Override
   public void setPlayerPosition(Player<GridPos> player, GridPos position) {
+    runInTransaction(() -> movePlayer(player, position));
+  }
+
+  private void movePlayer(Player<GridPos> player, GridPos position) {
     if (!isValidPosition(position)) {
       logger.error("Error: Attempt to set invalid position {}", position);
       return;
@@ -353,6 +429,30 @@ public final class CluedoBoard implements GameBoard<GridPos> {
 
   @Override
   public void addPlayersToStart(Map<Integer, Player<GridPos>> players) {
+    runInTransaction(() -> placePlayersAtStart(players));
+  }
+
+  @Override
+  public void beginTransaction() {
+    changeTracker.begin();
+  }
+
+  @Override
+  public void commitTransaction() {
+    changeTracker.commit();
+  }
+
+  @Override
+  public void addBoardObserver(BoardObserver<GridPos> observer) {
+    changeTracker.addObserver(observer);
+  }
+
+  @Override
+  public void removeBoardObserver(BoardObserver<GridPos> observer) {
+    changeTracker.removeObserver(observer);
+  }
+
+  private void placePlayersAtStart(Map<Integer, Player<GridPos>> players) {
     players
         .values()
         .forEach(
@@ -0,0 +1,332 @@
+package edu.ntnu.idi.idatt.boardgame.games.cluedo.domain.board;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Movement graph of a Cluedo board, compiled once from the tile grid into compressed sparse row
+ * arrays so that movement checks, path searches and views do not have to inspect tiles.
+ *
+ * <p>Every corridor cell is a node whose id is its packed cell id {@code row * size + col}. Every
+ * room is one node, numbered after all cell ids, and every cell of a room maps to that node.
+ * Border cells and cells outside the board map to {@link #NO_NODE}. Edges are directed: corridor
+ * cells link to neighbouring corridor cells and to the rooms they can enter, and rooms link to the
+ * corridor cells they can be left through.
+ */
+public final class CluedoBoardGraph {
+
+  /** Returned for cells that are not part of the graph. */
+  public static final int NO_NODE = -1;
+
+  private static final int[][] STEPS = {{-1, 0}, {1, 0}, {0, -1}, {0, 1}};
+
+  private final int size;
+  /** {@code nodeByCell[cellId]} is the node a cell belongs to, or {@link #NO_NODE}. */
+  private final int[] nodeByCell;
+  private final List<RoomTile> rooms;
+  /** Edges of node {@code n} are {@code targets[offsets[n]]} to {@code targets[offsets[n + 1]]}. */
+  private final int[] offsets;
+  /** Edge targets, sorted within each node. */
+  private final int[] targets;
+  /** Fingerprint of the compiled layout. */
+  private final long layoutHash;
+
+  /**
+   * Compiles the graph of a square tile grid.
+   *
+   * @param grid The board's tiles, indexed by row and column.
+   */
+  CluedoBoardGraph(AbstractCluedoTile[][] grid) {
+    this.size = grid.length;
+    int cells = size * size;
+    this.nodeByCell = new int[cells];
+    Map<RoomTile, Integer> roomNodes = new IdentityHashMap<>();
+    this.rooms = new ArrayList<>();
+    for (int row = 0; row < size; row++) {
+      for (int col = 0; col < size; col++) {
+        AbstractCluedoTile tile = grid[row][col];
+        int cell = row * size + col;
+        if (tile instanceof CorridorTile) {
+          nodeByCell[cell] = cell;
+        } else if (tile instanceof RoomTile room) {
+          nodeByCell[cell] =
+              roomNodes.computeIfAbsent(
+                  room,
+                  r -> {
+                    rooms.add(r);
+                    return cells + rooms.size() - 1;
+                  });
+        } else {
+          nodeByCell[cell] = NO_NODE;
+        }
+      }
+    }
+
+    int[][] edges = new int[cells + rooms.size()][];
+    int edgeCount = 0;
+    for (int row = 0; row < size; row++) {
+      for (int col = 0; col < size; col++) {
+        int cell = row * size + col;
+        if (nodeByCell[cell] == cell) {
+          edges[cell] = corridorEdges(row, col);
+          edgeCount += edges[cell].length;
+        }
+      }
+    }
+    for (int i = 0; i < rooms.size(); i++) {
+      edges[cells + i] = roomExits(rooms.get(i));
+      edgeCount += edges[cells + i].length;
+    }
+
+    this.offsets = new int[edges.length + 1];
+    this.targets = new int[edgeCount];
+    for (int node = 0; node < edges.length; node++) {
+      int[] nodeEdges = edges[node] == null ? new int[0] : edges[node];
+      System.arraycopy(nodeEdges, 0, targets, offsets[node], nodeEdges.length);
+      offsets[node + 1] = offsets[node] + nodeEdges.length;
+    }
+    this.layoutHash = hash(size, nodeByCell, offsets, targets);
+  }
+
+  /** 64-bit FNV-1a over the arrays that define the graph. */
+  private static long hash(int size, int[]... arrays) {
+    long hash = 0xcbf29ce484222325L;
+    hash = (hash ^ size) * 0x100000001b3L;
+    for (int[] array : arrays) {
+      hash = (hash ^ array.length) * 0x100000001b3L;
+      for (int value : array) {
+        hash = (hash ^ value) * 0x100000001b3L;
+      }
+    }
+    return hash;
+  }
+
+  private int[] corridorEdges(int row, int col) {
+    int[] result = new int[STEPS.length];
+    int count = 0;
+    for (int[] step : STEPS) {
+      int node = nodeAt(row + step[0], col + step[1]);
+      if (node == NO_NODE) {
+        continue;
+      }
+      boolean reachable = !isRoomNode(node) || roomOf(node).canEnterFrom(row, col);
+      if (reachable && !contains(result, count, node)) {
+        result[count++] = node;
+      }
+    }
+    int[] sorted = Arrays.copyOf(result, count);
+    Arrays.sort(sorted);
+    return sorted;
+  }
+
+  private static boolean contains(int[] values, int count, int value) {
+    for (int i = 0; i < count; i++) {
+      if (values[i] == value) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private int[] roomExits(RoomTile room) {
+    int[] result = new int[size * size];
+    int count = 0;
+    for (int cell = 0; cell < nodeByCell.length; cell++) {
+      if (nodeByCell[cell] == cell && room.canExitTo(cell / size, cell % size)) {
+        result[count++] = cell;
+      }
+    }
+    return Arrays.copyOf(result, count);
+  }
+
+  /**
+   * Gets the node a cell belongs to.
+   *
+   * @param row The 0-based row.
+   * @param col The 0-based column.
+   * @return The corridor cell's id, the room's node, or {@link #NO_NODE}.
+   */
+  public int nodeAt(int row, int col) {
+    if (row < 0 || row >= size || col < 0 || col >= size) {
+      return NO_NODE;
+    }
+    return nodeByCell[row * size + col];
+  }
+
+  /**
+   * Gets a cell of a node: the cell itself for a corridor node, or the top left cell of a room.
+   *
+   * @param node The node.
+   * @return The packed cell id {@code row * size + col}.
+   * @throws IllegalArgumentException if the node is not part of the graph.
+   */
+  public int cellOf(int node) {
+    if (node < 0 || node >= getNodeCount()) {
+      throw new IllegalArgumentException("Node " + node + " is not part of the graph");
+    }
+    if (node < nodeByCell.length) {
+      return node;
+    }
+    for (int cell = 0; cell < nodeByCell.length; cell++) {
+      if (nodeByCell[cell] == node) {
+        return cell;
+      }
+    }
+    throw new IllegalStateException("Room node " + node + " has no cells");
+  }
+
+  /**
+   * Checks whether a node stands for a room rather than a corridor cell.
+   *
+   * @param node The node.
+   * @return True if the node is a room.
+   */
+  public boolean isRoomNode(int node) {
+    return node >= nodeByCell.length && node < getNodeCount();
+  }
+
+  /**
+   * Gets the room a room node stands for.
+   *
+   * @param node A room node.
+   * @return The room.
+   * @throws IllegalArgumentException if the node is not a room.
+   */
+  public RoomTile roomOf(int node) {
+    if (!isRoomNode(node)) {
+      throw new IllegalArgumentException("Node " + node + " is not a room");
+    }
+    return rooms.get(node - nodeByCell.length);
+  }
+
+  /**
+   * Gets the node of a room.
+   *
+   * @param room The room.
+   * @return The room's node, or {@link #NO_NODE} if the room is not on this board.
+   */
+  public int nodeOf(RoomTile room) {
+    for (int i = 0; i < rooms.size(); i++) {
+      if (rooms.get(i) == room) {
+        return nodeByCell.length + i;
+      }
+    }
+    return NO_NODE;
+  }
+
+  /**
+   * Checks whether there is an edge between two nodes.
+   *
+   * @param from The start node.
+   * @param to The end node.
+   * @return True if a single step leads from {@code from} to {@code to}.
+   */
+  public boolean hasEdge(int from, int to) {
+    if (from < 0 || from >= getNodeCount()) {
+      return false;
+    }
+    return Arrays.binarySearch(targets, offsets[from], offsets[from + 1], to) >= 0;
+  }
+
+  /**
+   * Checks whether a player may step from one cell to another: between neighbouring corridor
+   * cells, from a corridor cell into a neighbouring room cell through a door, or from anywhere in a
+   * room out to one of its door cells.
+   *
+   * @param fromRow The row of the start cell.
+   * @param fromCol The column of the start cell.
+   * @param toRow The row of the target cell.
+   * @param toCol The column of the target cell.
+   * @return True if the step is legal.
+   */
+  public boolean isLegalMove(int fromRow, int fromCol, int toRow, int toCol) {
+    int from = nodeAt(fromRow, fromCol);
+    int to = nodeAt(toRow, toCol);
+    if (from == NO_NODE || to == NO_NODE) {
+      return false;
+    }
+    // a room can only be entered from right outside the door
+    if (isRoomNode(to) && Math.abs(fromRow - toRow) + Math.abs(fromCol - toCol) != 1) {
+      return false;
+    }
+    return hasEdge(from, to);
+  }
+
+  /**
+   * Checks whether a corridor cell is a door, meaning that a room can be entered from it.
+   *
+   * @param row The 0-based row.
+   * @param col The 0-based column.
+   * @return True if the cell is a corridor cell with an edge into a room.
+   */
+  public boolean isDoor(int row, int col) {
+    int node = nodeAt(row, col);
+    if (node == NO_NODE || isRoomNode(node)) {
+      return false;
+    }
+    // room nodes sort after every cell id, so the last edge is a room if there is one
+    return offsets[node + 1] > offsets[node] && isRoomNode(targets[offsets[node + 1] - 1]);
+  }
+
+  /**
+   * Gets the number of edges leaving a node.
+   *
+   * @param node The node.
+   * @return The out-degree.
+   */
+  public int degree(int node) {
+    return offsets[node + 1] - offsets[node];
+  }
+
+  /**
+   * Gets one of the nodes reachable in a single step.
+   *
+   * @param node The node.
+   * @param index The index of the edge, from 0 to {@link #degree(int)} - 1.
+   * @return The target node.
+   */
+  public int neighbour(int node, int index) {
+    return targets[offsets[node] + index];
+  }
+
+  /**
+   * Gets the number of nodes, counting a node id for every cell and one for every room.
+   *
+   * @return The node count.
+   */
+  public int getNodeCount() {
+    return nodeByCell.length + rooms.size();
+  }
+
+  /**
+   * Gets the number of rooms.
+   *
+   * @return The room count.
+   */
+  public int getRoomCount() {
+    return rooms.size();
+  }
+
+  /**
+   * Gets a fingerprint of the layout the graph was compiled from. Two boards with the same cells,
+   * rooms and doors have the same fingerprint, so data derived from one graph can be checked
+   * against another before it is reused.
+   *
+   * @return The layout hash.
+   */
+  public long getLayoutHash() {
+    return layoutHash;
+  }
+
+  /**
+   * Gets the number of rows and columns of the board.
+   *
+   * @return The side length in cells.
+   */
+  public int getSize() {
+    return size;
+  }
+}
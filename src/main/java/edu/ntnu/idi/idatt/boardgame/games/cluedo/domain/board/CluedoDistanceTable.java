@@ -0,0 +1,302 @@
+package edu.ntnu.idi.idatt.boardgame.games.cluedo.domain.board;
+
+import edu.ntnu.idi.idatt.boardgame.core.domain.player.GridPos;
+import edu.ntnu.idi.idatt.boardgame.core.exception.InvalidBoardException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Step counts between the places of a Cluedo board that bots, hints and statistics ask about, so
+ * that none of them has to search the board. Computed once per layout from a
+ * {@link CluedoBoardGraph}.
+ *
+ * <p>The table holds two {@code short} arrays. The first is a square matrix over the landmarks,
+ * which are every room, every door square and every start square, and answers door-to-door,
+ * start-to-room and room-to-room questions. The second holds, for every room, the distance from
+ * every node of the graph to that room, so "how many steps from here to the Library" is a lookup
+ * wherever the player stands.
+ *
+ * <p>Paths may start in a room but never pass through another one, because entering a room ends
+ * the move. Distances that cannot be covered are {@link #UNREACHABLE}.
+ */
+public final class CluedoDistanceTable {
+
+  /** Distance reported between places with no path between them. */
+  public static final int UNREACHABLE = -1;
+
+  private final CluedoBoardGraph graph;
+  /** Graph nodes of the landmarks, in matrix order. */
+  private final int[] landmarks;
+  /** {@code landmarkIndex[node]} is the landmark index of a node, or -1. */
+  private final int[] landmarkIndex;
+  /** {@code distances[i * landmarks.length + j]} is the distance from landmark i to landmark j. */
+  private final short[] distances;
+  /** {@code roomDistances[r * nodeCount + n]} is the distance from node n to room r. */
+  private final short[] roomDistances;
+
+  private CluedoDistanceTable(
+      CluedoBoardGraph graph, int[] landmarks, short[] distances, short[] roomDistances) {
+    this.graph = graph;
+    this.landmarks = landmarks;
+    this.distances = distances;
+    this.roomDistances = roomDistances;
+    this.landmarkIndex = new int[graph.getNodeCount()];
+    Arrays.fill(landmarkIndex, -1);
+    for (int i = 0; i < landmarks.length; i++) {
+      landmarkIndex[landmarks[i]] = i;
+    }
+  }
+
+  /**
+   * Computes the table for a board.
+   *
+   * @param graph The board's movement graph.
+   * @param starts The start squares to include as landmarks.
+   * @return The distance table.
+   */
+  public static CluedoDistanceTable compute(CluedoBoardGraph graph, List<GridPos> starts) {
+    int nodeCount = graph.getNodeCount();
+    int cells = nodeCount - graph.getRoomCount();
+    List<Integer> landmarkList = new ArrayList<>();
+    for (int room = cells; room < nodeCount; room++) {
+      landmarkList.add(room);
+    }
+    for (int cell = 0; cell < cells; cell++) {
+      if (graph.isDoor(cell / graph.getSize(), cell % graph.getSize())) {
+        landmarkList.add(cell);
+      }
+    }
+    for (GridPos start : starts) {
+      int node = graph.nodeAt(start.row(), start.col());
+      if (node != CluedoBoardGraph.NO_NODE && !landmarkList.contains(node)) {
+        landmarkList.add(node);
+      }
+    }
+    int[] landmarks = landmarkList.stream().mapToInt(Integer::intValue).toArray();
+
+    short[] distances = new short[landmarks.length * landmarks.length];
+    short[] field = new short[nodeCount];
+    for (int i = 0; i < landmarks.length; i++) {
+      search(graph, landmarks[i], field);
+      for (int j = 0; j < landmarks.length; j++) {
+        distances[i * landmarks.length + j] = field[landmarks[j]];
+      }
+    }
+
+    short[] roomDistances = new short[graph.getRoomCount() * nodeCount];
+    ReverseGraph reverse = new ReverseGraph(graph);
+    for (int r = 0; r < graph.getRoomCount(); r++) {
+      searchReverse(graph, reverse, cells + r, field);
+      System.arraycopy(field, 0, roomDistances, r * nodeCount, nodeCount);
+    }
+    return new CluedoDistanceTable(graph, landmarks, distances, roomDistances);
+  }
+
+  /**
+   * Rebuilds a table from arrays read back from storage.
+   *
+   * @param graph The board's movement graph.
+   * @param layoutHash The layout hash the arrays were computed for.
+   * @param landmarks The landmark nodes, in matrix order.
+   * @param distances The landmark matrix.
+   * @param roomDistances The room distance fields.
+   * @return The distance table.
+   * @throws InvalidBoardException if the arrays were computed for another layout or do not fit
+   *     the graph.
+   */
+  public static CluedoDistanceTable restore(
+      CluedoBoardGraph graph,
+      long layoutHash,
+      int[] landmarks,
+      short[] distances,
+      short[] roomDistances) {
+    if (layoutHash != graph.getLayoutHash()) {
+      throw new InvalidBoardException("Distance table was computed for a different board layout");
+    }
+    if (distances.length != landmarks.length * landmarks.length
+        || roomDistances.length != graph.getRoomCount() * graph.getNodeCount()
+        || Arrays.stream(landmarks).anyMatch(n -> n < 0 || n >= graph.getNodeCount())) {
+      throw new InvalidBoardException("Distance table does not fit the board");
+    }
+    return new CluedoDistanceTable(
+        graph, landmarks.clone(), distances.clone(), roomDistances.clone());
+  }
+
+  /** Breadth-first search from one node, filling {@code field} with distances. */
+  private static void search(CluedoBoardGraph graph, int source, short[] field) {
+    Arrays.fill(field, (short) UNREACHABLE);
+    int[] queue = new int[graph.getNodeCount()];
+    int head = 0;
+    int tail = 0;
+    field[source] = 0;
+    queue[tail++] = source;
+    while (head < tail) {
+      int node = queue[head++];
+      if (node != source && graph.isRoomNode(node)) {
+        continue; // entering a room ends the move
+      }
+      for (int i = 0, degree = graph.degree(node); i < degree; i++) {
+        int target = graph.neighbour(node, i);
+        if (field[target] == UNREACHABLE) {
+          field[target] = (short) (field[node] + 1);
+          queue[tail++] = target;
+        }
+      }
+    }
+  }
+
+  /** Breadth-first search against the edges towards a room, filling {@code field}. */
+  private static void searchReverse(
+      CluedoBoardGraph graph, ReverseGraph reverse, int room, short[] field) {
+    Arrays.fill(field, (short) UNREACHABLE);
+    int[] queue = new int[graph.getNodeCount()];
+    int head = 0;
+    int tail = 0;
+    field[room] = 0;
+    queue[tail++] = room;
+    while (head < tail) {
+      int node = queue[head++];
+      if (node != room && graph.isRoomNode(node)) {
+        continue; // another room can only be where a path starts
+      }
+      for (int i = reverse.offsets[node]; i < reverse.offsets[node + 1]; i++) {
+        int source = reverse.sources[i];
+        if (field[source] == UNREACHABLE) {
+          field[source] = (short) (field[node] + 1);
+          queue[tail++] = source;
+        }
+      }
+    }
+  }
+
+  /**
+   * Gets the number of steps between two landmarks.
+   *
+   * @param from A room cell, door square or start square.
+   * @param to A room cell, door square or start square.
+   * @return The number of steps, or {@link #UNREACHABLE}.
+   * @throws IllegalArgumentException if either position is not a landmark.
+   */
+  public int distance(GridPos from, GridPos to) {
+    return distances[landmarkOf(from) * landmarks.length + landmarkOf(to)];
+  }
+
+  /**
+   * Gets the number of steps from any position to a room.
+   *
+   * @param from The position.
+   * @param room The room.
+   * @return The number of steps, 0 inside the room, or {@link #UNREACHABLE} if the position is
+   *     not part of the board's graph or the room cannot be reached.
+   * @throws IllegalArgumentException if the room is not on this board.
+   */
+  public int distanceToRoom(GridPos from, RoomTile room) {
+    int roomNode = graph.nodeOf(room);
+    if (roomNode == CluedoBoardGraph.NO_NODE) {
+      throw new IllegalArgumentException("Room " + room.getRoomName() + " is not on this board");
+    }
+    int node = graph.nodeAt(from.row(), from.col());
+    if (node == CluedoBoardGraph.NO_NODE) {
+      return UNREACHABLE;
+    }
+    int roomIndex = roomNode - (graph.getNodeCount() - graph.getRoomCount());
+    return roomDistances[roomIndex * graph.getNodeCount() + node];
+  }
+
+  /**
+   * Checks whether a position is a landmark of this table.
+   *
+   * @param pos The position.
+   * @return True for room cells, door squares and start squares.
+   */
+  public boolean isLandmark(GridPos pos) {
+    int node = graph.nodeAt(pos.row(), pos.col());
+    return node != CluedoBoardGraph.NO_NODE && landmarkIndex[node] >= 0;
+  }
+
+  /**
+   * Gets the landmarks in matrix order, rooms as their top left cell.
+   *
+   * @return A new list of positions.
+   */
+  public List<GridPos> getLandmarks() {
+    List<GridPos> result = new ArrayList<>(landmarks.length);
+    for (int node : landmarks) {
+      int cell = graph.cellOf(node);
+      result.add(new GridPos(cell / graph.getSize(), cell % graph.getSize()));
+    }
+    return result;
+  }
+
+  /**
+   * Gets the layout hash of the graph this table belongs to.
+   *
+   * @return The layout hash.
+   */
+  public long getLayoutHash() {
+    return graph.getLayoutHash();
+  }
+
+  /**
+   * Gets the landmark nodes, for storage.
+   *
+   * @return A copy of the landmark nodes.
+   */
+  public int[] getLandmarkNodes() {
+    return landmarks.clone();
+  }
+
+  /**
+   * Gets the landmark matrix, for storage.
+   *
+   * @return A copy of the matrix, row by row.
+   */
+  public short[] getDistances() {
+    return distances.clone();
+  }
+
+  /**
+   * Gets the room distance fields, for storage.
+   *
+   * @return A copy of the fields, room by room.
+   */
+  public short[] getRoomDistances() {
+    return roomDistances.clone();
+  }
+
+  private int landmarkOf(GridPos pos) {
+    int node = graph.nodeAt(pos.row(), pos.col());
+    if (node == CluedoBoardGraph.NO_NODE || landmarkIndex[node] < 0) {
+      throw new IllegalArgumentException(pos + " is not a room, door or start square");
+    }
+    return landmarkIndex[node];
+  }
+
+  /** The edges of a graph turned around, in the same compressed sparse row form. */
+  private static final class ReverseGraph {
+
+    private final int[] offsets;
+    private final int[] sources;
+
+    private ReverseGraph(CluedoBoardGraph graph) {
+      int nodeCount = graph.getNodeCount();
+      offsets = new int[nodeCount + 1];
+      for (int node = 0; node < nodeCount; node++) {
+        for (int i = 0; i < graph.degree(node); i++) {
+          offsets[graph.neighbour(node, i) + 1]++;
+        }
+      }
+      for (int node = 0; node < nodeCount; node++) {
+        offsets[node + 1] += offsets[node];
+      }
+      sources = new int[offsets[nodeCount]];
+      int[] fill = Arrays.copyOf(offsets, nodeCount);
+      for (int node = 0; node < nodeCount; node++) {
+        for (int i = 0; i < graph.degree(node); i++) {
+          sources[fill[graph.neighbour(node, i)]++] = node;
+        }
+      }
+    }
+  }
+}
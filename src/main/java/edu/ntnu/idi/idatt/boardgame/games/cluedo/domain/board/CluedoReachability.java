@@ -0,0 +1,125 @@
+package edu.ntnu.idi.idatt.boardgame.games.cluedo.domain.board;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Finds the destinations reachable with a roll by a breadth-first search over a
+ * {@link CluedoBoardGraph}, with every layer of the search held in a {@link BitSet}. Squares may
+ * be stepped on more than once in a move, so the squares reachable in exactly {@code k} steps are
+ * the layer {@code k} of the search, while a room ends the move and is reachable as soon as any
+ * layer up to {@code k} reaches it.
+ *
+ * <p>The graph never changes, so results are cached per start cell, number of steps and kind of
+ * query, keeping the most recently used ones. The key is the cell rather than the node because a
+ * result reports a room it starts in as the cell it was queried from.
+ */
+final class CluedoReachability {
+
+  /** Number of results kept in the cache. */
+  private static final int CACHE_SIZE = 128;
+  private static final int[][] STEPS = {{-1, 0}, {1, 0}, {0, -1}, {0, 1}};
+
+  private final CluedoBoardGraph graph;
+  private final Map<Long, ReachableSet> cache =
+      new LinkedHashMap<>(CACHE_SIZE, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Long, ReachableSet> eldest) {
+          return size() > CACHE_SIZE;
+        }
+      };
+
+  CluedoReachability(CluedoBoardGraph graph) {
+    this.graph = graph;
+  }
+
+  /**
+   * Finds the destinations reachable from a cell.
+   *
+   * @param row The row of the start cell.
+   * @param col The column of the start cell.
+   * @param steps The number of steps available.
+   * @param exact True to require corridor squares to be reached in exactly {@code steps} steps,
+   *     false to allow fewer.
+   * @return The reachable set, empty if the start cell is not part of the graph.
+   * @throws IllegalArgumentException if {@code steps} is negative.
+   */
+  synchronized ReachableSet query(int row, int col, int steps, boolean exact) {
+    if (steps < 0) {
+      throw new IllegalArgumentException("Steps cannot be negative");
+    }
+    int start = graph.nodeAt(row, col);
+    int startCell = row * graph.getSize() + col;
+    long key = ((long) startCell << 32) | ((long) steps << 1) | (exact ? 1 : 0);
+    ReachableSet cached = cache.get(key);
+    if (cached == null) {
+      cached = search(start, startCell, steps, exact);
+      cache.put(key, cached);
+    }
+    return cached;
+  }
+
+  private ReachableSet search(int start, int startCell, int steps, boolean exact) {
+    int nodeCount = graph.getNodeCount();
+    int[] parent = new int[nodeCount];
+    int[] distance = new int[nodeCount];
+    int[] cellOf = new int[nodeCount];
+    Arrays.fill(parent, -1);
+    Arrays.fill(distance, -1);
+    BitSet destinations = new BitSet(nodeCount);
+    if (start == CluedoBoardGraph.NO_NODE) {
+      return new ReachableSet(graph, start, steps, exact, destinations, parent, distance, cellOf);
+    }
+
+    distance[start] = 0;
+    cellOf[start] = startCell;
+    BitSet frontier = new BitSet(nodeCount);
+    frontier.set(start);
+    BitSet rooms = new BitSet(nodeCount);
+    if (!exact) {
+      destinations.set(start);
+    }
+    for (int level = 1; level <= steps && !frontier.isEmpty(); level++) {
+      BitSet next = new BitSet(nodeCount);
+      for (int node = frontier.nextSetBit(0); node >= 0; node = frontier.nextSetBit(node + 1)) {
+        for (int i = 0, degree = graph.degree(node); i < degree; i++) {
+          int target = graph.neighbour(node, i);
+          if (distance[target] < 0) {
+            distance[target] = level;
+            parent[target] = node;
+            cellOf[target] = graph.isRoomNode(target) ? entryCell(node, target) : target;
+          }
+          if (graph.isRoomNode(target)) {
+            rooms.set(target); // entering a room ends the move
+          } else {
+            next.set(target);
+          }
+        }
+      }
+      frontier = next;
+      if (!exact) {
+        destinations.or(frontier);
+      }
+    }
+    if (exact) {
+      destinations.or(frontier);
+    }
+    destinations.or(rooms);
+    return new ReachableSet(graph, start, steps, exact, destinations, parent, distance, cellOf);
+  }
+
+  /** Finds the cell of a room next to the corridor cell it is entered from. */
+  private int entryCell(int corridorCell, int room) {
+    int size = graph.getSize();
+    int row = corridorCell / size;
+    int col = corridorCell % size;
+    for (int[] step : STEPS) {
+      if (graph.nodeAt(row + step[0], col + step[1]) == room) {
+        return (row + step[0]) * size + col + step[1];
+      }
+    }
+    throw new IllegalStateException("Room " + room + " is not next to cell " + corridorCell);
+  }
+}
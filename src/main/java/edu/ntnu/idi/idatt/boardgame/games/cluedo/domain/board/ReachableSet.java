@@ -0,0 +1,141 @@
+package edu.ntnu.idi.idatt.boardgame.games.cluedo.domain.board;
+
+import edu.ntnu.idi.idatt.boardgame.core.domain.player.GridPos;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * The squares and rooms a player can reach from one position with a given number of steps, as
+ * answered by {@link CluedoBoard#reachableExactly(GridPos, int)} and
+ * {@link CluedoBoard#reachableWithin(GridPos, int)}. Along with the destinations it keeps the
+ * breadth-first search tree, so one shortest path to every destination can be read back.
+ *
+ * <p>A room counts as one destination, however many of its cells are next to a door. Its
+ * position is the room cell the shortest path enters through, which is where a player clicking
+ * through that path would end up. Instances are immutable.
+ */
+public final class ReachableSet {
+
+  private final CluedoBoardGraph graph;
+  private final int startNode;
+  private final int steps;
+  private final boolean exact;
+  /** Nodes that are destinations. */
+  private final BitSet destinations;
+  /** {@code parent[n]} is the node before {@code n} on a shortest path, or -1. */
+  private final int[] parent;
+  /** {@code distance[n]} is the length of a shortest path to {@code n}, or -1. */
+  private final int[] distance;
+  /** {@code cellOf[n]} is the cell id a path to {@code n} ends on. */
+  private final int[] cellOf;
+
+  ReachableSet(
+      CluedoBoardGraph graph,
+      int startNode,
+      int steps,
+      boolean exact,
+      BitSet destinations,
+      int[] parent,
+      int[] distance,
+      int[] cellOf) {
+    this.graph = graph;
+    this.startNode = startNode;
+    this.steps = steps;
+    this.exact = exact;
+    this.destinations = destinations;
+    this.parent = parent;
+    this.distance = distance;
+    this.cellOf = cellOf;
+  }
+
+  /**
+   * Checks whether a position is a destination. Any cell of a reachable room counts.
+   *
+   * @param pos The position.
+   * @return True if the position can be reached.
+   */
+  public boolean contains(GridPos pos) {
+    int node = graph.nodeAt(pos.row(), pos.col());
+    return node != CluedoBoardGraph.NO_NODE && destinations.get(node);
+  }
+
+  /**
+   * Gets every destination, corridor squares as themselves and rooms as the cell the shortest path
+   * enters them through, ordered by node.
+   *
+   * @return A new list of positions.
+   */
+  public List<GridPos> getDestinations() {
+    List<GridPos> result = new ArrayList<>(destinations.cardinality());
+    for (int node = destinations.nextSetBit(0);
+        node >= 0;
+        node = destinations.nextSetBit(node + 1)) {
+      result.add(toPos(cellOf[node]));
+    }
+    return result;
+  }
+
+  /**
+   * Gets one shortest path to a destination.
+   *
+   * @param pos The destination. Any cell of a reachable room selects that room.
+   * @return The positions stepped on after the start, ending at the destination; empty if the
+   *     position is the start or not a destination.
+   */
+  public List<GridPos> pathTo(GridPos pos) {
+    int node = graph.nodeAt(pos.row(), pos.col());
+    if (node == CluedoBoardGraph.NO_NODE || !destinations.get(node) || node == startNode) {
+      return List.of();
+    }
+    List<GridPos> path = new ArrayList<>(distance[node]);
+    for (int n = node; n != startNode; n = parent[n]) {
+      path.add(toPos(cellOf[n]));
+    }
+    Collections.reverse(path);
+    return path;
+  }
+
+  /**
+   * Gets the length of a shortest path to a destination.
+   *
+   * @param pos The destination.
+   * @return The number of steps, or -1 if the position is not a destination.
+   */
+  public int distanceTo(GridPos pos) {
+    return contains(pos) ? distance[graph.nodeAt(pos.row(), pos.col())] : -1;
+  }
+
+  /**
+   * Gets the number of destinations.
+   *
+   * @return The number of squares and rooms that can be reached.
+   */
+  public int size() {
+    return destinations.cardinality();
+  }
+
+  /**
+   * Gets the number of steps this set was computed for.
+   *
+   * @return The number of steps.
+   */
+  public int getSteps() {
+    return steps;
+  }
+
+  /**
+   * Checks whether corridor squares must be reached in exactly {@link #getSteps()} steps, rather
+   * than at most that many.
+   *
+   * @return True for an exact query.
+   */
+  public boolean isExact() {
+    return exact;
+  }
+
+  private GridPos toPos(int cell) {
+    return new GridPos(cell / graph.getSize(), cell % graph.getSize());
+  }
+}
@@ -3,14 +3,41 @@ package edu.ntnu.idi.idatt.boardgame.games.cluedo.domain.card;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
-import java.util.Random;
+import java.util.random.RandomGenerator;
 
 /**
  * Utility class for handling Cluedo cards, providing methods to obtain shuffled lists of suspects,
  * weapons, and rooms.
+ *
+ * <p>It also gives every card a fixed index: suspects first, then weapons, then rooms, each in
+ * declaration order. All {@value #CARD_COUNT} cards fit in one {@code int}, so a set of cards can
+ * be stored as a bitmask where card {@code i} is bit {@code 1 << i}.
  */
 public final class Cards {
 
+  /** Number of distinct cards in the game. */
+  public static final int CARD_COUNT =
+      Suspect.values().length + Weapon.values().length + Room.values().length;
+
+  /** Mask with the bit of every card set. */
+  public static final int ALL_CARDS = (1 << CARD_COUNT) - 1;
+
+  private static final int WEAPON_OFFSET = Suspect.values().length;
+  private static final int ROOM_OFFSET = WEAPON_OFFSET + Weapon.values().length;
+  private static final Card[] BY_INDEX = new Card[CARD_COUNT];
+
+  static {
+    for (Suspect suspect : Suspect.values()) {
+      BY_INDEX[suspect.ordinal()] = suspect;
+    }
+    for (Weapon weapon : Weapon.values()) {
+      BY_INDEX[WEAPON_OFFSET + weapon.ordinal()] = weapon;
+    }
+    for (Room room : Room.values()) {
+      BY_INDEX[ROOM_OFFSET + room.ordinal()] = room;
+    }
+  }
+
   /**
    * Private constructor to prevent instantiation.
    */
@@ -23,7 +50,7 @@ public final class Cards {
    * @param rng The random number generator to use for shuffling.
    * @return A shuffled list of suspects.
    */
-  public static List<Suspect> shuffledSuspects(Random rng) {
+  public static List<Suspect> shuffledSuspects(RandomGenerator rng) {
     ArrayList<Suspect> list = new ArrayList<>(List.of(Suspect.values()));
     Collections.shuffle(list, rng);
     return list;
@@ -35,7 +62,7 @@ public final class Cards {
    * @param rng The random number generator to use for shuffling.
    * @return A shuffled list of weapons.
    */
-  public static List<Weapon> shuffledWeapons(Random rng) {
+  public static List<Weapon> shuffledWeapons(RandomGenerator rng) {
     ArrayList<Weapon> list = new ArrayList<>(List.of(Weapon.values()));
     Collections.shuffle(list, rng);
     return list;
@@ -47,9 +74,94 @@ public final class Cards {
    * @param rng The random number generator to use for shuffling.
    * @return A shuffled list of rooms.
    */
-  public static List<Room> shuffledRooms(Random rng) {
+  public static List<Room> shuffledRooms(RandomGenerator rng) {
     ArrayList<Room> list = new ArrayList<>(List.of(Room.values()));
     Collections.shuffle(list, rng);
     return list;
   }
+
+  /**
+   * Returns the fixed index of a card.
+   *
+   * @param card The card.
+   * @return The index, from 0 up to but not including {@link #CARD_COUNT}.
+   */
+  public static int index(Card card) {
+    return switch (card) {
+      case Suspect suspect -> suspect.ordinal();
+      case Weapon weapon -> WEAPON_OFFSET + weapon.ordinal();
+      case Room room -> ROOM_OFFSET + room.ordinal();
+    };
+  }
+
+  /**
+   * Returns the card with the given index.
+   *
+   * @param index The card index.
+   * @return The card.
+   * @throws IllegalArgumentException if the index is not a card index.
+   */
+  public static Card fromIndex(int index) {
+    if (index < 0 || index >= CARD_COUNT) {
+      throw new IllegalArgumentException("No card with index " + index);
+    }
+    return BY_INDEX[index];
+  }
+
+  /**
+   * Returns the bitmask holding only the given card.
+   *
+   * @param card The card.
+   * @return The card's bit.
+   */
+  public static int bit(Card card) {
+    return 1 << index(card);
+  }
+
+  /**
+   * Returns the bitmask holding the given cards.
+   *
+   * @param cards The cards.
+   * @return The union of the cards' bits.
+   */
+  public static int mask(Card... cards) {
+    int mask = 0;
+    for (Card card : cards) {
+      mask |= bit(card);
+    }
+    return mask;
+  }
+
+  /**
+   * Returns the cards in a bitmask, in index order.
+   *
+   * @param mask The bitmask.
+   * @return A list of the cards whose bits are set.
+   */
+  public static List<Card> cardsIn(int mask) {
+    List<Card> cards = new ArrayList<>(Integer.bitCount(mask));
+    for (int rest = mask & ALL_CARDS; rest != 0; rest &= rest - 1) {
+      cards.add(BY_INDEX[Integer.numberOfTrailingZeros(rest)]);
+    }
+    return cards;
+  }
+
+  /**
+   * Returns the {@code n}th card, counting from zero in index order, of a bitmask.
+   *
+   * @param mask The bitmask.
+   * @param n Which of the set cards to return.
+   * @return The card.
+   * @throws IllegalArgumentException if the mask holds {@code n} cards or fewer.
+   */
+  public static Card nthCardIn(int mask, int n) {
+    int rest = mask & ALL_CARDS;
+    if (n < 0 || n >= Integer.bitCount(rest)) {
+      throw new IllegalArgumentException("Mask has no card number " + n);
+    }
+    for (int i = 0; i < n; i++) {
+      rest &= rest - 1;
+    }
+    return BY_INDEX[Integer.numberOfTrailingZeros(rest)];
+  }
 }
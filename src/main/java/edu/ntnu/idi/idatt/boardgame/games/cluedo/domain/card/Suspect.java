@@ -2,7 +2,6 @@ package edu.ntnu.idi.idatt.boardgame.games.cluedo.domain.card;
 
 import edu.ntnu.idi.idatt.boardgame.core.domain.player.PlayerColor;
 import edu.ntnu.idi.idatt.boardgame.core.exception.InvalidCardException;
-import edu.ntnu.idi.idatt.boardgame.ui.util.LoggingNotification;
 import java.util.Arrays;
 
 /**
@@ -68,15 +67,7 @@ public enum Suspect implements Card {
     return Arrays.stream(values())
         .filter(s -> s.colour == playerColor)
         .findFirst()
-        .orElseThrow(
-            () -> {
-              // swallow any JavaFX-initialization problems
-              try {
-                LoggingNotification.error("Unknown colour", "No suspect for " + playerColor);
-              } catch (RuntimeException ignored) {
-              }
-              return new InvalidCardException("No suspect for " + playerColor);
-            });
+        .orElseThrow(() -> new InvalidCardException("No suspect for " + playerColor));
   }
 
   /**
@@ -4,31 +4,25 @@ import edu.ntnu.idi.idatt.boardgame.core.domain.player.GridPos;
 import edu.ntnu.idi.idatt.boardgame.core.domain.player.Player;
 import edu.ntnu.idi.idatt.boardgame.core.domain.player.PlayerColor;
 import edu.ntnu.idi.idatt.boardgame.games.cluedo.domain.card.Card;
+import edu.ntnu.idi.idatt.boardgame.games.cluedo.domain.card.Cards;
 import edu.ntnu.idi.idatt.boardgame.games.cluedo.domain.card.Room;
 import edu.ntnu.idi.idatt.boardgame.games.cluedo.domain.card.Suspect;
 import edu.ntnu.idi.idatt.boardgame.games.cluedo.domain.card.Weapon;
-import edu.ntnu.idi.idatt.boardgame.ui.util.LoggingNotification;
-import java.util.Arrays;
 import java.util.Collection;
-import java.util.EnumMap;
-import java.util.HashSet;
-import java.util.List;
-import java.util.Map;
-import java.util.Random;
-import java.util.Set;
+import java.util.random.RandomGenerator;
 
 /**
  * Represents a player in the Cluedo game, extending the generic {@link Player} class. Cluedo
  * players have a hand of {@link Card}s.
+ *
+ * <p>The hand, the notes and the cards the player has been shown are each kept as a bitmask over
+ * the card indices of {@link Cards}, so checking a card is a single bit test.
  */
 public final class CluedoPlayer extends Player<GridPos> {
 
-  private final Set<Suspect> suspectHand = new HashSet<>();
-  private final Set<Weapon> weaponHand = new HashSet<>();
-  private final Set<Room> roomHand = new HashSet<>();
-  private final Map<Suspect, Boolean> suspectNotes = new EnumMap<>(Suspect.class);
-  private final Map<Weapon, Boolean> weaponNotes = new EnumMap<>(Weapon.class);
-  private final Map<Room, Boolean> roomNotes = new EnumMap<>(Room.class);
+  private int hand;
+  private int notes;
+  private int seen;
 
   /**
    * Constructs a new CluedoPlayer.
@@ -40,10 +34,6 @@ public final class CluedoPlayer extends Player<GridPos> {
    */
   public CluedoPlayer(int id, String name, PlayerColor color, GridPos startPos) {
     super(id, name, color, startPos);
-
-    Arrays.stream(Suspect.values()).forEach(suspect -> suspectNotes.put(suspect, false));
-    Arrays.stream(Weapon.values()).forEach(weapon -> weaponNotes.put(weapon, false));
-    Arrays.stream(Room.values()).forEach(room -> roomNotes.put(room, false));
   }
 
   /**
@@ -52,7 +42,7 @@ public final class CluedoPlayer extends Player<GridPos> {
    * @param suspect the suspect card to add
    */
   public void addCard(Suspect suspect) {
-    suspectHand.add(suspect);
+    hand |= Cards.bit(suspect);
   }
 
   /**
@@ -61,7 +51,7 @@ public final class CluedoPlayer extends Player<GridPos> {
    * @param weapon the weapon card to add
    */
   public void addCard(Weapon weapon) {
-    weaponHand.add(weapon);
+    hand |= Cards.bit(weapon);
   }
 
   /**
@@ -70,7 +60,16 @@ public final class CluedoPlayer extends Player<GridPos> {
    * @param room the room card to add
    */
   public void addCard(Room room) {
-    roomHand.add(room);
+    hand |= Cards.bit(room);
+  }
+
+  /**
+   * Adds a card of any kind to the player's hand.
+   *
+   * @param card the card to add
+   */
+  public void addCard(Card card) {
+    hand |= Cards.bit(card);
   }
 
   /**
@@ -80,7 +79,7 @@ public final class CluedoPlayer extends Player<GridPos> {
    * @return true if the player has the suspect card, false otherwise
    */
   public boolean hasCard(Suspect suspect) {
-    return suspectHand.contains(suspect);
+    return (hand & Cards.bit(suspect)) != 0;
   }
 
   /**
@@ -90,7 +89,7 @@ public final class CluedoPlayer extends Player<GridPos> {
    * @return true if the player has the weapon card, false otherwise
    */
   public boolean hasCard(Weapon weapon) {
-    return weaponHand.contains(weapon);
+    return (hand & Cards.bit(weapon)) != 0;
   }
 
   /**
@@ -100,44 +99,52 @@ public final class CluedoPlayer extends Player<GridPos> {
    * @return true if the player has the room card, false otherwise
    */
   public boolean hasCard(Room room) {
-    return roomHand.contains(room);
+    return (hand & Cards.bit(room)) != 0;
   }
 
   /**
    * Selects and returns one card from the given collection of options that this player holds in
    * their hand. If multiple matching cards are found, one is chosen at random using the provided
-   * {@link Random} instance.
+   * {@link RandomGenerator}.
    *
    * @param options the collection of cards to check against the player's hand
    * @param rng the random number generator used to select a card if multiple matches are found
    * @return a card from the player's hand that matches one of the options
-   * @throws IllegalArgumentException if none of the options are in the player's hand or if an
-   *     unknown card type is encountered
-   */
-  public Card showOneOf(Collection<Card> options, Random rng) {
-    List<Card> matches =
-        options.stream()
-            .filter(
-                card -> {
-                  if (card instanceof Suspect) {
-                    return suspectHand.contains(card);
-                  }
-                  if (card instanceof Weapon) {
-                    return weaponHand.contains(card);
-                  }
-                  if (card instanceof Room) {
-                    return roomHand.contains(card);
-                  }
-                  LoggingNotification.error(
-                      this.getClass().getName(), "Unknown card type: " + card);
-                  throw new IllegalArgumentException("Unknown card type: " + card.getClass());
-                })
-            .toList();
-    if (matches.isEmpty()) {
-      LoggingNotification.error(this.getClass().getName(), "No cards to show");
+   * @throws IllegalArgumentException if none of the options are in the player's hand
+   */
+  public Card showOneOf(Collection<Card> options, RandomGenerator rng) {
+    int matches = 0;
+    for (Card card : options) {
+      matches |= Cards.bit(card);
+    }
+    return showOneOf(matches, rng);
+  }
+
+  /**
+   * Selects and returns one card from the given bitmask of options that this player holds in their
+   * hand, choosing at random with the provided {@link RandomGenerator} if several match.
+   *
+   * @param options the bitmask of cards to check against the player's hand
+   * @param rng the random number generator used to select a card if multiple matches are found
+   * @return a card from the player's hand that matches one of the options
+   * @throws IllegalArgumentException if none of the options are in the player's hand
+   */
+  public Card showOneOf(int options, RandomGenerator rng) {
+    int matches = matchingCards(options);
+    if (matches == 0) {
       throw new IllegalArgumentException("No cards to show");
     }
-    return matches.get(rng.nextInt(matches.size()));
+    return Cards.nthCardIn(matches, rng.nextInt(Integer.bitCount(matches)));
+  }
+
+  /**
+   * Returns the cards of the given bitmask that this player holds.
+   *
+   * @param cards the bitmask of cards to check
+   * @return the bitmask of held cards among them
+   */
+  public int matchingCards(int cards) {
+    return hand & cards;
   }
 
   /**
@@ -147,7 +154,7 @@ public final class CluedoPlayer extends Player<GridPos> {
    * @return true if the suspect is noted, false otherwise
    */
   public boolean isSuspectNoted(Suspect suspect) {
-    return suspectNotes.get(suspect);
+    return (notes & Cards.bit(suspect)) != 0;
   }
 
   /**
@@ -158,7 +165,7 @@ public final class CluedoPlayer extends Player<GridPos> {
    *     the suspect as not noted.
    */
   public void setSuspectNoted(Suspect suspect, boolean v) {
-    suspectNotes.put(suspect, v);
+    setNoted(suspect, v);
   }
 
   /**
@@ -168,7 +175,7 @@ public final class CluedoPlayer extends Player<GridPos> {
    * @return true if the weapon is noted, false otherwise
    */
   public boolean isWeaponNoted(Weapon weapon) {
-    return weaponNotes.get(weapon);
+    return (notes & Cards.bit(weapon)) != 0;
   }
 
   /**
@@ -179,7 +186,7 @@ public final class CluedoPlayer extends Player<GridPos> {
    *     the weapon as not noted.
    */
   public void setWeaponNoted(Weapon weapon, boolean v) {
-    weaponNotes.put(weapon, v);
+    setNoted(weapon, v);
   }
 
   /**
@@ -189,7 +196,7 @@ public final class CluedoPlayer extends Player<GridPos> {
    * @return true if the room is noted, false otherwise
    */
   public boolean isRoomNoted(Room room) {
-    return roomNotes.get(room);
+    return (notes & Cards.bit(room)) != 0;
   }
 
   /**
@@ -200,6 +207,113 @@ public final class CluedoPlayer extends Player<GridPos> {
    *     the room as not noted.
    */
   public void setRoomNoted(Room room, boolean v) {
-    roomNotes.put(room, v);
+    setNoted(room, v);
+  }
+
+  /**
+   * Checks if a card is noted in the player's notes.
+   *
+   * @param card the card to check
+   * @return true if the card is noted, false otherwise
+   */
+  public boolean isNoted(Card card) {
+    return (notes & Cards.bit(card)) != 0;
+  }
+
+  /**
+   * Marks a card as either noted or not in the player's notes.
+   *
+   * @param card the card to update
+   * @param noted {@code true} to mark the card as noted, {@code false} to clear the mark
+   */
+  public void setNoted(Card card, boolean noted) {
+    if (noted) {
+      notes |= Cards.bit(card);
+    } else {
+      notes &= ~Cards.bit(card);
+    }
+  }
+
+  /**
+   * Records that another player has shown this player a card.
+   *
+   * @param card the card that was shown
+   */
+  public void markSeen(Card card) {
+    seen |= Cards.bit(card);
+  }
+
+  /**
+   * Checks if this player has been shown a card by another player.
+   *
+   * @param card the card to check
+   * @return true if the card has been shown to this player, false otherwise
+   */
+  public boolean hasSeen(Card card) {
+    return (seen & Cards.bit(card)) != 0;
+  }
+
+  /**
+   * Gets the player's hand as a bitmask over the card indices of {@link Cards}.
+   *
+   * @return the hand bitmask
+   */
+  public int getHandMask() {
+    return hand;
+  }
+
+  /**
+   * Replaces the player's hand.
+   *
+   * @param mask the hand bitmask over the card indices of {@link Cards}
+   * @throws IllegalArgumentException if the mask has bits that are not cards
+   */
+  public void setHandMask(int mask) {
+    hand = checkMask(mask);
+  }
+
+  /**
+   * Gets the player's notes as a bitmask over the card indices of {@link Cards}.
+   *
+   * @return the notes bitmask
+   */
+  public int getNotesMask() {
+    return notes;
+  }
+
+  /**
+   * Replaces the player's notes.
+   *
+   * @param mask the notes bitmask over the card indices of {@link Cards}
+   * @throws IllegalArgumentException if the mask has bits that are not cards
+   */
+  public void setNotesMask(int mask) {
+    notes = checkMask(mask);
+  }
+
+  /**
+   * Gets the cards this player has been shown as a bitmask over the card indices of {@link Cards}.
+   *
+   * @return the seen-cards bitmask
+   */
+  public int getSeenMask() {
+    return seen;
+  }
+
+  /**
+   * Replaces the set of cards this player has been shown.
+   *
+   * @param mask the seen-cards bitmask over the card indices of {@link Cards}
+   * @throws IllegalArgumentException if the mask has bits that are not cards
+   */
+  public void setSeenMask(int mask) {
+    seen = checkMask(mask);
+  }
+
+  private static int checkMask(int mask) {
+    if ((mask & ~Cards.ALL_CARDS) != 0) {
+      throw new IllegalArgumentException("Not a card mask: " + Integer.toHexString(mask));
+    }
+    return mask;
   }
 }
@@ -0,0 +1,31 @@
+package edu.ntnu.idi.idatt.boardgame.games.cluedo.engine.action;
+
+import edu.ntnu.idi.idatt.boardgame.core.domain.player.GridPos;
+import edu.ntnu.idi.idatt.boardgame.core.engine.action.Action;
+import edu.ntnu.idi.idatt.boardgame.games.cluedo.engine.controller.CluedoController;
+
+/**
+ * Walks the current player to a square or room several steps away in one move, along the shortest
+ * legal path that fits in the steps left. Path finding is delegated to the board.
+ */
+public final class AutoWalkAction implements Action {
+
+  private final CluedoController controller;
+  private final GridPos destination;
+
+  /**
+   * Constructs a new AutoWalkAction to walk the current player to the specified destination.
+   *
+   * @param controller  the CluedoController managing the game state and player actions
+   * @param destination the GridPos of the square, or of any cell of the room, to walk to
+   */
+  public AutoWalkAction(CluedoController controller, GridPos destination) {
+    this.controller = controller;
+    this.destination = destination;
+  }
+
+  @Override
+  public void execute() {
+    controller.walkTo(destination); // ignored if the destination is out of reach
+  }
+}
@@ -5,9 +5,22 @@ import edu.ntnu.idi.idatt.boardgame.core.domain.player.GridPos;
 import edu.ntnu.idi.idatt.boardgame.core.domain.player.Player;
 import edu.ntnu.idi.idatt.boardgame.core.domain.player.PlayerColor;
 import edu.ntnu.idi.idatt.boardgame.core.engine.controller.GameController;
+import edu.ntnu.idi.idatt.boardgame.core.engine.event.AccusedEvent;
+import edu.ntnu.idi.idatt.boardgame.core.engine.event.EliminatedEvent;
+import edu.ntnu.idi.idatt.boardgame.core.engine.event.EnteredRoomEvent;
+import edu.ntnu.idi.idatt.boardgame.core.engine.event.GameStartedEvent;
+import edu.ntnu.idi.idatt.boardgame.core.engine.event.LoadedEvent;
+import edu.ntnu.idi.idatt.boardgame.core.engine.event.MovedEvent;
+import edu.ntnu.idi.idatt.boardgame.core.engine.event.RolledEvent;
+import edu.ntnu.idi.idatt.boardgame.core.engine.event.SuggestedEvent;
+import edu.ntnu.idi.idatt.boardgame.core.engine.event.TurnChangedEvent;
+import edu.ntnu.idi.idatt.boardgame.core.engine.event.WonByDefaultEvent;
+import edu.ntnu.idi.idatt.boardgame.core.engine.runtime.GameScheduler;
+import edu.ntnu.idi.idatt.boardgame.core.engine.runtime.NotificationSink;
 import edu.ntnu.idi.idatt.boardgame.core.persistence.GameStateRepository;
 import edu.ntnu.idi.idatt.boardgame.games.cluedo.domain.board.AbstractCluedoTile;
 import edu.ntnu.idi.idatt.boardgame.games.cluedo.domain.board.CluedoBoard;
+import edu.ntnu.idi.idatt.boardgame.games.cluedo.domain.board.ReachableSet;
 import edu.ntnu.idi.idatt.boardgame.games.cluedo.domain.board.RoomTile;
 import edu.ntnu.idi.idatt.boardgame.games.cluedo.domain.card.Card;
 import edu.ntnu.idi.idatt.boardgame.games.cluedo.domain.card.Cards;
@@ -17,20 +30,22 @@ import edu.ntnu.idi.idatt.boardgame.games.cluedo.domain.card.Weapon;
 import edu.ntnu.idi.idatt.boardgame.games.cluedo.domain.player.CluedoPlayer;
 import edu.ntnu.idi.idatt.boardgame.games.cluedo.engine.Phase;
 import edu.ntnu.idi.idatt.boardgame.games.cluedo.engine.action.AccusationAction;
+import edu.ntnu.idi.idatt.boardgame.games.cluedo.engine.action.AutoWalkAction;
 import edu.ntnu.idi.idatt.boardgame.games.cluedo.engine.action.MoveAction;
 import edu.ntnu.idi.idatt.boardgame.games.cluedo.engine.action.RollAction;
 import edu.ntnu.idi.idatt.boardgame.games.cluedo.engine.action.SuggestionAction;
+import edu.ntnu.idi.idatt.boardgame.games.cluedo.engine.deduction.CluedoDeductionEngine;
+import edu.ntnu.idi.idatt.boardgame.games.cluedo.engine.deduction.SuggestionRecommender;
 import edu.ntnu.idi.idatt.boardgame.games.cluedo.persistence.dto.CluedoGameStateDto;
 import edu.ntnu.idi.idatt.boardgame.games.cluedo.persistence.mapper.CluedoMapper;
 import edu.ntnu.idi.idatt.boardgame.ui.dto.PlayerSetupDetails;
-import edu.ntnu.idi.idatt.boardgame.ui.util.LoggingNotification;
 import java.nio.file.Path;
 import java.security.SecureRandom;
 import java.util.*;
+import java.util.concurrent.ForkJoinPool;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.random.RandomGenerator;
 import java.util.stream.Collectors;
-import javafx.animation.PauseTransition;
-import javafx.util.Duration;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -48,24 +63,75 @@ public final class CluedoController extends GameController<GridPos> {
   private Suspect solutionSuspect;
   private Weapon solutionWeapon;
   private Room solutionRoom;
-  private final Random rng = new SecureRandom();
+  private final RandomGenerator rng;
+  /** Delays handing the turn on after a player is eliminated. */
+  private final GameScheduler scheduler;
   private final List<Player<GridPos>> turnOrder = new ArrayList<>();
+  /** Every player at the table, eliminated or not; the index is the seat used for deduction. */
+  private final List<Player<GridPos>> seats = new ArrayList<>();
+  /** What each player can deduce from their hand and the suggestions made so far. */
+  private final Map<Player<GridPos>, CluedoDeductionEngine> deductions = new HashMap<>();
   private int currentIndex = 0;
   private Phase phase = Phase.WAIT_ROLL;
 
   private static final Logger logger = LoggerFactory.getLogger(CluedoController.class);
+  /** Most deals drawn for one suggestion recommendation. */
+  private static final int RECOMMENDER_SAMPLES = 20_000;
+  /** How long the result of a wrong accusation stays up before the next turn starts. */
+  private static final long ELIMINATION_PAUSE_MILLIS = 1000;
 
   /**
    * Constructs a CluedoController with the specified player details and game state repository.
+   * The game runs headless: delayed logic runs at once and messages for the player are only
+   * logged.
    *
    * @param playerDetailsList List of player setup details. Can be null/empty for loading.
    * @param repo Repository for saving and loading game state.
    */
   public CluedoController(
       List<PlayerSetupDetails> playerDetailsList, GameStateRepository<CluedoGameStateDto> repo) {
-    super(new CluedoBoard(), new Dice(2));
+    this(playerDetailsList, repo, new SecureRandom());
+  }
+
+  /**
+   * Constructs a CluedoController that draws all randomness (dice, solution, deal and the card
+   * shown when disproving a suggestion) from the given generator. A seeded generator makes the
+   * whole game replayable. Like the two-argument constructor, the game runs headless.
+   *
+   * @param playerDetailsList List of player setup details. Can be null/empty for loading.
+   * @param repo Repository for saving and loading game state.
+   * @param rng The random number generator used by the game.
+   */
+  public CluedoController(
+      List<PlayerSetupDetails> playerDetailsList,
+      GameStateRepository<CluedoGameStateDto> repo,
+      RandomGenerator rng) {
+    this(playerDetailsList, repo, rng, GameScheduler.immediate(), NotificationSink.logOnly());
+  }
+
+  /**
+   * Constructs a CluedoController that delays game logic through the given scheduler and reports
+   * messages for the player to the given sink. The desktop app passes a scheduler and sink backed
+   * by JavaFX, so that a wrong accusation stays on screen for a moment before the next turn.
+   *
+   * @param playerDetailsList List of player setup details. Can be null/empty for loading.
+   * @param repo Repository for saving and loading game state.
+   * @param rng The random number generator used by the game.
+   * @param scheduler Runs delayed game logic, such as the pause before the next turn after a
+   *     wrong accusation.
+   * @param notifications Where messages for the player are reported.
+   */
+  public CluedoController(
+      List<PlayerSetupDetails> playerDetailsList,
+      GameStateRepository<CluedoGameStateDto> repo,
+      RandomGenerator rng,
+      GameScheduler scheduler,
+      NotificationSink notifications) {
+    super(new CluedoBoard(), new Dice(2, rng), notifications);
     this.boardModel = (CluedoBoard) this.gameBoard;
     this.repo = Objects.requireNonNull(repo);
+    this.rng = rng;
+    this.scheduler = Objects.requireNonNull(scheduler);
 
     boolean isNewGameSetup = playerDetailsList != null && !playerDetailsList.isEmpty();
 
@@ -80,7 +146,8 @@ public final class CluedoController extends GameController<GridPos> {
     if (isNewGameSetup) {
       pickSolution();
       dealRemainingCards();
-      notifyObservers("Game initialised. " + currentPlayer.getName() + " starts.");
+      initializeDeductions();
+      publish(new GameStartedEvent(currentPlayer));
     }
     // For loading, observers are notified by loadGameState after state is fully restored.
   }
@@ -146,10 +213,10 @@ public final class CluedoController extends GameController<GridPos> {
   public void saveGameState(String path) {
     try {
       repo.save(CluedoMapper.toDto(this), Path.of(path));
-      LoggingNotification.info("Game Saved", "Game state saved to " + path);
+      notifications.info("Game Saved", "Game state saved to " + path);
     } catch (Exception e) {
       logger.error("Save failed: {}", e.getMessage(), e);
-      LoggingNotification.error("Save failed", e.getMessage());
+      notifications.error("Save failed", e.getMessage());
     }
   }
 
@@ -158,30 +225,7 @@ public final class CluedoController extends GameController<GridPos> {
     try {
       CluedoGameStateDto dto = repo.load(Path.of(path));
 
-      CluedoBoard board = (CluedoBoard) this.gameBoard;
-      for (int row = 0; row < board.getBoardSize(); row++) {
-        for (int col = 0; col < board.getBoardSize(); col++) {
-          AbstractCluedoTile tile = board.getTileAtPosition(new GridPos(row, col));
-          if (tile != null && !tile.getPlayers().isEmpty()) {
-            new ArrayList<>(tile.getPlayers()).forEach(tile::removePlayer);
-          }
-        }
-      }
-
-      Map<Integer, Player<GridPos>> loadedPlayers = new LinkedHashMap<>();
-      this.turnOrder.clear();
-
-      for (CluedoGameStateDto.PlayerState ps : dto.players) {
-        PlayerColor playerColor = PlayerColor.valueOf(ps.colour);
-        Suspect suspect = Suspect.from(playerColor);
-        CluedoPlayer player =
-            new CluedoPlayer(ps.id, suspect.getName(), playerColor, new GridPos(ps.row, ps.col));
-        loadedPlayers.put(ps.id, player);
-        this.turnOrder.add(player);
-      }
-      this.players = loadedPlayers;
-
-      CluedoMapper.apply(dto, this);
+      gameBoard.runInTransaction(() -> restoreState(dto));
 
       // Ensure currentPlayer and currentIndex are correctly set after loading
       if (this.currentPlayer != null && this.turnOrder.contains(this.currentPlayer)) {
@@ -196,28 +240,85 @@ public final class CluedoController extends GameController<GridPos> {
         logger.error("Failed to set current player after load - turn order is empty.");
       }
 
-      String message = buildMessage();
-      notifyObservers(message);
+      publish(new LoadedEvent(currentPlayer, describeLoadedTurn()));
     } catch (Exception e) {
       logger.error("Load failed: {}", e.getMessage(), e);
-      LoggingNotification.error("Load failed", e.getMessage());
+      notifications.error("Load failed", e.getMessage());
     }
   }
 
-  private String buildMessage() {
-    String message = "Game state loaded.";
-    if (currentPlayer != null) {
-      if (phase == Phase.WAIT_ROLL) {
-        message += " " + currentPlayer.getName() + " to roll.";
-      } else if (phase == Phase.MOVING) {
-        message += " " + currentPlayer.getName() + " to move with " + stepsLeft + " steps left.";
-      } else {
-        message += " Current turn: " + currentPlayer.getName() + ". Phase: " + phase;
+  /**
+   * Clears the board and restores players, cards and turn state from a save. Runs in one board
+   * transaction, so each tile is redrawn once however many players left or entered it.
+   */
+  private void restoreState(CluedoGameStateDto dto) {
+    CluedoBoard board = (CluedoBoard) this.gameBoard;
+    for (int row = 0; row < board.getBoardSize(); row++) {
+      for (int col = 0; col < board.getBoardSize(); col++) {
+        AbstractCluedoTile tile = board.getTileAtPosition(new GridPos(row, col));
+        if (tile != null && !tile.getPlayers().isEmpty()) {
+          new ArrayList<>(tile.getPlayers()).forEach(tile::removePlayer);
+        }
       }
-    } else {
-      message += " No current player found after load.";
     }
-    return message;
+
+    Map<Integer, Player<GridPos>> loadedPlayers = new LinkedHashMap<>();
+    this.turnOrder.clear();
+
+    for (CluedoGameStateDto.PlayerState ps : dto.players) {
+      PlayerColor playerColor = PlayerColor.valueOf(ps.colour);
+      Suspect suspect = Suspect.from(playerColor);
+      CluedoPlayer player =
+          new CluedoPlayer(ps.id, suspect.getName(), playerColor, new GridPos(ps.row, ps.col));
+      loadedPlayers.put(ps.id, player);
+      this.turnOrder.add(player);
+    }
+    this.players = loadedPlayers;
+
+    CluedoMapper.apply(dto, this);
+    initializeDeductions();
+  }
+
+  /**
+   * Starts one deduction engine per player from the dealt hands. Cards a player has been shown are
+   * recorded as shown by whoever holds them. Suggestion history is not saved, so after a load the
+   * engines know less than they did before the save.
+   */
+  private void initializeDeductions() {
+    seats.clear();
+    deductions.clear();
+    seats.addAll(players.values());
+    int[] handSizes =
+        seats.stream().mapToInt(p -> Integer.bitCount(((CluedoPlayer) p).getHandMask())).toArray();
+    if (Arrays.stream(handSizes).sum() != CluedoDeductionEngine.DEALT_CARDS) {
+      logger.warn("Hands do not hold every card outside the envelope; deduction is disabled.");
+      return;
+    }
+    for (Player<GridPos> observer : seats) {
+      CluedoPlayer cluedoObserver = (CluedoPlayer) observer;
+      CluedoDeductionEngine engine = new CluedoDeductionEngine(handSizes);
+      engine.recordHand(seats.indexOf(observer), cluedoObserver.getHandMask());
+      for (Card card : Cards.cardsIn(cluedoObserver.getSeenMask())) {
+        for (int seat = 0; seat < seats.size(); seat++) {
+          if (((CluedoPlayer) seats.get(seat)).matchingCards(Cards.bit(card)) != 0) {
+            engine.recordShown(seat, card);
+          }
+        }
+      }
+      deductions.put(observer, engine);
+    }
+  }
+
+  private String describeLoadedTurn() {
+    if (currentPlayer == null) {
+      return null;
+    }
+    if (phase == Phase.WAIT_ROLL) {
+      return currentPlayer.getName() + " to roll.";
+    } else if (phase == Phase.MOVING) {
+      return currentPlayer.getName() + " to move with " + stepsLeft + " steps left.";
+    }
+    return "Current turn: " + currentPlayer.getName() + ". Phase: " + phase;
   }
 
   public boolean isNotWaitingForRoll() {
@@ -235,8 +336,7 @@ public final class CluedoController extends GameController<GridPos> {
     this.stepsLeft = rolled;
     this.phase = Phase.MOVING;
 
-    notifyObservers(
-        currentPlayer.getName() + " rolled " + rolled + ". Click a neighbouring square to move.");
+    publish(new RolledEvent(currentPlayer, rolled, null));
   }
 
   /**
@@ -286,7 +386,8 @@ public final class CluedoController extends GameController<GridPos> {
 
   /**
    * Handles the action triggered when a tile on the game board is clicked. Executes a {@link
-   * MoveAction} for the current player towards the target position.
+   * MoveAction} for the current player if the target is one step away, or an
+   * {@link AutoWalkAction} along the shortest path to it otherwise.
    *
    * @param target The {@link GridPos} of the clicked tile.
    */
@@ -295,7 +396,11 @@ public final class CluedoController extends GameController<GridPos> {
       logger.warn("Board clicked in invalid phase: {}", phase);
       return;
     }
-    new MoveAction(this, target).execute();
+    if (boardModel.isLegalDestination(currentPlayer.getPosition(), target)) {
+      new MoveAction(this, target).execute();
+    } else {
+      new AutoWalkAction(this, target).execute();
+    }
   }
 
   /**
@@ -309,7 +414,7 @@ public final class CluedoController extends GameController<GridPos> {
   public void onAccuseButton(Suspect suspect, Weapon weapon, Room room) {
     if (canNotAccuse()) {
       logger.warn("Accuse button clicked when accusation is not allowed (Phase: {}).", phase);
-      LoggingNotification.warn("Cannot Accuse", "You must be in the 'Cluedo' room to accuse.");
+      notifications.warn("Cannot Accuse", "You must be in the 'Cluedo' room to accuse.");
       return;
     }
     new AccusationAction(this, suspect, weapon, room).execute();
@@ -326,7 +431,7 @@ public final class CluedoController extends GameController<GridPos> {
   public void onSuggestButton(Suspect suspect, Weapon weapon, Room room) {
     if (canNotSuggest()) {
       logger.warn("Suggest button clicked when suggestion is not allowed (Phase: {}).", phase);
-      LoggingNotification.warn(
+      notifications.warn(
           "Cannot Suggest", "You must be in a regular room to make a suggestion.");
       return;
     }
@@ -351,33 +456,75 @@ public final class CluedoController extends GameController<GridPos> {
       return;
     }
 
-    boolean enteringRoom = boardModel.getTileAtPosition(target) instanceof RoomTile;
+    boardModel.setPlayerPosition(currentPlayer, target);
+    finishMove(target, 1);
+  }
+
+  /**
+   * Walks the current player along a shortest legal path to a destination in one move. The whole
+   * path is applied in a single board transaction and announced with a single {@link MovedEvent},
+   * so a long walk costs observers one update instead of one per square. Entering a room ends the
+   * movement phase as usual.
+   *
+   * @param destination The square to walk to, or any cell of the room to walk into.
+   * @return True if the player moved, false if the destination cannot be reached with the steps
+   *     left or the player is not moving.
+   */
+  public boolean walkTo(GridPos destination) {
+    if (phase != Phase.MOVING || stepsLeft <= 0) {
+      return false;
+    }
+    List<GridPos> path =
+        boardModel.reachableWithin(currentPlayer.getPosition(), stepsLeft).pathTo(destination);
+    if (path.isEmpty()) {
+      return false;
+    }
 
+    GridPos target = path.get(path.size() - 1);
     boardModel.setPlayerPosition(currentPlayer, target);
+    finishMove(target, path.size());
+    return true;
+  }
+
+  /** Updates the steps left after a move ending on {@code target} and announces it. */
+  private void finishMove(GridPos target, int steps) {
+    boolean enteringRoom = boardModel.getTileAtPosition(target) instanceof RoomTile;
     if (enteringRoom) {
       stepsLeft = 0;
     } else {
-      stepsLeft--;
+      stepsLeft -= steps;
     }
 
-    notifyObservers(
-        currentPlayer.getName() + " moved to " + target + ". " + stepsLeft + " steps left.");
+    publish(new MovedEvent(currentPlayer, target, stepsLeft));
 
     if (stepsLeft == 0) {
       if (enteringRoom) {
         phase = Phase.IN_ROOM;
         String roomName = ((RoomTile) boardModel.getTileAtPosition(target)).getRoomName();
-        notifyObservers(
-            currentPlayer.getName()
-                + " entered the "
-                + roomName
-                + ". Make a suggestion/accusation or end turn.");
+        publish(new EnteredRoomEvent(currentPlayer, roomName));
       } else {
         endTurn();
       }
     }
   }
 
+  /**
+   * Finds where the current player can move with the steps left of their roll: every square
+   * reachable in exactly the remaining steps and every room reachable on the way, or with
+   * {@code exactly} false, every square and room within the remaining steps. Outside the movement
+   * phase only the player's own position is reachable.
+   *
+   * @param exactly True to require squares to use up every step left.
+   * @return The reachable squares and rooms, with one shortest path to each.
+   */
+  public ReachableSet getReachableDestinations(boolean exactly) {
+    int steps = phase == Phase.MOVING ? stepsLeft : 0;
+    GridPos from = currentPlayer.getPosition();
+    return exactly
+        ? boardModel.reachableExactly(from, steps)
+        : boardModel.reachableWithin(from, steps);
+  }
+
   private void nextTurn() {
     if (turnOrder.isEmpty() || isGameOver()) {
       logger.info("Game is over or no players left, not starting next turn.");
@@ -389,7 +536,7 @@ public final class CluedoController extends GameController<GridPos> {
     currentPlayer = getNextPlayer();
     phase = Phase.WAIT_ROLL;
     stepsLeft = 0;
-    notifyObservers("Turn over. " + currentPlayer.getName() + " to roll.");
+    publish(new TurnChangedEvent(currentPlayer));
   }
 
   /**
@@ -425,7 +572,7 @@ public final class CluedoController extends GameController<GridPos> {
 
     if (playerToMove != null && playerToMove != currentPlayer) {
       boardModel.setPlayerPosition(playerToMove, currentPlayer.getPosition());
-      LoggingNotification.info(
+      notifications.info(
           "Player Moved",
           suggestedSuspect.getName()
               + " has been moved to the "
@@ -433,6 +580,7 @@ public final class CluedoController extends GameController<GridPos> {
               + " for the suggestion.");
     }
 
+    int suggestion = Cards.mask(suggestedSuspect, suggestedWeapon, suggestedRoom);
     int totalPlayersInOrder = turnOrder.size();
     boolean disproved = false;
     for (int i = 1; i < totalPlayersInOrder; i++) {
@@ -443,48 +591,94 @@ public final class CluedoController extends GameController<GridPos> {
         continue;
       }
 
-      List<Card> heldMatchingCards = new ArrayList<>();
-      if (respondent.hasCard(suggestedSuspect)) {
-        heldMatchingCards.add(suggestedSuspect);
-      }
-      if (respondent.hasCard(suggestedWeapon)) {
-        heldMatchingCards.add(suggestedWeapon);
-      }
-      if (respondent.hasCard(suggestedRoom)) {
-        heldMatchingCards.add(suggestedRoom);
-      }
-
-      if (!heldMatchingCards.isEmpty()) {
-        Card shownCard = heldMatchingCards.get(rng.nextInt(heldMatchingCards.size()));
-        notifyObservers(
-            currentPlayer.getName()
-                + " suggested "
-                + suggestedSuspect.getName()
-                + " in the "
-                + suggestedRoom.getName()
-                + " with the "
-                + suggestedWeapon.getName()
-                + ". "
-                + respondent.getName()
-                + " disproved by showing \""
-                + shownCard.getName()
-                + ".\"");
+      if (respondent.matchingCards(suggestion) == 0) {
+        recordPass(respondent, suggestion);
+      } else {
+        Card shownCard = respondent.showOneOf(suggestion, rng);
+        ((CluedoPlayer) currentPlayer).markSeen(shownCard);
+        recordDisproval(respondent, suggestion, shownCard);
+        publish(
+            new SuggestedEvent(
+                currentPlayer,
+                suggestedSuspect.getName(),
+                suggestedWeapon.getName(),
+                suggestedRoom.getName(),
+                respondent,
+                shownCard.getName()));
         disproved = true;
         break;
       }
     }
 
     if (!disproved) {
-      notifyObservers(
-          currentPlayer.getName()
-              + " suggested "
-              + suggestedSuspect.getName()
-              + " in the "
-              + suggestedRoom.getName()
-              + " with the "
-              + suggestedWeapon.getName()
-              + ". No one could disprove the suggestion.");
+      publish(
+          new SuggestedEvent(
+              currentPlayer,
+              suggestedSuspect.getName(),
+              suggestedWeapon.getName(),
+              suggestedRoom.getName(),
+              null,
+              null));
+    }
+  }
+
+  /** Tells every player's deduction engine that a respondent could not disprove a suggestion. */
+  private void recordPass(Player<GridPos> respondent, int suggestion) {
+    int seat = seats.indexOf(respondent);
+    deductions.values().forEach(engine -> engine.recordPass(seat, suggestion));
+  }
+
+  /**
+   * Tells every player's deduction engine that a respondent disproved a suggestion. Only the
+   * suggester learns which card was shown.
+   */
+  private void recordDisproval(Player<GridPos> respondent, int suggestion, Card shownCard) {
+    int seat = seats.indexOf(respondent);
+    deductions.forEach(
+        (observer, engine) -> {
+          if (observer == currentPlayer) {
+            engine.recordShown(seat, shownCard);
+          } else {
+            engine.recordDisproval(seat, suggestion);
+          }
+        });
+  }
+
+  /**
+   * Gets what a player can deduce about who holds which card, from their own hand and every
+   * suggestion made so far. Seats in the engine follow the order of {@link #getPlayers()}.
+   *
+   * @param player The observing player.
+   * @return The player's deduction engine, or an empty optional if the player is not in the game
+   *     or the hands in a loaded save are incomplete.
+   */
+  public Optional<CluedoDeductionEngine> getDeduction(Player<GridPos> player) {
+    return Optional.ofNullable(deductions.get(player));
+  }
+
+  /**
+   * Recommends the suggestion the current player would learn the most from, given what they have
+   * observed so far. Respondents are the other players still in the game, in turn order. The
+   * recommender draws from its own generator, so asking for a hint leaves a seeded game unchanged.
+   *
+   * @param budgetMillis The time the recommendation may take.
+   * @return The recommendation, naming the room the player is in or, outside a room, any room. An
+   *     empty optional if the player has no deduction engine.
+   */
+  public Optional<SuggestionRecommender.Recommendation> recommendSuggestion(long budgetMillis) {
+    CluedoDeductionEngine engine = deductions.get(currentPlayer);
+    if (engine == null) {
+      return Optional.empty();
+    }
+    int[] respondents = new int[turnOrder.size() - 1];
+    for (int i = 1; i < turnOrder.size(); i++) {
+      respondents[i - 1] = seats.indexOf(turnOrder.get((currentIndex + i) % turnOrder.size()));
     }
+    SuggestionRecommender recommender =
+        new SuggestionRecommender(ForkJoinPool.commonPool(), budgetMillis, RECOMMENDER_SAMPLES);
+    return Optional.of(
+        recommender.recommend(
+            engine, respondents, getRoomOfCurrentPlayer(), new SplittableRandom()));
   }
 
   /**
@@ -500,26 +694,14 @@ public final class CluedoController extends GameController<GridPos> {
     }
 
     if (suspect == solutionSuspect && weapon == solutionWeapon && room == solutionRoom) {
-      notifyObservers(
-          currentPlayer.getName()
-              + " wins! The solution was indeed "
-              + solutionSuspect.getName()
-              + " with the "
-              + solutionWeapon.getName()
-              + " in the "
-              + solutionRoom.getName()
-              + ".");
+      publish(
+          new AccusedEvent(
+              currentPlayer, suspect.getName(), weapon.getName(), room.getName(), true));
       onGameFinish();
     } else {
-      notifyObservers(
-          currentPlayer.getName()
-              + " accused "
-              + suspect.getName()
-              + " with "
-              + weapon.getName()
-              + " in "
-              + room.getName()
-              + ". This is WRONG!");
+      publish(
+          new AccusedEvent(
+              currentPlayer, suspect.getName(), weapon.getName(), room.getName(), false));
       eliminateCurrentPlayer(currentPlayer);
 
       if (isGameOver()) {
@@ -527,9 +709,7 @@ public final class CluedoController extends GameController<GridPos> {
           onGameFinish();
         }
       } else {
-        PauseTransition pause = new PauseTransition(Duration.seconds(1));
-        pause.setOnFinished(event -> nextTurn());
-        pause.play();
+        scheduler.schedule(ELIMINATION_PAUSE_MILLIS, this::nextTurn);
       }
     }
   }
@@ -550,18 +730,17 @@ public final class CluedoController extends GameController<GridPos> {
           currentIndex = turnOrder.size() - 1; // or 0 if it should wrap to start
         }
       }
-      notifyObservers(p.getName() + " has been eliminated and removed from the board.");
+      publish(new EliminatedEvent(p));
     } else {
       logger.warn("Attempted to eliminate player {} not found in turn order.", p.getName());
     }
 
     if (turnOrder.size() == 1 && !isGameOver()) {
       this.currentPlayer = turnOrder.getFirst();
-      notifyObservers(
-          this.currentPlayer.getName() + " is the last one remaining and wins by default!");
+      publish(new WonByDefaultEvent(this.currentPlayer));
       onGameFinish();
     } else if (turnOrder.isEmpty() && !isGameOver()) {
-      notifyObservers("All players have been eliminated. The house wins!");
+      publish(new WonByDefaultEvent(null));
       onGameFinish(); // Ensure game ends
     }
   }
@@ -640,14 +819,7 @@ public final class CluedoController extends GameController<GridPos> {
 
     int playerIdx = 0;
     for (Card card : deck) {
-      CluedoPlayer cluedoPlayer = (CluedoPlayer) turnOrder.get(playerIdx);
-      if (card instanceof Suspect suspectCard) {
-        cluedoPlayer.addCard(suspectCard);
-      } else if (card instanceof Weapon weaponCard) {
-        cluedoPlayer.addCard(weaponCard);
-      } else if (card instanceof Room roomCard) {
-        cluedoPlayer.addCard(roomCard);
-      }
+      ((CluedoPlayer) turnOrder.get(playerIdx)).addCard(card);
       playerIdx = (playerIdx + 1) % turnOrder.size();
     }
   }
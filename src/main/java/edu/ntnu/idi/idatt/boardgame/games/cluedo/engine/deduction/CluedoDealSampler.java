@@ -0,0 +1,184 @@
+package edu.ntnu.idi.idatt.boardgame.games.cluedo.engine.deduction;
+
+import edu.ntnu.idi.idatt.boardgame.games.cluedo.domain.card.Cards;
+import edu.ntnu.idi.idatt.boardgame.games.cluedo.domain.card.Room;
+import edu.ntnu.idi.idatt.boardgame.games.cluedo.domain.card.Suspect;
+import edu.ntnu.idi.idatt.boardgame.games.cluedo.domain.card.Weapon;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+
+/**
+ * Draws complete deals that agree with everything recorded in a {@link CluedoDeductionEngine}.
+ *
+ * <p>A deal is drawn by picking one possible card of each kind for the envelope and shuffling the
+ * cards whose owner is unknown into the free places in the players' hands. Deals in which a player
+ * gets a card they cannot hold, or misses every card of a suggestion they disproved, are thrown
+ * away. Every deal consistent with the observations is therefore equally likely to be returned.
+ * The more that is known, the more deals are thrown away, so the number of samples drawn within a
+ * time budget falls as the game goes on.
+ *
+ * <p>Sampling is split over the workers of a {@link ForkJoinPool}, each with its own random
+ * generator split from the caller's.
+ */
+public final class CluedoDealSampler {
+
+  private static final int[] CATEGORIES = {
+    Cards.mask(Suspect.values()), Cards.mask(Weapon.values()), Cards.mask(Room.values())
+  };
+  /** Number of draws between two checks of the deadline. */
+  private static final int DEADLINE_CHECK_INTERVAL = 32;
+
+  private final ForkJoinPool pool;
+  private final int seats;
+  private final int[] known;
+  private final int[] possible;
+  /** Cards each seat holds that are not known yet. */
+  private final int[] openSlots;
+  private final int[][] disprovals;
+  /** Cards whose owner is not known. */
+  private final int unknownCards;
+
+  /**
+   * Constructs a sampler for the current state of a deduction engine. Facts recorded in the engine
+   * later are not seen by this sampler.
+   *
+   * @param engine The observations to agree with.
+   * @param pool The pool to sample on.
+   */
+  public CluedoDealSampler(CluedoDeductionEngine engine, ForkJoinPool pool) {
+    this.pool = pool;
+    this.seats = engine.getSeatCount();
+    this.known = new int[seats + 1];
+    this.possible = new int[seats + 1];
+    this.openSlots = new int[seats];
+    this.disprovals = new int[seats][];
+    int knownAnywhere = 0;
+    for (int owner = 0; owner <= seats; owner++) {
+      int id = owner == seats ? CluedoDeductionEngine.ENVELOPE : owner;
+      known[owner] = engine.getKnownMask(id);
+      possible[owner] = engine.getPossibleMask(id);
+      knownAnywhere |= known[owner];
+      if (owner < seats) {
+        openSlots[owner] = engine.getHandSize(owner) - Integer.bitCount(known[owner]);
+        disprovals[owner] = engine.getDisprovals(owner);
+      }
+    }
+    this.unknownCards = Cards.ALL_CARDS & ~knownAnywhere;
+  }
+
+  /**
+   * Draws deals until enough have been found or the time budget is spent.
+   *
+   * @param maxSamples The number of deals wanted.
+   * @param budgetMillis How long to sample for at most.
+   * @param rng The generator the workers' generators are split from.
+   * @return The deals found, possibly fewer than asked for.
+   * @throws IllegalArgumentException if the sample count or budget is negative.
+   */
+  public DealSamples sample(int maxSamples, long budgetMillis, SplittableRandom rng) {
+    if (maxSamples < 0 || budgetMillis < 0) {
+      throw new IllegalArgumentException("Sample count and budget must not be negative");
+    }
+    long deadline = System.nanoTime() + budgetMillis * 1_000_000;
+    int workers = Math.max(1, Math.min(pool.getParallelism(), maxSamples));
+    List<ForkJoinTask<int[]>> tasks = new ArrayList<>(workers);
+    for (int i = 0; i < workers; i++) {
+      int share = maxSamples / workers + (i < maxSamples % workers ? 1 : 0);
+      SplittableRandom workerRng = rng.split();
+      tasks.add(pool.submit(() -> sampleUntil(share, deadline, workerRng)));
+    }
+
+    int owners = seats + 1;
+    int[][] results = new int[workers][];
+    int total = 0;
+    for (int i = 0; i < workers; i++) {
+      results[i] = tasks.get(i).join();
+      total += results[i].length / owners;
+    }
+    int[] hands = new int[total * owners];
+    int offset = 0;
+    for (int[] result : results) {
+      System.arraycopy(result, 0, hands, offset, result.length);
+      offset += result.length;
+    }
+    return new DealSamples(seats, hands);
+  }
+
+  /** Draws up to {@code count} deals on one worker and returns them one after another. */
+  private int[] sampleUntil(int count, long deadline, SplittableRandom rng) {
+    int owners = seats + 1;
+    int[] hands = new int[count * owners];
+    int[] deal = new int[owners];
+    int[] cards = new int[Cards.CARD_COUNT];
+    int found = 0;
+    int draws = 0;
+    while (found < count) {
+      if (++draws % DEADLINE_CHECK_INTERVAL == 0 && System.nanoTime() - deadline >= 0) {
+        break;
+      }
+      if (draw(rng, deal, cards)) {
+        System.arraycopy(deal, 0, hands, found * owners, owners);
+        found++;
+      }
+    }
+    return found == count ? hands : Arrays.copyOf(hands, found * owners);
+  }
+
+  /**
+   * Draws one deal into {@code deal}, with the envelope last.
+   *
+   * @return True if the deal agrees with every observation.
+   */
+  private boolean draw(SplittableRandom rng, int[] deal, int[] cards) {
+    int envelope = known[seats];
+    for (int category : CATEGORIES) {
+      if ((envelope & category) == 0) {
+        int choices = possible[seats] & category;
+        envelope |= Integer.lowestOneBit(nthBit(choices, rng.nextInt(Integer.bitCount(choices))));
+      }
+    }
+
+    int count = 0;
+    for (int rest = unknownCards & ~envelope; rest != 0; rest &= rest - 1) {
+      cards[count++] = Integer.numberOfTrailingZeros(rest);
+    }
+    for (int i = count - 1; i > 0; i--) {
+      int j = rng.nextInt(i + 1);
+      int card = cards[i];
+      cards[i] = cards[j];
+      cards[j] = card;
+    }
+
+    int next = 0;
+    for (int seat = 0; seat < seats; seat++) {
+      int hand = known[seat];
+      for (int slot = 0; slot < openSlots[seat]; slot++) {
+        int bit = 1 << cards[next++];
+        if ((possible[seat] & bit) == 0) {
+          return false;
+        }
+        hand |= bit;
+      }
+      for (int clause : disprovals[seat]) {
+        if ((hand & clause) == 0) {
+          return false;
+        }
+      }
+      deal[seat] = hand;
+    }
+    deal[seats] = envelope;
+    return true;
+  }
+
+  /** Returns {@code mask} with its {@code n} lowest set bits cleared. */
+  private static int nthBit(int mask, int n) {
+    for (int i = 0; i < n; i++) {
+      mask &= mask - 1;
+    }
+    return mask;
+  }
+}
@@ -0,0 +1,376 @@
+package edu.ntnu.idi.idatt.boardgame.games.cluedo.engine.deduction;
+
+import edu.ntnu.idi.idatt.boardgame.games.cluedo.domain.card.Card;
+import edu.ntnu.idi.idatt.boardgame.games.cluedo.domain.card.Cards;
+import edu.ntnu.idi.idatt.boardgame.games.cluedo.domain.card.Room;
+import edu.ntnu.idi.idatt.boardgame.games.cluedo.domain.card.Suspect;
+import edu.ntnu.idi.idatt.boardgame.games.cluedo.domain.card.Weapon;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Tracks what one observer can deduce about who holds which card. Every seat at the table and the
+ * envelope is an owner. For each owner the engine keeps two bitmasks over the card indices of
+ * {@link Cards}: the cards the owner is known to hold and the cards it may still hold.
+ *
+ * <p>Facts are recorded as they become known: the observer's own hand, cards shown to the
+ * observer, players who could not disprove a suggestion and players who disproved one with a card
+ * the observer did not see. After each fact the engine applies these rules until nothing changes:
+ *
+ * <ul>
+ *   <li>a card known to be held by one owner is held by no other;
+ *   <li>a card only one owner may hold is held by that owner;
+ *   <li>an owner whose hand size is reached by its known cards holds nothing else, and an owner
+ *       with exactly as many possible cards as its hand size holds all of them;
+ *   <li>the envelope holds exactly one suspect, one weapon and one room;
+ *   <li>a player who disproved a suggestion holds at least one of its cards, so if only one of them
+ *       is still possible, the player holds that one.
+ * </ul>
+ *
+ * <p>Each rule is a handful of bit operations per owner, so recording a fact takes microseconds.
+ * A fact that contradicts what is already known is rejected and leaves the engine unchanged.
+ */
+public final class CluedoDeductionEngine {
+
+  /** Owner index of the envelope holding the solution. */
+  public static final int ENVELOPE = -1;
+
+  /** Returned by {@link #ownerOf(Card)} when the owner of a card is not known yet. */
+  public static final int UNKNOWN = -2;
+
+  /** Number of cards dealt to the players, which is every card outside the envelope. */
+  public static final int DEALT_CARDS = Cards.CARD_COUNT - 3;
+
+  private static final int SUSPECTS = Cards.mask(Suspect.values());
+  private static final int WEAPONS = Cards.mask(Weapon.values());
+  private static final int ROOMS = Cards.mask(Room.values());
+  private static final int[] CATEGORIES = {SUSPECTS, WEAPONS, ROOMS};
+
+  private final int seats;
+  /** Hand size per owner; the envelope is the last owner. */
+  private final int[] handSizes;
+  private int[] known;
+  private int[] possible;
+  /** Per seat, the suggestion masks the seat disproved without the observer seeing the card. */
+  private final int[][] clauses;
+  private final int[] clauseCounts;
+
+  /**
+   * Constructs an engine that knows only how many cards each seat holds.
+   *
+   * @param handSizes The number of cards dealt to each seat, in seat order.
+   * @throws IllegalArgumentException if the hand sizes do not add up to the cards outside the
+   *     envelope.
+   */
+  public CluedoDeductionEngine(int... handSizes) {
+    int dealt = Arrays.stream(handSizes).sum();
+    if (dealt != DEALT_CARDS
+        || Arrays.stream(handSizes).anyMatch(size -> size < 0)) {
+      throw new IllegalArgumentException(
+          "Hand sizes " + Arrays.toString(handSizes) + " do not match the dealt cards");
+    }
+    this.seats = handSizes.length;
+    this.handSizes = Arrays.copyOf(handSizes, seats + 1);
+    this.handSizes[seats] = CATEGORIES.length;
+    this.known = new int[seats + 1];
+    this.possible = new int[seats + 1];
+    Arrays.fill(possible, Cards.ALL_CARDS);
+    this.clauses = new int[seats][8];
+    this.clauseCounts = new int[seats];
+    propagateOrRollBack(known.clone(), possible.clone(), -1);
+  }
+
+  /**
+   * Records that a seat holds exactly the given cards, typically the observer's own hand.
+   *
+   * @param seat The seat.
+   * @param hand The seat's whole hand as a bitmask.
+   * @throws IllegalStateException if the hand contradicts what is already known.
+   */
+  public void recordHand(int seat, int hand) {
+    int owner = checkSeat(seat);
+    int[] oldKnown = known.clone();
+    int[] oldPossible = possible.clone();
+    known[owner] |= hand;
+    possible[owner] &= hand;
+    propagateOrRollBack(oldKnown, oldPossible, -1);
+  }
+
+  /**
+   * Records that a seat showed the observer a card.
+   *
+   * @param seat The seat that showed the card.
+   * @param card The card shown.
+   * @throws IllegalStateException if the card is known not to be held by the seat.
+   */
+  public void recordShown(int seat, Card card) {
+    int owner = checkSeat(seat);
+    int[] oldKnown = known.clone();
+    int[] oldPossible = possible.clone();
+    known[owner] |= Cards.bit(card);
+    propagateOrRollBack(oldKnown, oldPossible, -1);
+  }
+
+  /**
+   * Records that a seat could not disprove a suggestion, so it holds none of its cards.
+   *
+   * @param seat The seat that passed.
+   * @param suggestion The suggested cards as a bitmask.
+   * @throws IllegalStateException if the seat is known to hold one of the cards.
+   */
+  public void recordPass(int seat, int suggestion) {
+    int owner = checkSeat(seat);
+    int[] oldKnown = known.clone();
+    int[] oldPossible = possible.clone();
+    possible[owner] &= ~suggestion;
+    propagateOrRollBack(oldKnown, oldPossible, -1);
+  }
+
+  /**
+   * Records that a seat disproved a suggestion with a card the observer did not see, so it holds at
+   * least one of the suggested cards.
+   *
+   * @param seat The seat that disproved the suggestion.
+   * @param suggestion The suggested cards as a bitmask.
+   * @throws IllegalStateException if the seat can hold none of the cards.
+   */
+  public void recordDisproval(int seat, int suggestion) {
+    int owner = checkSeat(seat);
+    if ((known[owner] & suggestion) != 0) {
+      return;
+    }
+    if (clauseCounts[seat] == clauses[seat].length) {
+      clauses[seat] = Arrays.copyOf(clauses[seat], clauses[seat].length * 2);
+    }
+    clauses[seat][clauseCounts[seat]++] = suggestion;
+    propagateOrRollBack(known.clone(), possible.clone(), seat);
+  }
+
+  /**
+   * Gets the owner of a card, if it is known.
+   *
+   * @param card The card.
+   * @return The seat holding the card, {@link #ENVELOPE}, or {@link #UNKNOWN}.
+   */
+  public int ownerOf(Card card) {
+    int bit = Cards.bit(card);
+    for (int owner = 0; owner <= seats; owner++) {
+      if ((known[owner] & bit) != 0) {
+        return owner == seats ? ENVELOPE : owner;
+      }
+    }
+    return UNKNOWN;
+  }
+
+  /**
+   * Checks whether an owner may still hold a card.
+   *
+   * @param owner A seat or {@link #ENVELOPE}.
+   * @param card The card.
+   * @return True unless the owner is known not to hold the card.
+   */
+  public boolean mayHold(int owner, Card card) {
+    return (possible[ownerIndex(owner)] & Cards.bit(card)) != 0;
+  }
+
+  /**
+   * Gets the cards an owner is known to hold.
+   *
+   * @param owner A seat or {@link #ENVELOPE}.
+   * @return The known cards as a bitmask.
+   */
+  public int getKnownMask(int owner) {
+    return known[ownerIndex(owner)];
+  }
+
+  /**
+   * Gets the cards an owner may hold, including those it is known to hold.
+   *
+   * @param owner A seat or {@link #ENVELOPE}.
+   * @return The possible cards as a bitmask.
+   */
+  public int getPossibleMask(int owner) {
+    return possible[ownerIndex(owner)];
+  }
+
+  /**
+   * Gets the number of cards an owner holds.
+   *
+   * @param owner A seat or {@link #ENVELOPE}.
+   * @return The hand size, which is 3 for the envelope.
+   */
+  public int getHandSize(int owner) {
+    return handSizes[ownerIndex(owner)];
+  }
+
+  /**
+   * Gets the suggestions a seat is known to have disproved with a card the observer did not see,
+   * and that are not yet explained by a card the seat is known to hold.
+   *
+   * @param seat The seat.
+   * @return The suggestion bitmasks.
+   */
+  public int[] getDisprovals(int seat) {
+    int owner = checkSeat(seat);
+    return Arrays.stream(clauses[seat], 0, clauseCounts[seat])
+        .filter(clause -> (known[owner] & clause) == 0)
+        .toArray();
+  }
+
+  /**
+   * Gets the solution cards that are known.
+   *
+   * @return The known envelope cards as a bitmask.
+   */
+  public int getKnownSolutionMask() {
+    return known[seats];
+  }
+
+  /**
+   * Gets the solution cards that are known.
+   *
+   * @return The known envelope cards in card index order.
+   */
+  public List<Card> getKnownSolutionCards() {
+    return Cards.cardsIn(known[seats]);
+  }
+
+  /**
+   * Checks whether the whole solution is known.
+   *
+   * @return True if the suspect, weapon and room in the envelope are all known.
+   */
+  public boolean isSolved() {
+    return Integer.bitCount(known[seats]) == CATEGORIES.length;
+  }
+
+  /**
+   * Gets the number of seats.
+   *
+   * @return The number of seats, not counting the envelope.
+   */
+  public int getSeatCount() {
+    return seats;
+  }
+
+  private int checkSeat(int seat) {
+    if (seat < 0 || seat >= seats) {
+      throw new IllegalArgumentException("No seat " + seat);
+    }
+    return seat;
+  }
+
+  private int ownerIndex(int owner) {
+    return owner == ENVELOPE ? seats : checkSeat(owner);
+  }
+
+  /**
+   * Propagates the new facts. If they turn out to be contradictory, the previous masks are put back
+   * and the clause added for {@code clauseSeat}, if any, is dropped.
+   */
+  private void propagateOrRollBack(int[] oldKnown, int[] oldPossible, int clauseSeat) {
+    try {
+      propagate();
+    } catch (IllegalStateException e) {
+      known = oldKnown;
+      possible = oldPossible;
+      if (clauseSeat >= 0) {
+        clauseCounts[clauseSeat]--;
+      }
+      throw e;
+    }
+  }
+
+  private void propagate() {
+    boolean changed = true;
+    while (changed) {
+      changed = false;
+
+      int heldSomewhere = 0;
+      int heldTwice = 0;
+      int possibleOnce = 0;
+      int possibleTwice = 0;
+      for (int owner = 0; owner <= seats; owner++) {
+        heldTwice |= heldSomewhere & known[owner];
+        heldSomewhere |= known[owner];
+        possibleTwice |= possibleOnce & possible[owner];
+        possibleOnce |= possible[owner];
+      }
+      if (heldTwice != 0) {
+        throw new IllegalStateException("A card is known to be held by two owners");
+      }
+      if (possibleOnce != Cards.ALL_CARDS) {
+        throw new IllegalStateException("A card can no longer be held by anyone");
+      }
+      int singleOwner = possibleOnce & ~possibleTwice;
+
+      for (int owner = 0; owner <= seats; owner++) {
+        int newPossible = possible[owner] & ~(heldSomewhere & ~known[owner]);
+        int newKnown = known[owner] | (newPossible & singleOwner);
+        if ((newKnown & ~newPossible) != 0) {
+          throw new IllegalStateException("Owner " + owner + " holds a card it cannot hold");
+        }
+        newKnown |= closeByHandSize(owner, newKnown, newPossible);
+        newPossible = Integer.bitCount(newKnown) == handSizes[owner] ? newKnown : newPossible;
+        if (newKnown != known[owner] || newPossible != possible[owner]) {
+          known[owner] = newKnown;
+          possible[owner] = newPossible;
+          changed = true;
+        }
+      }
+
+      changed |= propagateEnvelope();
+      for (int seat = 0; seat < seats; seat++) {
+        changed |= propagateDisprovals(seat);
+      }
+    }
+  }
+
+  /** Returns the cards an owner must hold because it may hold no more cards than its hand size. */
+  private int closeByHandSize(int owner, int ownerKnown, int ownerPossible) {
+    int knownCount = Integer.bitCount(ownerKnown);
+    int possibleCount = Integer.bitCount(ownerPossible);
+    if (knownCount > handSizes[owner] || possibleCount < handSizes[owner]) {
+      throw new IllegalStateException("Hand size of owner " + owner + " cannot be met");
+    }
+    return possibleCount == handSizes[owner] ? ownerPossible : 0;
+  }
+
+  private boolean propagateEnvelope() {
+    boolean changed = false;
+    for (int category : CATEGORIES) {
+      int categoryPossible = possible[seats] & category;
+      int categoryKnown = known[seats] & category;
+      if (categoryPossible == 0 || Integer.bitCount(categoryKnown) > 1) {
+        throw new IllegalStateException("The envelope needs exactly one card of each kind");
+      }
+      if (categoryKnown == 0 && Integer.bitCount(categoryPossible) == 1) {
+        known[seats] |= categoryPossible;
+        changed = true;
+      } else if (categoryKnown != 0 && categoryPossible != categoryKnown) {
+        possible[seats] &= ~category | categoryKnown;
+        changed = true;
+      }
+    }
+    return changed;
+  }
+
+  private boolean propagateDisprovals(int seat) {
+    boolean changed = false;
+    for (int i = 0; i < clauseCounts[seat]; i++) {
+      int clause = clauses[seat][i];
+      if ((known[seat] & clause) != 0) {
+        continue;
+      }
+      int candidates = possible[seat] & clause;
+      if (candidates == 0) {
+        throw new IllegalStateException("Seat " + seat + " cannot have disproved a suggestion");
+      }
+      if (Integer.bitCount(candidates) == 1) {
+        known[seat] |= candidates;
+        changed = true;
+      }
+    }
+    return changed;
+  }
+}
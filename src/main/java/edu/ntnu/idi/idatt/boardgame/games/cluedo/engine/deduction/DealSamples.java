@@ -0,0 +1,84 @@
+package edu.ntnu.idi.idatt.boardgame.games.cluedo.engine.deduction;
+
+import edu.ntnu.idi.idatt.boardgame.games.cluedo.domain.card.Card;
+import edu.ntnu.idi.idatt.boardgame.games.cluedo.domain.card.Cards;
+
+/**
+ * Deals drawn by a {@link CluedoDealSampler}. Each deal gives every seat's hand and the envelope as
+ * bitmasks over the card indices of {@link Cards}.
+ */
+public final class DealSamples {
+
+  private final int seats;
+  /** The hands of deal {@code i} start at {@code i * (seats + 1)}, with the envelope last. */
+  private final int[] hands;
+  private final double[] envelopeProbabilities = new double[Cards.CARD_COUNT];
+
+  DealSamples(int seats, int[] hands) {
+    this.seats = seats;
+    this.hands = hands;
+    int samples = getSampleCount();
+    int[] counts = new int[Cards.CARD_COUNT];
+    for (int i = seats; i < hands.length; i += seats + 1) {
+      for (int rest = hands[i]; rest != 0; rest &= rest - 1) {
+        counts[Integer.numberOfTrailingZeros(rest)]++;
+      }
+    }
+    for (int card = 0; samples > 0 && card < counts.length; card++) {
+      envelopeProbabilities[card] = counts[card] / (double) samples;
+    }
+  }
+
+  /**
+   * Gets the number of deals.
+   *
+   * @return The sample count.
+   */
+  public int getSampleCount() {
+    return hands.length / (seats + 1);
+  }
+
+  /**
+   * Gets the number of seats in each deal.
+   *
+   * @return The number of seats, not counting the envelope.
+   */
+  public int getSeatCount() {
+    return seats;
+  }
+
+  /**
+   * Gets one owner's cards in one deal.
+   *
+   * @param sample The deal, from 0 up to but not including {@link #getSampleCount()}.
+   * @param owner A seat or {@link CluedoDeductionEngine#ENVELOPE}.
+   * @return The owner's cards as a bitmask.
+   * @throws IllegalArgumentException if the owner is not a seat or the envelope.
+   */
+  public int getHand(int sample, int owner) {
+    int index = owner == CluedoDeductionEngine.ENVELOPE ? seats : owner;
+    if (index < 0 || index > seats) {
+      throw new IllegalArgumentException("No owner " + owner);
+    }
+    return hands[sample * (seats + 1) + index];
+  }
+
+  /**
+   * Estimates the probability that a card is in the envelope.
+   *
+   * @param card The card.
+   * @return The share of deals with the card in the envelope, or 0 if there are no deals.
+   */
+  public double envelopeProbability(Card card) {
+    return envelopeProbabilities[Cards.index(card)];
+  }
+
+  /**
+   * Estimates, for every card, the probability that it is in the envelope.
+   *
+   * @return The probabilities indexed by card index, all 0 if there are no deals.
+   */
+  public double[] getEnvelopeProbabilities() {
+    return envelopeProbabilities.clone();
+  }
+}
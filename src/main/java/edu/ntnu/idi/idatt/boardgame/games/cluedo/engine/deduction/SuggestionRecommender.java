@@ -0,0 +1,208 @@
+package edu.ntnu.idi.idatt.boardgame.games.cluedo.engine.deduction;
+
+import edu.ntnu.idi.idatt.boardgame.games.cluedo.domain.card.Card;
+import edu.ntnu.idi.idatt.boardgame.games.cluedo.domain.card.Cards;
+import edu.ntnu.idi.idatt.boardgame.games.cluedo.domain.card.Room;
+import edu.ntnu.idi.idatt.boardgame.games.cluedo.domain.card.Suspect;
+import edu.ntnu.idi.idatt.boardgame.games.cluedo.domain.card.Weapon;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
+
+/**
+ * Recommends the suggestion a player learns the most from. Deals consistent with the player's
+ * observations are drawn with a {@link CluedoDealSampler}. For every candidate suggestion, the
+ * recommender works out in each deal who would disprove it and which card could be shown, and
+ * scores the candidate by the expected information the answer gives about the deal, in bits.
+ *
+ * <p>Sampling stops after most of the time budget is spent, and candidates that are not scored by
+ * the end of the budget are left out, so a recommendation is returned within roughly the budget
+ * on any machine. Slower machines draw fewer samples and so give noisier scores, and
+ * {@link Recommendation#complete()} tells whether every candidate was considered.
+ */
+public final class SuggestionRecommender {
+
+  /** Share of the time budget spent drawing deals; the rest is left for scoring. */
+  private static final double SAMPLING_SHARE = 0.75;
+
+  private final ForkJoinPool pool;
+  private final long budgetMillis;
+  private final int maxSamples;
+
+  /**
+   * A recommended suggestion.
+   *
+   * @param suspect The suspect to suggest.
+   * @param weapon The weapon to suggest.
+   * @param room The room to suggest.
+   * @param expectedInformation The expected information the answer gives, in bits. 0 if no deals
+   *     could be drawn.
+   * @param samples The deals the recommendation is based on, which also give the envelope
+   *     probability of every card.
+   * @param complete True if every candidate suggestion was scored within the time budget.
+   */
+  public record Recommendation(
+      Suspect suspect,
+      Weapon weapon,
+      Room room,
+      double expectedInformation,
+      DealSamples samples,
+      boolean complete) {}
+
+  /**
+   * Constructs a recommender.
+   *
+   * @param pool The pool to sample and score on.
+   * @param budgetMillis The time one recommendation may take.
+   * @param maxSamples The most deals to draw for one recommendation.
+   * @throws IllegalArgumentException if the budget is negative or the sample limit is not
+   *     positive.
+   */
+  public SuggestionRecommender(ForkJoinPool pool, long budgetMillis, int maxSamples) {
+    if (budgetMillis < 0 || maxSamples <= 0) {
+      throw new IllegalArgumentException(
+          "Budget must not be negative and sample limit must be positive");
+    }
+    this.pool = pool;
+    this.budgetMillis = budgetMillis;
+    this.maxSamples = maxSamples;
+  }
+
+  /**
+   * Recommends a suggestion for a player.
+   *
+   * @param engine What the suggesting player has observed.
+   * @param respondents The seats that answer the suggestion, in the order they answer.
+   * @param room The room the suggestion must name, or null to consider every room.
+   * @param rng The generator random choices are drawn from.
+   * @return The scored suggestion with the highest expected information. If no deals could be
+   *     drawn or no candidate was scored in time, the first suspect, weapon and room that may
+   *     still be in the envelope.
+   */
+  public Recommendation recommend(
+      CluedoDeductionEngine engine, int[] respondents, Room room, SplittableRandom rng) {
+    long deadline = System.nanoTime() + budgetMillis * 1_000_000;
+    long samplingMillis = (long) (budgetMillis * SAMPLING_SHARE);
+    DealSamples samples =
+        new CluedoDealSampler(engine, pool).sample(maxSamples, samplingMillis, rng);
+
+    Room[] rooms = room == null ? Room.values() : new Room[] {room};
+    int candidates = Suspect.values().length * Weapon.values().length * rooms.length;
+    if (samples.getSampleCount() == 0) {
+      return fallback(engine, room, samples);
+    }
+
+    double[] scores =
+        pool.submit(
+                () ->
+                    IntStream.range(0, candidates)
+                        .parallel()
+                        .mapToDouble(
+                            candidate ->
+                                System.nanoTime() - deadline >= 0
+                                    ? Double.NaN
+                                    : expectedInformation(
+                                        samples,
+                                        respondents,
+                                        Cards.mask(
+                                            suspectOf(candidate, rooms),
+                                            weaponOf(candidate, rooms),
+                                            rooms[candidate % rooms.length])))
+                        .toArray())
+            .join();
+
+    int best = -1;
+    int scored = 0;
+    for (int candidate = 0; candidate < candidates; candidate++) {
+      if (Double.isNaN(scores[candidate])) {
+        continue;
+      }
+      scored++;
+      if (best < 0 || scores[candidate] > scores[best]) {
+        best = candidate;
+      }
+    }
+    if (best < 0) {
+      return fallback(engine, room, samples);
+    }
+    return new Recommendation(
+        suspectOf(best, rooms),
+        weaponOf(best, rooms),
+        rooms[best % rooms.length],
+        scores[best],
+        samples,
+        scored == candidates);
+  }
+
+  /** Names the first cards that may still be in the envelope, when nothing could be scored. */
+  private static Recommendation fallback(
+      CluedoDeductionEngine engine, Room room, DealSamples samples) {
+    int envelope = engine.getPossibleMask(CluedoDeductionEngine.ENVELOPE);
+    return new Recommendation(
+        firstPossible(Suspect.values(), envelope),
+        firstPossible(Weapon.values(), envelope),
+        room != null ? room : firstPossible(Room.values(), envelope),
+        0,
+        samples,
+        false);
+  }
+
+  /** Candidates are numbered by suspect, then weapon, then room. */
+  private static Suspect suspectOf(int candidate, Room[] rooms) {
+    return Suspect.values()[candidate / (Weapon.values().length * rooms.length)];
+  }
+
+  private static Weapon weaponOf(int candidate, Room[] rooms) {
+    return Weapon.values()[candidate / rooms.length % Weapon.values().length];
+  }
+
+  /**
+   * Computes the mutual information between the deal and the answer to a suggestion: the entropy
+   * of the answer over all deals, less the entropy that comes only from the respondent choosing
+   * which of several matching cards to show.
+   */
+  static double expectedInformation(DealSamples samples, int[] respondents, int suggestion) {
+    int sampleCount = samples.getSampleCount();
+    double[] answers = new double[respondents.length * Cards.CARD_COUNT + 1];
+    double choiceEntropy = 0;
+    for (int sample = 0; sample < sampleCount; sample++) {
+      boolean disproved = false;
+      for (int i = 0; i < respondents.length && !disproved; i++) {
+        int held = samples.getHand(sample, respondents[i]) & suggestion;
+        if (held != 0) {
+          int choices = Integer.bitCount(held);
+          for (int rest = held; rest != 0; rest &= rest - 1) {
+            answers[i * Cards.CARD_COUNT + Integer.numberOfTrailingZeros(rest)] += 1.0 / choices;
+          }
+          choiceEntropy += log2(choices);
+          disproved = true;
+        }
+      }
+      if (!disproved) {
+        answers[answers.length - 1]++;
+      }
+    }
+
+    double answerEntropy = 0;
+    for (double weight : answers) {
+      if (weight > 0) {
+        double p = weight / sampleCount;
+        answerEntropy -= p * log2(p);
+      }
+    }
+    return answerEntropy - choiceEntropy / sampleCount;
+  }
+
+  private static double log2(double x) {
+    return Math.log(x) / Math.log(2);
+  }
+
+  private static <T extends Card> T firstPossible(T[] cards, int envelope) {
+    for (T card : cards) {
+      if ((envelope & Cards.bit(card)) != 0) {
+        return card;
+      }
+    }
+    return cards[0];
+  }
+}
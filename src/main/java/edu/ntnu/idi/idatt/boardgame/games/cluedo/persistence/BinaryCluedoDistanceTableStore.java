@@ -0,0 +1,111 @@
+package edu.ntnu.idi.idatt.boardgame.games.cluedo.persistence;
+
+import edu.ntnu.idi.idatt.boardgame.core.exception.InvalidBoardException;
+import edu.ntnu.idi.idatt.boardgame.games.cluedo.domain.board.CluedoBoardGraph;
+import edu.ntnu.idi.idatt.boardgame.games.cluedo.domain.board.CluedoDistanceTable;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Saves and loads {@link CluedoDistanceTable}s in a compact binary file, so a layout's table can
+ * be kept next to it instead of being computed every time the board is built.
+ *
+ * <p>The file holds a magic number, a format version and the layout hash of the board the table
+ * was computed for, followed by the landmark nodes and the two distance arrays. A table is only
+ * loaded for a board with the same layout hash.
+ */
+public final class BinaryCluedoDistanceTableStore {
+
+  /** "CLDT" in ASCII. */
+  private static final int MAGIC = 0x434c4454;
+  private static final int VERSION = 1;
+
+  /**
+   * Writes a distance table to a file, replacing it if it exists.
+   *
+   * @param table The table to save.
+   * @param file The file to write.
+   * @throws IOException if the file cannot be written.
+   */
+  public void save(CluedoDistanceTable table, Path file) throws IOException {
+    try (DataOutputStream out =
+        new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(file)))) {
+      out.writeInt(MAGIC);
+      out.writeInt(VERSION);
+      out.writeLong(table.getLayoutHash());
+      int[] landmarks = table.getLandmarkNodes();
+      out.writeInt(landmarks.length);
+      for (int node : landmarks) {
+        out.writeInt(node);
+      }
+      writeShorts(out, table.getDistances());
+      writeShorts(out, table.getRoomDistances());
+    }
+  }
+
+  /**
+   * Reads a distance table for the given board.
+   *
+   * @param file The file to read.
+   * @param graph The movement graph of the board the table is for.
+   * @return The distance table.
+   * @throws IOException if the file cannot be read.
+   * @throws InvalidBoardException if the file is not a distance table or was written for a
+   *     different layout.
+   */
+  public CluedoDistanceTable load(Path file, CluedoBoardGraph graph) throws IOException {
+    try (DataInputStream in =
+        new DataInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+      if (in.readInt() != MAGIC) {
+        throw new InvalidBoardException("Not a distance table file: " + file);
+      }
+      int version = in.readInt();
+      if (version != VERSION) {
+        throw new InvalidBoardException("Unsupported distance table version " + version);
+      }
+      long layoutHash = in.readLong();
+      if (layoutHash != graph.getLayoutHash()) {
+        throw new InvalidBoardException(
+            "Distance table was computed for a different board layout");
+      }
+      int[] landmarks = new int[readLength(in, graph.getNodeCount())];
+      for (int i = 0; i < landmarks.length; i++) {
+        landmarks[i] = in.readInt();
+      }
+      short[] distances = readShorts(in, landmarks.length * landmarks.length);
+      short[] roomDistances = readShorts(in, graph.getRoomCount() * graph.getNodeCount());
+      return CluedoDistanceTable.restore(graph, layoutHash, landmarks, distances, roomDistances);
+    }
+  }
+
+  private static void writeShorts(DataOutputStream out, short[] values) throws IOException {
+    out.writeInt(values.length);
+    for (short value : values) {
+      out.writeShort(value);
+    }
+  }
+
+  private static short[] readShorts(DataInputStream in, int expectedLength) throws IOException {
+    short[] values = new short[readLength(in, expectedLength)];
+    if (values.length != expectedLength) {
+      throw new InvalidBoardException("Distance table does not fit the board");
+    }
+    for (int i = 0; i < values.length; i++) {
+      values[i] = in.readShort();
+    }
+    return values;
+  }
+
+  private static int readLength(DataInputStream in, int max) throws IOException {
+    int length = in.readInt();
+    if (length < 0 || length > max) {
+      throw new InvalidBoardException("Distance table does not fit the board");
+    }
+    return length;
+  }
+}
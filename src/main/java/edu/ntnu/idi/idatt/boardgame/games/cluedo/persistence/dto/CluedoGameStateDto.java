@@ -72,7 +72,23 @@ public final class CluedoGameStateDto extends GameStateDto {
     public String colour;
 
     /**
-     * The suspect cards in this player's hand, as their enum names.
+     * The cards in this player's hand as a bitmask over the card indices of {@code Cards}.
+     */
+    public Integer handMask;
+
+    /**
+     * The cards this player has marked off in their notes, as a bitmask like {@link #handMask}.
+     */
+    public Integer notesMask;
+
+    /**
+     * The cards other players have shown this player, as a bitmask like {@link #handMask}.
+     */
+    public Integer seenMask;
+
+    /**
+     * The suspect cards in this player's hand, as their enum names. Only written by older versions;
+     * read when {@link #handMask} is missing.
      */
     public List<String> suspectHand;
 
@@ -88,7 +104,7 @@ public final class CluedoGameStateDto extends GameStateDto {
 
     /**
      * For each suspect, whether this player has it marked off in their notes. Key = Suspect.name(),
-     * Value = true/false.
+     * Value = true/false. Only written by older versions; read when {@link #notesMask} is missing.
      */
     public Map<String, Boolean> suspectNotes;
 
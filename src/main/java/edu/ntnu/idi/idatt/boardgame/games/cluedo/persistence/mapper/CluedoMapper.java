@@ -7,10 +7,7 @@ import edu.ntnu.idi.idatt.boardgame.games.cluedo.domain.card.Weapon;
 import edu.ntnu.idi.idatt.boardgame.games.cluedo.domain.player.CluedoPlayer;
 import edu.ntnu.idi.idatt.boardgame.games.cluedo.engine.controller.CluedoController;
 import edu.ntnu.idi.idatt.boardgame.games.cluedo.persistence.dto.CluedoGameStateDto;
-import edu.ntnu.idi.idatt.boardgame.ui.util.LoggingNotification;
 import java.util.ArrayList;
-import java.util.Arrays;
-import java.util.HashMap;
 import java.util.List;
 
 /**
@@ -45,36 +42,9 @@ public final class CluedoMapper {
               playerState.col = player.getPosition().col();
               playerState.colour = player.getColor().name();
 
-              // build hand‐lists (by enum name)
-              playerState.suspectHand = new ArrayList<>();
-              Arrays.stream(Suspect.values())
-                  .filter(player::hasCard)
-                  .forEach(suspect -> playerState.suspectHand.add(suspect.name()));
-              playerState.weaponHand = new ArrayList<>();
-              Arrays.stream(Weapon.values())
-                  .filter(player::hasCard)
-                  .forEach(weapon -> playerState.weaponHand.add(weapon.name()));
-              playerState.roomHand = new ArrayList<>();
-              Arrays.stream(Room.values())
-                  .filter(player::hasCard)
-                  .forEach(room -> playerState.roomHand.add(room.name()));
-
-              // build note‐maps
-              playerState.suspectNotes = new HashMap<>();
-              Arrays.stream(Suspect.values())
-                  .forEach(
-                      suspect ->
-                          playerState.suspectNotes.put(
-                              suspect.name(), player.isSuspectNoted(suspect)));
-              playerState.weaponNotes = new HashMap<>();
-              Arrays.stream(Weapon.values())
-                  .forEach(
-                      weapon ->
-                          playerState.weaponNotes.put(weapon.name(), player.isWeaponNoted(weapon)));
-              playerState.roomNotes = new HashMap<>();
-              Arrays.stream(Room.values())
-                  .forEach(
-                      room -> playerState.roomNotes.put(room.name(), player.isRoomNoted(room)));
+              playerState.handMask = player.getHandMask();
+              playerState.notesMask = player.getNotesMask();
+              playerState.seenMask = player.getSeenMask();
 
               list.add(playerState);
             });
@@ -111,7 +81,7 @@ public final class CluedoMapper {
         playerState -> {
           CluedoPlayer player = (CluedoPlayer) controller.getPlayers().get(playerState.id);
           if (player == null) {
-            LoggingNotification.error("Load error",
+            controller.getNotifications().error("Load error",
                 "No player with id " + playerState.id + " found in controller during apply.");
             throw new IllegalStateException(
                 "No player with id " + playerState.id + " found in controller during apply.");
@@ -122,43 +92,32 @@ public final class CluedoMapper {
               .getGameBoard()
               .setPlayerPosition(player, new GridPos(playerState.row, playerState.col));
 
-          playerState.suspectHand.stream()
-              .map(Suspect::valueOf)
-              .forEach(player::addCard);
-          playerState.weaponHand.stream()
-              .map(Weapon::valueOf)
-              .forEach(player::addCard);
-          playerState.roomHand.stream()
-              .map(Room::valueOf)
-              .forEach(player::addCard);
-
-          // restore notes
-          playerState.suspectNotes.forEach(
-              (name, noted) -> {
-                Suspect suspect = Suspect.valueOf(name);
-                player.setSuspectNoted(suspect, noted);
-              });
-          playerState.weaponNotes.forEach(
-              (name, noted) -> {
-                Weapon weapon = Weapon.valueOf(name);
-                player.setWeaponNoted(weapon, noted);
-              });
-          playerState.roomNotes.forEach(
-              (name, noted) -> {
-                Room room = Room.valueOf(name);
-                player.setRoomNoted(room, noted);
-              });
+          if (playerState.handMask != null) {
+            player.setHandMask(playerState.handMask);
+          } else {
+            restoreLegacyHand(playerState, player);
+          }
+          if (playerState.notesMask != null) {
+            player.setNotesMask(playerState.notesMask);
+          } else {
+            restoreLegacyNotes(playerState, player);
+          }
+          if (playerState.seenMask != null) {
+            player.setSeenMask(playerState.seenMask);
+          }
         });
 
     // restore whose turn it is
     CluedoPlayer current = (CluedoPlayer) controller.getPlayers().get(dto.currentPlayerTurn);
     if (current == null) {
-      LoggingNotification.error("Load error",
+      controller.getNotifications().error("Load error",
           "Current player ID " + dto.currentPlayerTurn + " not found after populating players.");
       // Attempt to recover or throw:
       if (!controller.getPlayers().isEmpty()) {
         current = (CluedoPlayer) controller.getPlayers().values().iterator().next(); // Fallback
-        LoggingNotification.warn("Load Warning", "Defaulting current player to first in list.");
+        controller
+            .getNotifications()
+            .warn("Load Warning", "Defaulting current player to first in list.");
       } else {
         throw new IllegalStateException(
             "Save-file error: no player with id " + dto.currentPlayerTurn
@@ -169,4 +128,34 @@ public final class CluedoMapper {
     controller.setStepsLeft(dto.stepsLeft);
     controller.setCurrentPlayer(current);
   }
+
+  /** Restores a hand saved as lists of enum names, as older versions wrote it. */
+  private static void restoreLegacyHand(
+      CluedoGameStateDto.PlayerState playerState, CluedoPlayer player) {
+    if (playerState.suspectHand != null) {
+      playerState.suspectHand.stream().map(Suspect::valueOf).forEach(player::addCard);
+    }
+    if (playerState.weaponHand != null) {
+      playerState.weaponHand.stream().map(Weapon::valueOf).forEach(player::addCard);
+    }
+    if (playerState.roomHand != null) {
+      playerState.roomHand.stream().map(Room::valueOf).forEach(player::addCard);
+    }
+  }
+
+  /** Restores notes saved as maps from enum name to flag, as older versions wrote them. */
+  private static void restoreLegacyNotes(
+      CluedoGameStateDto.PlayerState playerState, CluedoPlayer player) {
+    if (playerState.suspectNotes != null) {
+      playerState.suspectNotes.forEach(
+          (name, noted) -> player.setNoted(Suspect.valueOf(name), noted));
+    }
+    if (playerState.weaponNotes != null) {
+      playerState.weaponNotes.forEach(
+          (name, noted) -> player.setNoted(Weapon.valueOf(name), noted));
+    }
+    if (playerState.roomNotes != null) {
+      playerState.roomNotes.forEach((name, noted) -> player.setNoted(Room.valueOf(name), noted));
+    }
+  }
 }
@@ -0,0 +1,96 @@
+package edu.ntnu.idi.idatt.boardgame.games.cluedo.view;
+
+import edu.ntnu.idi.idatt.boardgame.core.domain.player.GridPos;
+
+/**
+ * Maps between grid cells and pixel coordinates on a square Cluedo board. Cells are laid out row
+ * by row from the top left corner, with a fixed gap between neighbours.
+ */
+final class CluedoBoardGeometry {
+
+  private final int size;
+  private final double tileSize;
+  private final double gapSize;
+
+  /**
+   * Constructs the geometry for a board.
+   *
+   * @param size The number of rows and columns.
+   * @param tileSize The width and height of a cell in pixels.
+   * @param gapSize The space between neighbouring cells in pixels.
+   */
+  CluedoBoardGeometry(int size, double tileSize, double gapSize) {
+    this.size = size;
+    this.tileSize = tileSize;
+    this.gapSize = gapSize;
+  }
+
+  /**
+   * Finds the cell under a point, without looking at any tiles.
+   *
+   * @param x The x coordinate in pixels.
+   * @param y The y coordinate in pixels.
+   * @return The cell, or null if the point is outside the board or in a gap.
+   */
+  GridPos cellAt(double x, double y) {
+    double pitch = tileSize + gapSize;
+    if (x < 0 || y < 0) {
+      return null;
+    }
+    int col = (int) (x / pitch);
+    int row = (int) (y / pitch);
+    if (col >= size || row >= size || x - col * pitch >= tileSize
+        || y - row * pitch >= tileSize) {
+      return null;
+    }
+    return new GridPos(row, col);
+  }
+
+  /**
+   * Gets the x coordinate of the left edge of a column.
+   *
+   * @param col The 0-based column.
+   * @return The x coordinate in pixels.
+   */
+  double getCellX(int col) {
+    return col * (tileSize + gapSize);
+  }
+
+  /**
+   * Gets the y coordinate of the top edge of a row.
+   *
+   * @param row The 0-based row.
+   * @return The y coordinate in pixels.
+   */
+  double getCellY(int row) {
+    return row * (tileSize + gapSize);
+  }
+
+  /**
+   * Gets the pixel length of a run of neighbouring cells, including the gaps between them.
+   *
+   * @param cells The number of cells.
+   * @return The length in pixels.
+   */
+  double getSpan(int cells) {
+    return cells * tileSize + (cells - 1) * gapSize;
+  }
+
+  /**
+   * Gets the width and height of the whole board.
+   *
+   * @return The side length in pixels.
+   */
+  double getBoardSide() {
+    return getSpan(size);
+  }
+
+  /**
+   * Gets the width and height of a cell.
+   *
+   * @return The cell size in pixels.
+   */
+  double getTileSize() {
+    return tileSize;
+  }
+}
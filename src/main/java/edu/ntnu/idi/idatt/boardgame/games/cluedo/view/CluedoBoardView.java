@@ -8,6 +8,7 @@ import edu.ntnu.idi.idatt.boardgame.games.cluedo.domain.board.BorderTile;
 import edu.ntnu.idi.idatt.boardgame.games.cluedo.domain.board.CluedoBoard;
 import edu.ntnu.idi.idatt.boardgame.games.cluedo.domain.board.CorridorTile;
 import edu.ntnu.idi.idatt.boardgame.games.cluedo.domain.board.RoomTile;
+import edu.ntnu.idi.idatt.boardgame.ui.util.FxDirtySetScheduler;
 import edu.ntnu.idi.idatt.boardgame.ui.util.LoggingNotification;
 import edu.ntnu.idi.idatt.boardgame.ui.util.PlayerTokenFactory;
 import java.util.HashMap;
@@ -15,7 +16,6 @@ import java.util.Map;
 import java.util.function.Consumer;
 import java.util.function.Supplier;
 import java.util.stream.IntStream;
-import javafx.application.Platform;
 import javafx.geometry.HPos;
 import javafx.geometry.Insets;
 import javafx.geometry.Pos;
@@ -39,7 +39,11 @@ import org.slf4j.LoggerFactory;
 /**
  * Represents the visual view of the Cluedo game board. It arranges {@link CluedoTileView} instances
  * and handles room rendering. Implements {@link TileObserver} to react to changes in individual
- * tiles, particularly rooms.
+ * tiles: a changed room or cell is marked dirty and redrawn at most once per frame by an
+ * {@link FxDirtySetScheduler}, so a burst of changes to the same tile costs one refresh.
+ *
+ * <p>Every cell is a node of its own, so boards are drawn by {@link CluedoCanvasBoardView} unless
+ * the {@value CluedoCanvasBoardView#NODE_RENDERER_PROPERTY} system property is set to true.
  */
 public final class CluedoBoardView extends Pane implements TileObserver<GridPos> {
 
@@ -55,6 +59,9 @@ public final class CluedoBoardView extends Pane implements TileObserver<GridPos>
   private final Map<GridPos, Node> tileMap = new HashMap<>();
   private Node highlightedNode = null;
   private final Map<RoomTile, FlowPane> roomTokenPanes = new HashMap<>();
+  private final Map<AbstractCluedoTile, CluedoTileView> cellViews = new HashMap<>();
+  private final FxDirtySetScheduler<AbstractCluedoTile> refreshScheduler =
+      new FxDirtySetScheduler<>(this::refreshTile);
   private final Consumer<GridPos> onTileClick;
   private final CluedoBoard boardModel;
   private final Supplier<GridPos> currentPlayerPositionSupplier;
@@ -83,6 +90,7 @@ public final class CluedoBoardView extends Pane implements TileObserver<GridPos>
 
     initializeBoard();
     getChildren().add(grid);
+    refreshScheduler.bindTo(this);
   }
 
   /**
@@ -111,32 +119,6 @@ public final class CluedoBoardView extends Pane implements TileObserver<GridPos>
     return playerTokenPane;
   }
 
-  private boolean isCorridorTileDoor(int corridorRow, int corridorCol) {
-    for (Direction direction : Direction.values()) {
-      int neighborRow = corridorRow + direction.directionRow;
-      int neighborCol = corridorCol + direction.directionCol;
-
-      // Check bounds for neighbor
-      if (neighborRow < 0
-          || neighborRow >= boardModel.getBoardSize()
-          || neighborCol < 0
-          || neighborCol >= boardModel.getBoardSize()) {
-        continue;
-      }
-
-      AbstractCluedoTile neighborTile =
-          boardModel.getTileAtPosition(new GridPos(neighborRow, neighborCol));
-      if (!(neighborTile instanceof RoomTile adjacentRoomTile)) {
-        continue;
-      }
-      // Check if the adjacent room tile considers the corridor tile a door entry point
-      if (adjacentRoomTile.canEnterFrom(corridorRow, corridorCol)) {
-        return true;
-      }
-    }
-    return false;
-  }
-
   private void initializeBoard() {
     grid.getChildren().clear();
     int numRows = boardModel.getBoardSize();
@@ -228,11 +210,12 @@ public final class CluedoBoardView extends Pane implements TileObserver<GridPos>
   private void addCorridorTile(AbstractCluedoTile tileModel, int row, int col) {
     CluedoTileView tileView = new CluedoTileView(tileModel, TILE_SIZE);
     Node node = tileView.getNode();
-    if (isCorridorTileDoor(row, col)) {
+    if (boardModel.getGraph().isDoor(row, col)) {
       tileView.setAsDoorCorridor(true);
     }
     grid.add(node, col, row);
     tileMap.put(new GridPos(row, col), node);
+    cellViews.put(tileModel, tileView);
     bindClick(node, row, col);
     tileModel.addObserver(this);
   }
@@ -273,7 +256,7 @@ public final class CluedoBoardView extends Pane implements TileObserver<GridPos>
     }
 
     // Click handler for entering the room
-    // A player must be on an adjacent corridor tile that is a door to this room.
+    // From a door the player steps straight in; from further away the controller walks there.
     roomPane.setOnMouseClicked(
         e -> {
           GridPos here = currentPlayerPositionSupplier.get();
@@ -286,7 +269,7 @@ public final class CluedoBoardView extends Pane implements TileObserver<GridPos>
               return;
             }
           }
-          // silent ignore - this happens often
+          onTileClick.accept(new GridPos(dimensions.minRow(), dimensions.minCol()));
         });
 
     markVisitedCells(dimensions, roomTile, boardGrid, visitedRoomCells);
@@ -350,8 +333,29 @@ public final class CluedoBoardView extends Pane implements TileObserver<GridPos>
 
   @Override
   public void onTileChanged(Tile<GridPos> tile) {
+    if (tile instanceof AbstractCluedoTile cluedoTile) {
+      refreshScheduler.markDirty(cluedoTile);
+    }
+  }
+
+  /**
+   * Gets the number of tile changes that were folded into a refresh already pending for the same
+   * tile.
+   *
+   * @return The number of refreshes saved.
+   */
+  public long getCoalescedRefreshCount() {
+    return refreshScheduler.getCoalescedCount();
+  }
+
+  private void refreshTile(AbstractCluedoTile tile) {
     if (tile instanceof RoomTile room) {
-      Platform.runLater(() -> refreshRoomTokens(room));
+      refreshRoomTokens(room);
+      return;
+    }
+    CluedoTileView view = cellViews.get(tile);
+    if (view != null) {
+      view.updateDisplay();
     }
   }
 
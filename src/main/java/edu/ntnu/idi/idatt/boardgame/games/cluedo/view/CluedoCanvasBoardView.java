@@ -0,0 +1,357 @@
+package edu.ntnu.idi.idatt.boardgame.games.cluedo.view;
+
+import edu.ntnu.idi.idatt.boardgame.core.domain.board.BoardChangeSet;
+import edu.ntnu.idi.idatt.boardgame.core.domain.board.Tile;
+import edu.ntnu.idi.idatt.boardgame.core.domain.player.GridPos;
+import edu.ntnu.idi.idatt.boardgame.core.domain.player.Player;
+import edu.ntnu.idi.idatt.boardgame.core.engine.event.BoardObserver;
+import edu.ntnu.idi.idatt.boardgame.games.cluedo.domain.board.AbstractCluedoTile;
+import edu.ntnu.idi.idatt.boardgame.games.cluedo.domain.board.BorderTile;
+import edu.ntnu.idi.idatt.boardgame.games.cluedo.domain.board.CluedoBoard;
+import edu.ntnu.idi.idatt.boardgame.games.cluedo.domain.board.CluedoBoardGraph;
+import edu.ntnu.idi.idatt.boardgame.games.cluedo.domain.board.CorridorTile;
+import edu.ntnu.idi.idatt.boardgame.games.cluedo.domain.board.RoomTile;
+import edu.ntnu.idi.idatt.boardgame.ui.util.PlayerColorMapper;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import javafx.geometry.VPos;
+import javafx.scene.canvas.Canvas;
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.layout.Pane;
+import javafx.scene.paint.Color;
+import javafx.scene.shape.Rectangle;
+import javafx.scene.text.Font;
+import javafx.scene.text.TextAlignment;
+
+/**
+ * Draws the Cluedo board on two stacked {@link Canvas} layers instead of one node per cell, so
+ * building and laying out the board does not grow with the number of cells.
+ *
+ * <p>The lower layer holds corridors, borders, rooms and door markers and is painted once. The
+ * upper layer holds only the player tokens; when tiles change, only the cells of the changed
+ * corridor tiles or the rectangles of the changed rooms are cleared and repainted. Clicks are
+ * mapped to cells arithmetically by {@link CluedoBoardGeometry}.
+ *
+ * <p>This is the default renderer. {@link CluedoBoardView}, with one node per cell, is only used
+ * when the {@value #NODE_RENDERER_PROPERTY} system property is set to true.
+ */
+public final class CluedoCanvasBoardView extends Pane implements BoardObserver<GridPos> {
+
+  /** System property that selects {@link CluedoBoardView} instead when set to true. */
+  public static final String NODE_RENDERER_PROPERTY = "boardgame.cluedo.nodeRenderer";
+
+  private static final double MAX_TILE_SIZE = 30;
+  private static final double MIN_TILE_SIZE = 6;
+  /**
+   * Largest canvas side in pixels. Cells shrink so that the board fits, down to
+   * {@link #MIN_TILE_SIZE}.
+   */
+  private static final double MAX_CANVAS_SIZE = 2_048;
+  private static final double GAP_SIZE = 1;
+  private static final double ROOM_CORNER_RADIUS = 10;
+  private static final double ROOM_FONT_SCALE = 0.4;
+  private static final double MIN_FONT_SIZE = 10;
+  private static final double LABEL_PADDING = 5;
+  private static final double TOKEN_RADIUS_RATIO = 0.1;
+  private static final double MIN_TOKEN_RADIUS = 3;
+  /** Row and column offsets of the four neighbours of a cell. */
+  private static final int[][] STEPS = {{-1, 0}, {1, 0}, {0, -1}, {0, 1}};
+
+  private final CluedoBoard boardModel;
+  private final CluedoBoardGeometry geometry;
+  private final CluedoBoardGraph graph;
+  private final Canvas boardLayer;
+  private final Canvas tokenLayer;
+  private final Rectangle highlight;
+  /** Bounding cells of every room, found in one pass over the grid. */
+  private final Map<RoomTile, RoomBounds> roomBounds = new LinkedHashMap<>();
+  private final Consumer<GridPos> onTileClick;
+  private final Supplier<GridPos> currentPlayerPositionSupplier;
+
+  /**
+   * Constructs a canvas board view and starts listening to the board's changes.
+   *
+   * @param boardModel The {@link CluedoBoard} model this view represents.
+   * @param currentPlayerPositionSupplier A supplier for the current player's position, used for
+   *     click handling.
+   * @param onTileClick A consumer that handles tile click events.
+   */
+  public CluedoCanvasBoardView(
+      CluedoBoard boardModel,
+      Supplier<GridPos> currentPlayerPositionSupplier,
+      Consumer<GridPos> onTileClick) {
+    this.boardModel = boardModel;
+    this.currentPlayerPositionSupplier = currentPlayerPositionSupplier;
+    this.onTileClick = onTileClick;
+    this.graph = boardModel.getGraph();
+    this.geometry =
+        new CluedoBoardGeometry(boardModel.getBoardSize(), tileSizeFor(boardModel), GAP_SIZE);
+    double side = geometry.getBoardSide();
+    this.boardLayer = new Canvas(side, side);
+    this.tokenLayer = new Canvas(side, side);
+    this.highlight = new Rectangle();
+    highlight.setFill(Color.TRANSPARENT);
+    highlight.setStroke(Color.BLUE);
+    highlight.setMouseTransparent(true);
+    highlight.setVisible(false);
+
+    findRooms();
+    paintBoard(boardLayer.getGraphicsContext2D());
+    paintAllTokens();
+
+    tokenLayer.setOnMouseClicked(e -> onCellClicked(geometry.cellAt(e.getX(), e.getY())));
+    getChildren().addAll(boardLayer, tokenLayer, highlight);
+    boardModel.addBoardObserver(this);
+  }
+
+  /**
+   * Checks whether boards should be drawn by this renderer rather than {@link CluedoBoardView}.
+   *
+   * @return True unless the node renderer was requested.
+   */
+  public static boolean isPreferred() {
+    return !Boolean.getBoolean(NODE_RENDERER_PROPERTY);
+  }
+
+  private static double tileSizeFor(CluedoBoard board) {
+    double fitting = (MAX_CANVAS_SIZE + GAP_SIZE) / board.getBoardSize() - GAP_SIZE;
+    return Math.max(MIN_TILE_SIZE, Math.min(MAX_TILE_SIZE, Math.floor(fitting)));
+  }
+
+  /**
+   * Highlights the tile at the given grid position, or the whole room if the position is inside
+   * one. Any previously highlighted tile will be un-highlighted.
+   *
+   * @param pos The {@link GridPos} of the tile to highlight.
+   */
+  public void highlightTile(GridPos pos) {
+    AbstractCluedoTile tile = boardModel.getTileAtPosition(pos);
+    if (tile == null) {
+      highlight.setVisible(false);
+      return;
+    }
+    RoomBounds bounds =
+        tile instanceof RoomTile room
+            ? roomBounds.get(room)
+            : new RoomBounds(pos.row(), pos.row(), pos.col(), pos.col());
+    highlight.setX(geometry.getCellX(bounds.minCol()));
+    highlight.setY(geometry.getCellY(bounds.minRow()));
+    highlight.setWidth(geometry.getSpan(bounds.colSpan()));
+    highlight.setHeight(geometry.getSpan(bounds.rowSpan()));
+    highlight.setVisible(true);
+  }
+
+  @Override
+  public void onBoardChanged(BoardChangeSet<GridPos> changes) {
+    GraphicsContext gc = tokenLayer.getGraphicsContext2D();
+    for (Tile<GridPos> tile : changes.getChangedTiles()) {
+      repaintTokens(gc, (AbstractCluedoTile) tile);
+    }
+  }
+
+  /**
+   * Passes a clicked cell on to the click handler. A click anywhere in a room is turned into a
+   * click on the room cell next to the current player if there is one, so the player can enter
+   * through the door they stand at.
+   */
+  private void onCellClicked(GridPos pos) {
+    if (pos == null) {
+      return;
+    }
+    AbstractCluedoTile tile = boardModel.getTileAtPosition(pos);
+    if (!(tile instanceof RoomTile room)) {
+      if (tile != null) {
+        onTileClick.accept(pos);
+      }
+      return;
+    }
+    GridPos here = currentPlayerPositionSupplier.get();
+    for (int[] step : STEPS) {
+      GridPos candidate = new GridPos(here.row() + step[0], here.col() + step[1]);
+      if (isOnBoard(candidate.row(), candidate.col())
+          && boardModel.getTileAtPosition(candidate) == room) {
+        onTileClick.accept(candidate);
+        return;
+      }
+    }
+    onTileClick.accept(pos); // not at a door: the controller walks there if it can
+  }
+
+  private boolean isOnBoard(int row, int col) {
+    int size = boardModel.getBoardSize();
+    return row >= 0 && row < size && col >= 0 && col < size;
+  }
+
+  private void findRooms() {
+    AbstractCluedoTile[][] grid = boardModel.getBoardGrid();
+    for (int row = 0; row < grid.length; row++) {
+      for (int col = 0; col < grid[row].length; col++) {
+        if (grid[row][col] instanceof RoomTile room) {
+          RoomBounds bounds = roomBounds.get(room);
+          roomBounds.put(
+              room,
+              bounds == null
+                  ? new RoomBounds(row, row, col, col)
+                  : new RoomBounds(
+                      Math.min(bounds.minRow(), row),
+                      Math.max(bounds.maxRow(), row),
+                      Math.min(bounds.minCol(), col),
+                      Math.max(bounds.maxCol(), col)));
+        }
+      }
+    }
+  }
+
+  private void paintBoard(GraphicsContext gc) {
+    AbstractCluedoTile[][] grid = boardModel.getBoardGrid();
+    double size = geometry.getTileSize();
+    for (int row = 0; row < grid.length; row++) {
+      for (int col = 0; col < grid[row].length; col++) {
+        AbstractCluedoTile tile = grid[row][col];
+        if (tile instanceof RoomTile) {
+          continue;
+        }
+        double x = geometry.getCellX(col);
+        double y = geometry.getCellY(row);
+        if (tile == null) {
+          gc.setFill(Color.web("#1A1A1A"));
+          gc.fillRect(x, y, size, size);
+          continue;
+        }
+        if (tile instanceof CorridorTile) {
+          gc.setFill(graph.isDoor(row, col) ? Color.KHAKI : Color.BEIGE);
+        } else if (tile instanceof BorderTile) {
+          gc.setFill(Color.DARKSLATEGRAY);
+        } else {
+          gc.setFill(Color.LIGHTGRAY); // Unknown/default color
+        }
+        gc.fillRoundRect(x, y, size, size, 3, 3);
+        gc.setStroke(Color.DARKGRAY);
+        gc.strokeRoundRect(x + 0.5, y + 0.5, size - 1, size - 1, 3, 3);
+      }
+    }
+
+    gc.setFont(Font.font("Arial", Math.max(MIN_FONT_SIZE, size * ROOM_FONT_SCALE)));
+    gc.setTextAlign(TextAlignment.CENTER);
+    gc.setTextBaseline(VPos.TOP);
+    roomBounds.forEach(
+        (room, bounds) -> {
+          double x = geometry.getCellX(bounds.minCol());
+          double y = geometry.getCellY(bounds.minRow());
+          double width = geometry.getSpan(bounds.colSpan());
+          double height = geometry.getSpan(bounds.rowSpan());
+          gc.setFill(Color.LIGHTSLATEGRAY);
+          gc.fillRoundRect(x, y, width, height, ROOM_CORNER_RADIUS, ROOM_CORNER_RADIUS);
+          gc.setStroke(Color.DARKGRAY);
+          gc.strokeRoundRect(
+              x + 0.5, y + 0.5, width - 1, height - 1, ROOM_CORNER_RADIUS, ROOM_CORNER_RADIUS);
+          gc.setFill(Color.WHITE);
+          gc.fillText(room.getRoomName(), x + width / 2, y + LABEL_PADDING, width);
+        });
+
+    gc.setStroke(Color.SADDLEBROWN);
+    gc.setLineWidth(Math.max(2, size / 8));
+    for (int row = 0; row < grid.length; row++) {
+      for (int col = 0; col < grid[row].length; col++) {
+        if (graph.isDoor(row, col)) {
+          paintDoorMarkers(gc, row, col);
+        }
+      }
+    }
+  }
+
+  /** Draws a bar on each room edge that can be crossed from the given corridor cell. */
+  private void paintDoorMarkers(GraphicsContext gc, int corridorRow, int corridorCol) {
+    double size = geometry.getTileSize();
+    double x = geometry.getCellX(corridorCol);
+    double y = geometry.getCellY(corridorRow);
+    int corridor = graph.nodeAt(corridorRow, corridorCol);
+    for (int[] step : STEPS) {
+      int neighbour = graph.nodeAt(corridorRow + step[0], corridorCol + step[1]);
+      if (!graph.isRoomNode(neighbour) || !graph.hasEdge(corridor, neighbour)) {
+        continue;
+      }
+      double edgeX = step[1] < 0 ? x : step[1] > 0 ? x + size : -1;
+      double edgeY = step[0] < 0 ? y : step[0] > 0 ? y + size : -1;
+      if (edgeX >= 0) {
+        gc.strokeLine(edgeX, y + size / 4, edgeX, y + size * 3 / 4);
+      } else {
+        gc.strokeLine(x + size / 4, edgeY, x + size * 3 / 4, edgeY);
+      }
+    }
+  }
+
+  private void paintAllTokens() {
+    GraphicsContext gc = tokenLayer.getGraphicsContext2D();
+    AbstractCluedoTile[][] grid = boardModel.getBoardGrid();
+    for (AbstractCluedoTile[] cells : grid) {
+      for (AbstractCluedoTile tile : cells) {
+        if (tile != null && !(tile instanceof RoomTile)) {
+          repaintTokens(gc, tile);
+        }
+      }
+    }
+    roomBounds.keySet().forEach(room -> repaintTokens(gc, room));
+  }
+
+  /** Clears the area of one tile on the token layer and draws the tokens now on it. */
+  private void repaintTokens(GraphicsContext gc, AbstractCluedoTile tile) {
+    RoomBounds bounds =
+        tile instanceof RoomTile room
+            ? roomBounds.get(room)
+            : new RoomBounds(tile.row(), tile.row(), tile.col(), tile.col());
+    if (bounds == null) {
+      return;
+    }
+    double x = geometry.getCellX(bounds.minCol());
+    double y = geometry.getCellY(bounds.minRow());
+    double width = geometry.getSpan(bounds.colSpan());
+    double height = geometry.getSpan(bounds.rowSpan());
+    gc.clearRect(x, y, width, height);
+
+    List<Player<GridPos>> players = tile.getPlayers();
+    if (players.isEmpty()) {
+      return;
+    }
+    double size = geometry.getTileSize();
+    double radius = Math.max(MIN_TOKEN_RADIUS, size * TOKEN_RADIUS_RATIO);
+    double pitch = radius * 2 + 1;
+    int perRow = Math.max(1, (int) ((width - 2) / pitch));
+    int rowsUsed = (players.size() + perRow - 1) / perRow;
+    // Rooms keep their name above the tokens; a single cell centres them.
+    double top = tile instanceof RoomTile ? y + height / 2 : y + (height - rowsUsed * pitch) / 2;
+    gc.setStroke(Color.BLACK);
+    gc.setLineWidth(0.5);
+    for (int i = 0; i < players.size(); i++) {
+      int inRow = Math.min(perRow, players.size() - i / perRow * perRow);
+      double left = x + (width - inRow * pitch) / 2;
+      double cx = left + (i % perRow) * pitch + pitch / 2;
+      double cy = top + (i / perRow) * pitch + pitch / 2;
+      gc.setFill(PlayerColorMapper.toPaint(players.get(i).getColor()));
+      gc.fillOval(cx - radius, cy - radius, radius * 2, radius * 2);
+      gc.strokeOval(cx - radius, cy - radius, radius * 2, radius * 2);
+    }
+  }
+
+  /**
+   * Bounding cells of a room, or of a single cell.
+   *
+   * @param minRow The minimum row index.
+   * @param maxRow The maximum row index.
+   * @param minCol The minimum column index.
+   * @param maxCol The maximum column index.
+   */
+  private record RoomBounds(int minRow, int maxRow, int minCol, int maxCol) {
+
+    int rowSpan() {
+      return maxRow - minRow + 1;
+    }
+
+    int colSpan() {
+      return maxCol - minCol + 1;
+    }
+  }
+}
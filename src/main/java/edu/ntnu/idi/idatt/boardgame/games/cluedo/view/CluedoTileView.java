@@ -1,8 +1,5 @@
 package edu.ntnu.idi.idatt.boardgame.games.cluedo.view;
 
-import edu.ntnu.idi.idatt.boardgame.core.domain.board.Tile;
-import edu.ntnu.idi.idatt.boardgame.core.domain.player.GridPos;
-import edu.ntnu.idi.idatt.boardgame.core.engine.event.TileObserver;
 import edu.ntnu.idi.idatt.boardgame.games.cluedo.domain.board.AbstractCluedoTile;
 import edu.ntnu.idi.idatt.boardgame.games.cluedo.domain.board.BorderTile;
 import edu.ntnu.idi.idatt.boardgame.games.cluedo.domain.board.CorridorTile;
@@ -19,10 +16,11 @@ import javafx.scene.text.Font;
 import javafx.scene.text.TextAlignment;
 
 /**
- * Represents the visual view of a single tile on the Cluedo board. Implements {@link TileObserver}
- * to update its display when the underlying tile model changes.
+ * Represents the visual view of a single tile on the Cluedo board. The owning
+ * {@link CluedoBoardView} observes the tile and calls {@link #updateDisplay()} at most once per
+ * frame when it changes.
  */
-public final class CluedoTileView implements TileObserver<GridPos> {
+public final class CluedoTileView {
 
   private final StackPane tilePane;
   private final Rectangle tileBackground;
@@ -41,7 +39,6 @@ public final class CluedoTileView implements TileObserver<GridPos> {
   public CluedoTileView(AbstractCluedoTile tileModel, int tileSize) {
     this.tileModel = tileModel;
     this.tileSize = tileSize;
-    tileModel.addObserver(this);
 
     tileBackground = new Rectangle(tileSize, tileSize);
     tileBackground.setStroke(Color.DARKGRAY);
@@ -87,13 +84,6 @@ public final class CluedoTileView implements TileObserver<GridPos> {
     updateDisplay();
   }
 
-  @Override
-  public void onTileChanged(Tile<GridPos> tile) {
-    if (tile == this.tileModel) {
-      updateDisplay();
-    }
-  }
-
   /**
    * Updates the visual display of the tile based on the state of its model. This includes
    * background color, labels, and player tokens.
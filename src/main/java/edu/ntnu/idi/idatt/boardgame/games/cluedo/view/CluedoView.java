@@ -1,8 +1,13 @@
 package edu.ntnu.idi.idatt.boardgame.games.cluedo.view;
 
 import edu.ntnu.idi.idatt.boardgame.core.domain.player.GridPos;
-import edu.ntnu.idi.idatt.boardgame.core.domain.player.Player;
-import edu.ntnu.idi.idatt.boardgame.core.engine.event.GameObserver;
+import edu.ntnu.idi.idatt.boardgame.core.engine.event.BackpressurePolicy;
+import edu.ntnu.idi.idatt.boardgame.core.engine.event.GameEvent;
+import edu.ntnu.idi.idatt.boardgame.core.engine.event.GameFinishedEvent;
+import edu.ntnu.idi.idatt.boardgame.core.engine.event.LoadedEvent;
+import edu.ntnu.idi.idatt.boardgame.core.engine.event.RingBufferEventDispatcher;
+import edu.ntnu.idi.idatt.boardgame.core.engine.event.TurnChangedEvent;
+import edu.ntnu.idi.idatt.boardgame.core.engine.event.WonByDefaultEvent;
 import edu.ntnu.idi.idatt.boardgame.games.cluedo.domain.board.CluedoBoard;
 import edu.ntnu.idi.idatt.boardgame.games.cluedo.domain.card.Card;
 import edu.ntnu.idi.idatt.boardgame.games.cluedo.domain.card.Room;
@@ -10,13 +15,17 @@ import edu.ntnu.idi.idatt.boardgame.games.cluedo.domain.card.Suspect;
 import edu.ntnu.idi.idatt.boardgame.games.cluedo.domain.card.Weapon;
 import edu.ntnu.idi.idatt.boardgame.games.cluedo.domain.player.CluedoPlayer;
 import edu.ntnu.idi.idatt.boardgame.games.cluedo.engine.controller.CluedoController;
+import edu.ntnu.idi.idatt.boardgame.ui.util.FxEventPump;
 import java.util.Arrays;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.function.BiConsumer;
+import java.util.function.Consumer;
 import java.util.function.Function;
+import java.util.function.Supplier;
 import javafx.collections.FXCollections;
 import javafx.geometry.Insets;
+import javafx.scene.Node;
 import javafx.scene.control.Button;
 import javafx.scene.control.CheckBox;
 import javafx.scene.control.ChoiceBox;
@@ -28,13 +37,15 @@ import javafx.scene.layout.Region;
 import javafx.scene.layout.VBox;
 
 /**
- * The main view for the Cluedo game. It displays the game board and control panel. Implements
- * {@link GameObserver} to react to game state changes.
+ * The main view for the Cluedo game. It displays the game board and control panel. The controller's
+ * {@link GameEvent}s are queued in a {@link RingBufferEventDispatcher} and applied once per frame
+ * by an {@link FxEventPump}, so the game never waits for the view to redraw.
  */
-public final class CluedoView implements GameObserver<GridPos> {
+public final class CluedoView {
 
   private final BorderPane root;
-  private final CluedoBoardView boardView;
+  /** Marks the current player's tile on whichever board renderer is in use. */
+  private final Consumer<GridPos> tileHighlighter;
   private final VBox controlPanel;
   private final Button submitAccusationButton;
   private final Button submitSuggestionButton;
@@ -58,6 +69,8 @@ public final class CluedoView implements GameObserver<GridPos> {
   private static final String NOTES_BOX_STYLE =
       "-fx-border-color: gray; -fx-padding: 5; -fx-background-color: #dadada;";
   private static final double SPACING = 5.0;
+  /** Number of events that can wait for the next frame before older ones are coalesced. */
+  private static final int EVENT_BUFFER_SIZE = 1_024;
 
   /**
    * Constructs the Cluedo game view.
@@ -70,9 +83,19 @@ public final class CluedoView implements GameObserver<GridPos> {
     root.setPadding(new Insets(10));
 
     CluedoBoard board = (CluedoBoard) controller.getGameBoard();
-    boardView =
-        new CluedoBoardView(
-            board, () -> controller.getCurrentPlayer().getPosition(), controller::onBoardClick);
+    Supplier<GridPos> currentPosition = () -> controller.getCurrentPlayer().getPosition();
+    Node boardView;
+    if (CluedoCanvasBoardView.isPreferred()) {
+      CluedoCanvasBoardView canvasView =
+          new CluedoCanvasBoardView(board, currentPosition, controller::onBoardClick);
+      tileHighlighter = canvasView::highlightTile;
+      boardView = canvasView;
+    } else {
+      CluedoBoardView nodeView =
+          new CluedoBoardView(board, currentPosition, controller::onBoardClick);
+      tileHighlighter = nodeView::highlightTile;
+      boardView = nodeView;
+    }
     ScrollPane scrollPane = new ScrollPane(boardView);
     scrollPane.setFitToWidth(true);
     scrollPane.setFitToHeight(true);
@@ -159,8 +182,20 @@ public final class CluedoView implements GameObserver<GridPos> {
         .addAll(statusLabel, rollDiceButton, suggestButton, accuseButton, spacer, notesBox);
     root.setRight(controlPanel);
 
-    controller.addObserver(this);
-    update("Game started. It's " + controller.getCurrentPlayer().getName() + "'s turn.");
+    RingBufferEventDispatcher dispatcher =
+        new RingBufferEventDispatcher(EVENT_BUFFER_SIZE, BackpressurePolicy.COALESCE);
+    controller.addListener(GameEvent.class, dispatcher);
+    FxEventPump events = new FxEventPump(dispatcher);
+    events.addListener(GameEvent.class, this::onGameEvent);
+    events.addListener(TurnChangedEvent.class, event -> refreshNotes());
+    events.addListener(LoadedEvent.class, event -> refreshNotes());
+    events.addListener(WonByDefaultEvent.class, event -> refreshNotes());
+    events.addListener(GameFinishedEvent.class, this::onGameFinished);
+    events.bindTo(root);
+    statusLabel.setText(
+        "Game started. It's " + controller.getCurrentPlayer().getName() + "'s turn.");
+    refreshControls();
+    refreshNotes();
   }
 
   /**
@@ -172,10 +207,14 @@ public final class CluedoView implements GameObserver<GridPos> {
     return root;
   }
 
-  @Override
-  public void update(String message) {
-    statusLabel.setText(message);
-    boardView.highlightTile(controller.getCurrentPlayer().getPosition());
+  private void onGameEvent(GameEvent event) {
+    statusLabel.setText(event.describe());
+    refreshControls();
+  }
+
+  /** Highlights the current player's tile and enables the actions available to them. */
+  private void refreshControls() {
+    tileHighlighter.accept(controller.getCurrentPlayer().getPosition());
 
     if (controller.canNotAccuse() && controlPanel.getChildren().contains(submitAccusationButton)) {
       hideAccusationForm();
@@ -191,13 +230,10 @@ public final class CluedoView implements GameObserver<GridPos> {
       suggestButton.setDisable(controller.canNotSuggest());
       accuseButton.setDisable(controller.canNotAccuse());
     }
-
-    refreshNotes();
   }
 
-  @Override
-  public void gameFinished(Player<GridPos> winner) {
-    statusLabel.setText("Game Over! " + winner.getName() + " wins!");
+  private void onGameFinished(GameFinishedEvent event) {
+    statusLabel.setText(event.describe());
     // Disable game action buttons
     rollDiceButton.setDisable(true);
     suggestButton.setDisable(true);
@@ -0,0 +1,247 @@
+package edu.ntnu.idi.idatt.boardgame.games.snakesandladders.domain.board;
+
+import java.util.Arrays;
+
+/**
+ * A headless, allocation-free counterpart to {@link SnlBoard} intended for bulk simulation. Player
+ * positions are kept in a primitive {@code int[]} indexed by seat, and every snake and ladder is
+ * flattened into a jump table indexed by tile number. Moving a player never creates objects, never
+ * touches {@link SnlTile}s and never notifies observers.
+ *
+ * <p>The movement rules are identical to {@link SnlBoard#incrementPlayerPosition}: overshooting
+ * the last tile bounces the player back, and any chain of connectors starting at the landing tile
+ * is then followed.
+ * Instances are not thread-safe; simulations should use one board per worker thread.
+ */
+public final class HeadlessSnlBoard {
+
+  /** The 1-based starting tile for every seat. */
+  public static final int START_TILE = 1;
+
+  private final int boardSize;
+  /** {@code jumpTable[tile]} is where a player landing on {@code tile} ends up. */
+  private final int[] jumpTable;
+  /** Current 1-based tile of each seat. */
+  private final int[] positions;
+  /** Cached result of {@link #turnsToFinish(int, int)} for the step range below. */
+  private int[] turnsToFinish;
+  private int turnsToFinishMinStep;
+  private int turnsToFinishMaxStep;
+
+  /**
+   * Constructs a headless board with the same size and connectors as the given board.
+   *
+   * @param board The {@link SnlBoard} whose layout should be copied.
+   * @param numberOfSeats The number of players taking part. Must be at least 1.
+   * @throws IllegalArgumentException if numberOfSeats is less than 1.
+   */
+  public HeadlessSnlBoard(SnlBoard board, int numberOfSeats) {
+    if (numberOfSeats < 1) {
+      throw new IllegalArgumentException("Number of seats must be at least 1");
+    }
+    this.boardSize = board.getBoardSize();
+    this.jumpTable = new int[boardSize + 1];
+    for (int tile = 0; tile <= boardSize; tile++) {
+      jumpTable[tile] = tile;
+    }
+    board
+        .getConnectors()
+        .forEach(
+            connector ->
+                jumpTable[connector.getStart()] = board.finalDestination(connector.getStart()));
+    this.positions = new int[numberOfSeats];
+    reset();
+  }
+
+  private HeadlessSnlBoard(HeadlessSnlBoard template) {
+    this.boardSize = template.boardSize;
+    this.jumpTable = template.jumpTable;
+    this.positions = new int[template.positions.length];
+    reset();
+  }
+
+  /**
+   * Creates a new board with the same layout and number of seats, with every seat on the start
+   * tile. The jump table is shared, so copies are cheap to hand out to worker threads.
+   *
+   * @return A fresh board with the same layout.
+   */
+  public HeadlessSnlBoard copy() {
+    return new HeadlessSnlBoard(this);
+  }
+
+  /** Moves every seat back to the starting tile so the board can be reused for another game. */
+  public void reset() {
+    Arrays.fill(positions, START_TILE);
+  }
+
+  /**
+   * Moves a seat by the given number of steps, bouncing back on overshoot and applying any
+   * connector at the landing tile.
+   *
+   * @param seat The 0-based seat to move.
+   * @param increment The number of steps, typically a dice sum.
+   * @return The tile the seat ends up on.
+   */
+  public int move(int seat, int increment) {
+    int to = destination(positions[seat], increment);
+    positions[seat] = to;
+    return to;
+  }
+
+  /**
+   * Computes where a player standing on {@code from} ends up after moving {@code increment} steps,
+   * without changing any state.
+   *
+   * @param from The 1-based tile the player starts on.
+   * @param increment The number of steps to move.
+   * @return The resulting 1-based tile.
+   */
+  public int destination(int from, int increment) {
+    return jumpTable[bounce(from + increment)];
+  }
+
+  /**
+   * Clamps a raw target tile to the board before connectors are applied, bouncing back from the
+   * last tile on overshoot. Mirrors the rule used by {@link SnlBoard}.
+   *
+   * @param raw The unclamped target tile.
+   * @return The landing tile.
+   */
+  public int bounce(int raw) {
+    if (raw > boardSize) {
+      return boardSize - (raw - boardSize);
+    }
+    return Math.max(raw, START_TILE);
+  }
+
+  /**
+   * Follows the chain of connectors (if any) starting at the given tile.
+   *
+   * @param tile The 1-based landing tile.
+   * @return The tile a player landing on {@code tile} ends up on.
+   */
+  public int jump(int tile) {
+    return jumpTable[tile];
+  }
+
+  /**
+   * Computes, for every tile, the fewest turns a player standing there needs to reach the last
+   * tile when each turn moves between {@code minStep} and {@code maxStep} steps. The result is a
+   * lower bound on the turns left for that player whatever is rolled, so callers can tell how many
+   * turns can be played before anyone could possibly win. The table is cached for the last step
+   * range asked for.
+   *
+   * @param minStep The smallest number of steps a turn can move. Must be at least 1.
+   * @param maxStep The largest number of steps a turn can move. Must be at least {@code minStep}.
+   * @return The turns needed from each 1-based tile, indexed by tile, with 0 for the last tile and
+   *     {@link Integer#MAX_VALUE} for tiles from which the last tile cannot be reached. Callers
+   *     must not modify the array.
+   * @throws IllegalArgumentException if the step range is empty or not positive.
+   */
+  public int[] turnsToFinish(int minStep, int maxStep) {
+    if (minStep < 1 || maxStep < minStep) {
+      throw new IllegalArgumentException("Step range must be positive and not empty");
+    }
+    if (turnsToFinish != null
+        && turnsToFinishMinStep == minStep
+        && turnsToFinishMaxStep == maxStep) {
+      return turnsToFinish;
+    }
+
+    // Reverse the move graph into CSR form, then search backwards from the last tile.
+    int steps = maxStep - minStep + 1;
+    int[] offsets = new int[boardSize + 2];
+    for (int from = START_TILE; from < boardSize; from++) {
+      for (int step = minStep; step <= maxStep; step++) {
+        offsets[destination(from, step) + 1]++;
+      }
+    }
+    for (int tile = 1; tile < offsets.length; tile++) {
+      offsets[tile] += offsets[tile - 1];
+    }
+    int[] sources = new int[(boardSize - START_TILE) * steps];
+    int[] fill = Arrays.copyOf(offsets, boardSize + 1);
+    for (int from = START_TILE; from < boardSize; from++) {
+      for (int step = minStep; step <= maxStep; step++) {
+        sources[fill[destination(from, step)]++] = from;
+      }
+    }
+
+    int[] turns = new int[boardSize + 1];
+    Arrays.fill(turns, Integer.MAX_VALUE);
+    int[] queue = new int[boardSize];
+    int head = 0;
+    int tail = 0;
+    turns[boardSize] = 0;
+    queue[tail++] = boardSize;
+    while (head < tail) {
+      int tile = queue[head++];
+      for (int i = offsets[tile]; i < offsets[tile + 1]; i++) {
+        int from = sources[i];
+        if (turns[from] == Integer.MAX_VALUE) {
+          turns[from] = turns[tile] + 1;
+          queue[tail++] = from;
+        }
+      }
+    }
+
+    turnsToFinish = turns;
+    turnsToFinishMinStep = minStep;
+    turnsToFinishMaxStep = maxStep;
+    return turns;
+  }
+
+  /**
+   * Checks whether the given seat has reached the last tile.
+   *
+   * @param seat The 0-based seat.
+   * @return True if the seat is on the last tile, false otherwise.
+   */
+  public boolean hasWon(int seat) {
+    return positions[seat] == boardSize;
+  }
+
+  /**
+   * Gets the current tile of a seat.
+   *
+   * @param seat The 0-based seat.
+   * @return The 1-based tile the seat is on.
+   */
+  public int getPosition(int seat) {
+    return positions[seat];
+  }
+
+  /**
+   * Places a seat directly on a tile without applying connectors. Used to continue from an existing
+   * game state.
+   *
+   * @param seat The 0-based seat.
+   * @param tile The 1-based tile.
+   * @throws IllegalArgumentException if the tile is outside the board.
+   */
+  public void setPosition(int seat, int tile) {
+    if (tile < START_TILE || tile > boardSize) {
+      throw new IllegalArgumentException("Tile " + tile + " is outside the board");
+    }
+    positions[seat] = tile;
+  }
+
+  /**
+   * Gets the number of seats on this board.
+   *
+   * @return The number of seats.
+   */
+  public int getNumberOfSeats() {
+    return positions.length;
+  }
+
+  /**
+   * Gets the number of tiles on this board.
+   *
+   * @return The board size.
+   */
+  public int getBoardSize() {
+    return boardSize;
+  }
+}
@@ -1,76 +1,100 @@
 package edu.ntnu.idi.idatt.boardgame.games.snakesandladders.domain.board;
 
+import edu.ntnu.idi.idatt.boardgame.core.domain.board.BoardChangeTracker;
 import edu.ntnu.idi.idatt.boardgame.core.domain.board.GameBoard;
 import edu.ntnu.idi.idatt.boardgame.core.domain.player.LinearPos;
 import edu.ntnu.idi.idatt.boardgame.core.domain.player.Player;
-import java.util.Collections;
+import edu.ntnu.idi.idatt.boardgame.core.engine.event.BoardObserver;
+import edu.ntnu.idi.idatt.boardgame.core.exception.InvalidBoardException;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
 import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
-import java.util.stream.IntStream;
+import java.util.NoSuchElementException;
+import java.util.Set;
 
 /**
  * Represents the game board for Snakes and Ladders. It defines the grid of tiles, and the placement
- * of snakes and ladders.
+ * of snakes and ladders. The layout is taken from a {@link SnlBoardDefinition}.
+ *
+ * <p>Tiles are kept in fixed-size pages indexed by position and are only created when first
+ * needed, so a board with millions of tiles costs memory proportional to its connectors and the
+ * tiles actually in use.
+ *
+ * <p>Chains of connectors (a snake ending at the foot of a ladder, for example) are resolved once
+ * at construction into a sorted table of connector starts and final landing tiles. Layouts whose
+ * connectors form a cycle are rejected.
+ *
+ * <p>Each move runs in a board transaction, so a move that follows a snake or ladder reports every
+ * tile it touched once, after the player has come to rest. Board observers should identify the
+ * changed tiles by position, because a tile emptied by the move may already have been released.
  */
 public final class SnlBoard implements GameBoard<LinearPos> {
 
-  private static final int ROWS = 10;
-  private static final int COLS = 9;
+  /** Number of tiles per page in {@link #tilePages}. */
+  private static final int PAGE_SIZE = 1 << 10;
+
+  private final int rows;
+  private final int cols;
 
   /** Total number of tiles on the board. */
-  private static final int BOARD_SIZE = ROWS * COLS;
-  // Standard snake positions: key = start (head), value = length (downwards)
-  private static final Map<Integer, Integer> SNAKES =
-      Map.of(
-          30, 14, // 30 -> 16
-          34, 7, // 34 -> 27
-          47, 7, // 47 -> 40
-          54, 35, // 54 -> 19
-          65, 5, // 65 -> 60
-          87, 31 // 87 -> 56
-          );
-  // Standard ladder positions: key = start (bottom), value = length (upwards)
-  private static final Map<Integer, Integer> LADDERS =
-      Map.of(
-          8, 6, // 8  -> 14
-          21, 10, // 21 -> 31
-          33, 5, // 33 -> 38
-          48, 7, // 48 -> 55
-          61, 8, // 61 -> 69
-          70, 9, // 70 -> 79
-          81, 2 // 81 -> 83
-          );
-  /** Map of tile position number to {@link SnlTile} object. */
-  private final Map<Integer, SnlTile> tiles = new HashMap<>();
+  private final int boardSize;
+  /** Tiles indexed by 0-based position, split into lazily allocated pages. */
+  private final SnlTile[][] tilePages;
   /** Map of tile position number (start of connector) to {@link Connector} object. */
   private final Map<Integer, Connector> connectors = new HashMap<>();
+  /** Which players stand where, kept in step with every move made through this board. */
+  private final SnlOccupancyIndex occupancy = new SnlOccupancyIndex();
+  /** Sorted start tiles of all connectors. */
+  private final int[] connectorStarts;
+  /** {@code finalDestinations[i]} is where a player landing on {@code connectorStarts[i]} ends. */
+  private final int[] finalDestinations;
+  /** Collects tile changes during transactions. */
+  private final BoardChangeTracker<LinearPos> changeTracker = new BoardChangeTracker<>();
 
-  /** Constructs the Snakes and Ladders board, initializing tiles, snakes, and ladders. */
+  /** Constructs the standard Snakes and Ladders board. */
   public SnlBoard() {
-    initializeTiles();
-    addSnakesAndLadders();
+    this(SnlBoardDefinition.standard());
   }
 
-  private void initializeTiles() {
-    IntStream.rangeClosed(1, BOARD_SIZE).forEach(pos -> tiles.put(pos, new SnlTile(pos)));
+  /**
+   * Constructs a Snakes and Ladders board with the given layout.
+   *
+   * @param definition The dimensions and connectors of the board.
+   * @throws InvalidBoardException if the connectors form a cycle.
+   */
+  public SnlBoard(SnlBoardDefinition definition) {
+    this.rows = definition.rows();
+    this.cols = definition.cols();
+    this.boardSize = definition.boardSize();
+    this.tilePages = new SnlTile[(boardSize + PAGE_SIZE - 1) / PAGE_SIZE][];
+    addSnakesAndLadders(definition);
+    this.connectorStarts =
+        connectors.keySet().stream().mapToInt(Integer::intValue).sorted().toArray();
+    this.finalDestinations = resolveConnectorChains();
   }
 
   @Override
   public void addPlayersToStart(Map<Integer, Player<LinearPos>> players) {
-    players
-        .values()
-        .forEach(
-            player -> {
-              player.setPosition(new LinearPos(1));
-              tiles.get(1).addPlayer(player);
-            });
+    runInTransaction(
+        () ->
+            players
+                .values()
+                .forEach(
+                    player -> {
+                      player.setPosition(new LinearPos(1));
+                      getTile(1).addPlayer(player);
+                      occupancy.place(player, 1);
+                    }));
   }
 
   /**
    * Increments the player's position by a given amount (e.g., dice roll). Handles bouncing back if
-   * the player overshoots the last tile. After moving, it applies any connector (snake or ladder)
-   * at the new position.
+   * the player overshoots the last tile. After moving, it follows any connectors (snakes or
+   * ladders) starting at the new position, including chained ones.
    *
    * @param player The player to move.
    * @param increment The number of steps to increment the position by.
@@ -78,64 +102,197 @@ public final class SnlBoard implements GameBoard<LinearPos> {
   public void incrementPlayerPosition(Player<LinearPos> player, int increment) {
     int from = player.getPosition().index();
     int to = computeDestination(from + increment);
-    movePlayer(player, from, to);
-    applyConnector(player);
+    beginTransaction();
+    try {
+      movePlayer(player, from, to);
+      applyConnector(player);
+    } finally {
+      commitTransaction();
+    }
   }
 
   @Override
   public void setPlayerPosition(Player<LinearPos> player, LinearPos pos) {
-    movePlayer(player, player.getPosition().index(), pos.index());
+    beginTransaction();
+    try {
+      movePlayer(player, player.getPosition().index(), pos.index());
+    } finally {
+      commitTransaction();
+    }
+  }
+
+  @Override
+  public void beginTransaction() {
+    changeTracker.begin();
+  }
+
+  @Override
+  public void commitTransaction() {
+    changeTracker.commit();
+  }
+
+  @Override
+  public void addBoardObserver(BoardObserver<LinearPos> observer) {
+    changeTracker.addObserver(observer);
+  }
+
+  @Override
+  public void removeBoardObserver(BoardObserver<LinearPos> observer) {
+    changeTracker.removeObserver(observer);
   }
 
   @Override
   public int getBoardSize() {
-    return BOARD_SIZE;
+    return boardSize;
   }
 
   private int computeDestination(int raw) {
-    if (raw > BOARD_SIZE) {
-      return BOARD_SIZE - (raw - BOARD_SIZE); // bounce back
+    if (raw > boardSize) {
+      return boardSize - (raw - boardSize); // bounce back
     }
     return Math.max(raw, 1);
   }
 
   private void movePlayer(Player<LinearPos> player, int from, int to) {
-    tiles.get(from).removePlayer(player);
+    SnlTile fromTile = findTile(from);
+    if (fromTile != null) {
+      fromTile.removePlayer(player);
+      if (fromTile.isUnused()) {
+        releaseTile(from);
+      }
+    }
     player.setPosition(new LinearPos(to));
-    tiles.get(to).addPlayer(player);
+    getTile(to).addPlayer(player);
+    occupancy.place(player, to);
+  }
+
+  /** Drops an empty, unobserved tile so that only tiles in use are kept alive. */
+  private void releaseTile(int position) {
+    tilePages[(position - 1) / PAGE_SIZE][(position - 1) % PAGE_SIZE] = null;
   }
 
   private void applyConnector(Player<LinearPos> player) {
     int pos = player.getPosition().index();
-    Connector c = connectors.get(pos);
-    if (c == null) {
-      return;
+    int end = finalDestination(pos);
+    if (end != pos) {
+      movePlayer(player, pos, end);
+    }
+  }
+
+  /**
+   * Gets the tile a player landing on the given tile finally ends up on after following every
+   * connector in the chain starting there.
+   *
+   * @param tile The 1-based landing tile.
+   * @return The final tile, or {@code tile} itself if no connector starts there.
+   */
+  public int finalDestination(int tile) {
+    int index = Arrays.binarySearch(connectorStarts, tile);
+    return index < 0 ? tile : finalDestinations[index];
+  }
+
+  /**
+   * Follows each connector until a tile without a connector is reached, memoising results along
+   * the way. A connector reached again while its own chain is being resolved means a cycle.
+   */
+  private int[] resolveConnectorChains() {
+    int[] resolved = new int[connectorStarts.length];
+    boolean[] inProgress = new boolean[connectorStarts.length];
+    int[] path = new int[connectorStarts.length];
+    for (int i = 0; i < connectorStarts.length; i++) {
+      int length = 0;
+      int current = i;
+      while (current >= 0 && resolved[current] == 0) {
+        if (inProgress[current]) {
+          throw new InvalidBoardException(
+              "Connectors starting at tile " + connectorStarts[current] + " form a cycle");
+        }
+        inProgress[current] = true;
+        path[length++] = current;
+        int end = computeDestination(connectors.get(connectorStarts[current]).getEnd());
+        current = Arrays.binarySearch(connectorStarts, end);
+        if (current < 0) {
+          resolved[path[length - 1]] = end;
+        }
+      }
+      int destination = resolved[current >= 0 ? current : path[length - 1]];
+      for (int j = 0; j < length; j++) {
+        resolved[path[j]] = destination;
+        inProgress[path[j]] = false;
+      }
+    }
+    return resolved;
+  }
+
+  private void addSnakesAndLadders(SnlBoardDefinition definition) {
+    definition.snakes().forEach((start, length) -> addConnector(new Snake(start, length)));
+    definition.ladders().forEach((start, length) -> addConnector(new Ladder(start, length)));
+  }
+
+  private void addConnector(Connector connector) {
+    connectors.put(connector.getStart(), connector);
+  }
+
+  /**
+   * Gets the tile at the given position, creating it if it does not exist yet.
+   *
+   * @param position The 1-based tile position.
+   * @return The {@link SnlTile} at the position.
+   * @throws IllegalArgumentException if the position is outside the board.
+   */
+  public SnlTile getTile(int position) {
+    if (position < 1 || position > boardSize) {
+      throw new IllegalArgumentException("Tile " + position + " is outside the board");
+    }
+    int index = position - 1;
+    SnlTile[] page = tilePages[index / PAGE_SIZE];
+    if (page == null) {
+      page = new SnlTile[PAGE_SIZE];
+      tilePages[index / PAGE_SIZE] = page;
     }
-    movePlayer(player, pos, computeDestination(c.getEnd()));
+    SnlTile tile = page[index % PAGE_SIZE];
+    if (tile == null) {
+      tile = new SnlTile(position, changeTracker);
+      page[index % PAGE_SIZE] = tile;
+    }
+    return tile;
   }
 
-  private void addSnakesAndLadders() {
-    SNAKES.forEach(
-        (start, length) -> {
-          Connector snake = new Snake(start, length);
-          connectors.put(start, snake);
-        });
+  /**
+   * Gets the tile at the given position only if it has already been created.
+   *
+   * @param position The 1-based tile position.
+   * @return The {@link SnlTile}, or null if the position is outside the board or the tile has not
+   *     been created.
+   */
+  private SnlTile findTile(int position) {
+    if (position < 1 || position > boardSize) {
+      return null;
+    }
+    SnlTile[] page = tilePages[(position - 1) / PAGE_SIZE];
+    return page == null ? null : page[(position - 1) % PAGE_SIZE];
+  }
 
-    LADDERS.forEach(
-        (start, length) -> {
-          Connector ladder = new Ladder(start, length);
-          connectors.put(start, ladder);
-        });
+  /**
+   * Gets the occupancy index of this board, which answers which players stand on a tile, which
+   * tile a player stands on and which tiles are occupied. It reflects all moves made through the
+   * board's own methods.
+   *
+   * @return The occupancy index.
+   */
+  public SnlOccupancyIndex getOccupancy() {
+    return occupancy;
   }
 
   /**
-   * Gets an unmodifiable map of all tiles on the board. The key is the 1-based tile position, and
-   * the value is the {@link SnlTile}.
+   * Gets an unmodifiable map view of all tiles on the board. The key is the 1-based tile position,
+   * and the value is the {@link SnlTile}. Looking up or iterating over tiles creates them on
+   * demand, so prefer {@link #getTile(int)} on large boards.
    *
    * @return An unmodifiable map of tiles.
    */
   public Map<Integer, SnlTile> getTiles() {
-    return Collections.unmodifiableMap(tiles);
+    return new TileMapView();
   }
 
   /**
@@ -153,7 +310,7 @@ public final class SnlBoard implements GameBoard<LinearPos> {
    * @return The number of rows.
    */
   public int getRows() {
-    return ROWS;
+    return rows;
   }
 
   /**
@@ -162,6 +319,56 @@ public final class SnlBoard implements GameBoard<LinearPos> {
    * @return The number of columns.
    */
   public int getCols() {
-    return COLS;
+    return cols;
+  }
+
+  /** Read-only map over every tile position, backed by {@link #getTile(int)}. */
+  private final class TileMapView extends AbstractMap<Integer, SnlTile> {
+
+    @Override
+    public int size() {
+      return boardSize;
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+      return key instanceof Integer position && position >= 1 && position <= boardSize;
+    }
+
+    @Override
+    public SnlTile get(Object key) {
+      return containsKey(key) ? getTile((Integer) key) : null;
+    }
+
+    @Override
+    public Set<Entry<Integer, SnlTile>> entrySet() {
+      return new AbstractSet<>() {
+        @Override
+        public int size() {
+          return boardSize;
+        }
+
+        @Override
+        public Iterator<Entry<Integer, SnlTile>> iterator() {
+          return new Iterator<>() {
+            private int next = 1;
+
+            @Override
+            public boolean hasNext() {
+              return next <= boardSize;
+            }
+
+            @Override
+            public Entry<Integer, SnlTile> next() {
+              if (!hasNext()) {
+                throw new NoSuchElementException();
+              }
+              int position = next++;
+              return new SimpleImmutableEntry<>(position, getTile(position));
+            }
+          };
+        }
+      };
+    }
   }
 }
@@ -0,0 +1,117 @@
+package edu.ntnu.idi.idatt.boardgame.games.snakesandladders.domain.board;
+
+import edu.ntnu.idi.idatt.boardgame.core.exception.InvalidBoardException;
+import java.util.Map;
+
+/**
+ * Describes the layout of a Snakes and Ladders board: its dimensions and where the snakes and
+ * ladders are. Snakes are keyed by their head and ladders by their bottom; the value is the number
+ * of tiles the connector moves a player.
+ *
+ * @param rows The number of rows on the board.
+ * @param cols The number of columns on the board.
+ * @param snakes Map of snake head tile to length (downwards).
+ * @param ladders Map of ladder bottom tile to length (upwards).
+ */
+public record SnlBoardDefinition(
+    int rows, int cols, Map<Integer, Integer> snakes, Map<Integer, Integer> ladders) {
+
+  /** The largest number of tiles a board may have. */
+  public static final int MAX_BOARD_SIZE = Integer.MAX_VALUE - 8;
+
+  private static final SnlBoardDefinition STANDARD =
+      new SnlBoardDefinition(
+          10,
+          9,
+          // Standard snake positions: key = start (head), value = length (downwards)
+          Map.of(
+              30, 14, // 30 -> 16
+              34, 7, // 34 -> 27
+              47, 7, // 47 -> 40
+              54, 35, // 54 -> 19
+              65, 5, // 65 -> 60
+              87, 31 // 87 -> 56
+              ),
+          // Standard ladder positions: key = start (bottom), value = length (upwards)
+          Map.of(
+              8, 6, // 8  -> 14
+              21, 10, // 21 -> 31
+              33, 5, // 33 -> 38
+              48, 7, // 48 -> 55
+              61, 8, // 61 -> 69
+              70, 9, // 70 -> 79
+              81, 2 // 81 -> 83
+              ));
+
+  /**
+   * Validates the definition and takes immutable copies of the connector maps.
+   *
+   * @throws InvalidBoardException if the dimensions are not positive or too large, or a connector
+   *     does not fit on the board.
+   */
+  public SnlBoardDefinition {
+    if (rows < 1 || cols < 1) {
+      throw new InvalidBoardException("Board must have at least one row and one column");
+    }
+    if ((long) rows * cols > MAX_BOARD_SIZE) {
+      throw new InvalidBoardException("Board with " + rows + "x" + cols + " tiles is too large");
+    }
+    snakes = copyConnectors("Snake", snakes);
+    ladders = copyConnectors("Ladder", ladders);
+
+    int size = rows * cols;
+    snakes.forEach((start, length) -> checkConnector("Snake", start, length, -1, size));
+    ladders.forEach((start, length) -> checkConnector("Ladder", start, length, 1, size));
+    for (Integer start : snakes.keySet()) {
+      if (ladders.containsKey(start)) {
+        throw new InvalidBoardException("Tile " + start + " has both a snake and a ladder");
+      }
+    }
+  }
+
+  /**
+   * Gets the layout of the standard 10x9 board.
+   *
+   * @return The standard board definition.
+   */
+  public static SnlBoardDefinition standard() {
+    return STANDARD;
+  }
+
+  /**
+   * Gets the total number of tiles on the board.
+   *
+   * @return The number of rows times the number of columns.
+   */
+  public int boardSize() {
+    return rows * cols;
+  }
+
+  private static Map<Integer, Integer> copyConnectors(String type, Map<Integer, Integer> lengths) {
+    if (lengths == null) {
+      return Map.of();
+    }
+    lengths.forEach(
+        (start, length) -> {
+          if (start == null || length == null) {
+            throw new InvalidBoardException(type + " entry is missing its start or length");
+          }
+        });
+    return Map.copyOf(lengths);
+  }
+
+  private static void checkConnector(String type, int start, int length, int direction, int size) {
+    if (start <= 1 || start >= size) {
+      throw new InvalidBoardException(
+          type + " at tile " + start + " must start between the first and last tile");
+    }
+    if (length <= 0) {
+      throw new InvalidBoardException(type + " at tile " + start + " must have a positive length");
+    }
+    long end = start + (long) direction * length;
+    if (end < 1 || end > size) {
+      throw new InvalidBoardException(
+          type + " at tile " + start + " ends at " + end + ", outside the board");
+    }
+  }
+}
@@ -0,0 +1,146 @@
+package edu.ntnu.idi.idatt.boardgame.games.snakesandladders.domain.board;
+
+import edu.ntnu.idi.idatt.boardgame.core.domain.player.LinearPos;
+import edu.ntnu.idi.idatt.boardgame.core.domain.player.Player;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Index of which players stand on which tiles of an {@link SnlBoard}. Each occupied tile has a
+ * bitset of player ids, a reverse array maps player ids to tiles, and a board-wide bitset marks the
+ * occupied tiles so callers can skip straight to them.
+ *
+ * <p>Only occupied tiles have a bitset of player ids, so those grow with the number of players.
+ * The board-wide bitset costs one bit per tile up to the highest occupied tile, which is 16 bytes
+ * for a 10x10 board. The index is maintained by the board; callers can only read it.
+ */
+public final class SnlOccupancyIndex {
+
+  /** Returned by lookups when there is no tile to report. */
+  public static final int NO_TILE = -1;
+
+  /** Player id bits for every occupied tile. */
+  private final Map<Integer, BitSet> playersByTile = new HashMap<>();
+  /** Bit {@code t} is set when tile {@code t} holds at least one player. */
+  private final BitSet occupiedTiles = new BitSet();
+  /** {@code tileByPlayer[id]} is the tile of the player with that id, or 0 if not on the board. */
+  private int[] tileByPlayer = new int[8];
+  /** Players indexed by id, so bitsets can be turned back into players. */
+  private final List<Player<LinearPos>> playersById = new ArrayList<>();
+
+  SnlOccupancyIndex() {}
+
+  /**
+   * Records that the player now stands on the given tile, removing them from any previous tile.
+   *
+   * @param player The player.
+   * @param tile The 1-based tile.
+   */
+  void place(Player<LinearPos> player, int tile) {
+    int id = player.getId();
+    if (id < 0) {
+      throw new IllegalArgumentException("Player id cannot be negative");
+    }
+    remove(id);
+    if (id >= tileByPlayer.length) {
+      tileByPlayer = Arrays.copyOf(tileByPlayer, Math.max(id + 1, tileByPlayer.length * 2));
+    }
+    while (playersById.size() <= id) {
+      playersById.add(null);
+    }
+    playersById.set(id, player);
+    tileByPlayer[id] = tile;
+    playersByTile.computeIfAbsent(tile, t -> new BitSet()).set(id);
+    occupiedTiles.set(tile);
+  }
+
+  private void remove(int id) {
+    if (id >= tileByPlayer.length || tileByPlayer[id] == 0) {
+      return;
+    }
+    int tile = tileByPlayer[id];
+    tileByPlayer[id] = 0;
+    BitSet ids = playersByTile.get(tile);
+    ids.clear(id);
+    if (ids.isEmpty()) {
+      playersByTile.remove(tile);
+      occupiedTiles.clear(tile);
+    }
+  }
+
+  /**
+   * Gets the tile of the player with the given id.
+   *
+   * @param playerId The player id.
+   * @return The 1-based tile, or {@link #NO_TILE} if the player is not on the board.
+   */
+  public int tileOf(int playerId) {
+    if (playerId < 0 || playerId >= tileByPlayer.length || tileByPlayer[playerId] == 0) {
+      return NO_TILE;
+    }
+    return tileByPlayer[playerId];
+  }
+
+  /**
+   * Checks whether any player stands on the given tile.
+   *
+   * @param tile The 1-based tile.
+   * @return True if the tile is occupied, false otherwise.
+   */
+  public boolean isOccupied(int tile) {
+    return tile >= 0 && occupiedTiles.get(tile);
+  }
+
+  /**
+   * Gets the number of players standing on the given tile.
+   *
+   * @param tile The 1-based tile.
+   * @return The number of players on the tile.
+   */
+  public int countOn(int tile) {
+    BitSet ids = playersByTile.get(tile);
+    return ids == null ? 0 : ids.cardinality();
+  }
+
+  /**
+   * Gets the players standing on the given tile, ordered by id.
+   *
+   * @param tile The 1-based tile.
+   * @return A new list of the players on the tile.
+   */
+  public List<Player<LinearPos>> playersOn(int tile) {
+    BitSet ids = playersByTile.get(tile);
+    if (ids == null) {
+      return List.of();
+    }
+    List<Player<LinearPos>> result = new ArrayList<>(ids.cardinality());
+    for (int id = ids.nextSetBit(0); id >= 0; id = ids.nextSetBit(id + 1)) {
+      result.add(playersById.get(id));
+    }
+    return result;
+  }
+
+  /**
+   * Finds the first occupied tile at or after the given tile. Iterating with this method visits
+   * only occupied tiles.
+   *
+   * @param fromTile The 1-based tile to start searching from.
+   * @return The next occupied tile, or {@link #NO_TILE} if there is none.
+   */
+  public int nextOccupiedTile(int fromTile) {
+    return occupiedTiles.nextSetBit(Math.max(fromTile, 0));
+  }
+
+  /**
+   * Gets the number of tiles that hold at least one player.
+   *
+   * @return The number of occupied tiles.
+   */
+  public int occupiedTileCount() {
+    return playersByTile.size();
+  }
+}
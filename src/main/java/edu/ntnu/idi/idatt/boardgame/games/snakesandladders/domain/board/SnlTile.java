@@ -1,5 +1,6 @@
 package edu.ntnu.idi.idatt.boardgame.games.snakesandladders.domain.board;
 
+import edu.ntnu.idi.idatt.boardgame.core.domain.board.BoardChangeTracker;
 import edu.ntnu.idi.idatt.boardgame.core.domain.board.Tile;
 import edu.ntnu.idi.idatt.boardgame.core.domain.player.LinearPos;
 import edu.ntnu.idi.idatt.boardgame.core.domain.player.Player;
@@ -18,6 +19,10 @@ public final class SnlTile implements Tile<LinearPos> {
    * List of players currently occupying this tile.
    */
   private final List<Player<LinearPos>> players;
+  /**
+   * Read-only view of {@link #players}, created once and handed out by {@link #getPlayers()}.
+   */
+  private final List<Player<LinearPos>> playersView;
   /**
    * The 1-based position number of this tile on the board.
    */
@@ -25,6 +30,8 @@ public final class SnlTile implements Tile<LinearPos> {
 
   /** List of observers monitoring this tile. */
   private final List<TileObserver<LinearPos>> observers = new ArrayList<>();
+  /** The board's change tracker, or null if changes are reported immediately. */
+  private final BoardChangeTracker<LinearPos> changeTracker;
 
   /**
    * Constructs an SnLTile with a given position number.
@@ -32,8 +39,20 @@ public final class SnlTile implements Tile<LinearPos> {
    * @param position The 1-based position of this tile on the board.
    */
   public SnlTile(int position) {
+    this(position, null);
+  }
+
+  /**
+   * Constructs an SnlTile that reports its changes to a board's change tracker.
+   *
+   * @param position The 1-based position of this tile on the board.
+   * @param changeTracker The tracker, or null to notify observers immediately.
+   */
+  SnlTile(int position, BoardChangeTracker<LinearPos> changeTracker) {
     this.position = position;
     this.players = new ArrayList<>();
+    this.playersView = Collections.unmodifiableList(players);
+    this.changeTracker = changeTracker;
   }
 
   @Override
@@ -69,9 +88,18 @@ public final class SnlTile implements Tile<LinearPos> {
   }
 
   /**
-   * Notifies all registered observers that this tile has changed.
+   * Notifies all registered observers that this tile has changed, or leaves that to the board if
+   * a transaction is open.
    */
   private void notifyObservers() {
+    if (changeTracker != null) {
+      changeTracker.tileChanged(this, this::notifyObserversNow);
+    } else {
+      notifyObserversNow();
+    }
+  }
+
+  private void notifyObserversNow() {
     observers.forEach(observer -> observer.onTileChanged(this));
   }
 
@@ -84,12 +112,22 @@ public final class SnlTile implements Tile<LinearPos> {
     return position;
   }
 
+  /**
+   * Checks whether the tile holds no players and has no observers, meaning the board may discard
+   * it and recreate it later.
+   *
+   * @return True if the tile is empty and unobserved, false otherwise.
+   */
+  boolean isUnused() {
+    return players.isEmpty() && observers.isEmpty();
+  }
+
   /**
    * Gets an unmodifiable list of players currently on this tile.
    *
    * @return An unmodifiable list of players.
    */
   public List<Player<LinearPos>> getPlayers() {
-    return Collections.unmodifiableList(players);
+    return playersView;
   }
 }
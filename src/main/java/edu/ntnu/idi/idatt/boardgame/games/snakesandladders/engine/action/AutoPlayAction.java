@@ -0,0 +1,148 @@
+package edu.ntnu.idi.idatt.boardgame.games.snakesandladders.engine.action;
+
+import edu.ntnu.idi.idatt.boardgame.core.domain.dice.Dice;
+import edu.ntnu.idi.idatt.boardgame.core.domain.player.LinearPos;
+import edu.ntnu.idi.idatt.boardgame.core.domain.player.Player;
+import edu.ntnu.idi.idatt.boardgame.core.engine.action.Action;
+import edu.ntnu.idi.idatt.boardgame.games.snakesandladders.domain.board.HeadlessSnlBoard;
+import edu.ntnu.idi.idatt.boardgame.games.snakesandladders.domain.board.SnlBoard;
+import java.util.List;
+
+/**
+ * Represents playing several turns in a row without per-move notifications. The turns are played
+ * on a {@link HeadlessSnlBoard}, and only each player's net position is written back to the
+ * {@link SnlBoard} when all turns are done, in one board transaction.
+ *
+ * <p>Rolls are drawn in batches, but a batch never reaches past the first turn on which someone
+ * could win, so the dice draw exactly the rolls that are played. A seeded game therefore continues
+ * after autoplay, or after a save and load, exactly as if every turn had been rolled by hand.
+ */
+public final class AutoPlayAction implements Action {
+
+  /** Maximum number of dice sums drawn per bulk roll. */
+  private static final int ROLL_BUFFER_SIZE = 1_024;
+
+  private final SnlBoard gameBoard;
+  private final HeadlessSnlBoard headless;
+  private final List<Player<LinearPos>> seats;
+  private final Dice dice;
+  private final int maxTurns;
+
+  private int seat;
+  private int turnsPlayed;
+  private Player<LinearPos> winner;
+
+  /**
+   * Constructs an AutoPlayAction.
+   *
+   * @param gameBoard The {@link SnlBoard} whose players are moved.
+   * @param headless  A {@link HeadlessSnlBoard} with the same layout and one seat per player.
+   * @param seats     The players in turn order.
+   * @param firstSeat The index in {@code seats} of the player who moves first.
+   * @param dice      The {@link Dice} to be rolled.
+   * @param maxTurns  The largest number of turns to play.
+   */
+  public AutoPlayAction(
+      SnlBoard gameBoard,
+      HeadlessSnlBoard headless,
+      List<Player<LinearPos>> seats,
+      int firstSeat,
+      Dice dice,
+      int maxTurns) {
+    if (headless.getNumberOfSeats() != seats.size()) {
+      throw new IllegalArgumentException("Headless board must have one seat per player");
+    }
+    this.gameBoard = gameBoard;
+    this.headless = headless;
+    this.seats = seats;
+    this.seat = firstSeat;
+    this.dice = dice;
+    this.maxTurns = maxTurns;
+  }
+
+  /**
+   * Plays turns until a player reaches the last tile or the turn limit is hit, then moves every
+   * player whose position changed to their new tile.
+   */
+  @Override
+  public void execute() {
+    for (int i = 0; i < seats.size(); i++) {
+      headless.setPosition(i, seats.get(i).getPosition().index());
+    }
+
+    int[] turnsToFinish =
+        headless.turnsToFinish(
+            dice.getSumDistribution().getMinSum(), dice.getSumDistribution().getMaxSum());
+    int[] rolls = new int[Math.max(1, Math.min(maxTurns, ROLL_BUFFER_SIZE))];
+    int nextRoll = 0;
+    int rolled = 0;
+    while (turnsPlayed < maxTurns) {
+      if (nextRoll == rolled) {
+        long wanted = Math.min(safeTurns(turnsToFinish), maxTurns - turnsPlayed);
+        rolled = (int) Math.max(1, Math.min(wanted, rolls.length));
+        dice.roll(rolls, rolled);
+        nextRoll = 0;
+      }
+      headless.move(seat, rolls[nextRoll++]);
+      turnsPlayed++;
+      if (headless.hasWon(seat)) {
+        winner = seats.get(seat);
+        break;
+      }
+      seat = seat + 1 == seats.size() ? 0 : seat + 1;
+    }
+
+    gameBoard.runInTransaction(
+        () -> {
+          for (int i = 0; i < seats.size(); i++) {
+            Player<LinearPos> player = seats.get(i);
+            int position = headless.getPosition(i);
+            if (player.getPosition().index() != position) {
+              gameBoard.setPlayerPosition(player, new LinearPos(position));
+            }
+          }
+        });
+  }
+
+  /**
+   * Counts the turns that can be played from the current seat before, and including, the first
+   * turn on which any player could reach the last tile.
+   */
+  private long safeTurns(int[] turnsToFinish) {
+    long safe = Long.MAX_VALUE;
+    for (int offset = 0; offset < seats.size(); offset++) {
+      int turns = turnsToFinish[headless.getPosition((seat + offset) % seats.size())];
+      if (turns != Integer.MAX_VALUE) {
+        safe = Math.min(safe, offset + (long) (turns - 1) * seats.size() + 1);
+      }
+    }
+    return safe;
+  }
+
+  /**
+   * Gets the number of turns played by the last {@link #execute()}.
+   *
+   * @return The number of turns played.
+   */
+  public int getTurnsPlayed() {
+    return turnsPlayed;
+  }
+
+  /**
+   * Gets the player who reached the last tile, if any.
+   *
+   * @return The winner, or null if the turn limit was reached first.
+   */
+  public Player<LinearPos> getWinner() {
+    return winner;
+  }
+
+  /**
+   * Gets the seat whose turn it is after autoplay, or the winner's seat if the game ended.
+   *
+   * @return The index in the seat list.
+   */
+  public int getCurrentSeat() {
+    return seat;
+  }
+}
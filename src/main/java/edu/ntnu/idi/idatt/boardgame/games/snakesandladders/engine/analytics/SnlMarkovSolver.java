@@ -0,0 +1,314 @@
+package edu.ntnu.idi.idatt.boardgame.games.snakesandladders.engine.analytics;
+
+import edu.ntnu.idi.idatt.boardgame.core.domain.dice.SumDistribution;
+import edu.ntnu.idi.idatt.boardgame.games.snakesandladders.domain.board.HeadlessSnlBoard;
+import edu.ntnu.idi.idatt.boardgame.games.snakesandladders.domain.board.SnlBoard;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Exact analysis of a single player's progress on a Snakes and Ladders board, modelled as an
+ * absorbing Markov chain. Every tile is a state, the last tile is absorbing, and a transition is
+ * one roll of two six-sided dice followed by the bounce-back rule and any connector, exactly as in
+ * {@link SnlBoard#incrementPlayerPosition}.
+ *
+ * <p>Each tile can reach at most eleven other tiles in one turn, so the transition matrix is stored
+ * in compressed sparse row form and all computations are sparse iterations over it. Solvers for
+ * the most recently used layouts are cached; use {@link #forBoard(SnlBoard)} to get one.
+ */
+public final class SnlMarkovSolver {
+
+  private static final int NUMBER_OF_DICE = 2;
+  /** Convergence threshold for the expected-turn iteration. */
+  private static final double TOLERANCE = 1e-12;
+  private static final int MAX_ITERATIONS = 1_000_000;
+
+  /** Number of layouts whose solvers are kept. */
+  private static final int CACHE_SIZE = 16;
+
+  private static final Map<Layout, SnlMarkovSolver> CACHE =
+      new LinkedHashMap<>(CACHE_SIZE, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Layout, SnlMarkovSolver> eldest) {
+          return size() > CACHE_SIZE;
+        }
+      };
+
+  private final int boardSize;
+  /** Row {@code t} of the matrix spans {@code rowStart[t]} to {@code rowStart[t + 1]}. */
+  private final int[] rowStart;
+  private final int[] columns;
+  private final double[] probabilities;
+
+  private double[] expectedTurns;
+  /** {@code finishProbabilities[k]} is the probability of finishing on exactly turn {@code k}. */
+  private double[] finishProbabilities = new double[] {0};
+  /** Probability mass over unfinished tiles after {@code finishProbabilities.length - 1} turns. */
+  private double[] frontier;
+
+  private SnlMarkovSolver(Layout layout) {
+    int[] jumpTable = layout.jumpTable();
+    this.boardSize = jumpTable.length - 1;
+    double[] rollProbabilities = SumDistribution.of(NUMBER_OF_DICE).getProbabilities();
+
+    this.rowStart = new int[boardSize + 2];
+    int[] cols = new int[boardSize * rollProbabilities.length];
+    double[] probs = new double[cols.length];
+    double[] row = new double[boardSize + 1];
+    int nonZeros = 0;
+    for (int tile = 0; tile <= boardSize; tile++) {
+      rowStart[tile] = nonZeros;
+      if (tile < HeadlessSnlBoard.START_TILE || tile == boardSize) {
+        continue;
+      }
+      for (int roll = 0; roll < rollProbabilities.length; roll++) {
+        if (rollProbabilities[roll] > 0) {
+          row[jumpTable[bounce(tile + roll)]] += rollProbabilities[roll];
+        }
+      }
+      for (int target = HeadlessSnlBoard.START_TILE; target <= boardSize; target++) {
+        if (row[target] > 0) {
+          cols[nonZeros] = target;
+          probs[nonZeros] = row[target];
+          nonZeros++;
+          row[target] = 0;
+        }
+      }
+    }
+    rowStart[boardSize + 1] = nonZeros;
+    this.columns = Arrays.copyOf(cols, nonZeros);
+    this.probabilities = Arrays.copyOf(probs, nonZeros);
+
+    this.frontier = new double[boardSize + 1];
+    frontier[HeadlessSnlBoard.START_TILE] = 1;
+  }
+
+  /**
+   * Gets the solver for the layout of the given board, creating it on first use. Boards with the
+   * same size and connectors share a solver and its cached results while the layout is among the
+   * most recently used ones.
+   *
+   * @param board The board to analyse.
+   * @return The solver for the board's layout.
+   */
+  public static SnlMarkovSolver forBoard(SnlBoard board) {
+    HeadlessSnlBoard headless = new HeadlessSnlBoard(board, 1);
+    int[] jumpTable = new int[headless.getBoardSize() + 1];
+    for (int tile = 0; tile < jumpTable.length; tile++) {
+      jumpTable[tile] = headless.jump(tile);
+    }
+    synchronized (CACHE) {
+      return CACHE.computeIfAbsent(new Layout(jumpTable), SnlMarkovSolver::new);
+    }
+  }
+
+  /**
+   * Gets the expected number of turns a single player needs to finish from the start tile.
+   *
+   * @return The expected number of turns.
+   */
+  public double getExpectedTurns() {
+    return getExpectedTurns(HeadlessSnlBoard.START_TILE);
+  }
+
+  /**
+   * Gets the expected number of turns a single player needs to finish from the given tile.
+   *
+   * @param tile The 1-based tile to start from.
+   * @return The expected number of turns, or {@link Double#POSITIVE_INFINITY} if the last tile
+   *     cannot be reached with certainty from the tile.
+   * @throws IllegalArgumentException if the tile is outside the board.
+   */
+  public synchronized double getExpectedTurns(int tile) {
+    checkTile(tile);
+    if (expectedTurns == null) {
+      expectedTurns = solveExpectedTurns();
+    }
+    return expectedTurns[tile];
+  }
+
+  /**
+   * Gets the distribution of the number of turns a single player needs to finish from the start
+   * tile, truncated at {@code maxTurns}.
+   *
+   * @param maxTurns The largest turn count to include.
+   * @return An array where index {@code k} holds the probability of finishing on exactly turn
+   *     {@code k}.
+   * @throws IllegalArgumentException if maxTurns is negative.
+   */
+  public synchronized double[] getTurnDistribution(int maxTurns) {
+    if (maxTurns < 0) {
+      throw new IllegalArgumentException("Max turns cannot be negative");
+    }
+    extendDistribution(maxTurns);
+    return Arrays.copyOf(finishProbabilities, maxTurns + 1);
+  }
+
+  /**
+   * Gets the probability that a single player finishes within the given number of turns from the
+   * start tile.
+   *
+   * @param turns The number of turns.
+   * @return The probability of having reached the last tile after at most {@code turns} turns.
+   * @throws IllegalArgumentException if turns is negative.
+   */
+  public synchronized double probabilityToFinishWithin(int turns) {
+    if (turns < 0) {
+      throw new IllegalArgumentException("Turns cannot be negative");
+    }
+    extendDistribution(turns);
+    double sum = 0;
+    for (int k = 0; k <= turns; k++) {
+      sum += finishProbabilities[k];
+    }
+    return Math.min(sum, 1);
+  }
+
+  /**
+   * Gets the number of tiles on the analysed board.
+   *
+   * @return The board size.
+   */
+  public int getBoardSize() {
+    return boardSize;
+  }
+
+  private void extendDistribution(int maxTurns) {
+    int known = finishProbabilities.length - 1;
+    if (maxTurns <= known) {
+      return;
+    }
+    finishProbabilities = Arrays.copyOf(finishProbabilities, maxTurns + 1);
+    double[] next = new double[boardSize + 1];
+    for (int turn = known + 1; turn <= maxTurns; turn++) {
+      for (int tile = HeadlessSnlBoard.START_TILE; tile < boardSize; tile++) {
+        double mass = frontier[tile];
+        if (mass == 0) {
+          continue;
+        }
+        for (int i = rowStart[tile]; i < rowStart[tile + 1]; i++) {
+          next[columns[i]] += mass * probabilities[i];
+        }
+      }
+      finishProbabilities[turn] = next[boardSize];
+      next[boardSize] = 0;
+      double[] swap = frontier;
+      frontier = next;
+      next = swap;
+      Arrays.fill(next, 0);
+    }
+  }
+
+  /**
+   * Solves {@code E[t] = 1 + sum(P[t][u] * E[u])} with Gauss-Seidel sweeps. Tiles that may never
+   * finish are resolved first so that the iteration only runs over tiles with finite values.
+   */
+  private double[] solveExpectedTurns() {
+    boolean[] finite = tilesThatFinishAlmostSurely();
+    double[] expected = new double[boardSize + 1];
+    for (int tile = 0; tile <= boardSize; tile++) {
+      if (!finite[tile]) {
+        expected[tile] = Double.POSITIVE_INFINITY;
+      }
+    }
+    for (int iteration = 0; iteration < MAX_ITERATIONS; iteration++) {
+      double maxChange = 0;
+      for (int tile = boardSize - 1; tile >= HeadlessSnlBoard.START_TILE; tile--) {
+        if (!finite[tile]) {
+          continue;
+        }
+        double selfLoop = 0;
+        double sum = 1;
+        for (int i = rowStart[tile]; i < rowStart[tile + 1]; i++) {
+          if (columns[i] == tile) {
+            selfLoop = probabilities[i];
+          } else {
+            sum += probabilities[i] * expected[columns[i]];
+          }
+        }
+        double value = sum / (1 - selfLoop);
+        maxChange = Math.max(maxChange, Math.abs(value - expected[tile]));
+        expected[tile] = value;
+      }
+      if (maxChange < TOLERANCE) {
+        break;
+      }
+    }
+    return expected;
+  }
+
+  /**
+   * Finds the tiles from which the last tile is reached with probability one: those that can
+   * reach it and cannot reach any tile that can't.
+   */
+  private boolean[] tilesThatFinishAlmostSurely() {
+    boolean[] canFinish = new boolean[boardSize + 1];
+    canFinish[boardSize] = true;
+    boolean changed = true;
+    while (changed) {
+      changed = false;
+      for (int tile = HeadlessSnlBoard.START_TILE; tile < boardSize; tile++) {
+        if (canFinish[tile]) {
+          continue;
+        }
+        for (int i = rowStart[tile]; i < rowStart[tile + 1]; i++) {
+          if (canFinish[columns[i]]) {
+            canFinish[tile] = true;
+            changed = true;
+            break;
+          }
+        }
+      }
+    }
+    changed = true;
+    while (changed) {
+      changed = false;
+      for (int tile = HeadlessSnlBoard.START_TILE; tile < boardSize; tile++) {
+        if (!canFinish[tile]) {
+          continue;
+        }
+        for (int i = rowStart[tile]; i < rowStart[tile + 1]; i++) {
+          if (!canFinish[columns[i]]) {
+            canFinish[tile] = false;
+            changed = true;
+            break;
+          }
+        }
+      }
+    }
+    return canFinish;
+  }
+
+  private int bounce(int raw) {
+    if (raw > boardSize) {
+      return boardSize - (raw - boardSize);
+    }
+    return Math.max(raw, HeadlessSnlBoard.START_TILE);
+  }
+
+  private void checkTile(int tile) {
+    if (tile < HeadlessSnlBoard.START_TILE || tile > boardSize) {
+      throw new IllegalArgumentException("Tile " + tile + " is outside the board");
+    }
+  }
+
+  /** Cache key identifying a board by its flattened jump table. */
+  private record Layout(int[] jumpTable) {
+
+    @Override
+    public boolean equals(Object o) {
+      return o instanceof Layout other && Arrays.equals(jumpTable, other.jumpTable);
+    }
+
+    @Override
+    public int hashCode() {
+      return Arrays.hashCode(jumpTable);
+    }
+
+    @Override
+    public String toString() {
+      return "Layout[size=" + (jumpTable.length - 1) + "]";
+    }
+  }
+}
@@ -6,19 +6,28 @@ import edu.ntnu.idi.idatt.boardgame.core.domain.player.Player;
 import edu.ntnu.idi.idatt.boardgame.core.domain.player.PlayerColor;
 import edu.ntnu.idi.idatt.boardgame.core.engine.action.Action;
 import edu.ntnu.idi.idatt.boardgame.core.engine.controller.GameController;
+import edu.ntnu.idi.idatt.boardgame.core.engine.event.AutoPlayedEvent;
+import edu.ntnu.idi.idatt.boardgame.core.engine.event.LoadedEvent;
+import edu.ntnu.idi.idatt.boardgame.core.engine.event.RolledEvent;
+import edu.ntnu.idi.idatt.boardgame.core.engine.event.TurnChangedEvent;
+import edu.ntnu.idi.idatt.boardgame.core.engine.runtime.NotificationSink;
 import edu.ntnu.idi.idatt.boardgame.core.persistence.GameStateRepository;
+import edu.ntnu.idi.idatt.boardgame.games.snakesandladders.domain.board.HeadlessSnlBoard;
 import edu.ntnu.idi.idatt.boardgame.games.snakesandladders.domain.board.SnlBoard;
+import edu.ntnu.idi.idatt.boardgame.games.snakesandladders.engine.action.AutoPlayAction;
 import edu.ntnu.idi.idatt.boardgame.games.snakesandladders.engine.action.RollAction;
 import edu.ntnu.idi.idatt.boardgame.games.snakesandladders.persistence.dto.SnlGameStateDto;
 import edu.ntnu.idi.idatt.boardgame.games.snakesandladders.persistence.mapper.SnlMapper;
 import edu.ntnu.idi.idatt.boardgame.ui.dto.PlayerSetupDetails;
-import edu.ntnu.idi.idatt.boardgame.ui.util.LoggingNotification;
 import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Random;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.random.RandomGenerator;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -33,18 +42,70 @@ public final class SnlController extends GameController<LinearPos> {
    */
   private final GameStateRepository<SnlGameStateDto> repo;
   private int actualNumberOfPlayers;
+  /**
+   * Headless copy of the board used by autoplay, created on first use.
+   */
+  private HeadlessSnlBoard autoPlayBoard;
 
   private static final Logger logger = LoggerFactory.getLogger(SnlController.class);
+  /** Most rounds {@link #playUntilWinner()} plays before giving up. */
+  public static final int PLAY_UNTIL_WINNER_ROUND_LIMIT = 10_000;
 
   /**
    * Constructs a SnlController with the specified player details and game state repository.
+   * Messages for the player are only logged.
    *
    * @param playerDetailsList List of player setup details. Can be null/empty for loading.
    * @param repo              Repository for saving and loading game state.
    */
   public SnlController(
       List<PlayerSetupDetails> playerDetailsList, GameStateRepository<SnlGameStateDto> repo) {
-    super(new SnlBoard(), new Dice(2));
+    this(playerDetailsList, repo, new Random());
+  }
+
+  /**
+   * Constructs a SnlController whose dice draw from the given generator. A seeded generator makes
+   * the sequence of rolls, and therefore the whole game, replayable.
+   *
+   * @param playerDetailsList List of player setup details. Can be null/empty for loading.
+   * @param repo              Repository for saving and loading game state.
+   * @param rng               The random number generator used by the dice.
+   */
+  public SnlController(
+      List<PlayerSetupDetails> playerDetailsList, GameStateRepository<SnlGameStateDto> repo,
+      RandomGenerator rng) {
+    this(playerDetailsList, repo, new SnlBoard(), rng);
+  }
+
+  /**
+   * Constructs a SnlController that plays on the given board, for example one built from a
+   * {@link edu.ntnu.idi.idatt.boardgame.games.snakesandladders.domain.board.SnlBoardDefinition}.
+   *
+   * @param playerDetailsList List of player setup details. Can be null/empty for loading.
+   * @param repo              Repository for saving and loading game state.
+   * @param board             The board to play on.
+   * @param rng               The random number generator used by the dice.
+   */
+  public SnlController(
+      List<PlayerSetupDetails> playerDetailsList, GameStateRepository<SnlGameStateDto> repo,
+      SnlBoard board, RandomGenerator rng) {
+    this(playerDetailsList, repo, board, rng, NotificationSink.logOnly());
+  }
+
+  /**
+   * Constructs a SnlController that reports messages for the player to the given sink. The
+   * desktop app passes one that shows them as toasts.
+   *
+   * @param playerDetailsList List of player setup details. Can be null/empty for loading.
+   * @param repo              Repository for saving and loading game state.
+   * @param board             The board to play on.
+   * @param rng               The random number generator used by the dice.
+   * @param notifications     Where messages for the player are reported.
+   */
+  public SnlController(
+      List<PlayerSetupDetails> playerDetailsList, GameStateRepository<SnlGameStateDto> repo,
+      SnlBoard board, RandomGenerator rng, NotificationSink notifications) {
+    super(Objects.requireNonNull(board), new Dice(2, rng), notifications);
     this.repo = Objects.requireNonNull(repo);
     initializeGame(playerDetailsList);
   }
@@ -101,14 +162,91 @@ public final class SnlController extends GameController<LinearPos> {
   public void rollDice() {
     Action roll = new RollAction((SnlBoard) gameBoard, currentPlayer, dice);
     roll.execute();
-    notifyObservers(currentPlayer.getName() + " rolled " + (dice.getDie(0) + dice.getDie(1))
-        + " and is now at tile " + currentPlayer.getPosition());
+    publish(new RolledEvent(currentPlayer, dice.getDie(0) + dice.getDie(1),
+        currentPlayer.getPosition()));
     if (isGameOver()) {
       onGameFinish();
     } else {
       currentPlayer = getNextPlayer();
-      notifyObservers("Next turn: " + currentPlayer.getName());
+      publish(new TurnChangedEvent(currentPlayer));
+    }
+  }
+
+  /**
+   * Plays up to the given number of turns in one call. Moves are not reported one by one; instead
+   * a single {@link AutoPlayedEvent} is published when autoplay stops, followed by the usual game
+   * finished notification if someone won. Tiles are only updated with each player's final
+   * position.
+   *
+   * @param maxTurns The largest number of turns to play.
+   * @return The number of turns actually played.
+   * @throws IllegalArgumentException if maxTurns is negative.
+   * @throws IllegalStateException if there are no players.
+   */
+  public int autoPlay(int maxTurns) {
+    if (maxTurns < 0) {
+      throw new IllegalArgumentException("Number of turns cannot be negative");
+    }
+    if (players == null || players.isEmpty() || actualNumberOfPlayers == 0) {
+      throw new IllegalStateException("Cannot autoplay without players.");
+    }
+    if (maxTurns == 0 || isGameOver()) {
+      return 0;
+    }
+
+    List<Player<LinearPos>> seats = new ArrayList<>(actualNumberOfPlayers);
+    for (int id = 1; id <= actualNumberOfPlayers; id++) {
+      seats.add(players.get(id));
+    }
+    if (autoPlayBoard == null || autoPlayBoard.getNumberOfSeats() != seats.size()) {
+      autoPlayBoard = new HeadlessSnlBoard((SnlBoard) gameBoard, seats.size());
+    }
+    AutoPlayAction autoPlay = new AutoPlayAction((SnlBoard) gameBoard, autoPlayBoard, seats,
+        seats.indexOf(currentPlayer), dice, maxTurns);
+    autoPlay.execute();
+
+    int turns = autoPlay.getTurnsPlayed();
+    currentPlayer = seats.get(autoPlay.getCurrentSeat());
+    boolean won = autoPlay.getWinner() != null;
+    publish(new AutoPlayedEvent(turns, currentPlayer, won));
+    if (won) {
+      onGameFinish();
+    }
+    return turns;
+  }
+
+  /**
+   * Plays turns until a player reaches the last tile, with the same single summary notification as
+   * {@link #autoPlay(int)}. Stops after {@value #PLAY_UNTIL_WINNER_ROUND_LIMIT} rounds, so a board
+   * nobody can win does not run forever.
+   *
+   * @return The number of turns played.
+   */
+  public int playUntilWinner() {
+    return playUntilWinner(PLAY_UNTIL_WINNER_ROUND_LIMIT);
+  }
+
+  /**
+   * Plays turns until a player reaches the last tile or every player has had {@code maxRounds}
+   * turns. If the limit is hit, a warning is reported and the game is left unfinished, with the
+   * positions reached so far.
+   *
+   * @param maxRounds The largest number of rounds to play.
+   * @return The number of turns played.
+   * @throws IllegalArgumentException if maxRounds is negative.
+   * @throws IllegalStateException if there are no players.
+   */
+  public int playUntilWinner(int maxRounds) {
+    if (maxRounds < 0) {
+      throw new IllegalArgumentException("Number of rounds cannot be negative");
+    }
+    int maxTurns = (int) Math.min(Integer.MAX_VALUE, (long) maxRounds * actualNumberOfPlayers);
+    int turns = autoPlay(maxTurns);
+    if (turns == maxTurns && !isGameOver()) {
+      logger.warn("No winner after {} rounds ({} turns); autoplay stopped.", maxRounds, turns);
+      notifications.warn("No winner", "Autoplay stopped after " + maxRounds + " rounds.");
     }
+    return turns;
   }
 
   @Override
@@ -141,10 +279,10 @@ public final class SnlController extends GameController<LinearPos> {
   public void saveGameState(String path) {
     try {
       repo.save(SnlMapper.toDto(this), Path.of(path));
-      LoggingNotification.info("Game Saved", "Game state saved to " + path);
+      notifications.info("Game Saved", "Game state saved to " + path);
     } catch (Exception e) {
       logger.error("Save failed: {}", e.getMessage(), e);
-      LoggingNotification.error("Save failed", e.getMessage());
+      notifications.error("Save failed", e.getMessage());
     }
   }
 
@@ -161,12 +299,12 @@ public final class SnlController extends GameController<LinearPos> {
       }
       this.players = loadedPlayers;
       this.actualNumberOfPlayers = this.players.size();
-      SnlMapper.apply(dto, this);
+      gameBoard.runInTransaction(() -> SnlMapper.apply(dto, this));
 
-      notifyObservers("Game state loaded. Current turn: " + currentPlayer.getName());
+      publish(new LoadedEvent(currentPlayer, null));
     } catch (Exception e) {
       logger.error("Load failed: {}", e.getMessage(), e);
-      LoggingNotification.error("Load failed", e.getMessage());
+      notifications.error("Load failed", e.getMessage());
     }
   }
 }
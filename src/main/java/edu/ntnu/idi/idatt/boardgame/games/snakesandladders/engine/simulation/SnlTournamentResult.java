@@ -0,0 +1,111 @@
+package edu.ntnu.idi.idatt.boardgame.games.snakesandladders.engine.simulation;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Aggregated statistics from a batch of simulated Snakes and Ladders games, as produced by
+ * {@link SnlTournamentRunner}. Instances are immutable.
+ */
+public final class SnlTournamentResult {
+
+  private final long games;
+  private final long unfinishedGames;
+  private final long[] gameLengthHistogram;
+  private final long[] winsPerSeat;
+  private final Map<Integer, Long> connectorHits;
+
+  /**
+   * Constructs a tournament result. The arrays are copied.
+   *
+   * @param games The number of games played.
+   * @param unfinishedGames The number of games stopped at the turn limit without a winner.
+   * @param gameLengthHistogram Index {@code n} holds the number of games won on turn {@code n}.
+   * @param winsPerSeat Index {@code s} holds the number of games won by seat {@code s}.
+   * @param connectorHits Map of connector start tile to the number of times it was taken.
+   */
+  SnlTournamentResult(
+      long games,
+      long unfinishedGames,
+      long[] gameLengthHistogram,
+      long[] winsPerSeat,
+      Map<Integer, Long> connectorHits) {
+    this.games = games;
+    this.unfinishedGames = unfinishedGames;
+    this.gameLengthHistogram = gameLengthHistogram.clone();
+    this.winsPerSeat = winsPerSeat.clone();
+    this.connectorHits = Collections.unmodifiableMap(new TreeMap<>(connectorHits));
+  }
+
+  /**
+   * Gets the total number of games played.
+   *
+   * @return The number of games.
+   */
+  public long getGames() {
+    return games;
+  }
+
+  /**
+   * Gets the number of games that reached the turn limit without a winner.
+   *
+   * @return The number of unfinished games.
+   */
+  public long getUnfinishedGames() {
+    return unfinishedGames;
+  }
+
+  /**
+   * Gets the game-length histogram. A game's length is the total number of turns taken by all
+   * players, including the winning turn.
+   *
+   * @return A copy of the histogram, indexed by game length.
+   */
+  public long[] getGameLengthHistogram() {
+    return gameLengthHistogram.clone();
+  }
+
+  /**
+   * Gets the number of wins for each seat. Seat 0 is the player who moves first.
+   *
+   * @return A copy of the win counts, indexed by seat.
+   */
+  public long[] getWinsPerSeat() {
+    return winsPerSeat.clone();
+  }
+
+  /**
+   * Gets the share of all games won by the given seat.
+   *
+   * @param seat The 0-based seat.
+   * @return The win rate between 0 and 1, or 0 if no games were played.
+   */
+  public double getWinRate(int seat) {
+    return games == 0 ? 0 : (double) winsPerSeat[seat] / games;
+  }
+
+  /**
+   * Gets the mean length of the finished games.
+   *
+   * @return The mean number of turns, or 0 if no game finished.
+   */
+  public double getMeanGameLength() {
+    long finished = 0;
+    long totalTurns = 0;
+    for (int length = 0; length < gameLengthHistogram.length; length++) {
+      finished += gameLengthHistogram[length];
+      totalTurns += length * gameLengthHistogram[length];
+    }
+    return finished == 0 ? 0 : (double) totalTurns / finished;
+  }
+
+  /**
+   * Gets how many times each connector was taken across all games.
+   *
+   * @return An unmodifiable map of connector start tile to hit count, sorted by tile.
+   */
+  public Map<Integer, Long> getConnectorHits() {
+    return connectorHits;
+  }
+}
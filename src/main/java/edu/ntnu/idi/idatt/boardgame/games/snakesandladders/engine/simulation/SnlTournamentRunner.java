@@ -0,0 +1,183 @@
+package edu.ntnu.idi.idatt.boardgame.games.snakesandladders.engine.simulation;
+
+import edu.ntnu.idi.idatt.boardgame.core.domain.dice.Dice;
+import edu.ntnu.idi.idatt.boardgame.games.snakesandladders.domain.board.HeadlessSnlBoard;
+import edu.ntnu.idi.idatt.boardgame.games.snakesandladders.domain.board.SnlBoard;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Plays large batches of Snakes and Ladders games in parallel on a {@link ForkJoinPool}. The rules
+ * are those of {@link SnlBoard} and the
+ * {@link edu.ntnu.idi.idatt.boardgame.games.snakesandladders.engine.controller.SnlController}: two
+ * six-sided dice, seats take turns in order starting with seat 0, and the first seat to land
+ * exactly on the last tile wins.
+ *
+ * <p>Work is split recursively into fixed-size chunks and every chunk receives its own
+ * {@link SplittableRandom} split from the seed. Because the split tree depends only on the number
+ * of games, a given seed always produces the same result regardless of thread count or scheduling.
+ */
+public final class SnlTournamentRunner {
+
+  /** Number of games a single task plays before it stops splitting. */
+  private static final long GAMES_PER_TASK = 4_096;
+  /** Default number of turns after which a game is abandoned as unfinished. */
+  private static final int DEFAULT_MAX_TURNS = 10_000;
+  private static final int NUMBER_OF_DICE = 2;
+  /** Number of dice sums drawn per bulk roll. */
+  private static final int ROLL_BUFFER_SIZE = 1_024;
+
+  private final HeadlessSnlBoard template;
+  private final int maxTurns;
+
+  /**
+   * Constructs a runner for the given board layout.
+   *
+   * @param board The board whose size and connectors are used.
+   * @param numberOfSeats The number of players in every game.
+   */
+  public SnlTournamentRunner(SnlBoard board, int numberOfSeats) {
+    this(board, numberOfSeats, DEFAULT_MAX_TURNS);
+  }
+
+  /**
+   * Constructs a runner for the given board layout.
+   *
+   * @param board The board whose size and connectors are used.
+   * @param numberOfSeats The number of players in every game.
+   * @param maxTurns The number of turns after which a game is counted as unfinished.
+   * @throws IllegalArgumentException if maxTurns is less than 1.
+   */
+  public SnlTournamentRunner(SnlBoard board, int numberOfSeats, int maxTurns) {
+    if (maxTurns < 1) {
+      throw new IllegalArgumentException("Max turns must be at least 1");
+    }
+    this.template = new HeadlessSnlBoard(board, numberOfSeats);
+    this.maxTurns = maxTurns;
+  }
+
+  /**
+   * Plays the given number of games on the common fork-join pool.
+   *
+   * @param games The number of games to play.
+   * @param seed The seed for the root random stream.
+   * @return The aggregated result.
+   */
+  public SnlTournamentResult run(long games, long seed) {
+    return run(games, seed, ForkJoinPool.commonPool());
+  }
+
+  /**
+   * Plays the given number of games on the given fork-join pool.
+   *
+   * @param games The number of games to play.
+   * @param seed The seed for the root random stream.
+   * @param pool The pool to run on.
+   * @return The aggregated result.
+   * @throws IllegalArgumentException if games is negative.
+   */
+  public SnlTournamentResult run(long games, long seed, ForkJoinPool pool) {
+    if (games < 0) {
+      throw new IllegalArgumentException("Number of games cannot be negative");
+    }
+    Tally tally = pool.invoke(new TournamentTask(games, new SplittableRandom(seed)));
+    Map<Integer, Long> connectorHits = new HashMap<>();
+    for (int tile = 1; tile < tally.connectorHits.length; tile++) {
+      if (template.jump(tile) != tile) {
+        connectorHits.put(tile, tally.connectorHits[tile]);
+      }
+    }
+    return new SnlTournamentResult(
+        games, tally.unfinished, tally.gameLengths, tally.wins, connectorHits);
+  }
+
+  /** Mutable per-task counters, merged pairwise as tasks complete. */
+  private final class Tally {
+
+    private final long[] gameLengths = new long[maxTurns + 1];
+    private final long[] wins = new long[template.getNumberOfSeats()];
+    private final long[] connectorHits = new long[template.getBoardSize() + 1];
+    private long unfinished;
+
+    private Tally merge(Tally other) {
+      for (int i = 0; i < gameLengths.length; i++) {
+        gameLengths[i] += other.gameLengths[i];
+      }
+      for (int i = 0; i < wins.length; i++) {
+        wins[i] += other.wins[i];
+      }
+      for (int i = 0; i < connectorHits.length; i++) {
+        connectorHits[i] += other.connectorHits[i];
+      }
+      unfinished += other.unfinished;
+      return this;
+    }
+  }
+
+  /** Plays a contiguous block of games, splitting while the block is large. */
+  private final class TournamentTask extends RecursiveTask<Tally> {
+
+    private final long games;
+    private final SplittableRandom rng;
+
+    private TournamentTask(long games, SplittableRandom rng) {
+      this.games = games;
+      this.rng = rng;
+    }
+
+    @Override
+    protected Tally compute() {
+      if (games <= GAMES_PER_TASK) {
+        return playAll();
+      }
+      long half = games / 2;
+      TournamentTask left = new TournamentTask(half, rng.split());
+      TournamentTask right = new TournamentTask(games - half, rng.split());
+      left.fork();
+      Tally rightTally = right.compute();
+      return left.join().merge(rightTally);
+    }
+
+    private Tally playAll() {
+      Tally tally = new Tally();
+      HeadlessSnlBoard board = template.copy();
+      Dice dice = new Dice(NUMBER_OF_DICE, rng);
+      int[] rolls = new int[ROLL_BUFFER_SIZE];
+      int nextRoll = rolls.length;
+      int seats = board.getNumberOfSeats();
+      int lastTile = board.getBoardSize();
+      for (long game = 0; game < games; game++) {
+        board.reset();
+        int seat = 0;
+        int turn = 1;
+        while (true) {
+          if (nextRoll == rolls.length) {
+            dice.roll(rolls);
+            nextRoll = 0;
+          }
+          int landing = board.bounce(board.getPosition(seat) + rolls[nextRoll++]);
+          int to = board.jump(landing);
+          if (to != landing) {
+            tally.connectorHits[landing]++;
+          }
+          board.setPosition(seat, to);
+          if (to == lastTile) {
+            tally.gameLengths[turn]++;
+            tally.wins[seat]++;
+            break;
+          }
+          if (turn == maxTurns) {
+            tally.unfinished++;
+            break;
+          }
+          turn++;
+          seat = seat + 1 == seats ? 0 : seat + 1;
+        }
+      }
+      return tally;
+    }
+  }
+}
@@ -0,0 +1,54 @@
+package edu.ntnu.idi.idatt.boardgame.games.snakesandladders.persistence;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonParseException;
+import edu.ntnu.idi.idatt.boardgame.core.exception.InvalidBoardException;
+import edu.ntnu.idi.idatt.boardgame.games.snakesandladders.domain.board.SnlBoardDefinition;
+import edu.ntnu.idi.idatt.boardgame.games.snakesandladders.persistence.dto.SnlBoardDefinitionDto;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Loads {@link SnlBoardDefinition}s from JSON files using Gson. A definition file looks like
+ * {@code {"rows": 10, "cols": 9, "snakes": {"30": 14}, "ladders": {"8": 6}}}.
+ */
+public final class JsonSnlBoardDefinitionLoader {
+
+  /**
+   * Gson instance for JSON deserialization.
+   */
+  private static final Gson GSON = new Gson();
+
+  /**
+   * Reads and validates a board definition from the given file.
+   *
+   * @param file The JSON file to read.
+   * @return The board definition.
+   * @throws IOException if the file cannot be read.
+   * @throws InvalidBoardException if the file is not a valid board definition.
+   */
+  public SnlBoardDefinition load(Path file) throws IOException {
+    return parse(Files.readString(file));
+  }
+
+  /**
+   * Parses and validates a board definition from a JSON string.
+   *
+   * @param json The JSON text.
+   * @return The board definition.
+   * @throws InvalidBoardException if the text is not a valid board definition.
+   */
+  public SnlBoardDefinition parse(String json) {
+    SnlBoardDefinitionDto dto;
+    try {
+      dto = GSON.fromJson(json, SnlBoardDefinitionDto.class);
+    } catch (JsonParseException e) {
+      throw new InvalidBoardException("Malformed board definition: " + e.getMessage(), e);
+    }
+    if (dto == null) {
+      throw new InvalidBoardException("Board definition is empty");
+    }
+    return new SnlBoardDefinition(dto.rows, dto.cols, dto.snakes, dto.ladders);
+  }
+}
@@ -0,0 +1,26 @@
+package edu.ntnu.idi.idatt.boardgame.games.snakesandladders.persistence.dto;
+
+import java.util.Map;
+
+/**
+ * JSON structure of a Snakes & Ladders board definition file.
+ */
+public final class SnlBoardDefinitionDto {
+
+  /**
+   * The number of rows on the board.
+   */
+  public int rows;
+  /**
+   * The number of columns on the board.
+   */
+  public int cols;
+  /**
+   * Map of snake head tile to length (downwards).
+   */
+  public Map<Integer, Integer> snakes;
+  /**
+   * Map of ladder bottom tile to length (upwards).
+   */
+  public Map<Integer, Integer> ladders;
+}
@@ -4,7 +4,6 @@ import edu.ntnu.idi.idatt.boardgame.core.domain.player.LinearPos;
 import edu.ntnu.idi.idatt.boardgame.core.domain.player.Player;
 import edu.ntnu.idi.idatt.boardgame.games.snakesandladders.engine.controller.SnlController;
 import edu.ntnu.idi.idatt.boardgame.games.snakesandladders.persistence.dto.SnlGameStateDto;
-import edu.ntnu.idi.idatt.boardgame.ui.util.LoggingNotification;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -68,7 +67,9 @@ public final class SnlMapper {
     // restore current turn
     Player<LinearPos> current = controller.getPlayers().get(dto.currentPlayerTurn);
     if (current == null) {
-      LoggingNotification.error("Save-file error", "No player with id " + dto.currentPlayerTurn);
+      controller
+          .getNotifications()
+          .error("Save-file error", "No player with id " + dto.currentPlayerTurn);
       throw new IllegalStateException(
           "Save-file error: no player with id " + dto.currentPlayerTurn);
     }
@@ -0,0 +1,143 @@
+package edu.ntnu.idi.idatt.boardgame.games.snakesandladders.view;
+
+/**
+ * Maps between 1-based tile positions and pixel coordinates on a Snakes and Ladders board. Tiles
+ * are laid out boustrophedon style: the bottom row runs left to right, the row above it right to
+ * left, and so on. Shared by the board renderers so they agree on where every tile is.
+ */
+final class SnlBoardGeometry {
+
+  private final int rows;
+  private final int cols;
+  private final double tileSize;
+  private final double gapSize;
+
+  /**
+   * Constructs the geometry for a board.
+   *
+   * @param rows The number of rows.
+   * @param cols The number of columns.
+   * @param tileSize The width and height of a tile in pixels.
+   * @param gapSize The space between neighbouring tiles in pixels.
+   */
+  SnlBoardGeometry(int rows, int cols, double tileSize, double gapSize) {
+    this.rows = rows;
+    this.cols = cols;
+    this.tileSize = tileSize;
+    this.gapSize = gapSize;
+  }
+
+  /**
+   * Converts a 1-based position to 0-based grid coordinates.
+   *
+   * @param pos The 1-based tile position.
+   * @return The column and the row (counted from the top), in that order.
+   */
+  int[] getGridCoordinates(int pos) {
+    int index = pos - 1;
+    int rowFromBottom = index / cols;
+    int col;
+
+    if (rowFromBottom % 2 == 0) {
+      col = index % cols;
+    } else {
+      col = cols - 1 - (index % cols);
+    }
+    int gridRow = rows - 1 - rowFromBottom;
+    return new int[] {col, gridRow};
+  }
+
+  /**
+   * Converts 0-based grid coordinates back to a 1-based position.
+   *
+   * @param col The column.
+   * @param gridRow The row, counted from the top.
+   * @return The 1-based tile position.
+   */
+  int getPosition(int col, int gridRow) {
+    int rowFromBottom = rows - 1 - gridRow;
+    int offset = rowFromBottom % 2 == 0 ? col : cols - 1 - col;
+    return rowFromBottom * cols + offset + 1;
+  }
+
+  /**
+   * Finds the tile under a point, without looking at any tiles.
+   *
+   * @param x The x coordinate in pixels.
+   * @param y The y coordinate in pixels.
+   * @return The 1-based tile position, or 0 if the point is outside the board or in a gap.
+   */
+  int positionAt(double x, double y) {
+    double pitch = tileSize + gapSize;
+    if (x < 0 || y < 0) {
+      return 0;
+    }
+    int col = (int) (x / pitch);
+    int gridRow = (int) (y / pitch);
+    if (col >= cols || gridRow >= rows || x - col * pitch >= tileSize
+        || y - gridRow * pitch >= tileSize) {
+      return 0;
+    }
+    return getPosition(col, gridRow);
+  }
+
+  /**
+   * Gets the x coordinate of a tile's left edge.
+   *
+   * @param pos The 1-based tile position.
+   * @return The x coordinate in pixels.
+   */
+  double getTileX(int pos) {
+    return getGridCoordinates(pos)[0] * (tileSize + gapSize);
+  }
+
+  /**
+   * Gets the y coordinate of a tile's top edge.
+   *
+   * @param pos The 1-based tile position.
+   * @return The y coordinate in pixels.
+   */
+  double getTileY(int pos) {
+    return getGridCoordinates(pos)[1] * (tileSize + gapSize);
+  }
+
+  /**
+   * Gets the center of a tile.
+   *
+   * @param pos The 1-based tile position.
+   * @return The x and y coordinates in pixels, in that order.
+   */
+  double[] getTileCenter(int pos) {
+    int[] coords = getGridCoordinates(pos);
+    double x = coords[0] * (tileSize + gapSize) + tileSize / 2.0;
+    double y = coords[1] * (tileSize + gapSize) + tileSize / 2.0;
+    return new double[] {x, y};
+  }
+
+  /**
+   * Gets the width of the whole board.
+   *
+   * @return The width in pixels.
+   */
+  double getWidth() {
+    return cols * tileSize + (cols - 1) * gapSize;
+  }
+
+  /**
+   * Gets the height of the whole board.
+   *
+   * @return The height in pixels.
+   */
+  double getHeight() {
+    return rows * tileSize + (rows - 1) * gapSize;
+  }
+
+  /**
+   * Gets the size of a tile.
+   *
+   * @return The width and height of a tile in pixels.
+   */
+  double getTileSize() {
+    return tileSize;
+  }
+}
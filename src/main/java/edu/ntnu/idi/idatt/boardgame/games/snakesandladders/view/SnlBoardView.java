@@ -1,28 +1,51 @@
 package edu.ntnu.idi.idatt.boardgame.games.snakesandladders.view;
 
+import edu.ntnu.idi.idatt.boardgame.core.domain.board.BoardChangeSet;
 import edu.ntnu.idi.idatt.boardgame.core.domain.board.Tile;
 import edu.ntnu.idi.idatt.boardgame.core.domain.player.LinearPos;
-import edu.ntnu.idi.idatt.boardgame.core.engine.event.TileObserver;
+import edu.ntnu.idi.idatt.boardgame.core.domain.player.Player;
+import edu.ntnu.idi.idatt.boardgame.core.engine.event.BoardObserver;
 import edu.ntnu.idi.idatt.boardgame.games.snakesandladders.domain.board.Connector;
 import edu.ntnu.idi.idatt.boardgame.games.snakesandladders.domain.board.SnlBoard;
+import edu.ntnu.idi.idatt.boardgame.games.snakesandladders.domain.board.SnlOccupancyIndex;
+import edu.ntnu.idi.idatt.boardgame.games.snakesandladders.domain.board.SnlTile;
+import edu.ntnu.idi.idatt.boardgame.ui.util.PlayerColorMapper;
 import javafx.scene.Group;
 import javafx.scene.layout.GridPane;
 import javafx.scene.layout.Pane;
+import javafx.scene.shape.Circle;
 import javafx.scene.shape.Line;
+import javafx.util.Duration;
 
 /**
  * Represents the visual view of the Snakes and Ladders game board. It arranges {@link SnlTileView}
- * instances in a grid and draws connectors (snakes and ladders). Implements {@link TileObserver} to
- * react to changes in individual tiles, though typically individual tile views handle their own
- * updates.
+ * instances in a grid and draws connectors (snakes and ladders). Every tile is a node of its own,
+ * so boards larger than {@link SnlCanvasBoardView#NODE_RENDERER_LIMIT} tiles are drawn by
+ * {@link SnlCanvasBoardView}.
+ *
+ * <p>Each player has one token node that lives for as long as the view. When a board transaction
+ * moves a player, the token travels from where it is shown to its new tile in a single transition,
+ * passing through the start of the snake or ladder it took. The length of that transition is set
+ * by an {@link SnlMovePacer}, and when moves come faster than can be shown the tokens jump
+ * straight to their tiles.
  */
-public final class SnlBoardView extends Pane implements TileObserver<LinearPos> {
+public final class SnlBoardView extends Pane implements BoardObserver<LinearPos> {
 
   private static final int TILE_SIZE = 60;
   private static final int GAP_SIZE = 5;
+  private static final double TOKEN_RADIUS = 7;
+  /** Token offsets from the tile center, picked by player id so tokens on a tile do not overlap. */
+  private static final double[][] TOKEN_OFFSETS = {
+    {-12, 4}, {12, 4}, {0, 18}, {-12, 18}, {12, 18}, {0, 4}
+  };
+
   private final GridPane grid;
   private final Group connectorGroup;
+  private final Group tokenGroup;
   private final SnlBoard boardModel;
+  private final SnlBoardGeometry geometry;
+  private final SnlTokenPool<SnlTokenAnimation> tokens = new SnlTokenPool<>(this::createToken);
+  private final SnlMovePacer pacer = new SnlMovePacer();
 
   /**
    * Constructs an SnLBoardView.
@@ -31,15 +54,20 @@ public final class SnlBoardView extends Pane implements TileObserver<LinearPos>
    */
   public SnlBoardView(SnlBoard boardModel) {
     this.boardModel = boardModel;
+    this.geometry =
+        new SnlBoardGeometry(boardModel.getRows(), boardModel.getCols(), TILE_SIZE, GAP_SIZE);
     this.grid = new GridPane();
     this.connectorGroup = new Group();
+    this.tokenGroup = new Group();
+    tokenGroup.setMouseTransparent(true);
 
     grid.setHgap(GAP_SIZE);
     grid.setVgap(GAP_SIZE);
 
     initializeBoard();
-    // Add grid first, then connectors so they appear on top
-    getChildren().addAll(grid, connectorGroup);
+    // Add grid first, then connectors and tokens so they appear on top
+    getChildren().addAll(grid, connectorGroup, tokenGroup);
+    boardModel.addBoardObserver(this);
   }
 
   private void initializeBoard() {
@@ -47,35 +75,27 @@ public final class SnlBoardView extends Pane implements TileObserver<LinearPos>
         .getTiles()
         .forEach(
             (pos, tile) -> {
-              int[] gridPos = getGridCoordinates(pos);
+              int[] gridPos = geometry.getGridCoordinates(pos);
               SnlTileView tileView = new SnlTileView(tile, TILE_SIZE);
               grid.add(tileView.getNode(), gridPos[0], gridPos[1]);
-              // Register this board view as an observer of the tile
-              tile.addObserver(this);
             });
 
     // Draw snakes and ladders
     boardModel.getConnectors().forEach(this::drawConnector);
-  }
-
-  // Helper to convert 1-based linear position to 0-based grid (col, row)
-  private int[] getGridCoordinates(int pos) {
-    int index = pos - 1;
-    int rowFromBottom = index / boardModel.getCols();
-    int col;
 
-    if (rowFromBottom % 2 == 0) {
-      col = index % boardModel.getCols();
-    } else {
-      col = boardModel.getCols() - 1 - (index % boardModel.getCols());
+    SnlOccupancyIndex occupancy = boardModel.getOccupancy();
+    for (int pos = occupancy.nextOccupiedTile(1);
+        pos != SnlOccupancyIndex.NO_TILE;
+        pos = occupancy.nextOccupiedTile(pos + 1)) {
+      for (Player<LinearPos> player : occupancy.playersOn(pos)) {
+        placeToken(player, pos);
+      }
     }
-    int gridRow = boardModel.getRows() - 1 - rowFromBottom;
-    return new int[]{col, gridRow};
   }
 
   private void drawConnector(Connector connector) {
-    double[] startCenter = getTileCenter(connector.getStart());
-    double[] endCenter = getTileCenter(connector.getEnd());
+    double[] startCenter = geometry.getTileCenter(connector.getStart());
+    double[] endCenter = geometry.getTileCenter(connector.getEnd());
     Line line = new Line(startCenter[0], startCenter[1], endCenter[0], endCenter[1]);
     line.setStroke(connector.getColor());
     line.setStrokeWidth(3);
@@ -83,15 +103,68 @@ public final class SnlBoardView extends Pane implements TileObserver<LinearPos>
     connectorGroup.getChildren().add(line);
   }
 
-  // Helper to get the center X, Y coordinates of a tile given its 1-based position
-  private double[] getTileCenter(int pos) {
-    int[] coords = getGridCoordinates(pos);
-    double x = coords[0] * (TILE_SIZE + GAP_SIZE) + TILE_SIZE / 2.0;
-    double y = coords[1] * (TILE_SIZE + GAP_SIZE) + TILE_SIZE / 2.0;
-    return new double[]{x, y};
+  /**
+   * Moves the token of every player that now stands on a changed tile. A changed tile that leads
+   * to the player's new tile through a connector is the tile the player landed on before taking
+   * the snake or ladder, so the token passes through it.
+   */
+  @Override
+  public void onBoardChanged(BoardChangeSet<LinearPos> changes) {
+    double durationMillis = pacer.nextMoveMillis(System.nanoTime());
+    SnlOccupancyIndex occupancy = boardModel.getOccupancy();
+    for (Tile<LinearPos> changed : changes.getChangedTiles()) {
+      int to = ((SnlTile) changed).getPosition();
+      for (Player<LinearPos> player : occupancy.playersOn(to)) {
+        int from = tokens.shownTile(player);
+        if (from == SnlTokenPool.NOT_SHOWN) {
+          placeToken(player, to);
+        } else if (from != to) {
+          moveToken(player, landingTile(changes, from, to), to, durationMillis);
+        }
+      }
+    }
   }
 
-  @Override
-  public void onTileChanged(Tile<LinearPos> tile) {
+  private int landingTile(BoardChangeSet<LinearPos> changes, int from, int to) {
+    for (Tile<LinearPos> changed : changes.getChangedTiles()) {
+      int pos = ((SnlTile) changed).getPosition();
+      if (pos != from && pos != to && boardModel.finalDestination(pos) == to) {
+        return pos;
+      }
+    }
+    return 0;
+  }
+
+  private SnlTokenAnimation createToken(Player<LinearPos> player) {
+    Circle circle = new Circle(TOKEN_RADIUS, PlayerColorMapper.toPaint(player.getColor()));
+    tokenGroup.getChildren().add(circle);
+    return new SnlTokenAnimation(circle);
+  }
+
+  private void placeToken(Player<LinearPos> player, int tile) {
+    double[] point = tokenPoint(player, tile);
+    tokens.show(player, tile).jumpTo(point[0], point[1]);
+  }
+
+  private void moveToken(Player<LinearPos> player, int landingTile, int to, double durationMillis) {
+    SnlTokenAnimation animation = tokens.show(player, to);
+    double[] end = tokenPoint(player, to);
+    if (durationMillis == 0) {
+      animation.jumpTo(end[0], end[1]);
+      return;
+    }
+    animation.beginPath();
+    if (landingTile != 0) {
+      double[] landing = tokenPoint(player, landingTile);
+      animation.addPoint(landing[0], landing[1]);
+    }
+    animation.addPoint(end[0], end[1]);
+    animation.playPath(Duration.millis(durationMillis));
+  }
+
+  private double[] tokenPoint(Player<LinearPos> player, int tile) {
+    double[] center = geometry.getTileCenter(tile);
+    double[] offset = TOKEN_OFFSETS[Math.floorMod(player.getId(), TOKEN_OFFSETS.length)];
+    return new double[] {center[0] + offset[0], center[1] + offset[1]};
   }
 }
@@ -0,0 +1,228 @@
+package edu.ntnu.idi.idatt.boardgame.games.snakesandladders.view;
+
+import edu.ntnu.idi.idatt.boardgame.core.domain.board.BoardChangeSet;
+import edu.ntnu.idi.idatt.boardgame.core.domain.board.Tile;
+import edu.ntnu.idi.idatt.boardgame.core.domain.player.LinearPos;
+import edu.ntnu.idi.idatt.boardgame.core.domain.player.Player;
+import edu.ntnu.idi.idatt.boardgame.core.engine.event.BoardObserver;
+import edu.ntnu.idi.idatt.boardgame.games.snakesandladders.domain.board.Connector;
+import edu.ntnu.idi.idatt.boardgame.games.snakesandladders.domain.board.SnlBoard;
+import edu.ntnu.idi.idatt.boardgame.games.snakesandladders.domain.board.SnlOccupancyIndex;
+import edu.ntnu.idi.idatt.boardgame.games.snakesandladders.domain.board.SnlTile;
+import edu.ntnu.idi.idatt.boardgame.ui.util.PlayerColorMapper;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.IntConsumer;
+import javafx.geometry.VPos;
+import javafx.scene.SnapshotParameters;
+import javafx.scene.canvas.Canvas;
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.image.Image;
+import javafx.scene.layout.Pane;
+import javafx.scene.paint.Color;
+import javafx.scene.text.Font;
+import javafx.scene.text.TextAlignment;
+
+/**
+ * Draws the Snakes and Ladders board on a single {@link Canvas} instead of one node per tile, so
+ * the cost of the scene graph does not grow with the size of the board.
+ *
+ * <p>The tiles and the connectors are painted once into two cached images. When tiles change,
+ * only their rectangles are repainted: the cached background, then the tokens, then the cached
+ * connectors on top. Tokens are read from the board's {@link SnlOccupancyIndex}, so no tile
+ * objects are created to draw an empty board. Clicks are mapped to tiles arithmetically by
+ * {@link SnlBoardGeometry}.
+ *
+ * <p>Boards with more than {@link #MAX_BOARD_SIDE} rows or columns are rejected: their tiles would
+ * have to be smaller than 4 pixels to fit the canvas, and the cached layers would outgrow what the
+ * graphics card can hold.
+ */
+public final class SnlCanvasBoardView extends Pane implements BoardObserver<LinearPos> {
+
+  /** Largest board drawn with {@link SnlBoardView}; bigger boards use this renderer. */
+  public static final int NODE_RENDERER_LIMIT = 400;
+  /** System property that selects this renderer for every board when set to true. */
+  public static final String CANVAS_RENDERER_PROPERTY = "boardgame.snl.canvasRenderer";
+
+  private static final double MAX_TILE_SIZE = 60;
+  private static final double MIN_TILE_SIZE = 4;
+  /** Gap between tiles as a share of the tile size. */
+  private static final double GAP_RATIO = 1.0 / 12;
+  /** Largest canvas side in pixels. Tiles shrink so that the board fits. */
+  private static final double MAX_CANVAS_SIZE = 2_048;
+  /** Most rows or columns a board drawn by this renderer may have. */
+  public static final int MAX_BOARD_SIDE =
+      (int) (MAX_CANVAS_SIZE / (MIN_TILE_SIZE * (1 + GAP_RATIO)));
+  /** Tiles smaller than this are drawn without their number. */
+  private static final double MIN_LABELLED_TILE_SIZE = 20;
+  private static final double TOKEN_RADIUS_RATIO = 7.0 / 60;
+
+  private final SnlBoard boardModel;
+  private final SnlBoardGeometry geometry;
+  private final Canvas canvas;
+  private final Image backgroundLayer;
+  private final Image connectorLayer;
+  private IntConsumer onTileClick = position -> {};
+
+  /**
+   * Constructs a canvas board view and starts listening to the board's changes.
+   *
+   * @param boardModel The {@link SnlBoard} model this view represents.
+   * @throws IllegalArgumentException if the board cannot be drawn, see {@link #canDraw}.
+   */
+  public SnlCanvasBoardView(SnlBoard boardModel) {
+    if (!canDraw(boardModel)) {
+      throw new IllegalArgumentException(
+          "Board with "
+              + boardModel.getRows()
+              + "x"
+              + boardModel.getCols()
+              + " tiles is too large to draw; at most "
+              + MAX_BOARD_SIDE
+              + " tiles per side are supported");
+    }
+    this.boardModel = boardModel;
+    double tileSize = tileSizeFor(boardModel);
+    this.geometry =
+        new SnlBoardGeometry(
+            boardModel.getRows(), boardModel.getCols(), tileSize, tileSize * GAP_RATIO);
+    this.canvas = new Canvas(geometry.getWidth(), geometry.getHeight());
+    this.backgroundLayer = renderLayer(this::paintBackground, Color.WHITE);
+    this.connectorLayer = renderLayer(this::paintConnectors, Color.TRANSPARENT);
+
+    canvas.setOnMouseClicked(
+        e -> {
+          int position = geometry.positionAt(e.getX(), e.getY());
+          if (position > 0) {
+            onTileClick.accept(position);
+          }
+        });
+    getChildren().add(canvas);
+
+    repaintAll();
+    boardModel.addBoardObserver(this);
+  }
+
+  /**
+   * Checks whether a board should be drawn by this renderer rather than {@link SnlBoardView}.
+   *
+   * @param board The board.
+   * @return True if the board is large or the canvas renderer was requested.
+   */
+  public static boolean isPreferredFor(SnlBoard board) {
+    return board.getBoardSize() > NODE_RENDERER_LIMIT
+        || Boolean.getBoolean(CANVAS_RENDERER_PROPERTY);
+  }
+
+  /**
+   * Checks whether a board is small enough for this renderer, so that its tiles are at least 4
+   * pixels and the canvas is at most 2048 pixels wide and high.
+   *
+   * @param board The board.
+   * @return True if neither side has more than {@link #MAX_BOARD_SIDE} tiles.
+   */
+  public static boolean canDraw(SnlBoard board) {
+    return board.getRows() <= MAX_BOARD_SIDE && board.getCols() <= MAX_BOARD_SIDE;
+  }
+
+  private static double tileSizeFor(SnlBoard board) {
+    int longestSide = Math.max(board.getRows(), board.getCols());
+    double fitting = MAX_CANVAS_SIZE / longestSide / (1 + GAP_RATIO);
+    return Math.max(MIN_TILE_SIZE, Math.min(MAX_TILE_SIZE, Math.floor(fitting)));
+  }
+
+  /**
+   * Sets what happens when a tile is clicked.
+   *
+   * @param onTileClick Receives the 1-based position of the clicked tile.
+   */
+  public void setOnTileClick(IntConsumer onTileClick) {
+    this.onTileClick = onTileClick;
+  }
+
+  @Override
+  public void onBoardChanged(BoardChangeSet<LinearPos> changes) {
+    GraphicsContext gc = canvas.getGraphicsContext2D();
+    for (Tile<LinearPos> tile : changes.getChangedTiles()) {
+      repaintTile(gc, ((SnlTile) tile).getPosition());
+    }
+  }
+
+  private Image renderLayer(Consumer<GraphicsContext> painter, Color fill) {
+    Canvas layer = new Canvas(geometry.getWidth(), geometry.getHeight());
+    painter.accept(layer.getGraphicsContext2D());
+    SnapshotParameters parameters = new SnapshotParameters();
+    parameters.setFill(fill);
+    return layer.snapshot(parameters, null);
+  }
+
+  private void paintBackground(GraphicsContext gc) {
+    double size = geometry.getTileSize();
+    boolean labelled = size >= MIN_LABELLED_TILE_SIZE;
+    gc.setFont(Font.font(10));
+    gc.setTextAlign(TextAlignment.CENTER);
+    gc.setTextBaseline(VPos.TOP);
+    for (int pos = 1; pos <= boardModel.getBoardSize(); pos++) {
+      double x = geometry.getTileX(pos);
+      double y = geometry.getTileY(pos);
+      gc.setFill(Color.BEIGE);
+      gc.fillRoundRect(x, y, size, size, 5, 5);
+      if (labelled) {
+        gc.setStroke(Color.DARKGRAY);
+        gc.strokeRoundRect(x + 0.5, y + 0.5, size - 1, size - 1, 5, 5);
+        gc.setFill(Color.BLACK);
+        gc.fillText(String.valueOf(pos), x + size / 2, y + 2);
+      }
+    }
+  }
+
+  private void paintConnectors(GraphicsContext gc) {
+    gc.setLineWidth(Math.max(1, 3 * geometry.getTileSize() / MAX_TILE_SIZE));
+    gc.setGlobalAlpha(0.7);
+    for (Connector connector : boardModel.getConnectors()) {
+      double[] start = geometry.getTileCenter(connector.getStart());
+      double[] end = geometry.getTileCenter(connector.getEnd());
+      gc.setStroke(connector.getColor());
+      gc.strokeLine(start[0], start[1], end[0], end[1]);
+    }
+  }
+
+  private void repaintAll() {
+    GraphicsContext gc = canvas.getGraphicsContext2D();
+    gc.drawImage(backgroundLayer, 0, 0);
+    SnlOccupancyIndex occupancy = boardModel.getOccupancy();
+    for (int pos = occupancy.nextOccupiedTile(1);
+        pos != SnlOccupancyIndex.NO_TILE;
+        pos = occupancy.nextOccupiedTile(pos + 1)) {
+      paintTokens(gc, pos);
+    }
+    gc.drawImage(connectorLayer, 0, 0);
+  }
+
+  /** Repaints one tile's rectangle: background, tokens, then the connectors crossing it. */
+  private void repaintTile(GraphicsContext gc, int pos) {
+    double x = geometry.getTileX(pos);
+    double y = geometry.getTileY(pos);
+    double size = geometry.getTileSize();
+    gc.drawImage(backgroundLayer, x, y, size, size, x, y, size, size);
+    paintTokens(gc, pos);
+    gc.drawImage(connectorLayer, x, y, size, size, x, y, size, size);
+  }
+
+  private void paintTokens(GraphicsContext gc, int pos) {
+    List<Player<LinearPos>> players = boardModel.getOccupancy().playersOn(pos);
+    if (players.isEmpty()) {
+      return;
+    }
+    double size = geometry.getTileSize();
+    double radius = Math.max(1, size * TOKEN_RADIUS_RATIO);
+    double step = Math.min(radius * 2 - radius * 5 / 7, (size - 2 * radius) / players.size());
+    double[] center = geometry.getTileCenter(pos);
+    double firstX = center[0] - step * (players.size() - 1) / 2;
+    double y = center[1] + (size >= MIN_LABELLED_TILE_SIZE ? size / 8 : 0);
+    for (int i = 0; i < players.size(); i++) {
+      gc.setFill(PlayerColorMapper.toPaint(players.get(i).getColor()));
+      gc.fillOval(firstX + i * step - radius, y - radius, radius * 2, radius * 2);
+    }
+  }
+}
@@ -0,0 +1,40 @@
+package edu.ntnu.idi.idatt.boardgame.games.snakesandladders.view;
+
+/**
+ * Decides how long a token move may be animated for. It keeps an exponential moving average of
+ * the time between moves and gives each move a share of that interval, so animations finish
+ * before the next move arrives. Moves that come too fast to show get no animation at all.
+ */
+final class SnlMovePacer {
+
+  /** Longest a single move is animated for. */
+  static final double MAX_MOVE_MILLIS = 400;
+  /** Moves that would be shorter than this are not animated at all. */
+  static final double MIN_MOVE_MILLIS = 30;
+  /** Share of the time between moves that the animation of a move may take. */
+  static final double MOVE_SHARE = 0.8;
+  /** Weight of the newest interval in the running average of time between moves. */
+  static final double INTERVAL_SMOOTHING = 0.3;
+
+  private long lastMoveNanos;
+  private boolean started;
+  private double averageIntervalMillis = MAX_MOVE_MILLIS / MOVE_SHARE;
+
+  /**
+   * Records a move and gets how long it may be animated for. The first move is animated for the
+   * longest time.
+   *
+   * @param nowNanos The time of the move, from {@link System#nanoTime()}.
+   * @return The duration in milliseconds, or 0 if the move should not be animated.
+   */
+  double nextMoveMillis(long nowNanos) {
+    if (started) {
+      double intervalMillis = (nowNanos - lastMoveNanos) / 1_000_000.0;
+      averageIntervalMillis += INTERVAL_SMOOTHING * (intervalMillis - averageIntervalMillis);
+    }
+    started = true;
+    lastMoveNanos = nowNanos;
+    double millis = Math.min(MAX_MOVE_MILLIS, averageIntervalMillis * MOVE_SHARE);
+    return millis < MIN_MOVE_MILLIS ? 0 : millis;
+  }
+}
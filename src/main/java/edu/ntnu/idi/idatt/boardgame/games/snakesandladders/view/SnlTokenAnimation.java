@@ -0,0 +1,85 @@
+package edu.ntnu.idi.idatt.boardgame.games.snakesandladders.view;
+
+import javafx.animation.Interpolator;
+import javafx.animation.Transition;
+import javafx.scene.Node;
+import javafx.util.Duration;
+
+/**
+ * Moves one player token along an {@link SnlTokenPath}, for example from where it stood to the
+ * foot of a ladder and on to the top, as a single interpolated transition. Each token keeps one
+ * instance that is reused for every move, so animating allocates no nodes.
+ */
+final class SnlTokenAnimation extends Transition {
+
+  private final Node token;
+  private final SnlTokenPath path = new SnlTokenPath();
+  /** Reused output of {@link SnlTokenPath#pointAt}. */
+  private final double[] point = new double[2];
+
+  /**
+   * Constructs the animation for a token.
+   *
+   * @param token The node to move through its translate properties.
+   */
+  SnlTokenAnimation(Node token) {
+    this.token = token;
+    setInterpolator(Interpolator.EASE_BOTH);
+  }
+
+  /**
+   * Stops any running move and starts a new path at the token's current location, so an
+   * interrupted move continues smoothly from wherever the token is.
+   */
+  void beginPath() {
+    stop();
+    path.reset(token.getTranslateX(), token.getTranslateY());
+  }
+
+  /**
+   * Adds the next point of the path.
+   *
+   * @param x The x coordinate.
+   * @param y The y coordinate.
+   * @throws IllegalStateException if the path already has the maximum number of points.
+   */
+  void addPoint(double x, double y) {
+    path.addPoint(x, y);
+  }
+
+  /**
+   * Moves the token along the path. A zero duration places it at the end straight away.
+   *
+   * @param duration How long the whole move takes.
+   */
+  void playPath(Duration duration) {
+    if (path.size() < 2) {
+      return;
+    }
+    if (duration.lessThanOrEqualTo(Duration.ZERO) || path.length() == 0) {
+      interpolate(1);
+      return;
+    }
+    setCycleDuration(duration);
+    playFromStart();
+  }
+
+  /**
+   * Places the token at a point without animating.
+   *
+   * @param x The x coordinate.
+   * @param y The y coordinate.
+   */
+  void jumpTo(double x, double y) {
+    stop();
+    token.setTranslateX(x);
+    token.setTranslateY(y);
+  }
+
+  @Override
+  protected void interpolate(double frac) {
+    path.pointAt(frac, point);
+    token.setTranslateX(point[0]);
+    token.setTranslateY(point[1]);
+  }
+}
@@ -0,0 +1,89 @@
+package edu.ntnu.idi.idatt.boardgame.games.snakesandladders.view;
+
+/**
+ * A short polyline a token travels along, such as from where it stood to the foot of a ladder and
+ * on to the top. Points are kept in fixed arrays so one path can be reused for every move.
+ */
+final class SnlTokenPath {
+
+  /** Start, connector start and final tile. */
+  static final int MAX_POINTS = 3;
+
+  private final double[] xs = new double[MAX_POINTS];
+  private final double[] ys = new double[MAX_POINTS];
+  /** {@code distances[i]} is the path length from the first point to point {@code i}. */
+  private final double[] distances = new double[MAX_POINTS];
+  private int points;
+
+  /**
+   * Clears the path and starts it at a point.
+   *
+   * @param x The x coordinate.
+   * @param y The y coordinate.
+   */
+  void reset(double x, double y) {
+    points = 0;
+    addPoint(x, y);
+  }
+
+  /**
+   * Adds the next point of the path.
+   *
+   * @param x The x coordinate.
+   * @param y The y coordinate.
+   * @throws IllegalStateException if the path already has the maximum number of points.
+   */
+  void addPoint(double x, double y) {
+    if (points == MAX_POINTS) {
+      throw new IllegalStateException("Token path is full");
+    }
+    xs[points] = x;
+    ys[points] = y;
+    distances[points] =
+        points == 0
+            ? 0
+            : distances[points - 1] + Math.hypot(x - xs[points - 1], y - ys[points - 1]);
+    points++;
+  }
+
+  /**
+   * Gets the number of points on the path.
+   *
+   * @return The number of points.
+   */
+  int size() {
+    return points;
+  }
+
+  /**
+   * Gets the total length of the path.
+   *
+   * @return The length, 0 if the path has fewer than two points.
+   */
+  double length() {
+    return points == 0 ? 0 : distances[points - 1];
+  }
+
+  /**
+   * Finds the point that lies a fraction of the way along the path, measured by distance, so the
+   * token moves at the same speed on every segment.
+   *
+   * @param frac The fraction of the length, from 0 to 1.
+   * @param out Receives the x and y coordinates, in that order.
+   * @throws IllegalStateException if the path has fewer than two points.
+   */
+  void pointAt(double frac, double[] out) {
+    if (points < 2) {
+      throw new IllegalStateException("Token path needs at least two points");
+    }
+    double travelled = frac * distances[points - 1];
+    int segment = 1;
+    while (segment < points - 1 && distances[segment] < travelled) {
+      segment++;
+    }
+    double segmentLength = distances[segment] - distances[segment - 1];
+    double t = segmentLength == 0 ? 1 : (travelled - distances[segment - 1]) / segmentLength;
+    out[0] = xs[segment - 1] + t * (xs[segment] - xs[segment - 1]);
+    out[1] = ys[segment - 1] + t * (ys[segment] - ys[segment - 1]);
+  }
+}
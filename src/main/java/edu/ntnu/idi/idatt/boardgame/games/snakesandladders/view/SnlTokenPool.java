@@ -0,0 +1,75 @@
+package edu.ntnu.idi.idatt.boardgame.games.snakesandladders.view;
+
+import edu.ntnu.idi.idatt.boardgame.core.domain.player.LinearPos;
+import edu.ntnu.idi.idatt.boardgame.core.domain.player.Player;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Holds one token per player, together with the tile it is shown on. A token is created the first
+ * time its player is shown and reused for every later move, so moving players creates no nodes.
+ *
+ * @param <T> The type of token.
+ */
+final class SnlTokenPool<T> {
+
+  /** Returned by {@link #shownTile} for a player that has no token yet. */
+  static final int NOT_SHOWN = 0;
+
+  private final Function<Player<LinearPos>, T> factory;
+  private final Map<Player<LinearPos>, Entry<T>> entries = new HashMap<>();
+
+  /**
+   * Constructs an empty pool.
+   *
+   * @param factory Creates the token of a player the first time the player is shown.
+   */
+  SnlTokenPool(Function<Player<LinearPos>, T> factory) {
+    this.factory = factory;
+  }
+
+  /**
+   * Gets the tile a player's token is shown on.
+   *
+   * @param player The player.
+   * @return The 1-based tile, or {@link #NOT_SHOWN} if the player has no token.
+   */
+  int shownTile(Player<LinearPos> player) {
+    Entry<T> entry = entries.get(player);
+    return entry == null ? NOT_SHOWN : entry.shownTile;
+  }
+
+  /**
+   * Records that a player's token is now shown on a tile, creating the token if the player has
+   * none.
+   *
+   * @param player The player.
+   * @param tile The 1-based tile.
+   * @return The player's token.
+   */
+  T show(Player<LinearPos> player, int tile) {
+    Entry<T> entry = entries.computeIfAbsent(player, p -> new Entry<>(factory.apply(p)));
+    entry.shownTile = tile;
+    return entry.token;
+  }
+
+  /**
+   * Gets the number of tokens created so far.
+   *
+   * @return The number of tokens.
+   */
+  int size() {
+    return entries.size();
+  }
+
+  private static final class Entry<T> {
+
+    private final T token;
+    private int shownTile = NOT_SHOWN;
+
+    private Entry(T token) {
+      this.token = token;
+    }
+  }
+}
@@ -3,10 +3,18 @@ package edu.ntnu.idi.idatt.boardgame.games.snakesandladders.view;
 import edu.ntnu.idi.idatt.boardgame.core.domain.player.LinearPos;
 import edu.ntnu.idi.idatt.boardgame.core.domain.player.Player;
 import edu.ntnu.idi.idatt.boardgame.core.engine.controller.GameController;
-import edu.ntnu.idi.idatt.boardgame.core.engine.event.GameObserver;
+import edu.ntnu.idi.idatt.boardgame.core.engine.event.BackpressurePolicy;
+import edu.ntnu.idi.idatt.boardgame.core.engine.event.GameEvent;
+import edu.ntnu.idi.idatt.boardgame.core.engine.event.GameFinishedEvent;
+import edu.ntnu.idi.idatt.boardgame.core.engine.event.LoadedEvent;
+import edu.ntnu.idi.idatt.boardgame.core.engine.event.RingBufferEventDispatcher;
 import edu.ntnu.idi.idatt.boardgame.games.snakesandladders.domain.board.SnlBoard;
 import edu.ntnu.idi.idatt.boardgame.games.snakesandladders.engine.controller.SnlController;
+import edu.ntnu.idi.idatt.boardgame.ui.util.FxEventPump;
+import java.util.List;
+import java.util.stream.Collectors;
 import javafx.geometry.Insets;
+import javafx.scene.Node;
 import javafx.scene.control.Button;
 import javafx.scene.control.Label;
 import javafx.scene.layout.BorderPane;
@@ -14,9 +22,14 @@ import javafx.scene.layout.VBox;
 
 /**
  * The main view for the Snakes and Ladders game. It displays the game board, a roll dice button,
- * and a log label. Implements {@link GameObserver} to react to game state changes.
+ * and a log label. The controller's {@link GameEvent}s are queued in a
+ * {@link RingBufferEventDispatcher} and applied once per frame by an {@link FxEventPump}, so the
+ * game never waits for the view to redraw.
  */
-public final class SnlView implements GameObserver<LinearPos> {
+public final class SnlView {
+
+  /** Number of events that can wait for the next frame before older ones are coalesced. */
+  private static final int EVENT_BUFFER_SIZE = 1_024;
 
   private final Button rollDiceButton;
   private final Label logLabel;
@@ -33,7 +46,16 @@ public final class SnlView implements GameObserver<LinearPos> {
     logLabel.setWrapText(true);
 
     SnlBoard board = (SnlBoard) controller.getGameBoard();
-    SnlBoardView boardView = new SnlBoardView(board);
+    Node boardView;
+    if (!SnlCanvasBoardView.isPreferredFor(board)) {
+      boardView = new SnlBoardView(board);
+    } else if (SnlCanvasBoardView.canDraw(board)) {
+      SnlCanvasBoardView canvasView = new SnlCanvasBoardView(board);
+      canvasView.setOnTileClick(position -> logLabel.setText(describeTile(board, position)));
+      boardView = canvasView;
+    } else {
+      boardView = new Label("This board is too large to draw. Moves are shown in the game log.");
+    }
 
     VBox mainLayout = new VBox(10);
     mainLayout.setPadding(new Insets(10));
@@ -42,8 +64,15 @@ public final class SnlView implements GameObserver<LinearPos> {
     root.setCenter(mainLayout);
 
     setupRollDiceButton(controller);
-    controller.addObserver(this);
-    update("Game started. It's " + controller.getCurrentPlayer().getName() + "'s turn.");
+    RingBufferEventDispatcher dispatcher =
+        new RingBufferEventDispatcher(EVENT_BUFFER_SIZE, BackpressurePolicy.COALESCE);
+    controller.addListener(GameEvent.class, dispatcher);
+    FxEventPump events = new FxEventPump(dispatcher);
+    events.addListener(GameEvent.class, event -> logLabel.setText(event.describe()));
+    events.addListener(LoadedEvent.class, event -> rollDiceButton.setDisable(false));
+    events.addListener(GameFinishedEvent.class, this::onGameFinished);
+    events.bindTo(root);
+    logLabel.setText("Game started. It's " + controller.getCurrentPlayer().getName() + "'s turn.");
   }
 
   private void setupRollDiceButton(GameController<LinearPos> controller) {
@@ -55,18 +84,25 @@ public final class SnlView implements GameObserver<LinearPos> {
         });
   }
 
-  @Override
-  public void update(String message) {
-    logLabel.setText(message);
-
-    if (rollDiceButton.isDisable() && !message.contains("wins!")) { // A bit heuristic
-      rollDiceButton.setDisable(false);
+  /** Describes a clicked tile: where a connector on it leads and who stands on it. */
+  private static String describeTile(SnlBoard board, int position) {
+    StringBuilder text = new StringBuilder("Tile ").append(position);
+    int destination = board.finalDestination(position);
+    if (destination < position) {
+      text.append(": snake down to ").append(destination);
+    } else if (destination > position) {
+      text.append(": ladder up to ").append(destination);
+    }
+    List<Player<LinearPos>> players = board.getOccupancy().playersOn(position);
+    if (!players.isEmpty()) {
+      text.append(". Here: ")
+          .append(players.stream().map(Player::getName).collect(Collectors.joining(", ")));
     }
+    return text.append('.').toString();
   }
 
-  @Override
-  public void gameFinished(Player<LinearPos> currentPlayer) {
-    logLabel.setText(currentPlayer.getName() + " wins!");
+  private void onGameFinished(GameFinishedEvent event) {
+    logLabel.setText(event.player().getName() + " wins!");
     rollDiceButton.setDisable(true);
   }
 
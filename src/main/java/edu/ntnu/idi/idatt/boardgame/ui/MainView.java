@@ -4,10 +4,12 @@ import edu.ntnu.idi.idatt.boardgame.core.engine.controller.GameController;
 import edu.ntnu.idi.idatt.boardgame.games.cluedo.engine.controller.CluedoController;
 import edu.ntnu.idi.idatt.boardgame.games.cluedo.persistence.JsonCluedoGameStateRepository;
 import edu.ntnu.idi.idatt.boardgame.games.cluedo.view.CluedoView;
+import edu.ntnu.idi.idatt.boardgame.games.snakesandladders.domain.board.SnlBoard;
 import edu.ntnu.idi.idatt.boardgame.games.snakesandladders.engine.controller.SnlController;
 import edu.ntnu.idi.idatt.boardgame.games.snakesandladders.persistence.JsonSnlGameStateRepository;
 import edu.ntnu.idi.idatt.boardgame.games.snakesandladders.view.SnlView;
 import edu.ntnu.idi.idatt.boardgame.ui.dto.PlayerSetupDetails;
+import edu.ntnu.idi.idatt.boardgame.ui.util.FxGameScheduler;
 import edu.ntnu.idi.idatt.boardgame.ui.util.LoggingNotification;
 import edu.ntnu.idi.idatt.boardgame.ui.view.ChooseGameView;
 import edu.ntnu.idi.idatt.boardgame.ui.view.PlayerConfigurationView;
@@ -15,8 +17,10 @@ import java.io.File;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.security.SecureRandom;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Random;
 import javafx.application.Platform;
 import javafx.geometry.Insets;
 import javafx.geometry.Pos;
@@ -160,7 +164,7 @@ public final class MainView {
     try {
       if (ChooseGameView.GAME_SNAKES_AND_LADDERS.equals(gameType)) {
         JsonSnlGameStateRepository repo = new JsonSnlGameStateRepository();
-        SnlController snlController = new SnlController(playerDetailsList, repo);
+        SnlController snlController = newSnlController(playerDetailsList, repo);
         this.currentController = snlController;
         SnlView snlView = new SnlView(snlController);
         contentWrapper.getChildren().setAll(snlView.getRoot());
@@ -168,7 +172,7 @@ public final class MainView {
         loadGameButton.setDisable(false);
       } else if (ChooseGameView.GAME_CLUEDO.equals(gameType)) {
         JsonCluedoGameStateRepository cluedoRepo = new JsonCluedoGameStateRepository();
-        CluedoController cluedoController = new CluedoController(playerDetailsList, cluedoRepo);
+        CluedoController cluedoController = newCluedoController(playerDetailsList, cluedoRepo);
         this.currentController = cluedoController;
         CluedoView cluedoView = new CluedoView(cluedoController);
         contentWrapper.getChildren().setAll(cluedoView.getRoot());
@@ -191,6 +195,27 @@ public final class MainView {
     }
   }
 
+  /** Creates a Snakes and Ladders controller that shows its messages as toasts. */
+  private static SnlController newSnlController(
+      List<PlayerSetupDetails> playerDetailsList, JsonSnlGameStateRepository repo) {
+    return new SnlController(
+        playerDetailsList, repo, new SnlBoard(), new Random(), LoggingNotification::show);
+  }
+
+  /**
+   * Creates a Cluedo controller that shows its messages as toasts and runs delayed game logic on
+   * the JavaFX timeline.
+   */
+  private static CluedoController newCluedoController(
+      List<PlayerSetupDetails> playerDetailsList, JsonCluedoGameStateRepository repo) {
+    return new CluedoController(
+        playerDetailsList,
+        repo,
+        new SecureRandom(),
+        new FxGameScheduler(),
+        LoggingNotification::show);
+  }
+
   private String getGameDisplayName(String type) {
     if (ChooseGameView.GAME_SNAKES_AND_LADDERS.equals(type)) {
       return "Snakes and Ladders";
@@ -275,7 +300,7 @@ public final class MainView {
             try {
               JsonCluedoGameStateRepository cluedoRepo = new JsonCluedoGameStateRepository();
               CluedoController cluedoController =
-                  new CluedoController(emptyPlayerDetails, cluedoRepo);
+                  newCluedoController(emptyPlayerDetails, cluedoRepo);
               this.currentController = cluedoController; // Set controller BEFORE load
               cluedoController.loadGameState(
                   filePath); // Now load can populate players in the controller
@@ -295,7 +320,7 @@ public final class MainView {
             logger.info("Attempting to load as Snakes and Ladders game: {}", filePath);
             try {
               JsonSnlGameStateRepository snlRepo = new JsonSnlGameStateRepository();
-              SnlController snlController = new SnlController(emptyPlayerDetails, snlRepo);
+              SnlController snlController = newSnlController(emptyPlayerDetails, snlRepo);
               this.currentController = snlController;
               snlController.loadGameState(filePath);
               SnlView snlView = new SnlView(snlController);
@@ -0,0 +1,143 @@
+package edu.ntnu.idi.idatt.boardgame.ui.util;
+
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.function.Consumer;
+import javafx.animation.AnimationTimer;
+import javafx.scene.Node;
+
+/**
+ * Refreshes parts of a view at most once per JavaFX pulse. Changed parts are marked dirty from any
+ * thread; on the next pulse every dirty part is refreshed once, in the order it was first marked,
+ * however many times it was marked in between.
+ *
+ * <p>The scheduler counts refreshes and the marks that were folded into an already pending
+ * refresh, so the saving over refreshing on every change can be observed.
+ *
+ * @param <K> The type identifying a part of the view.
+ */
+public final class FxDirtySetScheduler<K> {
+
+  private final Consumer<? super K> refresher;
+  private final AnimationTimer timer =
+      new AnimationTimer() {
+        @Override
+        public void handle(long now) {
+          flush();
+        }
+      };
+  private Set<K> dirty = new LinkedHashSet<>();
+  private Set<K> flushing = new LinkedHashSet<>();
+  private long refreshCount;
+  private long coalescedCount;
+  private boolean running;
+
+  /**
+   * Constructs a scheduler.
+   *
+   * @param refresher Refreshes one dirty part. Called on the JavaFX Application Thread.
+   */
+  public FxDirtySetScheduler(Consumer<? super K> refresher) {
+    this.refresher = refresher;
+  }
+
+  /**
+   * Marks a part as needing a refresh on the next pulse. Safe to call from any thread.
+   *
+   * @param key The part that changed.
+   */
+  public void markDirty(K key) {
+    synchronized (this) {
+      if (!dirty.add(key)) {
+        coalescedCount++;
+      }
+    }
+  }
+
+  /**
+   * Refreshes every dirty part immediately. Parts marked while refreshing wait for the next flush.
+   *
+   * @return The number of parts refreshed.
+   */
+  public int flush() {
+    Set<K> batch;
+    synchronized (this) {
+      if (dirty.isEmpty()) {
+        return 0;
+      }
+      batch = dirty;
+      dirty = flushing;
+      flushing = batch;
+      refreshCount += batch.size();
+    }
+    batch.forEach(refresher);
+    int refreshed = batch.size();
+    batch.clear();
+    return refreshed;
+  }
+
+  /** Starts refreshing dirty parts on every pulse. */
+  public void start() {
+    if (!running) {
+      running = true;
+      timer.start();
+    }
+  }
+
+  /** Stops refreshing. Parts stay dirty until the scheduler is started or flushed again. */
+  public void stop() {
+    if (running) {
+      running = false;
+      timer.stop();
+    }
+  }
+
+  /**
+   * Checks whether dirty parts are being refreshed on every pulse.
+   *
+   * @return True if the scheduler is running.
+   */
+  public boolean isRunning() {
+    return running;
+  }
+
+  /**
+   * Runs the scheduler only while the node is part of a scene, so a view that is no longer shown
+   * stops receiving pulses and can be garbage collected.
+   *
+   * @param node The view's root node.
+   */
+  public void bindTo(Node node) {
+    if (node.getScene() != null) {
+      start();
+    }
+    node.sceneProperty()
+        .addListener(
+            (obs, oldScene, newScene) -> {
+              if (newScene == null) {
+                stop();
+              } else {
+                start();
+              }
+            });
+  }
+
+  /**
+   * Gets the number of refreshes made so far.
+   *
+   * @return The number of refreshes.
+   */
+  public synchronized long getRefreshCount() {
+    return refreshCount;
+  }
+
+  /**
+   * Gets the number of marks that did not cause a refresh of their own because the part was
+   * already dirty.
+   *
+   * @return The number of coalesced marks.
+   */
+  public synchronized long getCoalescedCount() {
+    return coalescedCount;
+  }
+}
@@ -0,0 +1,168 @@
+package edu.ntnu.idi.idatt.boardgame.ui.util;
+
+import edu.ntnu.idi.idatt.boardgame.core.engine.event.EventListenerRegistry;
+import edu.ntnu.idi.idatt.boardgame.core.engine.event.GameEvent;
+import edu.ntnu.idi.idatt.boardgame.core.engine.event.RingBufferEventDispatcher;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+import javafx.animation.AnimationTimer;
+import javafx.application.Platform;
+import javafx.scene.Node;
+
+/**
+ * Delivers game events from a {@link RingBufferEventDispatcher} to listeners on the JavaFX
+ * Application Thread. On every pulse it drains at most one batch of waiting events, so a burst of
+ * events is spread over several frames instead of freezing one of them. While the dispatcher is
+ * empty the pulse timer is stopped, and the next offered event starts it again, so an idle view
+ * costs nothing per frame.
+ *
+ * <p>Listeners are registered here by event type, exactly as on a controller. Must be used on the
+ * JavaFX Application Thread.
+ */
+public final class FxEventPump {
+
+  /** Default largest number of events delivered per pulse. */
+  public static final int DEFAULT_BATCH_SIZE = 256;
+
+  private final RingBufferEventDispatcher dispatcher;
+  private final EventListenerRegistry listeners = new EventListenerRegistry();
+  private final int batchSize;
+  private final AnimationTimer timer =
+      new AnimationTimer() {
+        @Override
+        public void handle(long now) {
+          pump();
+          if (dispatcher.size() == 0) {
+            pauseUntilOffered();
+          }
+        }
+      };
+  private volatile boolean running;
+  /** Set while the timer is stopped because the dispatcher was empty. */
+  private final AtomicBoolean idle = new AtomicBoolean();
+
+  /**
+   * Constructs a pump that delivers up to {@link #DEFAULT_BATCH_SIZE} events per pulse.
+   *
+   * @param dispatcher The dispatcher to drain.
+   */
+  public FxEventPump(RingBufferEventDispatcher dispatcher) {
+    this(dispatcher, DEFAULT_BATCH_SIZE);
+  }
+
+  /**
+   * Constructs a pump.
+   *
+   * @param dispatcher The dispatcher to drain.
+   * @param batchSize The largest number of events delivered per pulse.
+   * @throws IllegalArgumentException if the batch size is not positive.
+   */
+  public FxEventPump(RingBufferEventDispatcher dispatcher, int batchSize) {
+    if (batchSize <= 0) {
+      throw new IllegalArgumentException("Batch size must be positive");
+    }
+    this.dispatcher = dispatcher;
+    this.batchSize = batchSize;
+    dispatcher.setOnOffer(this::wakeUp);
+  }
+
+  /**
+   * Adds a listener for one type of game event.
+   *
+   * @param type The event type to listen for.
+   * @param listener The listener to add.
+   * @param <E> The event type.
+   */
+  public <E extends GameEvent> void addListener(Class<E> type, Consumer<? super E> listener) {
+    listeners.add(type, listener);
+  }
+
+  /**
+   * Removes a listener from every event type it was added for.
+   *
+   * @param listener The listener to remove.
+   */
+  public void removeListener(Consumer<?> listener) {
+    listeners.remove(listener);
+  }
+
+  /**
+   * Delivers one batch of waiting events immediately.
+   *
+   * @return The number of events delivered.
+   */
+  public int pump() {
+    return dispatcher.drain(listeners::publish, batchSize);
+  }
+
+  /** Starts delivering events on every pulse while any are waiting. */
+  public void start() {
+    if (!running) {
+      running = true;
+      idle.set(false);
+      timer.start();
+    }
+  }
+
+  /** Stops delivering events. Events keep queueing in the dispatcher until it is started again. */
+  public void stop() {
+    if (running) {
+      running = false;
+      timer.stop();
+    }
+  }
+
+  /**
+   * Stops the timer until the next event is offered. The dispatcher is checked again after the
+   * pump is marked idle, so an event offered in between is not left waiting.
+   */
+  private void pauseUntilOffered() {
+    timer.stop();
+    idle.set(true);
+    if (dispatcher.size() != 0 && idle.compareAndSet(true, false)) {
+      timer.start();
+    }
+  }
+
+  /** Runs on the producer thread after every offered event. */
+  private void wakeUp() {
+    if (running && idle.compareAndSet(true, false)) {
+      Platform.runLater(
+          () -> {
+            if (running) {
+              timer.start();
+            }
+          });
+    }
+  }
+
+  /**
+   * Checks whether events are being delivered.
+   *
+   * @return True if the pump is running.
+   */
+  public boolean isRunning() {
+    return running;
+  }
+
+  /**
+   * Runs the pump only while the node is part of a scene, so a view that is no longer shown stops
+   * receiving pulses and can be garbage collected.
+   *
+   * @param node The view's root node.
+   */
+  public void bindTo(Node node) {
+    if (node.getScene() != null) {
+      start();
+    }
+    node.sceneProperty()
+        .addListener(
+            (obs, oldScene, newScene) -> {
+              if (newScene == null) {
+                stop();
+              } else {
+                start();
+              }
+            });
+  }
+}
@@ -0,0 +1,19 @@
+package edu.ntnu.idi.idatt.boardgame.ui.util;
+
+import edu.ntnu.idi.idatt.boardgame.core.engine.runtime.GameScheduler;
+import javafx.animation.PauseTransition;
+import javafx.util.Duration;
+
+/**
+ * Runs delayed game logic on the JavaFX Application Thread after a {@link PauseTransition}, so the
+ * UI stays responsive while the game waits. Must be used on the JavaFX Application Thread.
+ */
+public final class FxGameScheduler implements GameScheduler {
+
+  @Override
+  public void schedule(long delayMillis, Runnable task) {
+    PauseTransition pause = new PauseTransition(Duration.millis(delayMillis));
+    pause.setOnFinished(event -> task.run());
+    pause.play();
+  }
+}
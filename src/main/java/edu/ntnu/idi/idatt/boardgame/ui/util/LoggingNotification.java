@@ -1,5 +1,6 @@
 package edu.ntnu.idi.idatt.boardgame.ui.util;
 
+import edu.ntnu.idi.idatt.boardgame.core.engine.runtime.LoggingType;
 import javafx.application.Platform;
 import javafx.geometry.Pos;
 import javafx.scene.image.ImageView;
@@ -3,6 +3,7 @@ package edu.ntnu.idi.idatt.boardgame.core.dice;
 import static org.junit.jupiter.api.Assertions.*;
 
 import edu.ntnu.idi.idatt.boardgame.core.domain.dice.Dice;
+import java.util.Random;
 import org.junit.jupiter.api.RepeatedTest;
 import org.junit.jupiter.api.Test;
 
@@ -30,4 +31,26 @@ class DiceTest {
     assertThrows(IllegalArgumentException.class, () -> dice.getDie(-1));
     assertThrows(IllegalArgumentException.class, () -> dice.getDie(2));
   }
+
+  @Test
+  void testSeededDiceAreReproducible() {
+    Dice first = new Dice(2, new Random(99));
+    Dice second = new Dice(2, new Random(99));
+    for (int i = 0; i < 100; i++) {
+      assertEquals(first.roll(), second.roll());
+      assertEquals(first.getDie(0), second.getDie(0));
+    }
+  }
+
+  @Test
+  void testBulkRollMatchesSingleRolls() {
+    Dice bulk = new Dice(2, new Random(5));
+    Dice single = new Dice(2, new Random(5));
+    int[] sums = new int[500];
+    bulk.roll(sums);
+    for (int sum : sums) {
+      assertEquals(single.roll(), sum);
+    }
+    assertEquals(single.getDie(1), bulk.getDie(1));
+  }
 }
@@ -3,6 +3,7 @@ package edu.ntnu.idi.idatt.boardgame.core.dice;
 import static org.junit.jupiter.api.Assertions.*;
 
 import edu.ntnu.idi.idatt.boardgame.core.domain.dice.Die;
+import java.util.SplittableRandom;
 import org.junit.jupiter.api.RepeatedTest;
 import org.junit.jupiter.api.Test;
 
@@ -20,4 +21,13 @@ class DieTest {
     int rolledValue = die.roll();
     assertEquals(rolledValue, die.getLastRolledValue());
   }
+
+  @Test
+  void seededDiceRollTheSameSequence() {
+    Die first = new Die(new SplittableRandom(17));
+    Die second = new Die(new SplittableRandom(17));
+    for (int i = 0; i < 100; i++) {
+      assertEquals(first.roll(), second.roll());
+    }
+  }
 }
@@ -0,0 +1,39 @@
+package edu.ntnu.idi.idatt.boardgame.core.dice;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import edu.ntnu.idi.idatt.boardgame.core.domain.dice.SumDistribution;
+import java.util.Arrays;
+import org.junit.jupiter.api.Test;
+
+class SumDistributionTest {
+  @Test
+  void testTwoDiceMatchesKnownTable() {
+    SumDistribution distribution = SumDistribution.of(2);
+    assertEquals(2, distribution.getMinSum());
+    assertEquals(12, distribution.getMaxSum());
+    assertEquals(6, distribution.ways(7));
+    assertEquals(1, distribution.ways(2));
+    assertEquals(0, distribution.ways(1));
+    assertEquals(6 / 36.0, distribution.probability(7), 1e-15);
+    assertEquals(0.0, distribution.probability(13));
+  }
+
+  @Test
+  void testProbabilitiesSumToOne() {
+    for (int k = 1; k <= 5; k++) {
+      assertEquals(1.0, Arrays.stream(SumDistribution.of(k).getProbabilities()).sum(), 1e-12);
+    }
+  }
+
+  @Test
+  void testDistributionIsCached() {
+    assertSame(SumDistribution.of(3), SumDistribution.of(3));
+  }
+
+  @Test
+  void testRejectsInvalidNumberOfDice() {
+    assertThrows(IllegalArgumentException.class, () -> SumDistribution.of(0));
+    assertThrows(IllegalArgumentException.class, () -> SumDistribution.of(25));
+  }
+}
@@ -0,0 +1,190 @@
+package edu.ntnu.idi.idatt.boardgame.core.engine.event;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+
+class RingBufferEventDispatcherTest {
+
+  private record Numbered(int number) implements GameEvent {
+
+    @Override
+    public String describe() {
+      return "Event " + number;
+    }
+  }
+
+  private record Other(int number) implements GameEvent {
+
+    @Override
+    public String describe() {
+      return "Other " + number;
+    }
+  }
+
+  private record Final(int number) implements GameEvent {
+
+    @Override
+    public String describe() {
+      return "Final " + number;
+    }
+
+    @Override
+    public boolean isDiscardable() {
+      return false;
+    }
+  }
+
+  private static List<String> drainDescriptions(RingBufferEventDispatcher dispatcher) {
+    List<String> descriptions = new ArrayList<>();
+    dispatcher.drain(event -> descriptions.add(event.describe()), Integer.MAX_VALUE);
+    return descriptions;
+  }
+
+  private static List<Integer> drainAll(RingBufferEventDispatcher dispatcher) {
+    List<Integer> numbers = new ArrayList<>();
+    dispatcher.drain(event -> numbers.add(((Numbered) event).number()), Integer.MAX_VALUE);
+    return numbers;
+  }
+
+  @Test
+  void constructor_roundsCapacityUpToPowerOfTwo() {
+    assertEquals(8, new RingBufferEventDispatcher(5, BackpressurePolicy.DROP).getCapacity());
+    assertEquals(1, new RingBufferEventDispatcher(1, BackpressurePolicy.DROP).getCapacity());
+    assertThrows(
+        IllegalArgumentException.class,
+        () -> new RingBufferEventDispatcher(0, BackpressurePolicy.DROP));
+  }
+
+  @Test
+  void drain_deliversInOrderAndRespectsBatchSize() {
+    RingBufferEventDispatcher dispatcher =
+        new RingBufferEventDispatcher(4, BackpressurePolicy.DROP);
+    for (int i = 0; i < 3; i++) {
+      dispatcher.offer(new Numbered(i));
+    }
+
+    List<Integer> first = new ArrayList<>();
+    assertEquals(2, dispatcher.drain(event -> first.add(((Numbered) event).number()), 2));
+    assertEquals(List.of(0, 1), first);
+    assertEquals(1, dispatcher.size());
+    assertEquals(List.of(2), drainAll(dispatcher));
+    assertEquals(0, dispatcher.size());
+  }
+
+  @Test
+  void offer_withDropPolicy_discardsEventsWhenFull() {
+    RingBufferEventDispatcher dispatcher =
+        new RingBufferEventDispatcher(2, BackpressurePolicy.DROP);
+
+    assertTrue(dispatcher.offer(new Numbered(0)));
+    assertTrue(dispatcher.offer(new Numbered(1)));
+    assertFalse(dispatcher.offer(new Numbered(2)));
+
+    assertEquals(1, dispatcher.getDroppedCount());
+    assertEquals(List.of(0, 1), drainAll(dispatcher));
+  }
+
+  @Test
+  void offer_withCoalescePolicy_keepsNewestOverflowAfterBufferedEvents() {
+    RingBufferEventDispatcher dispatcher =
+        new RingBufferEventDispatcher(2, BackpressurePolicy.COALESCE);
+    for (int i = 0; i < 5; i++) {
+      assertTrue(dispatcher.offer(new Numbered(i)));
+    }
+
+    assertEquals(2, dispatcher.getCoalescedCount());
+    assertEquals(List.of(0, 1, 4), drainAll(dispatcher));
+
+    dispatcher.offer(new Numbered(5));
+    assertEquals(List.of(5), drainAll(dispatcher));
+  }
+
+  @Test
+  void offer_withBlockPolicy_deliversEveryEventAcrossThreads() throws InterruptedException {
+    int total = 50_000;
+    RingBufferEventDispatcher dispatcher =
+        new RingBufferEventDispatcher(64, BackpressurePolicy.BLOCK);
+    Thread producer =
+        Thread.ofPlatform()
+            .start(
+                () -> {
+                  for (int i = 0; i < total; i++) {
+                    dispatcher.offer(new Numbered(i));
+                  }
+                });
+
+    List<Integer> received = new ArrayList<>(total);
+    while (received.size() < total) {
+      dispatcher.drain(event -> received.add(((Numbered) event).number()), 16);
+    }
+    producer.join();
+
+    assertEquals(IntStream.range(0, total).boxed().toList(), received);
+    assertEquals(0, dispatcher.getDroppedCount());
+  }
+
+  @Test
+  void offer_withCoalescePolicy_coalescesPerTypeAndKeepsUndiscardableEvents() {
+    RingBufferEventDispatcher dispatcher =
+        new RingBufferEventDispatcher(1, BackpressurePolicy.COALESCE);
+    dispatcher.offer(new Numbered(0));
+    dispatcher.offer(new Numbered(1));
+    dispatcher.offer(new Final(2));
+    dispatcher.offer(new Other(3));
+    dispatcher.offer(new Numbered(4));
+    dispatcher.offer(new Final(5));
+    dispatcher.offer(new Other(6));
+
+    assertEquals(2, dispatcher.getCoalescedCount());
+    assertEquals(
+        List.of("Event 0", "Final 2", "Event 4", "Final 5", "Other 6"),
+        drainDescriptions(dispatcher));
+    assertEquals(0, dispatcher.size());
+  }
+
+  @Test
+  void offer_withDropPolicy_neverDropsUndiscardableEvents() {
+    RingBufferEventDispatcher dispatcher =
+        new RingBufferEventDispatcher(1, BackpressurePolicy.DROP);
+    dispatcher.offer(new Numbered(0));
+
+    assertFalse(dispatcher.offer(new Numbered(1)));
+    assertTrue(dispatcher.offer(new Final(2)));
+    assertFalse(dispatcher.offer(new Numbered(3)));
+
+    assertEquals(2, dispatcher.getDroppedCount());
+    assertEquals(List.of("Event 0", "Final 2"), drainDescriptions(dispatcher));
+  }
+
+  @Test
+  void offer_withBlockPolicy_onConsumerThreadThrowsInsteadOfDeadlocking() {
+    RingBufferEventDispatcher dispatcher =
+        new RingBufferEventDispatcher(1, BackpressurePolicy.BLOCK);
+    dispatcher.drain(event -> {}, 1);
+    dispatcher.offer(new Numbered(0));
+
+    assertThrows(IllegalStateException.class, () -> dispatcher.offer(new Numbered(1)));
+    assertEquals(List.of(0), drainAll(dispatcher));
+  }
+
+  @Test
+  void setOnOffer_runsForEveryDeliverableEvent() {
+    RingBufferEventDispatcher dispatcher =
+        new RingBufferEventDispatcher(1, BackpressurePolicy.DROP);
+    int[] offered = new int[1];
+    dispatcher.setOnOffer(() -> offered[0]++);
+
+    dispatcher.offer(new Numbered(0));
+    dispatcher.offer(new Numbered(1));
+    dispatcher.offer(new Final(2));
+
+    assertEquals(2, offered[0]);
+  }
+}
@@ -0,0 +1,66 @@
+package edu.ntnu.idi.idatt.boardgame.core.engine.runtime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class VirtualTimeSchedulerTest {
+
+  @Test
+  void advance_runsOnlyDueTasksInDueOrder() {
+    VirtualTimeScheduler scheduler = new VirtualTimeScheduler();
+    List<String> ran = new ArrayList<>();
+    scheduler.schedule(300, () -> ran.add("late"));
+    scheduler.schedule(100, () -> ran.add("first"));
+    scheduler.schedule(100, () -> ran.add("second"));
+
+    assertEquals(0, scheduler.advance(99));
+    assertEquals(2, scheduler.advance(1));
+    assertEquals(List.of("first", "second"), ran);
+    assertEquals(100, scheduler.now());
+    assertEquals(1, scheduler.getPendingCount());
+  }
+
+  @Test
+  void advance_runsTasksScheduledByTasksWhenDue() {
+    VirtualTimeScheduler scheduler = new VirtualTimeScheduler();
+    List<Long> times = new ArrayList<>();
+    scheduler.schedule(
+        100,
+        () -> {
+          times.add(scheduler.now());
+          scheduler.schedule(50, () -> times.add(scheduler.now()));
+        });
+
+    assertEquals(2, scheduler.advance(200));
+    assertEquals(List.of(100L, 150L), times);
+    assertEquals(200, scheduler.now());
+  }
+
+  @Test
+  void runUntilIdle_drainsEverythingAndMovesClock() {
+    VirtualTimeScheduler scheduler = new VirtualTimeScheduler();
+    scheduler.schedule(1000, () -> scheduler.schedule(500, () -> {}));
+
+    assertEquals(2, scheduler.runUntilIdle());
+    assertEquals(1500, scheduler.now());
+    assertEquals(0, scheduler.getPendingCount());
+  }
+
+  @Test
+  void negativeDelaysAreRejected() {
+    VirtualTimeScheduler scheduler = new VirtualTimeScheduler();
+    assertThrows(IllegalArgumentException.class, () -> scheduler.schedule(-1, () -> {}));
+    assertThrows(IllegalArgumentException.class, () -> scheduler.advance(-1));
+  }
+
+  @Test
+  void immediate_runsOnCallingThread() {
+    List<String> ran = new ArrayList<>();
+    GameScheduler.immediate().schedule(1000, () -> ran.add("now"));
+    assertEquals(List.of("now"), ran);
+  }
+}
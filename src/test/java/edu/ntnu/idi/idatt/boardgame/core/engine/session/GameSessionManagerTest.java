@@ -0,0 +1,126 @@
+package edu.ntnu.idi.idatt.boardgame.core.engine.session;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import edu.ntnu.idi.idatt.boardgame.core.domain.player.PlayerColor;
+import edu.ntnu.idi.idatt.boardgame.games.snakesandladders.engine.controller.SnlController;
+import edu.ntnu.idi.idatt.boardgame.games.snakesandladders.persistence.JsonSnlGameStateRepository;
+import edu.ntnu.idi.idatt.boardgame.ui.dto.PlayerSetupDetails;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class GameSessionManagerTest {
+
+  private static final long FOOTPRINT = 1_000;
+
+  private GameSessionManager manager;
+  private List<PlayerSetupDetails> players;
+
+  @BeforeEach
+  void setUp() {
+    manager = new GameSessionManager(1_000 * FOOTPRINT);
+    players =
+        List.of(
+            new PlayerSetupDetails("Alice", Optional.of(PlayerColor.RED), Optional.empty()),
+            new PlayerSetupDetails("Bob", Optional.of(PlayerColor.BLUE), Optional.empty()));
+  }
+
+  @AfterEach
+  void tearDown() {
+    manager.close();
+  }
+
+  private GameSession<SnlController> newSnlSession() {
+    return manager.create(
+        () -> new SnlController(players, new JsonSnlGameStateRepository()), FOOTPRINT);
+  }
+
+  @Test
+  void create_runsManySessionsConcurrently() {
+    List<GameSession<SnlController>> sessions = new ArrayList<>();
+    for (int i = 0; i < 500; i++) {
+      sessions.add(newSnlSession());
+    }
+    List<CompletableFuture<Void>> rolls = new ArrayList<>();
+    for (GameSession<SnlController> session : sessions) {
+      for (int turn = 0; turn < 4; turn++) {
+        rolls.add(session.submit(SnlController::rollDice));
+      }
+    }
+    CompletableFuture.allOf(rolls.toArray(new CompletableFuture[0])).join();
+
+    for (GameSession<SnlController> session : sessions) {
+      String current = session.query(c -> c.getCurrentPlayer().getName()).join();
+      assertEquals("Alice", current);
+    }
+    assertEquals(500, manager.getSessionCount());
+    assertEquals(500 * FOOTPRINT, manager.getReservedBytes());
+  }
+
+  @Test
+  void create_rejectsSessionsBeyondMemoryBudget() {
+    GameSessionManager small = new GameSessionManager(2 * FOOTPRINT);
+    small.create(() -> new SnlController(players, new JsonSnlGameStateRepository()), FOOTPRINT);
+    small.create(() -> new SnlController(players, new JsonSnlGameStateRepository()), FOOTPRINT);
+    assertThrows(
+        IllegalStateException.class,
+        () ->
+            small.create(
+                () -> new SnlController(players, new JsonSnlGameStateRepository()), FOOTPRINT));
+    assertEquals(2, small.getSessionCount());
+    small.close();
+    assertEquals(0, small.getReservedBytes());
+  }
+
+  @Test
+  void create_releasesReservationWhenFactoryFails() {
+    assertThrows(
+        IllegalArgumentException.class,
+        () ->
+            manager.<SnlController>create(
+                () -> {
+                  throw new IllegalArgumentException("Invalid setup");
+                },
+                FOOTPRINT));
+    assertEquals(0, manager.getReservedBytes());
+    assertEquals(0, manager.getSessionCount());
+  }
+
+  @Test
+  void create_buildsControllerOnSessionThread() {
+    Thread[] builder = new Thread[1];
+    GameSession<SnlController> session =
+        manager.create(
+            () -> {
+              builder[0] = Thread.currentThread();
+              return new SnlController(players, new JsonSnlGameStateRepository());
+            },
+            FOOTPRINT);
+
+    assertNotEquals(Thread.currentThread(), builder[0]);
+    assertEquals(builder[0], session.query(controller -> Thread.currentThread()).join());
+  }
+
+  @Test
+  void close_removesSessionAndStopsAcceptingWork() {
+    GameSession<SnlController> session = newSnlSession();
+    assertTrue(manager.get(session.getId()).isPresent());
+
+    assertTrue(manager.close(session.getId()));
+    assertFalse(manager.close(session.getId()));
+    assertTrue(session.isClosed());
+    assertTrue(manager.get(session.getId()).isEmpty());
+    assertEquals(0, manager.getReservedBytes());
+    assertThrows(RejectedExecutionException.class, () -> session.submit(SnlController::rollDice));
+  }
+}
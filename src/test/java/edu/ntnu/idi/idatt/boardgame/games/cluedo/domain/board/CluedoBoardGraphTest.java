@@ -0,0 +1,85 @@
+package edu.ntnu.idi.idatt.boardgame.games.cluedo.domain.board;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class CluedoBoardGraphTest {
+
+  private CluedoBoard board;
+  private CluedoBoardGraph graph;
+
+  @BeforeEach
+  void setUp() {
+    board = new CluedoBoard();
+    graph = board.getGraph();
+  }
+
+  @Test
+  void isLegalMove_matchesTileRulesForEveryPairOfCells() {
+    int size = board.getBoardSize();
+    for (int fromRow = -1; fromRow <= size; fromRow++) {
+      for (int fromCol = -1; fromCol <= size; fromCol++) {
+        for (int toRow = -1; toRow <= size; toRow++) {
+          for (int toCol = -1; toCol <= size; toCol++) {
+            assertEquals(
+                isLegalByTiles(fromRow, fromCol, toRow, toCol),
+                graph.isLegalMove(fromRow, fromCol, toRow, toCol),
+                "(" + fromRow + "," + fromCol + ") -> (" + toRow + "," + toCol + ")");
+          }
+        }
+      }
+    }
+  }
+
+  @Test
+  void nodeAt_mapsEveryCellOfARoomToOneRoomNode() {
+    int kitchen = graph.nodeAt(1, 1);
+
+    assertTrue(graph.isRoomNode(kitchen));
+    assertEquals(kitchen, graph.nodeAt(6, 5));
+    assertEquals("Kitchen", graph.roomOf(kitchen).getRoomName());
+    assertEquals(kitchen, graph.nodeOf(graph.roomOf(kitchen)));
+    assertEquals(10, graph.getRoomCount());
+  }
+
+  @Test
+  void nodeAt_returnsNoNodeForBordersAndCellsOutsideTheBoard() {
+    assertEquals(CluedoBoardGraph.NO_NODE, graph.nodeAt(0, 0));
+    assertEquals(CluedoBoardGraph.NO_NODE, graph.nodeAt(-1, 3));
+    assertEquals(CluedoBoardGraph.NO_NODE, graph.nodeAt(3, board.getBoardSize()));
+  }
+
+  @Test
+  void isDoor_isTrueOnlyForCorridorCellsThatLeadIntoARoom() {
+    assertTrue(graph.isDoor(7, 4)); // Kitchen door
+    assertFalse(graph.isDoor(7, 5)); // next to the Kitchen wall, but no door
+    assertFalse(graph.isDoor(6, 4)); // inside the Kitchen
+    assertFalse(graph.isDoor(0, 0)); // border
+  }
+
+  /** The movement rules as they were checked tile by tile before the graph existed. */
+  private boolean isLegalByTiles(int fromRow, int fromCol, int toRow, int toCol) {
+    AbstractCluedoTile fromTile = tileAt(fromRow, fromCol);
+    AbstractCluedoTile toTile = tileAt(toRow, toCol);
+    boolean adjacent = Math.abs(fromRow - toRow) + Math.abs(fromCol - toCol) == 1;
+    boolean corridorToCorridor =
+        fromTile instanceof CorridorTile && toTile instanceof CorridorTile && adjacent;
+    boolean doorEntry =
+        fromTile instanceof CorridorTile
+            && toTile instanceof RoomTile room
+            && adjacent
+            && room.canEnterFrom(fromRow, fromCol);
+    boolean doorExit =
+        fromTile instanceof RoomTile room
+            && toTile instanceof CorridorTile
+            && room.canExitTo(toRow, toCol);
+    return corridorToCorridor || doorEntry || doorExit;
+  }
+
+  private AbstractCluedoTile tileAt(int row, int col) {
+    int size = board.getBoardSize();
+    return row < 0 || row >= size || col < 0 || col >= size ? null : board.getBoardGrid()[row][col];
+  }
+}
@@ -0,0 +1,85 @@
+package edu.ntnu.idi.idatt.boardgame.games.cluedo.domain.board;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import edu.ntnu.idi.idatt.boardgame.core.domain.player.GridPos;
+import edu.ntnu.idi.idatt.boardgame.core.exception.InvalidBoardException;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class CluedoDistanceTableTest {
+
+  /** More steps than any shortest path on the board needs. */
+  private static final int ANY_DISTANCE = 200;
+
+  private CluedoBoard board;
+  private CluedoDistanceTable table;
+
+  @BeforeEach
+  void setUp() {
+    board = new CluedoBoard();
+    table = board.getDistanceTable();
+  }
+
+  @Test
+  void distance_matchesShortestPathsBetweenAllLandmarks() {
+    List<GridPos> landmarks = table.getLandmarks();
+    for (GridPos from : landmarks) {
+      ReachableSet reachable = board.reachableWithin(from, ANY_DISTANCE);
+      for (GridPos to : landmarks) {
+        int expected = from.equals(to) ? 0 : reachable.distanceTo(to);
+        assertEquals(expected, table.distance(from, to), from + " -> " + to);
+      }
+    }
+  }
+
+  @Test
+  void distanceToRoom_matchesShortestPathsFromEveryCorridorSquare() {
+    RoomTile library = (RoomTile) board.getTileAtPosition(new GridPos(16, 20));
+    int size = board.getBoardSize();
+    for (int row = 0; row < size; row++) {
+      for (int col = 0; col < size; col++) {
+        GridPos from = new GridPos(row, col);
+        if (board.getTileAtPosition(from) instanceof CorridorTile) {
+          int expected = board.reachableWithin(from, ANY_DISTANCE).distanceTo(new GridPos(16, 20));
+          assertEquals(expected, table.distanceToRoom(from, library), from.toString());
+        }
+      }
+    }
+  }
+
+  @Test
+  void distanceToRoom_insideTheRoom_isZero() {
+    RoomTile kitchen = (RoomTile) board.getTileAtPosition(new GridPos(3, 3));
+
+    assertEquals(0, table.distanceToRoom(new GridPos(1, 1), kitchen));
+    assertEquals(CluedoDistanceTable.UNREACHABLE, table.distanceToRoom(new GridPos(0, 0), kitchen));
+  }
+
+  @Test
+  void distance_fromStartSquareToRoom_isAvailable() {
+    GridPos missScarlettStart = new GridPos(23, 7);
+
+    assertTrue(table.isLandmark(missScarlettStart));
+    assertTrue(table.distance(missScarlettStart, new GridPos(20, 3)) > 0); // Lounge
+    assertThrows(
+        IllegalArgumentException.class,
+        () -> table.distance(new GridPos(9, 9), missScarlettStart));
+  }
+
+  @Test
+  void restore_withDifferentLayoutHash_throwsInvalidBoardException() {
+    CluedoBoardGraph graph = board.getGraph();
+
+    assertThrows(
+        InvalidBoardException.class,
+        () ->
+            CluedoDistanceTable.restore(
+                graph,
+                graph.getLayoutHash() + 1,
+                table.getLandmarkNodes(),
+                table.getDistances(),
+                table.getRoomDistances()));
+  }
+}
@@ -0,0 +1,123 @@
+package edu.ntnu.idi.idatt.boardgame.games.cluedo.domain.board;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import edu.ntnu.idi.idatt.boardgame.core.domain.player.GridPos;
+import java.util.BitSet;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class ReachableSetTest {
+
+  private static final List<GridPos> STARTS =
+      List.of(new GridPos(7, 4), new GridPos(6, 4), new GridPos(23, 7), new GridPos(12, 12));
+
+  private CluedoBoard board;
+  private CluedoBoardGraph graph;
+
+  @BeforeEach
+  void setUp() {
+    board = new CluedoBoard();
+    graph = board.getGraph();
+  }
+
+  @Test
+  void reachableExactly_matchesEveryWalkOfLegalMoves() {
+    for (GridPos start : STARTS) {
+      for (int steps = 0; steps <= 4; steps++) {
+        BitSet expected = new BitSet();
+        walk(start, steps, true, expected);
+        assertEquals(expected, nodesOf(board.reachableExactly(start, steps)), start + ", " + steps);
+      }
+    }
+  }
+
+  @Test
+  void reachableWithin_matchesEveryWalkOfLegalMoves() {
+    for (GridPos start : STARTS) {
+      for (int steps = 0; steps <= 4; steps++) {
+        BitSet expected = new BitSet();
+        walk(start, steps, false, expected);
+        assertEquals(expected, nodesOf(board.reachableWithin(start, steps)), start + ", " + steps);
+      }
+    }
+  }
+
+  @Test
+  void reachableWithin_fromAnotherCellOfTheSameRoom_listsThatCellAsTheStart() {
+    GridPos doorSide = new GridPos(6, 4);
+    GridPos corner = new GridPos(3, 3);
+
+    assertTrue(board.reachableWithin(doorSide, 3).getDestinations().contains(doorSide));
+    List<GridPos> fromCorner = board.reachableWithin(corner, 3).getDestinations();
+
+    assertTrue(fromCorner.contains(corner));
+    assertFalse(fromCorner.contains(doorSide));
+  }
+
+  @Test
+  void pathTo_isAShortestChainOfLegalMovesEndingAtTheDestination() {
+    GridPos start = new GridPos(9, 4);
+    ReachableSet reachable = board.reachableWithin(start, 6);
+
+    assertTrue(reachable.contains(new GridPos(3, 3))); // Kitchen, through its door at (7, 4)
+    for (GridPos destination : reachable.getDestinations()) {
+      List<GridPos> path = reachable.pathTo(destination);
+      assertEquals(reachable.distanceTo(destination), path.size());
+      GridPos from = start;
+      for (GridPos step : path) {
+        assertTrue(board.isLegalDestination(from, step), from + " -> " + step);
+        from = step;
+      }
+      if (!path.isEmpty()) {
+        assertEquals(destination, path.get(path.size() - 1));
+      }
+    }
+  }
+
+  @Test
+  void reachableExactly_returnsTheCachedResultForTheSameQuery() {
+    GridPos start = new GridPos(7, 4);
+
+    assertSame(board.reachableExactly(start, 3), board.reachableExactly(start, 3));
+    assertNotSame(board.reachableExactly(start, 3), board.reachableWithin(start, 3));
+  }
+
+  @Test
+  void reachableExactly_negativeSteps_throwsIllegalArgumentException() {
+    GridPos start = new GridPos(7, 4);
+
+    assertThrows(IllegalArgumentException.class, () -> board.reachableExactly(start, -1));
+  }
+
+  /** Follows every sequence of legal moves the way a player clicking through them would. */
+  private void walk(GridPos pos, int stepsLeft, boolean exact, BitSet reached) {
+    if (!exact || stepsLeft == 0) {
+      reached.set(graph.nodeAt(pos.row(), pos.col()));
+    }
+    if (stepsLeft == 0) {
+      return;
+    }
+    for (int row = 0; row < board.getBoardSize(); row++) {
+      for (int col = 0; col < board.getBoardSize(); col++) {
+        GridPos target = new GridPos(row, col);
+        if (!board.isLegalDestination(pos, target)) {
+          continue;
+        }
+        if (board.getTileAtPosition(target) instanceof RoomTile) {
+          reached.set(graph.nodeAt(row, col)); // entering a room ends the move
+        } else {
+          walk(target, stepsLeft - 1, exact, reached);
+        }
+      }
+    }
+  }
+
+  private BitSet nodesOf(ReachableSet reachable) {
+    BitSet nodes = new BitSet();
+    reachable.getDestinations().forEach(pos -> nodes.set(graph.nodeAt(pos.row(), pos.col())));
+    assertEquals(reachable.size(), nodes.cardinality());
+    return nodes;
+  }
+}
@@ -0,0 +1,44 @@
+package edu.ntnu.idi.idatt.boardgame.games.cluedo.domain.card;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import org.junit.jupiter.api.Test;
+
+/** Unit tests for the card index helpers of {@link Cards}. */
+class CardsTest {
+
+  @Test
+  void index_givesEveryCardADistinctIndexThatMapsBack() {
+    Set<Integer> seen = new HashSet<>();
+    for (int i = 0; i < Cards.CARD_COUNT; i++) {
+      Card card = Cards.fromIndex(i);
+      assertEquals(i, Cards.index(card));
+      seen.add(Cards.index(card));
+    }
+    assertEquals(21, seen.size());
+    assertEquals(0, Cards.index(Suspect.MISS_SCARLETT));
+    assertEquals(6, Cards.index(Weapon.CANDLESTICK));
+    assertEquals(12, Cards.index(Room.KITCHEN));
+  }
+
+  @Test
+  void cardsIn_returnsMaskedCardsInIndexOrder() {
+    int mask = Cards.mask(Room.STUDY, Suspect.MRS_WHITE, Weapon.ROPE);
+
+    assertEquals(List.of(Suspect.MRS_WHITE, Weapon.ROPE, Room.STUDY), Cards.cardsIn(mask));
+    assertEquals(Weapon.ROPE, Cards.nthCardIn(mask, 1));
+    assertEquals(Cards.CARD_COUNT, Cards.cardsIn(Cards.ALL_CARDS).size());
+  }
+
+  @Test
+  void fromIndexAndNthCardIn_rejectOutOfRangeArguments() {
+    int mask = Cards.bit(Weapon.KNIFE);
+
+    assertThrows(IllegalArgumentException.class, () -> Cards.fromIndex(Cards.CARD_COUNT));
+    assertThrows(IllegalArgumentException.class, () -> Cards.nthCardIn(mask, 1));
+  }
+}
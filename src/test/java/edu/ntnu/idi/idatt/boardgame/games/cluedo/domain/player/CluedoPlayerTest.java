@@ -0,0 +1,81 @@
+package edu.ntnu.idi.idatt.boardgame.games.cluedo.domain.player;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import edu.ntnu.idi.idatt.boardgame.core.domain.player.GridPos;
+import edu.ntnu.idi.idatt.boardgame.core.domain.player.PlayerColor;
+import edu.ntnu.idi.idatt.boardgame.games.cluedo.domain.card.Card;
+import edu.ntnu.idi.idatt.boardgame.games.cluedo.domain.card.Cards;
+import edu.ntnu.idi.idatt.boardgame.games.cluedo.domain.card.Room;
+import edu.ntnu.idi.idatt.boardgame.games.cluedo.domain.card.Suspect;
+import edu.ntnu.idi.idatt.boardgame.games.cluedo.domain.card.Weapon;
+import java.util.List;
+import java.util.Random;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/** Unit tests for the hand, notes and seen cards of {@link CluedoPlayer}. */
+class CluedoPlayerTest {
+
+  private CluedoPlayer player;
+
+  @BeforeEach
+  void setUp() {
+    player = new CluedoPlayer(1, "Miss Scarlett", PlayerColor.WHITE, new GridPos(23, 7));
+  }
+
+  @Test
+  void addCard_setsOnlyThatCardsBit() {
+    player.addCard(Weapon.ROPE);
+    player.addCard((Card) Room.HALL);
+
+    assertTrue(player.hasCard(Weapon.ROPE));
+    assertTrue(player.hasCard(Room.HALL));
+    assertFalse(player.hasCard(Weapon.KNIFE));
+    assertFalse(player.hasCard(Suspect.MISS_SCARLETT));
+    assertEquals(Cards.mask(Weapon.ROPE, Room.HALL), player.getHandMask());
+  }
+
+  @Test
+  void showOneOf_picksOnlyHeldCardsAndRejectsMisses() {
+    player.addCard(Suspect.MRS_WHITE);
+    player.addCard(Room.LOUNGE);
+    List<Card> suggestion = List.of(Suspect.MRS_WHITE, Weapon.WRENCH, Room.LOUNGE);
+    Random rng = new Random(7);
+
+    for (int i = 0; i < 20; i++) {
+      Card shown = player.showOneOf(suggestion, rng);
+      assertTrue(shown == Suspect.MRS_WHITE || shown == Room.LOUNGE);
+    }
+    assertEquals(
+        Cards.mask(Suspect.MRS_WHITE, Room.LOUNGE),
+        player.matchingCards(Cards.mask(suggestion.toArray(Card[]::new))));
+    assertThrows(
+        IllegalArgumentException.class,
+        () -> player.showOneOf(List.of(Weapon.KNIFE, Room.STUDY), rng));
+  }
+
+  @Test
+  void notesAndSeenCards_areTrackedIndependentlyOfTheHand() {
+    player.setSuspectNoted(Suspect.REVEREND_GREEN, true);
+    player.setRoomNoted(Room.KITCHEN, true);
+    player.setRoomNoted(Room.KITCHEN, false);
+    player.markSeen(Weapon.LEAD_PIPE);
+
+    assertTrue(player.isSuspectNoted(Suspect.REVEREND_GREEN));
+    assertTrue(player.isNoted(Suspect.REVEREND_GREEN));
+    assertFalse(player.isRoomNoted(Room.KITCHEN));
+    assertTrue(player.hasSeen(Weapon.LEAD_PIPE));
+    assertFalse(player.hasCard(Weapon.LEAD_PIPE));
+    assertEquals(Cards.bit(Suspect.REVEREND_GREEN), player.getNotesMask());
+    assertEquals(Cards.bit(Weapon.LEAD_PIPE), player.getSeenMask());
+  }
+
+  @Test
+  void setHandMask_rejectsBitsThatAreNotCards() {
+    assertThrows(IllegalArgumentException.class, () -> player.setHandMask(1 << Cards.CARD_COUNT));
+  }
+}
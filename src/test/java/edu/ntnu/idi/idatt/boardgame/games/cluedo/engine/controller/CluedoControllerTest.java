@@ -10,13 +10,22 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import edu.ntnu.idi.idatt.boardgame.core.domain.player.GridPos;
 import edu.ntnu.idi.idatt.boardgame.core.domain.player.Player;
 import edu.ntnu.idi.idatt.boardgame.core.domain.player.PlayerColor;
+import edu.ntnu.idi.idatt.boardgame.core.engine.event.MovedEvent;
+import edu.ntnu.idi.idatt.boardgame.core.engine.runtime.GameScheduler;
+import edu.ntnu.idi.idatt.boardgame.core.engine.runtime.NotificationSink;
+import edu.ntnu.idi.idatt.boardgame.core.engine.runtime.VirtualTimeScheduler;
 import edu.ntnu.idi.idatt.boardgame.core.persistence.GameStateRepository;
 import edu.ntnu.idi.idatt.boardgame.games.cluedo.domain.board.CluedoBoard;
+import edu.ntnu.idi.idatt.boardgame.games.cluedo.domain.board.ReachableSet;
+import edu.ntnu.idi.idatt.boardgame.games.cluedo.domain.card.Card;
+import edu.ntnu.idi.idatt.boardgame.games.cluedo.domain.card.Cards;
 import edu.ntnu.idi.idatt.boardgame.games.cluedo.domain.card.Room;
 import edu.ntnu.idi.idatt.boardgame.games.cluedo.domain.card.Suspect;
 import edu.ntnu.idi.idatt.boardgame.games.cluedo.domain.card.Weapon;
 import edu.ntnu.idi.idatt.boardgame.games.cluedo.domain.player.CluedoPlayer;
 import edu.ntnu.idi.idatt.boardgame.games.cluedo.engine.Phase;
+import edu.ntnu.idi.idatt.boardgame.games.cluedo.engine.deduction.CluedoDeductionEngine;
+import edu.ntnu.idi.idatt.boardgame.games.cluedo.engine.deduction.SuggestionRecommender;
 import edu.ntnu.idi.idatt.boardgame.games.cluedo.persistence.dto.CluedoGameStateDto;
 import edu.ntnu.idi.idatt.boardgame.ui.dto.PlayerSetupDetails;
 import java.io.IOException;
@@ -25,6 +34,7 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Optional;
+import java.util.SplittableRandom;
 import java.util.stream.Collectors;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -115,6 +125,35 @@ class CluedoControllerTest {
     });
   }
 
+  @Test
+  void constructor_withSameSeed_dealsSameGame() {
+    CluedoController first =
+        new CluedoController(threePlayerDetails, mockRepo, new SplittableRandom(2025));
+    CluedoController second =
+        new CluedoController(threePlayerDetails, mockRepo, new SplittableRandom(2025));
+
+    assertEquals(first.getSolutionSuspect(), second.getSolutionSuspect());
+    assertEquals(first.getSolutionWeapon(), second.getSolutionWeapon());
+    assertEquals(first.getSolutionRoom(), second.getSolutionRoom());
+    for (int id = 1; id <= 3; id++) {
+      CluedoPlayer a = (CluedoPlayer) first.getPlayers().get(id);
+      CluedoPlayer b = (CluedoPlayer) second.getPlayers().get(id);
+      for (Suspect s : Suspect.values()) {
+        assertEquals(a.hasCard(s), b.hasCard(s));
+      }
+      for (Weapon w : Weapon.values()) {
+        assertEquals(a.hasCard(w), b.hasCard(w));
+      }
+      for (Room r : Room.values()) {
+        assertEquals(a.hasCard(r), b.hasCard(r));
+      }
+    }
+
+    first.onRollButton();
+    second.onRollButton();
+    assertEquals(first.getStepsLeft(), second.getStepsLeft());
+  }
+
   @Test
   void setupPlayers_withEmptyDetails_forLoading() {
     CluedoController emptyController = new CluedoController(new ArrayList<>(), mockRepo);
@@ -179,6 +218,72 @@ class CluedoControllerTest {
     assertEquals(Room.CONSERVATORY, controller.getRoomOfCurrentPlayer());
   }
 
+  @Test
+  void getReachableDestinations_whileMoving_followsEveryReachedPathWithLegalMoves() {
+    controller.onRollButton();
+    GridPos start = controller.getCurrentPlayer().getPosition();
+    ReachableSet reachable = controller.getReachableDestinations(true);
+
+    assertEquals(controller.getStepsLeft(), reachable.getSteps());
+    assertFalse(reachable.getDestinations().isEmpty());
+    for (GridPos destination : reachable.getDestinations()) {
+      GridPos from = start;
+      for (GridPos step : reachable.pathTo(destination)) {
+        assertTrue(board.isLegalDestination(from, step));
+        from = step;
+      }
+    }
+  }
+
+  @Test
+  void getReachableDestinations_beforeRolling_onlyContainsCurrentPosition() {
+    GridPos start = controller.getCurrentPlayer().getPosition();
+    ReachableSet reachable = controller.getReachableDestinations(false);
+
+    assertEquals(List.of(start), reachable.getDestinations());
+  }
+
+  @Test
+  void walkTo_corridorSquare_movesAlongPathWithOneEvent() {
+    List<MovedEvent> moves = new ArrayList<>();
+    controller.addListener(MovedEvent.class, moves::add);
+    board.setPlayerPosition(controller.getCurrentPlayer(), new GridPos(9, 4));
+    controller.setPhase(Phase.MOVING);
+    controller.setStepsLeft(6);
+
+    assertTrue(controller.walkTo(new GridPos(9, 7)));
+
+    assertEquals(new GridPos(9, 7), controller.getCurrentPlayer().getPosition());
+    assertEquals(3, controller.getStepsLeft());
+    assertEquals(Phase.MOVING, controller.getPhase());
+    assertEquals(1, moves.size());
+  }
+
+  @Test
+  void walkTo_room_entersRoomAndEndsMovement() {
+    board.setPlayerPosition(controller.getCurrentPlayer(), new GridPos(9, 4));
+    controller.setPhase(Phase.MOVING);
+    controller.setStepsLeft(6);
+
+    assertTrue(controller.walkTo(new GridPos(3, 3))); // anywhere in the Kitchen
+
+    assertEquals(new GridPos(6, 4), controller.getCurrentPlayer().getPosition());
+    assertEquals(0, controller.getStepsLeft());
+    assertEquals(Phase.IN_ROOM, controller.getPhase());
+  }
+
+  @Test
+  void walkTo_outOfReach_doesNotMove() {
+    board.setPlayerPosition(controller.getCurrentPlayer(), new GridPos(9, 4));
+    controller.setPhase(Phase.MOVING);
+    controller.setStepsLeft(2);
+
+    assertFalse(controller.walkTo(new GridPos(9, 7)));
+
+    assertEquals(new GridPos(9, 4), controller.getCurrentPlayer().getPosition());
+    assertEquals(2, controller.getStepsLeft());
+  }
+
   @Test
   void canSuggest_inRoom_returnsTrue() {
     board.setPlayerPosition(controller.getCurrentPlayer(), new GridPos(6, 4));
@@ -243,6 +348,55 @@ class CluedoControllerTest {
 
   }
 
+  @Test
+  void makeAccusation_incorrect_handsTurnOnOnlyAfterSchedulerPause() {
+    VirtualTimeScheduler scheduler = new VirtualTimeScheduler();
+    List<String> notices = new ArrayList<>();
+    CluedoController headless =
+        new CluedoController(
+            threePlayerDetails,
+            mockRepo,
+            new SplittableRandom(7),
+            scheduler,
+            (type, title, message) -> notices.add(title));
+    Player<GridPos> accuser = headless.getCurrentPlayer();
+    headless.setPhase(Phase.IN_ROOM);
+    Room wrongRoom =
+        Room.values()[(headless.getSolutionRoom().ordinal() + 1) % Room.values().length];
+
+    headless.makeAccusation(headless.getSolutionSuspect(), headless.getSolutionWeapon(), wrongRoom);
+    assertEquals(accuser, headless.getCurrentPlayer());
+    assertEquals(1, scheduler.getPendingCount());
+
+    scheduler.advance(999);
+    assertEquals(accuser, headless.getCurrentPlayer());
+    scheduler.advance(1);
+    assertNotEquals(accuser, headless.getCurrentPlayer());
+    assertEquals(Phase.WAIT_ROLL, headless.getPhase());
+
+    headless.onAccuseButton(Suspect.MISS_SCARLETT, Weapon.values()[0], Room.values()[0]);
+    assertEquals(List.of("Cannot Accuse"), notices);
+  }
+
+  @Test
+  void makeAccusation_incorrect_withImmediateScheduler_handsTurnOnAtOnce() {
+    CluedoController headless =
+        new CluedoController(
+            threePlayerDetails,
+            mockRepo,
+            new SplittableRandom(7),
+            GameScheduler.immediate(),
+            NotificationSink.logOnly());
+    Player<GridPos> accuser = headless.getCurrentPlayer();
+    headless.setPhase(Phase.IN_ROOM);
+    Room wrongRoom =
+        Room.values()[(headless.getSolutionRoom().ordinal() + 1) % Room.values().length];
+
+    headless.makeAccusation(headless.getSolutionSuspect(), headless.getSolutionWeapon(), wrongRoom);
+
+    assertNotEquals(accuser, headless.getCurrentPlayer());
+  }
+
   private List<Player<GridPos>> getTurnOrder() {
     try {
       java.lang.reflect.Field turnOrderField = CluedoController.class.getDeclaredField("turnOrder");
@@ -275,6 +429,88 @@ class CluedoControllerTest {
 
   }
 
+  @Test
+  void makeSuggestion_recordsShownCardAsSeenBySuggester() {
+    CluedoPlayer suggester = (CluedoPlayer) controller.getCurrentPlayer();
+    board.setPlayerPosition(suggester, new GridPos(6, 4));
+    controller.setPhase(Phase.IN_ROOM);
+    CluedoPlayer disprover = (CluedoPlayer) controller.getPlayers().get(3);
+    Card held = Cards.cardsIn(disprover.getHandMask()).getFirst();
+    // Every other suggested card is in the envelope, so only the disprover can answer.
+    Suspect suspect = held instanceof Suspect s ? s : controller.getSolutionSuspect();
+    Weapon weapon = held instanceof Weapon w ? w : controller.getSolutionWeapon();
+    Room room = held instanceof Room r ? r : controller.getSolutionRoom();
+
+    controller.makeSuggestion(suspect, weapon, room);
+
+    assertTrue(suggester.hasSeen(held));
+    assertEquals(Cards.bit(held), suggester.getSeenMask());
+  }
+
+  @Test
+  void makeSuggestion_feedsEveryPlayersDeduction() {
+    CluedoPlayer suggester = (CluedoPlayer) controller.getCurrentPlayer();
+    board.setPlayerPosition(suggester, new GridPos(6, 4));
+    controller.setPhase(Phase.IN_ROOM);
+    CluedoPlayer passer = (CluedoPlayer) controller.getPlayers().get(2);
+    CluedoPlayer disprover = (CluedoPlayer) controller.getPlayers().get(3);
+    Card shown = disprover.showOneOf(Cards.ALL_CARDS, new SplittableRandom(1));
+    // Every other suggested card is in the envelope, so only the disprover can answer.
+    Suspect suspect = shown instanceof Suspect s ? s : controller.getSolutionSuspect();
+    Weapon weapon = shown instanceof Weapon w ? w : controller.getSolutionWeapon();
+    Room room = shown instanceof Room r ? r : controller.getSolutionRoom();
+
+    controller.makeSuggestion(suspect, weapon, room);
+
+    CluedoDeductionEngine suggesterView = controller.getDeduction(suggester).orElseThrow();
+    CluedoDeductionEngine disproverView = controller.getDeduction(disprover).orElseThrow();
+    assertEquals(2, suggesterView.ownerOf(shown));
+    assertFalse(suggesterView.mayHold(1, shown));
+    assertEquals(1, controller.getDeduction(passer).orElseThrow().getDisprovals(2).length);
+    assertEquals(2, disproverView.ownerOf(shown));
+  }
+
+  @Test
+  void recommendSuggestion_namesTheRoomThePlayerIsIn() {
+    board.setPlayerPosition(controller.getCurrentPlayer(), new GridPos(6, 4));
+    controller.setPhase(Phase.IN_ROOM);
+
+    SuggestionRecommender.Recommendation recommendation =
+        controller.recommendSuggestion(100).orElseThrow();
+
+    assertEquals(Room.KITCHEN, recommendation.room());
+    assertTrue(recommendation.samples().getSampleCount() > 0);
+  }
+
+  @Test
+  void recommendSuggestion_leavesTheGameGeneratorUntouched() {
+    SplittableRandom hinted = new SplittableRandom(2025);
+    SplittableRandom plain = new SplittableRandom(2025);
+    CluedoController first = new CluedoController(threePlayerDetails, mockRepo, hinted);
+    new CluedoController(threePlayerDetails, mockRepo, plain);
+
+    first.recommendSuggestion(50);
+
+    assertEquals(plain.nextLong(), hinted.nextLong());
+  }
+
+  @Test
+  void saveThenLoad_restoresHandNotesAndSeenMasks() {
+    CluedoPlayer first = (CluedoPlayer) controller.getPlayers().get(1);
+    first.setWeaponNoted(Weapon.KNIFE, true);
+    first.markSeen(Room.HALL);
+    controller.saveGameState("masks.json");
+    mockRepo.setDtoToLoad(mockRepo.savedDto);
+
+    CluedoController loaded = new CluedoController(null, mockRepo);
+    loaded.loadGameState("masks.json");
+
+    CluedoPlayer restored = (CluedoPlayer) loaded.getPlayers().get(1);
+    assertEquals(first.getHandMask(), restored.getHandMask());
+    assertTrue(restored.isWeaponNoted(Weapon.KNIFE));
+    assertTrue(restored.hasSeen(Room.HALL));
+  }
+
   @Test
   void endTurn_advancesPlayerAndResetsPhase() {
     Player<GridPos> initialPlayer = controller.getCurrentPlayer();
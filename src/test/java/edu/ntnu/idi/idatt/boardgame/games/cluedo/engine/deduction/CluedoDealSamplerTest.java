@@ -0,0 +1,95 @@
+package edu.ntnu.idi.idatt.boardgame.games.cluedo.engine.deduction;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import edu.ntnu.idi.idatt.boardgame.games.cluedo.domain.card.Cards;
+import edu.ntnu.idi.idatt.boardgame.games.cluedo.domain.card.Room;
+import edu.ntnu.idi.idatt.boardgame.games.cluedo.domain.card.Suspect;
+import edu.ntnu.idi.idatt.boardgame.games.cluedo.domain.card.Weapon;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class CluedoDealSamplerTest {
+
+  private static final int OWN_HAND =
+      Cards.mask(
+          Suspect.COLONEL_MUSTARD,
+          Suspect.MRS_WHITE,
+          Weapon.KNIFE,
+          Weapon.CANDLESTICK,
+          Room.KITCHEN,
+          Room.STUDY);
+
+  private ForkJoinPool pool;
+  private CluedoDeductionEngine engine;
+
+  @BeforeEach
+  void setUp() {
+    pool = new ForkJoinPool(4);
+    engine = new CluedoDeductionEngine(6, 6, 6);
+    engine.recordHand(0, OWN_HAND);
+  }
+
+  @AfterEach
+  void tearDown() {
+    pool.shutdownNow();
+  }
+
+  @Test
+  void sample_everyDealAgreesWithTheObservations() {
+    int suggestion = Cards.mask(Suspect.MISS_SCARLETT, Weapon.ROPE, Room.HALL);
+    engine.recordPass(1, Cards.mask(Suspect.MRS_PEACOCK, Weapon.WRENCH, Room.LOUNGE));
+    engine.recordDisproval(2, suggestion);
+
+    DealSamples samples =
+        new CluedoDealSampler(engine, pool).sample(2_000, 5_000, new SplittableRandom(1));
+
+    assertEquals(2_000, samples.getSampleCount());
+    for (int i = 0; i < samples.getSampleCount(); i++) {
+      int all = 0;
+      for (int owner = CluedoDeductionEngine.ENVELOPE; owner < 3; owner++) {
+        int hand = samples.getHand(i, owner);
+        assertEquals(engine.getHandSize(owner), Integer.bitCount(hand));
+        assertEquals(0, engine.getKnownMask(owner) & ~hand);
+        assertEquals(0, hand & ~engine.getPossibleMask(owner));
+        assertEquals(0, all & hand);
+        all |= hand;
+      }
+      assertEquals(Cards.ALL_CARDS, all);
+      assertTrue((samples.getHand(i, 2) & suggestion) != 0);
+    }
+  }
+
+  @Test
+  void sample_envelopeProbabilitiesFollowTheSymmetryOfTheUnknownCards() {
+    DealSamples samples =
+        new CluedoDealSampler(engine, pool).sample(40_000, 10_000, new SplittableRandom(2));
+
+    assertEquals(0.0, samples.envelopeProbability(Suspect.MRS_WHITE));
+    for (Suspect suspect : Suspect.values()) {
+      if ((OWN_HAND & Cards.bit(suspect)) == 0) {
+        assertEquals(0.25, samples.envelopeProbability(suspect), 0.02);
+      }
+    }
+    assertEquals(1.0 / 7, samples.envelopeProbability(Room.HALL), 0.02);
+  }
+
+  @Test
+  void sample_knownSolutionHasCertainEnvelope() {
+    int solution = Cards.mask(Suspect.MISS_SCARLETT, Weapon.ROPE, Room.HALL);
+    engine.recordPass(1, solution);
+    engine.recordPass(2, solution);
+
+    DealSamples samples =
+        new CluedoDealSampler(engine, pool).sample(500, 5_000, new SplittableRandom(3));
+
+    double[] probabilities = samples.getEnvelopeProbabilities();
+    for (int card = 0; card < Cards.CARD_COUNT; card++) {
+      assertEquals((solution >> card & 1) == 1 ? 1.0 : 0.0, probabilities[card]);
+    }
+  }
+}
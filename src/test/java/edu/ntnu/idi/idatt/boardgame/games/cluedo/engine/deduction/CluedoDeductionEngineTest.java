@@ -0,0 +1,161 @@
+package edu.ntnu.idi.idatt.boardgame.games.cluedo.engine.deduction;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import edu.ntnu.idi.idatt.boardgame.games.cluedo.domain.card.Card;
+import edu.ntnu.idi.idatt.boardgame.games.cluedo.domain.card.Cards;
+import edu.ntnu.idi.idatt.boardgame.games.cluedo.domain.card.Room;
+import edu.ntnu.idi.idatt.boardgame.games.cluedo.domain.card.Suspect;
+import edu.ntnu.idi.idatt.boardgame.games.cluedo.domain.card.Weapon;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+class CluedoDeductionEngineTest {
+
+  /** Seat 0's hand in the three-player tests: six cards, none of them Scarlett, rope or hall. */
+  private static final int OWN_HAND =
+      Cards.mask(
+          Suspect.COLONEL_MUSTARD,
+          Suspect.MRS_WHITE,
+          Weapon.KNIFE,
+          Weapon.CANDLESTICK,
+          Room.KITCHEN,
+          Room.STUDY);
+
+  @Test
+  void recordHand_ownCardsAreKnownAndRuledOutOfTheEnvelope() {
+    CluedoDeductionEngine engine = new CluedoDeductionEngine(6, 6, 6);
+
+    engine.recordHand(0, OWN_HAND);
+
+    assertEquals(0, engine.ownerOf(Weapon.KNIFE));
+    assertFalse(engine.mayHold(CluedoDeductionEngine.ENVELOPE, Weapon.KNIFE));
+    assertFalse(engine.mayHold(1, Room.STUDY));
+    assertEquals(CluedoDeductionEngine.UNKNOWN, engine.ownerOf(Weapon.ROPE));
+    assertEquals(OWN_HAND, engine.getPossibleMask(0));
+  }
+
+  @Test
+  void recordPass_cardNobodyElseCanHoldIsInTheEnvelope() {
+    CluedoDeductionEngine engine = new CluedoDeductionEngine(6, 6, 6);
+    engine.recordHand(0, OWN_HAND);
+    int suggestion = Cards.mask(Suspect.MISS_SCARLETT, Weapon.ROPE, Room.HALL);
+
+    engine.recordPass(1, suggestion);
+    engine.recordPass(2, suggestion);
+
+    assertTrue(engine.isSolved());
+    assertEquals(suggestion, engine.getKnownSolutionMask());
+    assertEquals(
+        List.of(Suspect.MISS_SCARLETT, Weapon.ROPE, Room.HALL), engine.getKnownSolutionCards());
+    assertFalse(engine.mayHold(CluedoDeductionEngine.ENVELOPE, Suspect.MRS_PEACOCK));
+  }
+
+  @Test
+  void recordDisproval_resolvesOnceOnlyOneSuggestedCardRemains() {
+    CluedoDeductionEngine engine = new CluedoDeductionEngine(6, 6, 6);
+    engine.recordHand(0, OWN_HAND);
+    int suggestion = Cards.mask(Suspect.MISS_SCARLETT, Weapon.ROPE, Room.HALL);
+
+    engine.recordDisproval(1, suggestion);
+    assertEquals(CluedoDeductionEngine.UNKNOWN, engine.ownerOf(Room.HALL));
+    assertEquals(1, engine.getDisprovals(1).length);
+
+    engine.recordShown(2, Suspect.MISS_SCARLETT);
+    engine.recordPass(1, Cards.bit(Weapon.ROPE));
+
+    assertEquals(1, engine.ownerOf(Room.HALL));
+    assertEquals(0, engine.getDisprovals(1).length);
+  }
+
+  @Test
+  void contradictoryFact_isRejectedAndLeavesEngineUnchanged() {
+    CluedoDeductionEngine engine = new CluedoDeductionEngine(6, 6, 6);
+    engine.recordHand(0, OWN_HAND);
+    engine.recordShown(1, Weapon.ROPE);
+    int known = engine.getKnownMask(1);
+    int possible = engine.getPossibleMask(1);
+
+    assertThrows(IllegalStateException.class, () -> engine.recordShown(2, Weapon.ROPE));
+    assertThrows(
+        IllegalStateException.class, () -> engine.recordDisproval(2, Cards.bit(Weapon.KNIFE)));
+
+    assertEquals(known, engine.getKnownMask(1));
+    assertEquals(possible, engine.getPossibleMask(1));
+    assertEquals(0, engine.getDisprovals(2).length);
+    assertThrows(IllegalArgumentException.class, () -> new CluedoDeductionEngine(6, 6));
+  }
+
+  @Test
+  void randomGames_deductionsAgreeWithTheDealAndEventuallySolveIt() {
+    Random rng = new Random(57);
+    int solved = 0;
+    for (int game = 0; game < 200; game++) {
+      int players = 3 + rng.nextInt(4);
+      int[] hands = new int[players];
+      int solution = deal(hands, rng);
+      int[] sizes = new int[players];
+      for (int seat = 0; seat < players; seat++) {
+        sizes[seat] = Integer.bitCount(hands[seat]);
+      }
+      CluedoDeductionEngine engine = new CluedoDeductionEngine(sizes);
+      engine.recordHand(0, hands[0]);
+
+      for (int turn = 0; turn < 60; turn++) {
+        int suggester = rng.nextInt(players);
+        int suggestion =
+            Cards.mask(
+                Suspect.values()[rng.nextInt(6)],
+                Weapon.values()[rng.nextInt(6)],
+                Room.values()[rng.nextInt(9)]);
+        for (int i = 1; i < players; i++) {
+          int seat = (suggester + i) % players;
+          int held = hands[seat] & suggestion;
+          if (held == 0) {
+            engine.recordPass(seat, suggestion);
+            continue;
+          }
+          if (suggester == 0) {
+            engine.recordShown(seat, Cards.nthCardIn(held, rng.nextInt(Integer.bitCount(held))));
+          } else {
+            engine.recordDisproval(seat, suggestion);
+          }
+          break;
+        }
+        assertConsistent(engine, hands, solution);
+      }
+      solved += engine.isSolved() ? 1 : 0;
+    }
+    assertTrue(solved > 100, "only " + solved + " of 200 games were solved");
+  }
+
+  private static void assertConsistent(CluedoDeductionEngine engine, int[] hands, int solution) {
+    for (int seat = 0; seat < hands.length; seat++) {
+      assertEquals(0, engine.getKnownMask(seat) & ~hands[seat]);
+      assertEquals(0, hands[seat] & ~engine.getPossibleMask(seat));
+    }
+    assertEquals(0, engine.getKnownSolutionMask() & ~solution);
+    assertEquals(0, solution & ~engine.getPossibleMask(CluedoDeductionEngine.ENVELOPE));
+  }
+
+  /** Deals random hands round-robin and returns the envelope as a bitmask. */
+  private static int deal(int[] hands, Random rng) {
+    int solution =
+        Cards.mask(
+            Suspect.values()[rng.nextInt(6)],
+            Weapon.values()[rng.nextInt(6)],
+            Room.values()[rng.nextInt(9)]);
+    List<Card> deck = new ArrayList<>(Cards.cardsIn(Cards.ALL_CARDS & ~solution));
+    Collections.shuffle(deck, rng);
+    for (int i = 0; i < deck.size(); i++) {
+      hands[i % hands.length] |= Cards.bit(deck.get(i));
+    }
+    return solution;
+  }
+}
@@ -0,0 +1,92 @@
+package edu.ntnu.idi.idatt.boardgame.games.cluedo.engine.deduction;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import edu.ntnu.idi.idatt.boardgame.games.cluedo.domain.card.Cards;
+import edu.ntnu.idi.idatt.boardgame.games.cluedo.domain.card.Room;
+import edu.ntnu.idi.idatt.boardgame.games.cluedo.domain.card.Suspect;
+import edu.ntnu.idi.idatt.boardgame.games.cluedo.domain.card.Weapon;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class SuggestionRecommenderTest {
+
+  private static final int OWN_HAND =
+      Cards.mask(
+          Suspect.COLONEL_MUSTARD,
+          Suspect.MRS_WHITE,
+          Weapon.KNIFE,
+          Weapon.CANDLESTICK,
+          Room.KITCHEN,
+          Room.STUDY);
+
+  private ForkJoinPool pool;
+  private CluedoDeductionEngine engine;
+
+  @BeforeEach
+  void setUp() {
+    pool = new ForkJoinPool(4);
+    engine = new CluedoDeductionEngine(6, 6, 6);
+    engine.recordHand(0, OWN_HAND);
+  }
+
+  @AfterEach
+  void tearDown() {
+    pool.shutdownNow();
+  }
+
+  @Test
+  void recommend_namesTheGivenRoomAndScoresEveryCandidate() {
+    SuggestionRecommender recommender = new SuggestionRecommender(pool, 10_000, 2_000);
+
+    SuggestionRecommender.Recommendation recommendation =
+        recommender.recommend(engine, new int[] {1, 2}, Room.LIBRARY, new SplittableRandom(4));
+
+    assertEquals(Room.LIBRARY, recommendation.room());
+    assertTrue(recommendation.expectedInformation() > 0);
+    assertEquals(2_000, recommendation.samples().getSampleCount());
+    assertTrue(recommendation.complete());
+  }
+
+  @Test
+  void recommend_withSpentBudget_skipsScoringAndNamesAPossibleCard() {
+    SuggestionRecommender recommender = new SuggestionRecommender(pool, 0, 1_000_000);
+
+    SuggestionRecommender.Recommendation recommendation =
+        recommender.recommend(engine, new int[] {1, 2}, Room.LIBRARY, new SplittableRandom(4));
+
+    assertFalse(recommendation.complete());
+    assertEquals(Room.LIBRARY, recommendation.room());
+    assertEquals(0, recommendation.expectedInformation(), 0.0);
+    assertEquals(0, OWN_HAND & Cards.mask(recommendation.suspect(), recommendation.weapon()));
+  }
+
+  @Test
+  void recommend_prefersCardsWhoseOwnerIsUnknown() {
+    SuggestionRecommender recommender = new SuggestionRecommender(pool, 2_000, 5_000);
+
+    SuggestionRecommender.Recommendation recommendation =
+        recommender.recommend(engine, new int[] {1, 2}, Room.KITCHEN, new SplittableRandom(5));
+
+    assertEquals(0, OWN_HAND & Cards.mask(recommendation.suspect(), recommendation.weapon()));
+  }
+
+  @Test
+  void expectedInformation_isZeroWhenEverySuggestedOwnerIsKnown() {
+    int solution = Cards.mask(Suspect.MISS_SCARLETT, Weapon.ROPE, Room.HALL);
+    engine.recordPass(1, solution);
+    engine.recordPass(2, solution);
+    DealSamples samples =
+        new CluedoDealSampler(engine, pool).sample(1_000, 5_000, new SplittableRandom(6));
+
+    double information =
+        SuggestionRecommender.expectedInformation(samples, new int[] {1, 2}, solution);
+
+    assertEquals(0, information, 1e-9);
+  }
+}
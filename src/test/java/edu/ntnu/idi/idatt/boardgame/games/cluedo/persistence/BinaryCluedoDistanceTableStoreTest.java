@@ -0,0 +1,52 @@
+package edu.ntnu.idi.idatt.boardgame.games.cluedo.persistence;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import edu.ntnu.idi.idatt.boardgame.core.exception.InvalidBoardException;
+import edu.ntnu.idi.idatt.boardgame.games.cluedo.domain.board.CluedoBoard;
+import edu.ntnu.idi.idatt.boardgame.games.cluedo.domain.board.CluedoDistanceTable;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class BinaryCluedoDistanceTableStoreTest {
+
+  private final BinaryCluedoDistanceTableStore store = new BinaryCluedoDistanceTableStore();
+  private Path file;
+
+  @BeforeEach
+  void setUp() throws IOException {
+    file = Files.createTempFile("cluedo-distances", ".bin");
+  }
+
+  @AfterEach
+  void tearDown() throws IOException {
+    Files.deleteIfExists(file);
+  }
+
+  @Test
+  void load_returnsTheSavedTable() throws IOException {
+    CluedoBoard board = new CluedoBoard();
+    CluedoDistanceTable table = board.getDistanceTable();
+
+    store.save(table, file);
+    CluedoDistanceTable loaded = store.load(file, board.getGraph());
+
+    assertArrayEquals(table.getLandmarkNodes(), loaded.getLandmarkNodes());
+    assertArrayEquals(table.getDistances(), loaded.getDistances());
+    assertArrayEquals(table.getRoomDistances(), loaded.getRoomDistances());
+    board.setDistanceTable(loaded);
+    assertSame(loaded, board.getDistanceTable());
+  }
+
+  @Test
+  void load_fileWithoutMagicNumber_throwsInvalidBoardException() throws IOException {
+    Files.write(file, new byte[] {1, 2, 3, 4, 5, 6, 7, 8});
+
+    assertThrows(
+        InvalidBoardException.class, () -> store.load(file, new CluedoBoard().getGraph()));
+  }
+}
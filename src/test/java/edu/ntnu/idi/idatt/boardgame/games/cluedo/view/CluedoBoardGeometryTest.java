@@ -0,0 +1,46 @@
+package edu.ntnu.idi.idatt.boardgame.games.cluedo.view;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import edu.ntnu.idi.idatt.boardgame.core.domain.player.GridPos;
+import org.junit.jupiter.api.Test;
+
+class CluedoBoardGeometryTest {
+
+  private final CluedoBoardGeometry geometry = new CluedoBoardGeometry(25, 30, 2);
+
+  @Test
+  void cellAt_findsCellUnderEveryCellCorner() {
+    for (int row = 0; row < 25; row++) {
+      for (int col = 0; col < 25; col++) {
+        double x = geometry.getCellX(col);
+        double y = geometry.getCellY(row);
+        assertEquals(new GridPos(row, col), geometry.cellAt(x, y));
+        assertEquals(new GridPos(row, col), geometry.cellAt(x + 29.9, y + 29.9));
+      }
+    }
+  }
+
+  @Test
+  void cellAt_mapsRowsToYAndColumnsToX() {
+    assertEquals(new GridPos(0, 3), geometry.cellAt(3 * 32 + 1, 1));
+    assertEquals(new GridPos(3, 0), geometry.cellAt(1, 3 * 32 + 1));
+  }
+
+  @Test
+  void cellAt_returnsNullInGapsAndOffTheBoard() {
+    assertNull(geometry.cellAt(30.5, 10));
+    assertNull(geometry.cellAt(10, 31.9));
+    assertNull(geometry.cellAt(-0.1, 10));
+    assertNull(geometry.cellAt(10, -0.1));
+    assertNull(geometry.cellAt(geometry.getBoardSide(), 10));
+    assertNull(geometry.cellAt(10, geometry.getBoardSide() + 5));
+  }
+
+  @Test
+  void getBoardSide_countsGapsBetweenCellsOnly() {
+    assertEquals(25 * 30 + 24 * 2, geometry.getBoardSide(), 0.0);
+    assertEquals(30, geometry.getSpan(1), 0.0);
+  }
+}
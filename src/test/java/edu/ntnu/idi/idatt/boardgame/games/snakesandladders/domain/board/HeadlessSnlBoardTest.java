@@ -0,0 +1,110 @@
+package edu.ntnu.idi.idatt.boardgame.games.snakesandladders.domain.board;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import edu.ntnu.idi.idatt.boardgame.core.domain.player.LinearPos;
+import edu.ntnu.idi.idatt.boardgame.core.domain.player.Player;
+import edu.ntnu.idi.idatt.boardgame.core.domain.player.PlayerColor;
+import java.util.HashMap;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class HeadlessSnlBoardTest {
+
+  private SnlBoard board;
+  private HeadlessSnlBoard headless;
+
+  @BeforeEach
+  void setUp() {
+    board = new SnlBoard();
+    headless = new HeadlessSnlBoard(board, 2);
+  }
+
+  @Test
+  void constructor_placesAllSeatsOnStartTile() {
+    assertEquals(2, headless.getNumberOfSeats());
+    assertEquals(board.getBoardSize(), headless.getBoardSize());
+    assertEquals(1, headless.getPosition(0));
+    assertEquals(1, headless.getPosition(1));
+  }
+
+  @Test
+  void constructor_rejectsZeroSeats() {
+    assertThrows(IllegalArgumentException.class, () -> new HeadlessSnlBoard(board, 0));
+  }
+
+  @Test
+  void move_appliesSnakesLaddersAndBounceBack() {
+    headless.setPosition(0, 25);
+    assertEquals(16, headless.move(0, 5)); // snake 30 -> 16
+    headless.setPosition(0, 3);
+    assertEquals(14, headless.move(0, 5)); // ladder 8 -> 14
+    headless.setPosition(0, 88);
+    assertEquals(89, headless.move(0, 3)); // 91 bounces back to 89
+    headless.setPosition(0, 85);
+    assertEquals(90, headless.move(0, 5));
+    assertTrue(headless.hasWon(0));
+    assertFalse(headless.hasWon(1));
+  }
+
+  @Test
+  void destination_matchesSnlBoardForEveryTileAndRoll() {
+    Player<LinearPos> player = new Player<>(1, "P1", PlayerColor.RED, new LinearPos(1));
+    board.addPlayersToStart(Map.of(1, player));
+    for (int from = 1; from < board.getBoardSize(); from++) {
+      for (int roll = 2; roll <= 12; roll++) {
+        board.setPlayerPosition(player, new LinearPos(from));
+        board.incrementPlayerPosition(player, roll);
+        assertEquals(
+            player.getPosition().index(),
+            headless.destination(from, roll),
+            "from " + from + " rolling " + roll);
+      }
+    }
+  }
+
+  @Test
+  void reset_movesSeatsBackToStart() {
+    headless.move(0, 6);
+    headless.move(1, 4);
+    headless.reset();
+    assertEquals(1, headless.getPosition(0));
+    assertEquals(1, headless.getPosition(1));
+  }
+
+  @Test
+  void turnsToFinish_isOneMoreThanBestNextTile() {
+    int[] turns = headless.turnsToFinish(2, 12);
+    int last = board.getBoardSize();
+    assertEquals(0, turns[last]);
+    assertEquals(1, turns[78]);
+    for (int from = 1; from < last; from++) {
+      int best = Integer.MAX_VALUE;
+      for (int roll = 2; roll <= 12; roll++) {
+        best = Math.min(best, turns[headless.destination(from, roll)]);
+      }
+      assertEquals(best == Integer.MAX_VALUE ? best : best + 1, turns[from], "from " + from);
+    }
+  }
+
+  @Test
+  void turnsToFinish_marksUnwinnableTiles() {
+    Map<Integer, Integer> snakes = new HashMap<>();
+    for (int head = 8; head < 20; head++) {
+      snakes.put(head, head - 1);
+    }
+    HeadlessSnlBoard trap =
+        new HeadlessSnlBoard(new SnlBoard(new SnlBoardDefinition(2, 10, snakes, Map.of())), 1);
+
+    int[] turns = trap.turnsToFinish(2, 12);
+    // Every tile a player can rest on is below the snakes, out of reach of the last tile.
+    for (int tile = 1; tile < 8; tile++) {
+      assertEquals(Integer.MAX_VALUE, turns[tile], "tile " + tile);
+    }
+    assertThrows(IllegalArgumentException.class, () -> trap.turnsToFinish(0, 6));
+  }
+}
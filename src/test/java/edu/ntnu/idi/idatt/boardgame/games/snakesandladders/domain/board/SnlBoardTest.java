@@ -3,12 +3,20 @@ package edu.ntnu.idi.idatt.boardgame.games.snakesandladders.domain.board;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import edu.ntnu.idi.idatt.boardgame.core.domain.board.BoardChangeSet;
+import edu.ntnu.idi.idatt.boardgame.core.domain.board.Tile;
 import edu.ntnu.idi.idatt.boardgame.core.domain.player.LinearPos;
 import edu.ntnu.idi.idatt.boardgame.core.domain.player.Player;
 import edu.ntnu.idi.idatt.boardgame.core.domain.player.PlayerColor;
+import edu.ntnu.idi.idatt.boardgame.core.exception.InvalidBoardException;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -136,4 +144,155 @@ class SnlBoardTest {
     assertEquals(10, board.getRows());
     assertEquals(9, board.getCols());
   }
+
+  @Test
+  void constructor_withDefinition_usesItsLayout() {
+    SnlBoard custom =
+        new SnlBoard(new SnlBoardDefinition(4, 5, Map.of(15, 10), Map.of(3, 9)));
+    assertEquals(20, custom.getBoardSize());
+    assertEquals(4, custom.getRows());
+    assertEquals(5, custom.getCols());
+    assertEquals(2, custom.getConnectors().size());
+
+    custom.addPlayersToStart(playersMap);
+    custom.incrementPlayerPosition(player1, 2);
+    assertEquals(new LinearPos(12), player1.getPosition());
+  }
+
+  @Test
+  void constructor_handlesVeryLargeBoards() {
+    SnlBoard large =
+        new SnlBoard(new SnlBoardDefinition(2_000, 2_000, Map.of(3_999_999, 3_999_000), Map.of()));
+    assertEquals(4_000_000, large.getBoardSize());
+    large.addPlayersToStart(playersMap);
+    large.setPlayerPosition(player1, new LinearPos(3_999_990));
+    large.incrementPlayerPosition(player1, 9);
+    assertEquals(new LinearPos(999), player1.getPosition());
+    assertTrue(large.getTile(999).getPlayers().contains(player1));
+  }
+
+  @Test
+  void getTile_createsTilesLazilyAndReleasesEmptyOnes() {
+    board.addPlayersToStart(playersMap);
+    SnlTile start = board.getTile(1);
+    assertSame(start, board.getTiles().get(1));
+
+    board.setPlayerPosition(player1, new LinearPos(6));
+    assertSame(start, board.getTile(1));
+    board.setPlayerPosition(player2, new LinearPos(6));
+    assertNotSame(start, board.getTile(1));
+    assertTrue(board.getTile(1).getPlayers().isEmpty());
+    assertThrows(IllegalArgumentException.class, () -> board.getTile(91));
+  }
+
+  @Test
+  void definition_rejectsInconsistentLayouts() {
+    assertThrows(InvalidBoardException.class,
+        () -> new SnlBoardDefinition(0, 9, Map.of(), Map.of()));
+    assertThrows(InvalidBoardException.class,
+        () -> new SnlBoardDefinition(10, 9, Map.of(5, 10), Map.of()));
+    assertThrows(InvalidBoardException.class,
+        () -> new SnlBoardDefinition(10, 9, Map.of(), Map.of(85, 10)));
+    assertThrows(InvalidBoardException.class,
+        () -> new SnlBoardDefinition(10, 9, Map.of(20, 5), Map.of(20, 5)));
+    assertThrows(InvalidBoardException.class,
+        () -> new SnlBoardDefinition(10, 9, Map.of(90, 5), Map.of()));
+    assertThrows(InvalidBoardException.class,
+        () -> new SnlBoardDefinition(100_000, 100_000, Map.of(), Map.of()));
+  }
+
+  @Test
+  void incrementPlayerPosition_followsChainedConnectors() {
+    // snake 30 -> 16, ladder 16 -> 25, snake 25 -> 5
+    SnlBoard chained =
+        new SnlBoard(new SnlBoardDefinition(10, 9, Map.of(30, 14, 25, 20), Map.of(16, 9)));
+    assertEquals(5, chained.finalDestination(30));
+    assertEquals(5, chained.finalDestination(16));
+    assertEquals(5, chained.finalDestination(25));
+    assertEquals(29, chained.finalDestination(29));
+
+    chained.addPlayersToStart(playersMap);
+    chained.setPlayerPosition(player1, new LinearPos(26));
+    chained.incrementPlayerPosition(player1, 4);
+    assertEquals(new LinearPos(5), player1.getPosition());
+    assertTrue(chained.getTile(5).getPlayers().contains(player1));
+    assertEquals(5, new HeadlessSnlBoard(chained, 1).jump(30));
+  }
+
+  @Test
+  void constructor_rejectsConnectorCycles() {
+    assertThrows(InvalidBoardException.class,
+        () -> new SnlBoard(new SnlBoardDefinition(10, 9, Map.of(30, 14), Map.of(16, 14))));
+    assertThrows(InvalidBoardException.class,
+        () -> new SnlBoard(
+            new SnlBoardDefinition(10, 9, Map.of(40, 20), Map.of(20, 5, 25, 15))));
+  }
+
+  @Test
+  void occupancy_tracksPlayersThroughMoves() {
+    SnlOccupancyIndex occupancy = board.getOccupancy();
+    assertEquals(SnlOccupancyIndex.NO_TILE, occupancy.tileOf(1));
+
+    board.addPlayersToStart(playersMap);
+    assertEquals(List.of(player1, player2), occupancy.playersOn(1));
+    assertEquals(1, occupancy.occupiedTileCount());
+
+    board.incrementPlayerPosition(player1, 7); // ladder 8 -> 14
+    assertEquals(14, occupancy.tileOf(1));
+    assertEquals(1, occupancy.tileOf(2));
+    assertFalse(occupancy.isOccupied(8));
+    assertTrue(occupancy.isOccupied(14));
+    assertEquals(List.of(player1), occupancy.playersOn(14));
+    assertEquals(1, occupancy.countOn(1));
+
+    assertEquals(1, occupancy.nextOccupiedTile(0));
+    assertEquals(14, occupancy.nextOccupiedTile(2));
+    assertEquals(SnlOccupancyIndex.NO_TILE, occupancy.nextOccupiedTile(15));
+
+    board.setPlayerPosition(player2, new LinearPos(14));
+    assertEquals(List.of(player1, player2), occupancy.playersOn(14));
+    assertEquals(1, occupancy.occupiedTileCount());
+    assertEquals(0, occupancy.countOn(1));
+  }
+
+  @Test
+  void incrementPlayerPosition_onLadder_reportsEachTileOnce() {
+    board.addPlayersToStart(playersMap);
+    List<Tile<LinearPos>> tileChanges = new ArrayList<>();
+    for (int position : new int[] {1, 8, 14}) {
+      board.getTile(position).addObserver(tileChanges::add);
+    }
+    List<BoardChangeSet<LinearPos>> boardChanges = new ArrayList<>();
+    board.addBoardObserver(boardChanges::add);
+
+    board.incrementPlayerPosition(player1, 7);
+
+    assertEquals(14, player1.getPosition().index());
+    assertEquals(List.of(board.getTile(1), board.getTile(8), board.getTile(14)), tileChanges);
+    assertEquals(1, boardChanges.size());
+    assertEquals(3, boardChanges.getFirst().size());
+  }
+
+  @Test
+  void runInTransaction_deliversNestedChangesOnceOnOutermostCommit() {
+    board.addPlayersToStart(playersMap);
+    List<BoardChangeSet<LinearPos>> boardChanges = new ArrayList<>();
+    board.addBoardObserver(boardChanges::add);
+
+    board.runInTransaction(
+        () -> {
+          board.setPlayerPosition(player1, new LinearPos(5));
+          board.setPlayerPosition(player2, new LinearPos(5));
+          board.setPlayerPosition(player1, new LinearPos(6));
+          assertTrue(boardChanges.isEmpty());
+        });
+
+    assertEquals(1, boardChanges.size());
+    assertEquals(
+        List.of(1, 5, 6),
+        boardChanges.getFirst().getChangedTiles().stream()
+            .map(tile -> ((SnlTile) tile).getPosition())
+            .toList());
+    assertThrows(IllegalStateException.class, board::commitTransaction);
+  }
 }
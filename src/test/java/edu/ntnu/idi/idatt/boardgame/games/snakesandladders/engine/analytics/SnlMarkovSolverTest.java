@@ -0,0 +1,78 @@
+package edu.ntnu.idi.idatt.boardgame.games.snakesandladders.engine.analytics;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import edu.ntnu.idi.idatt.boardgame.games.snakesandladders.domain.board.SnlBoard;
+import edu.ntnu.idi.idatt.boardgame.games.snakesandladders.domain.board.SnlBoardDefinition;
+import edu.ntnu.idi.idatt.boardgame.games.snakesandladders.engine.simulation.SnlTournamentResult;
+import edu.ntnu.idi.idatt.boardgame.games.snakesandladders.engine.simulation.SnlTournamentRunner;
+import java.util.Arrays;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+
+class SnlMarkovSolverTest {
+
+  private final SnlBoard board = new SnlBoard();
+  private final SnlMarkovSolver solver = SnlMarkovSolver.forBoard(board);
+
+  @Test
+  void forBoard_returnsCachedSolverForSameLayout() {
+    assertSame(solver, SnlMarkovSolver.forBoard(new SnlBoard()));
+    assertEquals(board.getBoardSize(), solver.getBoardSize());
+  }
+
+  @Test
+  void forBoard_dropsLeastRecentlyUsedLayouts() {
+    SnlBoard first = new SnlBoard(new SnlBoardDefinition(2, 10, Map.of(), Map.of()));
+    SnlMarkovSolver firstSolver = SnlMarkovSolver.forBoard(first);
+
+    for (int cols = 11; cols < 40; cols++) {
+      SnlMarkovSolver.forBoard(new SnlBoard(new SnlBoardDefinition(2, cols, Map.of(), Map.of())));
+    }
+
+    assertNotSame(firstSolver, SnlMarkovSolver.forBoard(first));
+  }
+
+  @Test
+  void expectedTurns_isZeroOnLastTileAndMatchesSimulation() {
+    assertEquals(0.0, solver.getExpectedTurns(board.getBoardSize()));
+
+    SnlTournamentResult simulated = new SnlTournamentRunner(board, 1).run(200_000, 3L);
+    double expected = solver.getExpectedTurns();
+    assertEquals(expected, simulated.getMeanGameLength(), expected * 0.02);
+  }
+
+  @Test
+  void turnDistribution_agreesWithFinishWithinAndSumsTowardsOne() {
+    double[] distribution = solver.getTurnDistribution(2_000);
+    assertEquals(0.0, distribution[0]);
+    assertEquals(0.0, distribution[1]);
+    assertEquals(1.0, Arrays.stream(distribution).sum(), 1e-9);
+    assertEquals(
+        distribution[0] + distribution[1] + distribution[2] + distribution[3] + distribution[4],
+        solver.probabilityToFinishWithin(4),
+        1e-15);
+    assertTrue(solver.probabilityToFinishWithin(20) < solver.probabilityToFinishWithin(40));
+  }
+
+  @Test
+  void meanOfTurnDistribution_matchesExpectedTurns() {
+    double[] distribution = solver.getTurnDistribution(5_000);
+    double mean = 0;
+    for (int k = 0; k < distribution.length; k++) {
+      mean += k * distribution[k];
+    }
+    assertEquals(solver.getExpectedTurns(), mean, 1e-6);
+  }
+
+  @Test
+  void invalidArguments_areRejected() {
+    assertThrows(IllegalArgumentException.class, () -> solver.getExpectedTurns(0));
+    assertThrows(IllegalArgumentException.class, () -> solver.getTurnDistribution(-1));
+    assertThrows(IllegalArgumentException.class, () -> solver.probabilityToFinishWithin(-1));
+  }
+}
@@ -9,14 +9,23 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import edu.ntnu.idi.idatt.boardgame.core.domain.player.LinearPos;
 import edu.ntnu.idi.idatt.boardgame.core.domain.player.Player;
 import edu.ntnu.idi.idatt.boardgame.core.domain.player.PlayerColor;
+import edu.ntnu.idi.idatt.boardgame.core.engine.event.GameObserver;
+import edu.ntnu.idi.idatt.boardgame.core.engine.event.RolledEvent;
+import edu.ntnu.idi.idatt.boardgame.core.engine.event.TurnChangedEvent;
 import edu.ntnu.idi.idatt.boardgame.core.persistence.GameStateRepository;
+import edu.ntnu.idi.idatt.boardgame.games.snakesandladders.domain.board.SnlBoard;
+import edu.ntnu.idi.idatt.boardgame.games.snakesandladders.domain.board.SnlBoardDefinition;
 import edu.ntnu.idi.idatt.boardgame.games.snakesandladders.persistence.dto.SnlGameStateDto;
 import edu.ntnu.idi.idatt.boardgame.ui.dto.PlayerSetupDetails;
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Random;
+import java.util.function.Consumer;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
@@ -162,4 +171,110 @@ class SnlControllerTest {
     assertEquals("Bob", player2.getName());
     assertEquals(PlayerColor.BLUE, player2.getColor());
   }
+
+  @Test
+  void autoPlay_matchesTurnByTurnPlayWithSameSeed() {
+    SnlController auto = new SnlController(twoPlayerDetails, mockRepo, new Random(11));
+    SnlController manual = new SnlController(twoPlayerDetails, mockRepo, new Random(11));
+
+    int turns = auto.autoPlay(15);
+    for (int i = 0; i < turns && !manual.isGameOver(); i++) {
+      manual.rollDice();
+    }
+
+    assertEquals(15, turns);
+    assertEquals(manual.getPlayers().get(1).getPosition(), auto.getPlayers().get(1).getPosition());
+    assertEquals(manual.getPlayers().get(2).getPosition(), auto.getPlayers().get(2).getPosition());
+    assertEquals(manual.getCurrentPlayer().getId(), auto.getCurrentPlayer().getId());
+  }
+
+  @Test
+  void playUntilWinner_drawsOnlyTheRollsThatArePlayed() {
+    Random autoRng = new Random(23);
+    Random manualRng = new Random(23);
+    SnlController auto = new SnlController(twoPlayerDetails, mockRepo, autoRng);
+    SnlController manual = new SnlController(twoPlayerDetails, mockRepo, manualRng);
+
+    int turns = auto.playUntilWinner();
+    int manualTurns = 0;
+    while (!manual.isGameOver()) {
+      manual.rollDice();
+      manualTurns++;
+    }
+
+    assertEquals(manualTurns, turns);
+    assertEquals(manual.getCurrentPlayer().getId(), auto.getCurrentPlayer().getId());
+    assertEquals(manualRng.nextLong(), autoRng.nextLong());
+  }
+
+  @Test
+  void playUntilWinner_stopsAtRoundLimitOnUnwinnableBoard() {
+    Map<Integer, Integer> snakes = new HashMap<>();
+    for (int head = 8; head < 20; head++) {
+      snakes.put(head, head - 1);
+    }
+    SnlBoard trap = new SnlBoard(new SnlBoardDefinition(2, 10, snakes, Map.of()));
+    List<String> warnings = new ArrayList<>();
+    SnlController stuck =
+        new SnlController(
+            twoPlayerDetails,
+            mockRepo,
+            trap,
+            new Random(5),
+            (type, title, message) -> warnings.add(title));
+
+    assertEquals(200, stuck.playUntilWinner(100));
+    assertFalse(stuck.isGameOver());
+    assertEquals(List.of("No winner"), warnings);
+  }
+
+  @Test
+  void playUntilWinner_sendsOneSummaryAndFinishesGame() {
+    List<String> messages = new ArrayList<>();
+    List<Player<LinearPos>> winners = new ArrayList<>();
+    controller.addObserver(new GameObserver<>() {
+      @Override
+      public void update(String message) {
+        messages.add(message);
+      }
+
+      @Override
+      public void gameFinished(Player<LinearPos> currentPlayer) {
+        winners.add(currentPlayer);
+      }
+    });
+
+    int turns = controller.playUntilWinner();
+
+    assertTrue(turns > 0);
+    assertEquals(1, messages.size());
+    assertTrue(messages.getFirst().contains("wins!"));
+    assertEquals(List.of(controller.getCurrentPlayer()), winners);
+    assertTrue(controller.isGameOver());
+    assertEquals(0, controller.autoPlay(10));
+  }
+
+  @Test
+  void rollDice_publishesTypedEventsToSubscribedListenersOnly() {
+    List<RolledEvent> rolls = new ArrayList<>();
+    List<TurnChangedEvent> turns = new ArrayList<>();
+    Consumer<RolledEvent> rollListener = rolls::add;
+    controller.addListener(RolledEvent.class, rollListener);
+    controller.addListener(TurnChangedEvent.class, turns::add);
+    Player<LinearPos> roller = controller.getCurrentPlayer();
+
+    controller.rollDice();
+
+    assertEquals(1, rolls.size());
+    assertEquals(roller, rolls.getFirst().player());
+    assertEquals(roller.getPosition(), rolls.getFirst().position());
+    assertEquals(1, turns.size());
+    assertEquals(controller.getCurrentPlayer(), turns.getFirst().player());
+
+    controller.removeListener(rollListener);
+    controller.rollDice();
+
+    assertEquals(1, rolls.size());
+    assertEquals(2, turns.size());
+  }
 }
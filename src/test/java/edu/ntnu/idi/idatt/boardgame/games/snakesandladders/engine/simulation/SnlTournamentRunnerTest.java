@@ -0,0 +1,57 @@
+package edu.ntnu.idi.idatt.boardgame.games.snakesandladders.engine.simulation;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import edu.ntnu.idi.idatt.boardgame.games.snakesandladders.domain.board.SnlBoard;
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import org.junit.jupiter.api.Test;
+
+class SnlTournamentRunnerTest {
+
+  private final SnlBoard board = new SnlBoard();
+
+  @Test
+  void run_isReproducibleForSameSeedRegardlessOfParallelism() {
+    SnlTournamentRunner runner = new SnlTournamentRunner(board, 3);
+    SnlTournamentResult parallel = runner.run(20_000, 42L);
+    ForkJoinPool single = new ForkJoinPool(1);
+    try {
+      SnlTournamentResult sequential = runner.run(20_000, 42L, single);
+      assertArrayEquals(parallel.getWinsPerSeat(), sequential.getWinsPerSeat());
+      assertArrayEquals(parallel.getGameLengthHistogram(), sequential.getGameLengthHistogram());
+      assertEquals(parallel.getConnectorHits(), sequential.getConnectorHits());
+    } finally {
+      single.shutdown();
+    }
+  }
+
+  @Test
+  void run_accountsForEveryGame() {
+    SnlTournamentResult result = new SnlTournamentRunner(board, 2).run(10_000, 7L);
+    long finished = Arrays.stream(result.getGameLengthHistogram()).sum();
+    long wins = Arrays.stream(result.getWinsPerSeat()).sum();
+
+    assertEquals(10_000, result.getGames());
+    assertEquals(wins, finished);
+    assertEquals(result.getGames(), finished + result.getUnfinishedGames());
+    assertEquals(board.getConnectors().size(), result.getConnectorHits().size());
+    assertTrue(result.getMeanGameLength() > 0);
+    assertTrue(result.getWinRate(0) > result.getWinRate(1) - 0.1);
+  }
+
+  @Test
+  void run_countsGamesHittingTurnLimitAsUnfinished() {
+    SnlTournamentResult result = new SnlTournamentRunner(board, 2, 1).run(100, 1L);
+    assertEquals(100, result.getUnfinishedGames());
+    assertEquals(0.0, result.getMeanGameLength());
+  }
+
+  @Test
+  void constructor_rejectsNonPositiveTurnLimit() {
+    assertThrows(IllegalArgumentException.class, () -> new SnlTournamentRunner(board, 2, 0));
+  }
+}
@@ -0,0 +1,48 @@
+package edu.ntnu.idi.idatt.boardgame.games.snakesandladders.persistence;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import edu.ntnu.idi.idatt.boardgame.core.exception.InvalidBoardException;
+import edu.ntnu.idi.idatt.boardgame.games.snakesandladders.domain.board.SnlBoardDefinition;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+
+class JsonSnlBoardDefinitionLoaderTest {
+
+  private final JsonSnlBoardDefinitionLoader loader = new JsonSnlBoardDefinitionLoader();
+
+  @Test
+  void load_readsDefinitionFromFile() throws IOException {
+    Path file = Files.createTempFile("snl-board", ".json");
+    try {
+      Files.writeString(
+          file, "{\"rows\": 4, \"cols\": 5, \"snakes\": {\"15\": 10}, \"ladders\": {\"3\": 9}}");
+      SnlBoardDefinition definition = loader.load(file);
+      assertEquals(20, definition.boardSize());
+      assertEquals(Map.of(15, 10), definition.snakes());
+      assertEquals(Map.of(3, 9), definition.ladders());
+    } finally {
+      Files.deleteIfExists(file);
+    }
+  }
+
+  @Test
+  void parse_missingConnectorsGivesEmptyMaps() {
+    SnlBoardDefinition definition = loader.parse("{\"rows\": 2, \"cols\": 2}");
+    assertEquals(Map.of(), definition.snakes());
+    assertEquals(Map.of(), definition.ladders());
+  }
+
+  @Test
+  void parse_rejectsInvalidDefinitions() {
+    assertThrows(InvalidBoardException.class, () -> loader.parse(""));
+    assertThrows(InvalidBoardException.class, () -> loader.parse("{\"rows\": "));
+    assertThrows(
+        InvalidBoardException.class,
+        () -> loader.parse("{\"rows\": 2, \"cols\": 2, \"ladders\": {\"2\": 5}}"));
+  }
+}
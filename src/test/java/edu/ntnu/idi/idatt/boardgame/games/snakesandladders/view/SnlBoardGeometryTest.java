@@ -0,0 +1,48 @@
+package edu.ntnu.idi.idatt.boardgame.games.snakesandladders.view;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import org.junit.jupiter.api.Test;
+
+class SnlBoardGeometryTest {
+
+  private final SnlBoardGeometry geometry = new SnlBoardGeometry(10, 9, 60, 5);
+
+  @Test
+  void getGridCoordinates_snakesUpFromBottomLeft() {
+    assertArrayEquals(new int[] {0, 9}, geometry.getGridCoordinates(1));
+    assertArrayEquals(new int[] {8, 9}, geometry.getGridCoordinates(9));
+    assertArrayEquals(new int[] {8, 8}, geometry.getGridCoordinates(10));
+    assertArrayEquals(new int[] {0, 8}, geometry.getGridCoordinates(18));
+    assertArrayEquals(new int[] {0, 0}, geometry.getGridCoordinates(90));
+  }
+
+  @Test
+  void getPosition_invertsGridCoordinatesForEveryTile() {
+    for (int pos = 1; pos <= 90; pos++) {
+      int[] coords = geometry.getGridCoordinates(pos);
+      assertEquals(pos, geometry.getPosition(coords[0], coords[1]), "tile " + pos);
+    }
+  }
+
+  @Test
+  void positionAt_findsTileUnderEveryTileCenter() {
+    for (int pos = 1; pos <= 90; pos++) {
+      double[] center = geometry.getTileCenter(pos);
+      assertEquals(pos, geometry.positionAt(center[0], center[1]), "tile " + pos);
+    }
+    assertEquals(90, geometry.positionAt(0, 0));
+    assertEquals(1, geometry.positionAt(59.9, geometry.getHeight() - 0.1));
+  }
+
+  @Test
+  void positionAt_returnsZeroOutsideTheTiles() {
+    assertEquals(0, geometry.positionAt(-1, 10));
+    assertEquals(0, geometry.positionAt(10, -1));
+    assertEquals(0, geometry.positionAt(62, 10));
+    assertEquals(0, geometry.positionAt(10, 62));
+    assertEquals(0, geometry.positionAt(geometry.getWidth() + 1, 10));
+    assertEquals(0, geometry.positionAt(10, geometry.getHeight() + 1));
+  }
+}
@@ -0,0 +1,42 @@
+package edu.ntnu.idi.idatt.boardgame.games.snakesandladders.view;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import org.junit.jupiter.api.Test;
+
+class SnlMovePacerTest {
+
+  private static final long MILLI = 1_000_000;
+
+  private final SnlMovePacer pacer = new SnlMovePacer();
+
+  @Test
+  void nextMoveMillis_animatesTheFirstMoveForTheLongestTime() {
+    assertEquals(SnlMovePacer.MAX_MOVE_MILLIS, pacer.nextMoveMillis(0), 0.0);
+  }
+
+  @Test
+  void nextMoveMillis_givesAShareOfTheSmoothedInterval() {
+    pacer.nextMoveMillis(0);
+
+    // average 500 ms moves 30% of the way towards 200 ms: 410 ms, of which 80% is 328 ms
+    assertEquals(328, pacer.nextMoveMillis(200 * MILLI), 1e-9);
+  }
+
+  @Test
+  void nextMoveMillis_capsSlowMovesAtTheLongestDuration() {
+    pacer.nextMoveMillis(0);
+
+    assertEquals(SnlMovePacer.MAX_MOVE_MILLIS, pacer.nextMoveMillis(10_000 * MILLI), 0.0);
+  }
+
+  @Test
+  void nextMoveMillis_stopsAnimatingWhenMovesComeTooFast() {
+    double millis = -1;
+    for (int move = 0; move < 30; move++) {
+      millis = pacer.nextMoveMillis(move * 20 * MILLI);
+    }
+
+    assertEquals(0, millis, 0.0);
+  }
+}
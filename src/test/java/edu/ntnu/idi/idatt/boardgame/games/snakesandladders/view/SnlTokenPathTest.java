@@ -0,0 +1,53 @@
+package edu.ntnu.idi.idatt.boardgame.games.snakesandladders.view;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+class SnlTokenPathTest {
+
+  private final SnlTokenPath path = new SnlTokenPath();
+  private final double[] point = new double[2];
+
+  @Test
+  void pointAt_movesAtTheSameSpeedOnEverySegment() {
+    path.reset(0, 0);
+    path.addPoint(30, 0);
+    path.addPoint(30, 10);
+
+    assertEquals(40, path.length(), 0.0);
+    path.pointAt(0.5, point);
+    assertArrayEquals(new double[] {20, 0}, point, 1e-9);
+    path.pointAt(0.875, point);
+    assertArrayEquals(new double[] {30, 5}, point, 1e-9);
+    path.pointAt(1, point);
+    assertArrayEquals(new double[] {30, 10}, point, 1e-9);
+  }
+
+  @Test
+  void reset_reusesThePathForTheNextMove() {
+    path.reset(0, 0);
+    path.addPoint(10, 0);
+    path.addPoint(10, 10);
+
+    path.reset(5, 5);
+    path.addPoint(5, 9);
+
+    assertEquals(2, path.size());
+    assertEquals(4, path.length(), 0.0);
+    path.pointAt(0, point);
+    assertArrayEquals(new double[] {5, 5}, point, 1e-9);
+  }
+
+  @Test
+  void addPoint_rejectsMoreThanTheMaximumNumberOfPoints() {
+    path.reset(0, 0);
+    for (int i = 1; i < SnlTokenPath.MAX_POINTS; i++) {
+      path.addPoint(i, i);
+    }
+
+    assertThrows(IllegalStateException.class, () -> path.addPoint(9, 9));
+  }
+}
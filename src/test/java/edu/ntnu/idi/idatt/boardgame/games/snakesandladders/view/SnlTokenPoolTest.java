@@ -0,0 +1,55 @@
+package edu.ntnu.idi.idatt.boardgame.games.snakesandladders.view;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import edu.ntnu.idi.idatt.boardgame.core.domain.player.LinearPos;
+import edu.ntnu.idi.idatt.boardgame.core.domain.player.Player;
+import edu.ntnu.idi.idatt.boardgame.core.domain.player.PlayerColor;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class SnlTokenPoolTest {
+
+  private final List<Player<LinearPos>> created = new ArrayList<>();
+  private final SnlTokenPool<Object> pool =
+      new SnlTokenPool<>(
+          player -> {
+            created.add(player);
+            return new Object();
+          });
+  private final Player<LinearPos> alice =
+      new Player<>(1, "Alice", PlayerColor.RED, new LinearPos(1));
+  private final Player<LinearPos> bob = new Player<>(2, "Bob", PlayerColor.BLUE, new LinearPos(1));
+
+  @Test
+  void shownTile_isNotShownBeforeThePlayerIsShown() {
+    assertEquals(SnlTokenPool.NOT_SHOWN, pool.shownTile(alice));
+    assertEquals(0, pool.size());
+  }
+
+  @Test
+  void show_reusesThePlayersTokenForEveryMove() {
+    Object first = pool.show(alice, 1);
+    Object second = pool.show(alice, 7);
+    Object third = pool.show(alice, 31);
+
+    assertSame(first, second);
+    assertSame(first, third);
+    assertEquals(List.of(alice), created);
+    assertEquals(31, pool.shownTile(alice));
+  }
+
+  @Test
+  void show_givesEveryPlayerTheirOwnToken() {
+    Object aliceToken = pool.show(alice, 4);
+    Object bobToken = pool.show(bob, 4);
+
+    assertNotSame(aliceToken, bobToken);
+    assertEquals(2, pool.size());
+    assertEquals(4, pool.shownTile(alice));
+    assertEquals(4, pool.shownTile(bob));
+  }
+}